@@ -47,4 +47,14 @@ testDependencies {
 
    api("org.ejml:ejml-ddense:0.39")
    api("us.ihmc:ihmc-commons-testing:0.30.5")
+}
+
+benchmarkDependencies {
+   api(ihmc.sourceSetProject("main"))
+   api(ihmc.sourceSetProject("geometry"))
+   api(ihmc.sourceSetProject("frame"))
+   api(ihmc.sourceSetProject("shape"))
+
+   api("org.openjdk.jmh:jmh-core:1.35")
+   add("annotationProcessor", "org.openjdk.jmh:jmh-generator-annprocess:1.35")
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package us.ihmc.euclid;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for running the JMH benchmarks of Euclid.
+ * <p>
+ * The benchmarks are run with the {@link GCProfiler} enabled such that the allocation rate of each
+ * benchmark is reported along with its throughput. This is meant to catch regressions on
+ * computations that are expected to be garbage-free.
+ * </p>
+ * <p>
+ * The program arguments, if any, are used as regular expressions to select the benchmarks to run,
+ * by default all the benchmarks are run.
+ * </p>
+ */
+public class EuclidBenchmarkRunner
+{
+   public static void main(String[] args) throws RunnerException
+   {
+      ChainedOptionsBuilder options = new OptionsBuilder().addProfiler(GCProfiler.class).shouldFailOnError(true);
+
+      if (args.length == 0)
+      {
+         options.include("us\\.ihmc\\.euclid\\..*Benchmark");
+      }
+      else
+      {
+         for (String arg : args)
+            options.include(arg);
+      }
+
+      new Runner(options.build()).run();
+   }
+}
@@ -0,0 +1,63 @@
+package us.ihmc.euclid.geometry;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvexPolygon2DBenchmark
+{
+   @Param({"10", "100", "1000"})
+   private int numberOfPoints;
+   @Param({"GIFT_WRAP", "GRAHAM_SCAN", "MONOTONE_CHAIN", "AKL_TOUSSAINT"})
+   private ConvexHull2DAlgorithm convexHullAlgorithm;
+   /** Whether the points are sampled in a square or on a circle, in which case they all belong to the hull. */
+   @Param({"false", "true"})
+   private boolean pointsOnHull;
+
+   private final ConvexPolygon2D polygon = new ConvexPolygon2D();
+   private List<Point2D> pointCloud;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(4566);
+      if (pointsOnHull)
+         pointCloud = EuclidGeometryRandomTools.nextCircleBasedConvexPolygon2D(random, 0.0, 1.0, numberOfPoints);
+      else
+         pointCloud = EuclidGeometryRandomTools.nextPointCloud2D(random, 0.0, 1.0, numberOfPoints);
+      Collections.shuffle(pointCloud, random);
+      polygon.setConvexHullAlgorithm(convexHullAlgorithm);
+   }
+
+   @Benchmark
+   public ConvexPolygon2D update()
+   {
+      polygon.clear();
+      for (int i = 0; i < pointCloud.size(); i++)
+         polygon.addVertex(pointCloud.get(i));
+      polygon.update();
+      return polygon;
+   }
+}
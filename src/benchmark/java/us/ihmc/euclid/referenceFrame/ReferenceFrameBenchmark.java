@@ -0,0 +1,129 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReferenceFrameBenchmark
+{
+   /** Depth of each of the two branches of the frame tree, similar to a pair of robot limbs. */
+   private static final int CHAIN_LENGTH = 10;
+
+   @Param({"false", "true"})
+   private boolean concurrentTreeEnabled;
+
+   private final RigidBodyTransform transform = new RigidBodyTransform();
+   private final ReferenceFrame[] leftChain = new ReferenceFrame[CHAIN_LENGTH];
+   private final ReferenceFrame[] rightChain = new ReferenceFrame[CHAIN_LENGTH];
+   private ReferenceFrame leftTip, rightTip;
+   private ReferenceFrameTreeUpdater treeUpdater;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(23479);
+      ReferenceFrame rootFrame = ReferenceFrameTools.constructARootFrame("rootFrame");
+      ReferenceFrame pelvis = newMovingFrame("pelvis", rootFrame, random);
+      ReferenceFrame parent = pelvis;
+
+      for (int i = 0; i < CHAIN_LENGTH; i++)
+      {
+         leftChain[i] = newMovingFrame("left" + i, parent, random);
+         parent = leftChain[i];
+      }
+
+      parent = pelvis;
+
+      for (int i = 0; i < CHAIN_LENGTH; i++)
+      {
+         rightChain[i] = newMovingFrame("right" + i, parent, random);
+         parent = rightChain[i];
+      }
+
+      leftTip = leftChain[CHAIN_LENGTH - 1];
+      rightTip = rightChain[CHAIN_LENGTH - 1];
+      rootFrame.setConcurrentTreeEnabled(concurrentTreeEnabled);
+      treeUpdater = new ReferenceFrameTreeUpdater(rootFrame);
+   }
+
+   private static ReferenceFrame newMovingFrame(String name, ReferenceFrame parentFrame, Random random)
+   {
+      return new ReferenceFrame(name, parentFrame, EuclidCoreRandomTools.nextRigidBodyTransform(random))
+      {
+         @Override
+         protected void updateTransformToParent(RigidBodyTransform transformToParent)
+         {
+            transformToParent.getRotation().appendYawRotation(1.0e-3);
+         }
+      };
+   }
+
+   private void updateAllFrames()
+   {
+      for (int i = 0; i < CHAIN_LENGTH; i++)
+      {
+         leftChain[i].update();
+         rightChain[i].update();
+      }
+   }
+
+   @Benchmark
+   public RigidBodyTransform getTransformToDesiredFrameCached()
+   {
+      leftTip.getTransformToDesiredFrame(transform, rightTip);
+      return transform;
+   }
+
+   @Benchmark
+   public RigidBodyTransform getTransformToDesiredFrameAfterUpdate()
+   {
+      updateAllFrames();
+      leftTip.getTransformToDesiredFrame(transform, rightTip);
+      return transform;
+   }
+
+   @Benchmark
+   public RigidBodyTransform getTransformToDesiredFrameAfterTreeUpdate()
+   {
+      treeUpdater.update();
+      leftTip.getTransformToDesiredFrame(transform, rightTip);
+      return transform;
+   }
+
+   @Benchmark
+   public RigidBodyTransform getTransformToParentAfterUpdate()
+   {
+      leftTip.update();
+      leftTip.getTransformToDesiredFrame(transform, leftTip.getParent());
+      return transform;
+   }
+
+   @Benchmark
+   public RigidBodyTransform getTransformToRootAfterUpdate()
+   {
+      updateAllFrames();
+      transform.set(leftTip.getTransformToRoot());
+      return transform;
+   }
+}
@@ -0,0 +1,100 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReferenceFrameTreeUpdaterBenchmark
+{
+   /** Number of limbs attached to the pelvis, each limb is updated as a parallel subtree. */
+   private static final int NUMBER_OF_LIMBS = 4;
+
+   /** Number of frames in each limb, including sensor and contact frames. */
+   @Param({"25", "250"})
+   private int limbSize;
+
+   private ReferenceFrameTreeUpdater serialUpdater;
+   private ReferenceFrameTreeUpdater parallelUpdater;
+   private ForkJoinPool forkJoinPool;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(9823);
+      ReferenceFrame rootFrame = ReferenceFrameTools.constructARootFrame("rootFrame");
+      ReferenceFrame pelvis = newMovingFrame("pelvis", rootFrame, random);
+
+      serialUpdater = new ReferenceFrameTreeUpdater(rootFrame);
+      parallelUpdater = new ReferenceFrameTreeUpdater(rootFrame);
+      forkJoinPool = new ForkJoinPool(NUMBER_OF_LIMBS);
+      parallelUpdater.setForkJoinPool(forkJoinPool);
+
+      for (int limbIndex = 0; limbIndex < NUMBER_OF_LIMBS; limbIndex++)
+      {
+         ReferenceFrame[] limb = new ReferenceFrame[limbSize];
+
+         for (int i = 0; i < limbSize; i++)
+         {
+            ReferenceFrame parent = i == 0 ? pelvis : limb[random.nextInt(i)];
+            limb[i] = newMovingFrame("limb" + limbIndex + "_" + i, parent, random);
+         }
+
+         parallelUpdater.addParallelSubtree(limb[0]);
+      }
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+      forkJoinPool.shutdown();
+   }
+
+   private static ReferenceFrame newMovingFrame(String name, ReferenceFrame parentFrame, Random random)
+   {
+      return new ReferenceFrame(name, parentFrame, EuclidCoreRandomTools.nextRigidBodyTransform(random))
+      {
+         @Override
+         protected void updateTransformToParent(RigidBodyTransform transformToParent)
+         {
+            transformToParent.getRotation().appendYawRotation(1.0e-3);
+         }
+      };
+   }
+
+   @Benchmark
+   public int updateSerial()
+   {
+      serialUpdater.update();
+      return serialUpdater.getNumberOfTransformsToRootChanged();
+   }
+
+   @Benchmark
+   public int updateParallel()
+   {
+      parallelUpdater.update();
+      return parallelUpdater.getNumberOfTransformsToRootChanged();
+   }
+}
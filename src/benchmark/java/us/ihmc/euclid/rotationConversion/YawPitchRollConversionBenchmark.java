@@ -0,0 +1,138 @@
+package us.ihmc.euclid.rotationConversion;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * The trigonometry mode is selected at startup, each mode is measured in its own fork.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class YawPitchRollConversionBenchmark
+{
+   private static final int NUMBER_OF_ORIENTATIONS = 10000;
+
+   private double[] yawPitchRolls;
+   private double[] quaternions;
+   private double[] matrices;
+   private final Quaternion quaternion = new Quaternion();
+   private final RotationMatrix matrix = new RotationMatrix();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(4367);
+      yawPitchRolls = new double[3 * NUMBER_OF_ORIENTATIONS];
+      quaternions = new double[4 * NUMBER_OF_ORIENTATIONS];
+      matrices = new double[9 * NUMBER_OF_ORIENTATIONS];
+
+      for (int i = 0; i < yawPitchRolls.length; i++)
+         yawPitchRolls[i] = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+   }
+
+   @Benchmark
+   @Fork(value = 1, jvmArgsAppend = "-Deuclid.trigonometry=strict")
+   public double[] quaternionsPerOrientationStrict()
+   {
+      return quaternionsPerOrientation();
+   }
+
+   @Benchmark
+   @Fork(value = 1, jvmArgsAppend = "-Deuclid.trigonometry=strict")
+   public double[] quaternionsBatchStrict()
+   {
+      return quaternionsBatch();
+   }
+
+   @Benchmark
+   @Fork(value = 1, jvmArgsAppend = "-Deuclid.trigonometry=approximate")
+   public double[] quaternionsPerOrientationApproximate()
+   {
+      return quaternionsPerOrientation();
+   }
+
+   @Benchmark
+   @Fork(value = 1, jvmArgsAppend = "-Deuclid.trigonometry=approximate")
+   public double[] quaternionsBatchApproximate()
+   {
+      return quaternionsBatch();
+   }
+
+   @Benchmark
+   @Fork(value = 1, jvmArgsAppend = "-Deuclid.trigonometry=strict")
+   public double[] matricesPerOrientationStrict()
+   {
+      return matricesPerOrientation();
+   }
+
+   @Benchmark
+   @Fork(value = 1, jvmArgsAppend = "-Deuclid.trigonometry=strict")
+   public double[] matricesBatchStrict()
+   {
+      return matricesBatch();
+   }
+
+   @Benchmark
+   @Fork(value = 1, jvmArgsAppend = "-Deuclid.trigonometry=approximate")
+   public double[] matricesPerOrientationApproximate()
+   {
+      return matricesPerOrientation();
+   }
+
+   @Benchmark
+   @Fork(value = 1, jvmArgsAppend = "-Deuclid.trigonometry=approximate")
+   public double[] matricesBatchApproximate()
+   {
+      return matricesBatch();
+   }
+
+   private double[] quaternionsPerOrientation()
+   {
+      for (int i = 0; i < NUMBER_OF_ORIENTATIONS; i++)
+      {
+         QuaternionConversion.convertYawPitchRollToQuaternion(yawPitchRolls[3 * i], yawPitchRolls[3 * i + 1], yawPitchRolls[3 * i + 2], quaternion);
+         quaternion.get(4 * i, quaternions);
+      }
+      return quaternions;
+   }
+
+   private double[] quaternionsBatch()
+   {
+      QuaternionConversion.convertYawPitchRollsToQuaternions(yawPitchRolls, 0, quaternions, 0, NUMBER_OF_ORIENTATIONS);
+      return quaternions;
+   }
+
+   private double[] matricesPerOrientation()
+   {
+      for (int i = 0; i < NUMBER_OF_ORIENTATIONS; i++)
+      {
+         RotationMatrixConversion.convertYawPitchRollToMatrix(yawPitchRolls[3 * i], yawPitchRolls[3 * i + 1], yawPitchRolls[3 * i + 2], matrix);
+         matrix.get(9 * i, matrices);
+      }
+      return matrices;
+   }
+
+   private double[] matricesBatch()
+   {
+      RotationMatrixConversion.convertYawPitchRollsToMatrices(yawPitchRolls, 0, matrices, 0, NUMBER_OF_ORIENTATIONS);
+      return matrices;
+   }
+}
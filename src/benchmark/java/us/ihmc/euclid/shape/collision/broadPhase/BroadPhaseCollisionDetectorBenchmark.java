@@ -0,0 +1,75 @@
+package us.ihmc.euclid.shape.collision.broadPhase;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadPhaseCollisionDetectorBenchmark
+{
+   @Param({"100", "1000", "5000"})
+   private int numberOfShapes;
+
+   private final BroadPhaseCollisionDetector detector = new BroadPhaseCollisionDetector();
+   private Shape3DBasics[] shapes;
+   private RigidBodyTransform[] displacements;
+   private int numberOfCandidatePairs;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(45367);
+      shapes = new Shape3DBasics[numberOfShapes];
+      displacements = new RigidBodyTransform[numberOfShapes];
+      // Keeping the density of shapes constant.
+      double worldSize = 2.0 * Math.cbrt(numberOfShapes);
+
+      for (int i = 0; i < numberOfShapes; i++)
+      {
+         shapes[i] = EuclidShapeRandomTools.nextConvexShape3D(random, EuclidCoreRandomTools.nextPoint3D(random, worldSize));
+         displacements[i] = new RigidBodyTransform();
+         displacements[i].getTranslation().set(EuclidCoreRandomTools.nextVector3D(random, 0.01));
+         detector.addShape(shapes[i]);
+      }
+   }
+
+   @Benchmark
+   public int findCandidatePairsStatic()
+   {
+      numberOfCandidatePairs = 0;
+      detector.forEachCandidatePair((shapeA, shapeB) -> numberOfCandidatePairs++);
+      return numberOfCandidatePairs;
+   }
+
+   @Benchmark
+   public int findCandidatePairsMoving()
+   {
+      for (int i = 0; i < numberOfShapes; i++)
+         shapes[i].applyTransform(displacements[i]);
+
+      numberOfCandidatePairs = 0;
+      detector.forEachCandidatePair((shapeA, shapeB) -> numberOfCandidatePairs++);
+      return numberOfCandidatePairs;
+   }
+}
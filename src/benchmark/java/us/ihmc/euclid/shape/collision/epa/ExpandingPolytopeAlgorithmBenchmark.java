@@ -0,0 +1,86 @@
+package us.ihmc.euclid.shape.collision.epa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.shape.collision.EuclidShape3DCollisionResult;
+import us.ihmc.euclid.shape.convexPolytope.ConvexPolytope3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpandingPolytopeAlgorithmBenchmark
+{
+   private static final int NUMBER_OF_PAIRS = 1024;
+
+   private final ExpandingPolytopeAlgorithm epa = new ExpandingPolytopeAlgorithm();
+   private final ExpandingPolytopeAlgorithm garbageFreeEPA = new ExpandingPolytopeAlgorithm();
+   private final EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+
+   private final Shape3DReadOnly[] primitivesA = new Shape3DReadOnly[NUMBER_OF_PAIRS];
+   private final Shape3DReadOnly[] primitivesB = new Shape3DReadOnly[NUMBER_OF_PAIRS];
+   private final ConvexPolytope3D[] polytopesA = new ConvexPolytope3D[NUMBER_OF_PAIRS];
+   private final ConvexPolytope3D[] polytopesB = new ConvexPolytope3D[NUMBER_OF_PAIRS];
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(9807);
+      garbageFreeEPA.setGarbageFree(true);
+
+      for (int i = 0; i < NUMBER_OF_PAIRS; i++)
+      { // Shapes are generated close to each other such that most of the pairs are colliding.
+         Point3D centroid = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+         primitivesA[i] = EuclidShapeRandomTools.nextConvexShape3D(random, centroid);
+         primitivesB[i] = EuclidShapeRandomTools.nextConvexShape3D(random, centroid);
+         polytopesA[i] = EuclidShapeRandomTools.nextConvexPolytope3D(random);
+         polytopesB[i] = EuclidShapeRandomTools.nextConvexPolytope3D(random);
+      }
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) % NUMBER_OF_PAIRS;
+      return index;
+   }
+
+   @Benchmark
+   public boolean evaluateCollisionPrimitives()
+   {
+      int i = nextIndex();
+      return epa.evaluateCollision(primitivesA[i], primitivesB[i], result);
+   }
+
+   @Benchmark
+   public boolean evaluateCollisionConvexPolytopes()
+   {
+      int i = nextIndex();
+      return epa.evaluateCollision(polytopesA[i], polytopesB[i], result);
+   }
+
+   @Benchmark
+   public boolean evaluateCollisionConvexPolytopesGarbageFree()
+   {
+      int i = nextIndex();
+      return garbageFreeEPA.evaluateCollision(polytopesA[i], polytopesB[i], result);
+   }
+}
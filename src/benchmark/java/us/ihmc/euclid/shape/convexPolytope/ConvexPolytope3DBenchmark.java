@@ -0,0 +1,50 @@
+package us.ihmc.euclid.shape.convexPolytope;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvexPolytope3DBenchmark
+{
+   @Param({"10", "100", "1000"})
+   private int numberOfPoints;
+
+   private List<Point3D> pointCloud;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(34780);
+      pointCloud = EuclidGeometryRandomTools.nextPointCloud3D(random, 0.0, 1.0, numberOfPoints);
+   }
+
+   @Benchmark
+   public ConvexPolytope3D addVertex()
+   {
+      ConvexPolytope3D polytope = new ConvexPolytope3D();
+      for (int i = 0; i < pointCloud.size(); i++)
+         polytope.addVertex(pointCloud.get(i));
+      return polytope;
+   }
+}
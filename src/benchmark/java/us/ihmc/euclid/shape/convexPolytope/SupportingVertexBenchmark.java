@@ -0,0 +1,91 @@
+package us.ihmc.euclid.shape.convexPolytope;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DReadOnly;
+import us.ihmc.euclid.shape.convexPolytope.tools.EuclidPolytopeFactories;
+import us.ihmc.euclid.shape.convexPolytope.tools.SupportingVertexSeed;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SupportingVertexBenchmark
+{
+   private static final int NUMBER_OF_DIRECTIONS = 1024;
+
+   /** Ico-spheres with 42, 162, 642, 2562, and 10242 vertices. */
+   @Param({"1", "2", "3", "4", "5"})
+   private int recursionLevel;
+
+   private ConvexPolytope3D polytope;
+   private SupportingVertexSeed seed;
+   private final Vector3D[] randomDirections = new Vector3D[NUMBER_OF_DIRECTIONS];
+   private final Vector3D[] coherentDirections = new Vector3D[NUMBER_OF_DIRECTIONS];
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(34780);
+      polytope = EuclidPolytopeFactories.newIcoSphere(1.0, recursionLevel);
+      polytope.getSupportingVertexHierarchy();
+      seed = new SupportingVertexSeed(polytope);
+
+      Vector3D direction = EuclidCoreRandomTools.nextVector3D(random);
+
+      for (int i = 0; i < NUMBER_OF_DIRECTIONS; i++)
+      {
+         randomDirections[i] = EuclidCoreRandomTools.nextVector3D(random);
+         direction.add(EuclidCoreRandomTools.nextVector3D(random, 0.05));
+         coherentDirections[i] = new Vector3D(direction);
+      }
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) & (NUMBER_OF_DIRECTIONS - 1);
+      return index;
+   }
+
+   @Benchmark
+   public Vertex3DReadOnly getSupportingVertex()
+   {
+      return polytope.getSupportingVertex(randomDirections[nextIndex()]);
+   }
+
+   @Benchmark
+   public Vertex3DReadOnly getSupportingVertexUnseededWalk()
+   {
+      return polytope.getSupportingVertex(null, randomDirections[nextIndex()]);
+   }
+
+   @Benchmark
+   public Vertex3DReadOnly getSupportingVertexSeededRandomDirections()
+   {
+      return seed.getSupportingVertex(randomDirections[nextIndex()]);
+   }
+
+   @Benchmark
+   public Vertex3DReadOnly getSupportingVertexSeededCoherentDirections()
+   {
+      return seed.getSupportingVertex(coherentDirections[nextIndex()]);
+   }
+}
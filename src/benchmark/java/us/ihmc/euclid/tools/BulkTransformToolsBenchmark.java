@@ -0,0 +1,95 @@
+package us.ihmc.euclid.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkTransformToolsBenchmark
+{
+   @Param({"1000", "100000"})
+   private int numberOfPoints;
+
+   private RigidBodyTransform rigidBodyTransform;
+   private QuaternionBasedTransform quaternionBasedTransform;
+   private List<Point3D> points;
+   private double[] packedPoints;
+   private double[] packedTransformed;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(4367);
+      rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      quaternionBasedTransform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+      points = new ArrayList<>();
+      packedPoints = new double[3 * numberOfPoints];
+      packedTransformed = new double[3 * numberOfPoints];
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         points.add(point);
+         point.get(3 * i, packedPoints);
+      }
+   }
+
+   @Benchmark
+   public List<Point3D> rigidBodyTransformPerPoint()
+   {
+      for (int i = 0; i < points.size(); i++)
+         rigidBodyTransform.transform(points.get(i));
+      return points;
+   }
+
+   @Benchmark
+   public List<Point3D> rigidBodyTransformList()
+   {
+      rigidBodyTransform.transformPoints(points);
+      return points;
+   }
+
+   @Benchmark
+   public double[] rigidBodyTransformArray()
+   {
+      rigidBodyTransform.transformPoints(packedPoints, 0, packedTransformed, 0, numberOfPoints);
+      return packedTransformed;
+   }
+
+   @Benchmark
+   public List<Point3D> quaternionBasedTransformPerPoint()
+   {
+      for (int i = 0; i < points.size(); i++)
+         quaternionBasedTransform.transform(points.get(i));
+      return points;
+   }
+
+   @Benchmark
+   public double[] quaternionBasedTransformArray()
+   {
+      quaternionBasedTransform.transformPoints(packedPoints, 0, packedTransformed, 0, numberOfPoints);
+      return packedTransformed;
+   }
+}
@@ -0,0 +1,110 @@
+package us.ihmc.euclid.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DBuffer;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkTupleToolsBenchmark
+{
+   @Param({"1000", "100000"})
+   private int numberOfVectors;
+
+   private List<Vector3D> vectorsA;
+   private List<Vector3D> vectorsB;
+   private List<Vector3D> crossList;
+   private Vector3DBuffer bufferA;
+   private Vector3DBuffer bufferB;
+   private Vector3DBuffer crossBuffer;
+   private double[] dots;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(4367);
+      vectorsA = new ArrayList<>();
+      vectorsB = new ArrayList<>();
+      crossList = new ArrayList<>();
+      bufferA = new Vector3DBuffer(numberOfVectors);
+      bufferB = new Vector3DBuffer(numberOfVectors);
+      crossBuffer = new Vector3DBuffer(numberOfVectors);
+      dots = new double[numberOfVectors];
+
+      for (int i = 0; i < numberOfVectors; i++)
+      {
+         Vector3D a = EuclidCoreRandomTools.nextVector3D(random, 10.0);
+         Vector3D b = EuclidCoreRandomTools.nextVector3D(random, 10.0);
+         vectorsA.add(a);
+         vectorsB.add(b);
+         crossList.add(new Vector3D());
+         bufferA.addCopy(a);
+         bufferB.addCopy(b);
+      }
+   }
+
+   @Benchmark
+   public double[] dotPerVector()
+   {
+      for (int i = 0; i < numberOfVectors; i++)
+         dots[i] = vectorsA.get(i).dot(vectorsB.get(i));
+      return dots;
+   }
+
+   @Benchmark
+   public double[] dotBuffer()
+   {
+      bufferA.dot(bufferB, dots);
+      return dots;
+   }
+
+   @Benchmark
+   public List<Vector3D> crossPerVector()
+   {
+      for (int i = 0; i < numberOfVectors; i++)
+         crossList.get(i).cross(vectorsA.get(i), vectorsB.get(i));
+      return crossList;
+   }
+
+   @Benchmark
+   public Vector3DBuffer crossBuffer()
+   {
+      bufferA.cross(bufferB, crossBuffer);
+      return crossBuffer;
+   }
+
+   @Benchmark
+   public List<Vector3D> normalizePerVector()
+   {
+      for (int i = 0; i < numberOfVectors; i++)
+         vectorsA.get(i).normalize();
+      return vectorsA;
+   }
+
+   @Benchmark
+   public Vector3DBuffer normalizeBuffer()
+   {
+      bufferA.normalizeAll();
+      return bufferA;
+   }
+}
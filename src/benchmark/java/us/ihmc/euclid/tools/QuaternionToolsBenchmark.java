@@ -0,0 +1,79 @@
+package us.ihmc.euclid.tools;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuaternionToolsBenchmark
+{
+   private final Quaternion q1 = new Quaternion();
+   private final Quaternion q2 = new Quaternion();
+   private final Quaternion result = new Quaternion();
+   private final RotationMatrix rotationMatrix = new RotationMatrix();
+   private final Vector3D vector = new Vector3D();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(8934);
+      q1.set(EuclidCoreRandomTools.nextQuaternion(random));
+      q2.set(EuclidCoreRandomTools.nextQuaternion(random));
+      rotationMatrix.set(EuclidCoreRandomTools.nextRotationMatrix(random));
+      vector.set(EuclidCoreRandomTools.nextVector3D(random, 10.0));
+   }
+
+   @Benchmark
+   public Quaternion multiply()
+   {
+      QuaternionTools.multiply(q1, q2, result);
+      return result;
+   }
+
+   @Benchmark
+   public Quaternion multiplyConjugateLeft()
+   {
+      QuaternionTools.multiplyConjugateLeft(q1, q2, result);
+      return result;
+   }
+
+   @Benchmark
+   public Quaternion multiplyRotationMatrix()
+   {
+      QuaternionTools.multiply(q1, false, rotationMatrix, false, result);
+      return result;
+   }
+
+   @Benchmark
+   public Vector3D transform()
+   {
+      QuaternionTools.transform(q1, vector, vector);
+      return vector;
+   }
+
+   @Benchmark
+   public Vector3D inverseTransform()
+   {
+      QuaternionTools.inverseTransform(q1, vector, vector);
+      return vector;
+   }
+}
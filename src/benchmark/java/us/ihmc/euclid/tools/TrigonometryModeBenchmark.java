@@ -0,0 +1,83 @@
+package us.ihmc.euclid.tools;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrigonometryModeBenchmark
+{
+   private static final int NUMBER_OF_VALUES = 1024;
+
+   @Param({"STRICT", "FAST", "APPROXIMATE"})
+   private TrigonometryMode mode;
+
+   private double[] angles;
+   private double[] values;
+   private final double[] sinCos = new double[2];
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(4367);
+      angles = new double[NUMBER_OF_VALUES];
+      values = new double[NUMBER_OF_VALUES];
+
+      for (int i = 0; i < NUMBER_OF_VALUES; i++)
+      {
+         angles[i] = EuclidCoreRandomTools.nextDouble(random, 2.0 * Math.PI);
+         values[i] = EuclidCoreRandomTools.nextDouble(random, 1.0);
+      }
+   }
+
+   private int next()
+   {
+      index = (index + 1) & (NUMBER_OF_VALUES - 1);
+      return index;
+   }
+
+   @Benchmark
+   public double sinCos()
+   {
+      double angle = angles[next()];
+      return mode.sin(angle) + mode.cos(angle);
+   }
+
+   @Benchmark
+   public double fusedSinCos()
+   {
+      mode.sinCos(angles[next()], sinCos, 0);
+      return sinCos[0] + sinCos[1];
+   }
+
+   @Benchmark
+   public double atan2()
+   {
+      int i = next();
+      return mode.atan2(values[i], angles[i]);
+   }
+
+   @Benchmark
+   public double asinAcos()
+   {
+      double value = values[next()];
+      return mode.asin(value) + mode.acos(value);
+   }
+}
@@ -0,0 +1,119 @@
+package us.ihmc.euclid.transform;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RigidBodyTransformBenchmark
+{
+   /**
+    * The structure of the rotation part of the transforms, pure yaw rotations are handled by the
+    * kernels of {@link us.ihmc.euclid.matrix.RotationMatrix} that only operate on the xy-plane.
+    */
+   @Param({"general", "yaw"})
+   private String structure;
+
+   private final RigidBodyTransform transformA = new RigidBodyTransform();
+   private final RigidBodyTransform transformB = new RigidBodyTransform();
+   private final RigidBodyTransform result = new RigidBodyTransform();
+   private final Point3D point = new Point3D();
+   private final Vector3D vector = new Vector3D();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(4353);
+      transformA.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      transformB.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      setStructure(transformA, random);
+      setStructure(transformB, random);
+      point.set(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+      vector.set(EuclidCoreRandomTools.nextVector3D(random, 10.0));
+   }
+
+   private void setStructure(RigidBodyTransform transform, Random random)
+   {
+      if (structure.equals("yaw"))
+         transform.getRotation().setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+   }
+
+   @Benchmark
+   public RigidBodyTransform multiply()
+   {
+      result.set(transformA);
+      result.multiply(transformB);
+      return result;
+   }
+
+   @Benchmark
+   public RigidBodyTransform preMultiply()
+   {
+      result.set(transformA);
+      result.preMultiply(transformB);
+      return result;
+   }
+
+   @Benchmark
+   public RigidBodyTransform multiplyInvertOther()
+   {
+      result.set(transformA);
+      result.multiplyInvertOther(transformB);
+      return result;
+   }
+
+   @Benchmark
+   public RigidBodyTransform invert()
+   {
+      result.setAndInvert(transformA);
+      return result;
+   }
+
+   @Benchmark
+   public Point3D transformPoint()
+   {
+      transformA.transform(point);
+      return point;
+   }
+
+   @Benchmark
+   public Point3D inverseTransformPoint()
+   {
+      transformA.inverseTransform(point);
+      return point;
+   }
+
+   @Benchmark
+   public Vector3D transformVector()
+   {
+      transformA.transform(vector);
+      return vector;
+   }
+
+   @Benchmark
+   public Vector3D inverseTransformVector()
+   {
+      transformA.inverseTransform(vector);
+      return vector;
+   }
+}
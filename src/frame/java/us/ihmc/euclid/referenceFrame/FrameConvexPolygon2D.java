@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 
 import us.ihmc.euclid.geometry.BoundingBox2D;
+import us.ihmc.euclid.geometry.ConvexHull2DAlgorithm;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox2DBasics;
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
@@ -100,6 +101,10 @@ public class FrameConvexPolygon2D implements FrameConvexPolygon2DBasics, Geometr
     * </p>
     */
    private boolean isUpToDate = false;
+   /**
+    * The algorithm used in {@link #update()} to compute the convex hull of the vertices.
+    */
+   private ConvexHull2DAlgorithm convexHullAlgorithm = ConvexHull2DAlgorithm.GIFT_WRAP;
    /** The reference frame in which this polygon is currently expressed. */
    private ReferenceFrame referenceFrame;
    /** Vertex to store intermediate results to allow garbage free operations. */
@@ -294,7 +299,7 @@ public class FrameConvexPolygon2D implements FrameConvexPolygon2DBasics, Geometr
       if (isUpToDate)
          return;
 
-      numberOfVertices = EuclidGeometryPolygonTools.inPlaceGiftWrapConvexHull2D(vertexBuffer, numberOfVertices);
+      numberOfVertices = convexHullAlgorithm.inPlaceConvexHull2D(vertexBuffer, numberOfVertices);
       isUpToDate = true;
 
       updateCentroidAndArea();
@@ -385,6 +390,34 @@ public class FrameConvexPolygon2D implements FrameConvexPolygon2DBasics, Geometr
       return centroid;
    }
 
+   /**
+    * Sets the algorithm used to compute the convex hull of the vertices when calling
+    * {@link #update()}.
+    * <p>
+    * The default algorithm is {@link ConvexHull2DAlgorithm#GIFT_WRAP} which is best suited for
+    * polygons built from a small number of points, {@link ConvexHull2DAlgorithm#MONOTONE_CHAIN} or
+    * {@link ConvexHull2DAlgorithm#AKL_TOUSSAINT} should be preferred when building a polygon from a
+    * large number of points.
+    * </p>
+    *
+    * @param convexHullAlgorithm the algorithm to use for the next updates.
+    */
+   public void setConvexHullAlgorithm(ConvexHull2DAlgorithm convexHullAlgorithm)
+   {
+      this.convexHullAlgorithm = convexHullAlgorithm;
+   }
+
+   /**
+    * Gets the algorithm used to compute the convex hull of the vertices when calling
+    * {@link #update()}.
+    *
+    * @return the convex hull algorithm.
+    */
+   public ConvexHull2DAlgorithm getConvexHullAlgorithm()
+   {
+      return convexHullAlgorithm;
+   }
+
    /** {@inheritDoc} */
    @Override
    public boolean isClockwiseOrdered()
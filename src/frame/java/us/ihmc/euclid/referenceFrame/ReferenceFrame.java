@@ -148,6 +148,16 @@ public abstract class ReferenceFrame
 
    long transformToRootID = Long.MIN_VALUE;
 
+   /** Number of desired frames for which the transform from this frame is cached. */
+   private static final int TRANSFORM_TO_DESIRED_FRAME_CACHE_SIZE = 2;
+   /**
+    * Cache of the transforms from this frame to other frames computed below their least common
+    * ancestor, lazily created.
+    */
+   private TransformToDesiredFrameCacheEntry[] transformToDesiredFrameCache = null;
+   /** Index of the next entry of {@link #transformToDesiredFrameCache} to be replaced. */
+   private int nextTransformToDesiredFrameCacheEntry = 0;
+
    /**
     * The current transform from this reference frame to the root frame.
     * <p>
@@ -160,6 +170,15 @@ public abstract class ReferenceFrame
    private boolean accessingTransformToRoot = false;
    /** Condition for the root frame only. */
    private Predicate<ReferenceFrame> treeUpdateCondition = null;
+   /** Whether the tree is in concurrent mode, for the root frame only. */
+   private volatile boolean isConcurrentTreeEnabled = false;
+   /**
+    * In concurrent mode, the last published copy of {@link #transformToParent}. A published transform
+    * is never modified, the writer publishes a new copy at each update.
+    */
+   private volatile RigidBodyTransform publishedTransformToParent = null;
+   /** In concurrent mode, the last snapshot of the transform from this frame to the root frame. */
+   private volatile TransformToRootSnapshot transformToRootSnapshot = null;
 
    /**
     * Field initialized at construction time that specifies if this reference frame represents a
@@ -382,6 +401,9 @@ public abstract class ReferenceFrame
          this.isZupFrame = isZupFrame;
          this.isFixedInParent = isFixedInParent;
 
+         if (framesStartingWithRootEndingWithThis[0].isConcurrentTreeEnabled)
+            publishTransformToParent();
+
          notifyListeners(ChangeType.FRAME_ADDED, this, parentFrame);
       }
    }
@@ -470,7 +492,81 @@ public abstract class ReferenceFrame
       }
 
       updateTransformToParent(transformToParent);
-      transformToRootID = Long.MIN_VALUE;
+      // A negative id marks the transform to root as out-of-date, it is unique such that the cached
+      // transforms to other frames can detect this update.
+      transformToRootID = -(++nextTransformToRootID);
+
+      if (framesStartingWithRootEndingWithThis[0].isConcurrentTreeEnabled)
+         publishTransformToParent();
+   }
+
+   private void publishTransformToParent()
+   {
+      publishedTransformToParent = new RigidBodyTransform(transformToParent);
+   }
+
+   /**
+    * Updates this frame and eagerly computes its transform to root as part of a batch update of its
+    * tree, see {@link ReferenceFrameTreeUpdater}.
+    * <p>
+    * The parent frame is assumed to have been updated beforehand in the same batch. The transform to
+    * root is only recomputed when it is affected by the update, i.e. when the transform to parent has
+    * changed, when the parent's transform to root has changed, or when the cached transform to root
+    * was already out-of-date. Outside concurrent mode, the {@link #transformToRootID} has to be
+    * assigned once all the frames of the batch have been updated. In concurrent mode, the snapshot of
+    * the transform to root is published instead.
+    * </p>
+    *
+    * @param hasParentTransformToRootChanged whether the transform to root of the parent frame has
+    *                                        changed during this batch.
+    * @param previousTransformToParent       local buffer used to detect changes of the transform to
+    *                                        parent. Modified.
+    * @return whether the transform to root of this frame has changed.
+    */
+   boolean updateInFrameTree(boolean hasParentTransformToRootChanged, RigidBodyTransform previousTransformToParent)
+   {
+      previousTransformToParent.set(transformToParent);
+      updateTransformToParent(transformToParent);
+      boolean hasTransformToParentChanged = !transformToParent.equals(previousTransformToParent);
+
+      if (framesStartingWithRootEndingWithThis[0].isConcurrentTreeEnabled)
+      { // Only the snapshots are used in concurrent mode.
+         transformToRootID = Long.MIN_VALUE;
+
+         if (hasTransformToParentChanged || publishedTransformToParent == null)
+            publishTransformToParent();
+
+         TransformToRootSnapshot parentSnapshot = parentFrame.transformToRootSnapshot;
+         TransformToRootSnapshot snapshot = transformToRootSnapshot;
+
+         if (snapshot != null && snapshot.transformToParent == publishedTransformToParent && snapshot.parentSnapshot == parentSnapshot)
+            return false;
+
+         transformToRootSnapshot = new TransformToRootSnapshot(publishedTransformToParent, parentSnapshot);
+         return true;
+      }
+
+      // The ids are assigned after the batch, until then they still describe the state before the batch.
+      boolean hasTransformToRootChanged = hasParentTransformToRootChanged || hasTransformToParentChanged
+            || transformToRootID < parentFrame.transformToRootID;
+
+      if (hasTransformToRootChanged)
+      {
+         RigidBodyTransform parentsTransformToRoot = parentFrame.transformToRoot;
+
+         if (parentsTransformToRoot != null)
+         {
+            transformToRoot.set(parentsTransformToRoot);
+            transformToRoot.multiply(transformToParent);
+            transformToRoot.normalizeRotationPart();
+         }
+         else
+         {
+            transformToRoot.set(transformToParent);
+         }
+      }
+
+      return hasTransformToRootChanged;
    }
 
    /**
@@ -546,7 +642,7 @@ public abstract class ReferenceFrame
    public void getTransformToParent(RigidBodyTransform transformToPack)
    {
       checkIfRemoved();
-      transformToPack.set(transformToParent);
+      transformToPack.set(getTransformToParentInternal());
    }
 
    /**
@@ -563,7 +659,22 @@ public abstract class ReferenceFrame
    public void getTransformToParent(RigidBodyTransformBasics transformToPack)
    {
       checkIfRemoved();
-      transformToPack.set(transformToParent);
+      transformToPack.set(getTransformToParentInternal());
+   }
+
+   /**
+    * Gets the transform to parent that is safe to read from the current thread.
+    * <p>
+    * In concurrent mode, this is the last published copy which is never modified, otherwise this is
+    * the transform to parent itself.
+    * </p>
+    */
+   private RigidBodyTransform getTransformToParentInternal()
+   {
+      if (framesStartingWithRootEndingWithThis[0].isConcurrentTreeEnabled && parentFrame != null)
+         return publishedTransformToParent;
+      else
+         return transformToParent;
    }
 
    /**
@@ -680,11 +791,11 @@ public abstract class ReferenceFrame
          }
          else if (isParentFrame(desiredFrame))
          { // Test direct connection between the frames:
-            transformToPack.set(transformToParent);
+            transformToPack.set(getTransformToParentInternal());
          }
          else if (desiredFrame.isParentFrame(this))
          { // Test direct connection between the frames:
-            transformToPack.setAndInvert(desiredFrame.transformToParent);
+            transformToPack.setAndInvert(desiredFrame.getTransformToParentInternal());
          }
          else if (parentFrame == desiredFrame.parentFrame)
          {
@@ -693,25 +804,34 @@ public abstract class ReferenceFrame
              * simple (rotation only or translation only) whereas the transformToRoot of most frame is a complex
              * transform.
              */
-            transformToPack.setAndInvert(desiredFrame.transformToParent);
-            transformToPack.multiply(transformToParent);
+            transformToPack.setAndInvert(desiredFrame.getTransformToParentInternal());
+            transformToPack.multiply(getTransformToParentInternal());
          }
          else if (parentFrame.parentFrame == desiredFrame)
          { // Look at a distance of 2, which would involve the multiplication of 2 transforms that will often be simple (rotation only or translation only).
-            transformToPack.set(transformToParent);
+            transformToPack.set(getTransformToParentInternal());
             if (!parentFrame.isRootFrame()) // If it is the root, then parentFrame.transformToParent is identity.
-               transformToPack.preMultiply(parentFrame.transformToParent);
+               transformToPack.preMultiply(parentFrame.getTransformToParentInternal());
          }
          else if (this == desiredFrame.parentFrame.parentFrame)
          { // Look at a distance of 2, which would involve the multiplication of 2 transforms that will often be simple (rotation only or translation only).
-            transformToPack.setAndInvert(desiredFrame.transformToParent);
+            transformToPack.setAndInvert(desiredFrame.getTransformToParentInternal());
             if (!desiredFrame.parentFrame.isRootFrame()) // If it is the root, then desiredFrame.parentFrame.transformToParent is identity.
-               transformToPack.multiplyInvertOther(desiredFrame.parentFrame.transformToParent);
+               transformToPack.multiplyInvertOther(desiredFrame.parentFrame.getTransformToParentInternal());
          }
          else
-         { // This is the general scenario:
-            transformToPack.setAndInvert(desiredFrame.getTransformToRoot());
-            transformToPack.multiply(getTransformToRoot());
+         {
+            RigidBodyTransform transformToDesiredFrame = getTransformToDesiredFrameBelowCommonAncestor(desiredFrame);
+
+            if (transformToDesiredFrame != null)
+            { // The frames share a common ancestor other than the root, only the transforms below it are needed.
+               transformToPack.set(transformToDesiredFrame);
+            }
+            else
+            { // This is the general scenario:
+               transformToPack.setAndInvert(desiredFrame.getTransformToRoot());
+               transformToPack.multiply(getTransformToRoot());
+            }
          }
       }
       catch (NotARotationMatrixException e)
@@ -812,11 +932,11 @@ public abstract class ReferenceFrame
       }
       else if (isParentFrame(desiredFrame))
       { // Test direct connection between the frames:
-         objectToTransform.applyTransform(transformToParent);
+         objectToTransform.applyTransform(getTransformToParentInternal());
       }
       else if (desiredFrame.isParentFrame(this))
       { // Test direct connection between the frames:
-         objectToTransform.applyInverseTransform(desiredFrame.transformToParent);
+         objectToTransform.applyInverseTransform(desiredFrame.getTransformToParentInternal());
       }
       else if (parentFrame == desiredFrame.parentFrame)
       {
@@ -825,27 +945,106 @@ public abstract class ReferenceFrame
           * simple (rotation only or translation only) whereas the transformToRoot of most frame is a complex
           * transform.
           */
-         objectToTransform.applyTransform(transformToParent);
-         objectToTransform.applyInverseTransform(desiredFrame.transformToParent);
+         objectToTransform.applyTransform(getTransformToParentInternal());
+         objectToTransform.applyInverseTransform(desiredFrame.getTransformToParentInternal());
       }
       else if (parentFrame.parentFrame == desiredFrame)
       { // Look at a distance of 2, which involves 2 transformations with transforms that will often be simple (rotation only or translation only).
 
-         objectToTransform.applyTransform(transformToParent);
+         objectToTransform.applyTransform(getTransformToParentInternal());
          if (!parentFrame.isRootFrame()) // If it is the root, then parentFrame.transformToParent is identity.
-            objectToTransform.applyTransform(parentFrame.transformToParent);
+            objectToTransform.applyTransform(parentFrame.getTransformToParentInternal());
       }
       else if (this == desiredFrame.parentFrame.parentFrame)
       { // Look at a distance of 2, which involves 2 transformations with transforms that will often be simple (rotation only or translation only).
          if (!desiredFrame.parentFrame.isRootFrame()) // If it is the root, then desiredFrame.parentFrame.transformToParent is identity.
-            objectToTransform.applyInverseTransform(desiredFrame.parentFrame.transformToParent);
-         objectToTransform.applyInverseTransform(desiredFrame.transformToParent);
+            objectToTransform.applyInverseTransform(desiredFrame.parentFrame.getTransformToParentInternal());
+         objectToTransform.applyInverseTransform(desiredFrame.getTransformToParentInternal());
       }
       else
-      { // This is the general scenario:
-         objectToTransform.applyTransform(getTransformToRoot());
-         objectToTransform.applyInverseTransform(desiredFrame.getTransformToRoot());
+      {
+         RigidBodyTransform transformToDesiredFrame = getTransformToDesiredFrameBelowCommonAncestor(desiredFrame);
+
+         if (transformToDesiredFrame != null)
+         { // The frames share a common ancestor other than the root, only the transforms below it are needed.
+            objectToTransform.applyTransform(transformToDesiredFrame);
+         }
+         else
+         { // This is the general scenario:
+            objectToTransform.applyTransform(getTransformToRoot());
+            objectToTransform.applyInverseTransform(desiredFrame.getTransformToRoot());
+         }
+      }
+   }
+
+   /**
+    * Gets the transform from this frame to the given frame by composing only the transforms to parent
+    * of the frames below their least common ancestor.
+    * <p>
+    * When the least common ancestor is deep in the tree, this is cheaper and more accurate than going
+    * through the transforms to root which requires both chains of frames up to the root to be
+    * up-to-date. When both transforms to root are already up-to-date, they are used instead. The result
+    * is cached for the last desired frames queried from this frame and is reused as long as none of
+    * the frames below the least common ancestor has been updated, which is detected using the
+    * {@link #transformToRootID} of these frames.
+    * </p>
+    * <p>
+    * The cache is not used in concurrent mode, see {@link #setConcurrentTreeEnabled(boolean)}.
+    * </p>
+    *
+    * @param desiredFrame the goal frame, it is assumed to be in the same tree as this frame and
+    *                     different from this frame.
+    * @return the transform from this frame to the desired frame, or {@code null} if the least common
+    *         ancestor is the root frame or if the tree is in concurrent mode.
+    */
+   private RigidBodyTransform getTransformToDesiredFrameBelowCommonAncestor(ReferenceFrame desiredFrame)
+   {
+      if (framesStartingWithRootEndingWithThis[0].isConcurrentTreeEnabled)
+         return null;
+
+      ReferenceFrame[] desiredPath = desiredFrame.framesStartingWithRootEndingWithThis;
+      int maxCommonAncestorIndex = Math.min(framesStartingWithRootEndingWithThis.length, desiredPath.length) - 1;
+      int commonAncestorIndex = 0;
+
+      while (commonAncestorIndex < maxCommonAncestorIndex
+            && framesStartingWithRootEndingWithThis[commonAncestorIndex + 1] == desiredPath[commonAncestorIndex + 1])
+      {
+         commonAncestorIndex++;
       }
+
+      if (commonAncestorIndex == 0)
+         return null;
+
+      if (transformToDesiredFrameCache == null)
+      {
+         transformToDesiredFrameCache = new TransformToDesiredFrameCacheEntry[TRANSFORM_TO_DESIRED_FRAME_CACHE_SIZE];
+         for (int i = 0; i < TRANSFORM_TO_DESIRED_FRAME_CACHE_SIZE; i++)
+            transformToDesiredFrameCache[i] = new TransformToDesiredFrameCacheEntry();
+      }
+
+      TransformToDesiredFrameCacheEntry entry = null;
+
+      for (int i = 0; i < TRANSFORM_TO_DESIRED_FRAME_CACHE_SIZE; i++)
+      {
+         if (transformToDesiredFrameCache[i].desiredFrameIndex == desiredFrame.frameIndex)
+         {
+            entry = transformToDesiredFrameCache[i];
+            break;
+         }
+      }
+
+      if (entry == null)
+      {
+         entry = transformToDesiredFrameCache[nextTransformToDesiredFrameCacheEntry];
+         nextTransformToDesiredFrameCacheEntry = (nextTransformToDesiredFrameCacheEntry + 1) % TRANSFORM_TO_DESIRED_FRAME_CACHE_SIZE;
+         entry.update(desiredFrame.frameIndex, framesStartingWithRootEndingWithThis, desiredPath, commonAncestorIndex);
+      }
+      else if (!entry.isUpToDate(framesStartingWithRootEndingWithThis, desiredPath, commonAncestorIndex))
+      {
+         entry.update(desiredFrame.frameIndex, framesStartingWithRootEndingWithThis, desiredPath, commonAncestorIndex);
+      }
+
+      return entry.transformToDesiredFrame;
    }
 
    /**
@@ -859,10 +1058,47 @@ public abstract class ReferenceFrame
     */
    public RigidBodyTransform getTransformToRoot()
    {
+      if (framesStartingWithRootEndingWithThis[0].isConcurrentTreeEnabled)
+      {
+         checkIfRemoved();
+         return parentFrame == null ? null : computeTransformToRootSnapshot().transformToRoot;
+      }
+
       efficientComputeTransform();
       return transformToRoot;
    }
 
+   /**
+    * Gets the up-to-date snapshot of the transform to root in concurrent mode.
+    * <p>
+    * The snapshots are validated from the root down to this frame: a snapshot is reused if it was
+    * computed from the current published transform to parent and the current snapshot of the parent
+    * frame, otherwise a new snapshot is computed and published. When several threads publish a
+    * snapshot for the same frame concurrently, all are equivalent and any of them can be kept.
+    * </p>
+    */
+   private TransformToRootSnapshot computeTransformToRootSnapshot()
+   {
+      TransformToRootSnapshot parentSnapshot = null;
+
+      for (int i = 1; i < framesStartingWithRootEndingWithThis.length; i++)
+      {
+         ReferenceFrame referenceFrame = framesStartingWithRootEndingWithThis[i];
+         RigidBodyTransform transformToParent = referenceFrame.publishedTransformToParent;
+         TransformToRootSnapshot snapshot = referenceFrame.transformToRootSnapshot;
+
+         if (snapshot == null || snapshot.transformToParent != transformToParent || snapshot.parentSnapshot != parentSnapshot)
+         {
+            snapshot = new TransformToRootSnapshot(transformToParent, parentSnapshot);
+            referenceFrame.transformToRootSnapshot = snapshot;
+         }
+
+         parentSnapshot = snapshot;
+      }
+
+      return parentSnapshot;
+   }
+
    private void efficientComputeTransform()
    {
       Predicate<ReferenceFrame> treeUpdateCondition = framesStartingWithRootEndingWithThis[0].treeUpdateCondition;
@@ -1252,6 +1488,91 @@ public abstract class ReferenceFrame
       getRootFrame().treeUpdateCondition = treeUpdateCondition;
    }
 
+   /**
+    * Enables or disables the concurrent mode for the tree this reference frame belongs to.
+    * <p>
+    * By default, the transforms to root are lazily computed and cached in each frame, which is not
+    * safe when the frames are accessed from multiple threads. In concurrent mode, each call to
+    * {@link #update()} publishes an immutable copy of the transform to parent, and the transforms to
+    * root are cached as immutable snapshots that are validated against the published transforms. This
+    * allows many threads to call {@link #getTransformToDesiredFrame(RigidBodyTransformBasics, ReferenceFrame)},
+    * {@link #getTransformToRoot()}, or {@link #transformFromThisToDesiredFrame(ReferenceFrame, Transformable)}
+    * in parallel without locking while one thread calls {@link #update()} on the frames.
+    * </p>
+    * <p>
+    * The following restrictions apply in concurrent mode:
+    * <ul>
+    * <li>only one thread, the writer, should update the frames and modify the tree structure, i.e.
+    * adding or removing frames.
+    * <li>each transform queried is consistent with a single update of each frame involved, but when
+    * the writer is updating several frames, a reader may see some frames already updated and others
+    * not yet updated.
+    * <li>the transform returned by {@link #getTransformToRoot()} is a snapshot that is not updated
+    * afterwards, it should not be modified.
+    * <li>the tree update condition, see {@link #setTreeUpdateCondition(Predicate)}, is ignored.
+    * <li>updating a frame generates garbage.
+    * </ul>
+    * </p>
+    * <p>
+    * This method should be called from the writer thread before starting the reader threads.
+    * </p>
+    *
+    * @param enable {@code true} to enable the concurrent mode, {@code false} to disable it.
+    */
+   public void setConcurrentTreeEnabled(boolean enable)
+   {
+      checkIfRemoved();
+      ReferenceFrame rootFrame = getRootFrame();
+
+      if (enable == rootFrame.isConcurrentTreeEnabled)
+         return;
+
+      if (enable)
+         rootFrame.publishTransformToParentRecursively();
+      else
+         rootFrame.clearTransformToDesiredFrameCacheRecursively();
+      rootFrame.isConcurrentTreeEnabled = enable;
+   }
+
+   private void clearTransformToDesiredFrameCacheRecursively()
+   {
+      // The cache may be outdated as the ids of the transforms to root are not unique in concurrent mode.
+      transformToDesiredFrameCache = null;
+
+      for (int i = 0; i < children.size(); i++)
+      {
+         ReferenceFrame child = children.get(i).get();
+         if (child != null)
+            child.clearTransformToDesiredFrameCacheRecursively();
+      }
+   }
+
+   private void publishTransformToParentRecursively()
+   {
+      if (parentFrame != null)
+         publishTransformToParent();
+      transformToRootSnapshot = null;
+
+      for (int i = 0; i < children.size(); i++)
+      {
+         ReferenceFrame child = children.get(i).get();
+         if (child != null)
+            child.publishTransformToParentRecursively();
+      }
+   }
+
+   /**
+    * Tests whether the tree this reference frame belongs to is in concurrent mode.
+    *
+    * @return {@code true} if the concurrent mode is enabled, {@code false} otherwise.
+    * @see #setConcurrentTreeEnabled(boolean)
+    */
+   public boolean isConcurrentTreeEnabled()
+   {
+      checkIfRemoved();
+      return getRootFrame().isConcurrentTreeEnabled;
+   }
+
    /**
     * Adds a listener to this reference frame.
     *
@@ -1303,6 +1624,115 @@ public abstract class ReferenceFrame
          parentFrame.notifyListeners(type, target, targetParent);
    }
 
+   /**
+    * Immutable snapshot of the transform from a frame to the root frame used in concurrent mode.
+    */
+   private static final class TransformToRootSnapshot
+   {
+      /** The published transform to parent this snapshot was computed from. */
+      private final RigidBodyTransform transformToParent;
+      /** The snapshot of the parent frame this snapshot was computed from, {@code null} for the root. */
+      private final TransformToRootSnapshot parentSnapshot;
+      private final RigidBodyTransform transformToRoot;
+
+      private TransformToRootSnapshot(RigidBodyTransform transformToParent, TransformToRootSnapshot parentSnapshot)
+      {
+         this.transformToParent = transformToParent;
+         this.parentSnapshot = parentSnapshot;
+
+         if (parentSnapshot == null)
+         {
+            transformToRoot = new RigidBodyTransform(transformToParent);
+         }
+         else
+         {
+            transformToRoot = new RigidBodyTransform(parentSnapshot.transformToRoot);
+            transformToRoot.multiply(transformToParent);
+            transformToRoot.normalizeRotationPart();
+         }
+      }
+   }
+
+   /**
+    * Tests whether the cached transform to root of the last frame of the given path is up-to-date, using
+    * the same criterion as {@link #efficientComputeTransform()}.
+    */
+   private static boolean isTransformToRootUpToDate(ReferenceFrame[] path)
+   {
+      for (int i = 1; i < path.length; i++)
+      {
+         if (path[i].transformToRootID < path[i - 1].transformToRootID)
+            return false;
+      }
+      return true;
+   }
+
+   /**
+    * Transform from a frame to a desired frame computed below their least common ancestor.
+    */
+   private static final class TransformToDesiredFrameCacheEntry
+   {
+      /** The index of the desired frame, frame indices are unique within a tree. */
+      private long desiredFrameIndex = -1L;
+      /**
+       * The ids of the transforms to root, when the transform was computed, of the frames below the
+       * least common ancestor: first on the path to this frame, then on the path to the desired frame.
+       */
+      private long[] transformToRootIDs = new long[8];
+      private final RigidBodyTransform transformToDesiredFrame = new RigidBodyTransform();
+
+      private boolean isUpToDate(ReferenceFrame[] path, ReferenceFrame[] desiredPath, int commonAncestorIndex)
+      {
+         int index = 0;
+
+         for (int i = commonAncestorIndex + 1; i < path.length; i++)
+         {
+            if (path[i].transformToRootID != transformToRootIDs[index++])
+               return false;
+         }
+
+         for (int i = commonAncestorIndex + 1; i < desiredPath.length; i++)
+         {
+            if (desiredPath[i].transformToRootID != transformToRootIDs[index++])
+               return false;
+         }
+
+         return true;
+      }
+
+      private void update(long desiredFrameIndex, ReferenceFrame[] path, ReferenceFrame[] desiredPath, int commonAncestorIndex)
+      {
+         this.desiredFrameIndex = desiredFrameIndex;
+
+         int numberOfFrames = path.length + desiredPath.length - 2 * (commonAncestorIndex + 1);
+         if (transformToRootIDs.length < numberOfFrames)
+            transformToRootIDs = new long[numberOfFrames];
+
+         if (isTransformToRootUpToDate(path) && isTransformToRootUpToDate(desiredPath))
+         { // Both transforms to root are readily available, e.g. after a batch update of the tree.
+            transformToDesiredFrame.setAndInvert(desiredPath[desiredPath.length - 1].transformToRoot);
+            transformToDesiredFrame.multiply(path[path.length - 1].transformToRoot);
+         }
+         else
+         { // transformToDesiredFrame = (desiredFrame to ancestor)^-1 * (this to ancestor)
+            transformToDesiredFrame.setToZero();
+
+            for (int i = desiredPath.length - 1; i > commonAncestorIndex; i--)
+               transformToDesiredFrame.multiplyInvertOther(desiredPath[i].transformToParent);
+            for (int i = commonAncestorIndex + 1; i < path.length; i++)
+               transformToDesiredFrame.multiply(path[i].transformToParent);
+
+            transformToDesiredFrame.normalizeRotationPart();
+         }
+
+         int index = 0;
+         for (int i = commonAncestorIndex + 1; i < path.length; i++)
+            transformToRootIDs[index++] = path[i].transformToRootID;
+         for (int i = commonAncestorIndex + 1; i < desiredPath.length; i++)
+            transformToRootIDs[index++] = desiredPath[i].transformToRootID;
+      }
+   }
+
    private enum ChangeType
    {
       FRAME_ADDED, FRAME_REMOVED, FRAME_GCED
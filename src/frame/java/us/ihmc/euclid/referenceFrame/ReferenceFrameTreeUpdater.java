@@ -0,0 +1,376 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * {@code ReferenceFrameTreeUpdater} updates all the reference frames of a tree at once.
+ * <p>
+ * The default approach is to call {@link ReferenceFrame#update()} on every moving frame and let each
+ * frame lazily recompute its transform to root when it is queried. With this approach, the cost of
+ * the first query of each frame after an update depends on the depth of the frame and on which of
+ * its ancestors have already been queried.
+ * </p>
+ * <p>
+ * Instead, this updater walks the tree once in breadth-first order such that every frame is updated
+ * after its parent. For each frame, the transform to parent is updated and the transform to root is
+ * recomputed from the parent's transform to root only when one of them has changed. At the end of
+ * the update, the transforms to root of all the frames of the tree are up-to-date, such that the
+ * following queries do not require any computation and the cost of the update is predictable.
+ * </p>
+ * <p>
+ * The tree is walked using the current children of each frame, frames can be added or removed
+ * between two updates. Once the tree is in a steady state, this updater does not generate garbage.
+ * </p>
+ * <p>
+ * Large trees can be updated in parallel by splitting them at subtree roots, see
+ * {@link #addParallelSubtree(ReferenceFrame)} and {@link #setForkJoinPool(ForkJoinPool)}. The frames
+ * that do not belong to any of the subtrees are updated first on the calling thread, then the
+ * subtrees are updated independently on the fork/join pool. As each frame only depends on its
+ * parent, the result is identical to the serial update.
+ * </p>
+ * <p>
+ * This updater is not thread-safe. When the concurrent mode of the tree is enabled, see
+ * {@link ReferenceFrame#setConcurrentTreeEnabled(boolean)}, this updater acts as the writer and
+ * eagerly publishes the snapshots of the transforms to root.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class ReferenceFrameTreeUpdater
+{
+   private final ReferenceFrame rootFrame;
+   /** The frames of the tree that do not belong to any of the parallel subtrees. */
+   private final FrameTreeSegment trunk;
+   /** The subtrees that can be updated in parallel once the trunk has been updated. */
+   private final List<FrameTreeSegment> subtrees = new ArrayList<>();
+   /** The subtrees reached while walking the trunk, the others have been removed from the tree. */
+   private final List<FrameTreeSegment> activeSubtrees = new ArrayList<>();
+   private final RecursiveAction parallelSubtreesUpdate = new RecursiveAction()
+   {
+      private static final long serialVersionUID = 5238724374212958853L;
+
+      @Override
+      protected void compute()
+      {
+         invokeAll(activeSubtrees);
+      }
+   };
+   private ForkJoinPool forkJoinPool = null;
+   private int numberOfFrames = 0;
+   private int numberOfTransformsToRootChanged = 0;
+
+   /**
+    * Creates a new updater for the tree the given frame belongs to.
+    *
+    * @param frame any frame of the tree to update. Not modified.
+    */
+   public ReferenceFrameTreeUpdater(ReferenceFrame frame)
+   {
+      rootFrame = frame.getRootFrame();
+      trunk = new FrameTreeSegment(rootFrame);
+   }
+
+   /**
+    * Sets the pool used to update the parallel subtrees.
+    * <p>
+    * When the pool is {@code null}, which is the default, the parallel subtrees are updated one after
+    * the other on the calling thread.
+    * </p>
+    * <p>
+    * When updating in parallel, {@link ReferenceFrame#updateTransformToParent(RigidBodyTransform)} is
+    * called from the threads of the pool for the frames of the parallel subtrees. The implementations
+    * of these frames should only depend on data that is not modified during the update.
+    * </p>
+    *
+    * @param forkJoinPool the pool used to update the subtrees in parallel, or {@code null} to update
+    *                     them serially.
+    */
+   public void setForkJoinPool(ForkJoinPool forkJoinPool)
+   {
+      this.forkJoinPool = forkJoinPool;
+   }
+
+   /**
+    * Adds a subtree to be updated independently from the rest of the tree.
+    * <p>
+    * The subtrees are typically the kinematic chains of the limbs of a robot. A subtree is updated
+    * after the frames that do not belong to any subtree and, when a pool is set, in parallel with the
+    * other subtrees.
+    * </p>
+    *
+    * @param subtreeRoot the first frame of the subtree. Not modified, reference saved.
+    * @throws IllegalArgumentException if {@code subtreeRoot} is the root frame, does not belong to the
+    *                                  tree of this updater, or is an ancestor or a descendant of the
+    *                                  root of another subtree.
+    */
+   public void addParallelSubtree(ReferenceFrame subtreeRoot)
+   {
+      if (subtreeRoot.getRootFrame() != rootFrame)
+         throw new IllegalArgumentException("The frame " + subtreeRoot.getName() + " does not belong to the tree of " + rootFrame.getName() + ".");
+      if (subtreeRoot == rootFrame)
+         throw new IllegalArgumentException("The root frame cannot be the root of a parallel subtree.");
+
+      for (int i = 0; i < subtrees.size(); i++)
+      {
+         ReferenceFrame otherSubtreeRoot = subtrees.get(i).startFrame;
+
+         if (isAncestorOrSelf(otherSubtreeRoot, subtreeRoot) || isAncestorOrSelf(subtreeRoot, otherSubtreeRoot))
+            throw new IllegalArgumentException("The subtrees starting at " + subtreeRoot.getName() + " and " + otherSubtreeRoot.getName() + " overlap.");
+      }
+
+      subtrees.add(new FrameTreeSegment(subtreeRoot));
+   }
+
+   private static boolean isAncestorOrSelf(ReferenceFrame ancestor, ReferenceFrame frame)
+   {
+      int ancestorPathLength = ancestor.getFramesStartingWithRootEndingWithThis().length;
+      ReferenceFrame[] path = frame.getFramesStartingWithRootEndingWithThis();
+      return ancestorPathLength <= path.length && path[ancestorPathLength - 1] == ancestor;
+   }
+
+   /**
+    * Removes all the parallel subtrees such that the entire tree is updated on the calling thread.
+    */
+   public void clearParallelSubtrees()
+   {
+      subtrees.clear();
+      activeSubtrees.clear();
+   }
+
+   /**
+    * Updates all the frames of the tree and computes their transform to root.
+    */
+   public void update()
+   {
+      trunk.collectFramesBreadthFirst(subtrees);
+      trunk.updateFrames(false);
+
+      activeSubtrees.clear();
+
+      for (int i = 0; i < subtrees.size(); i++)
+      {
+         FrameTreeSegment subtree = subtrees.get(i);
+
+         if (subtree.parentIndexInTrunk == -1)
+            continue; // The subtree has been removed from the tree.
+
+         subtree.hasParentTransformToRootChanged = trunk.haveTransformsToRootChanged[subtree.parentIndexInTrunk];
+         subtree.reinitialize();
+         activeSubtrees.add(subtree);
+      }
+
+      if (forkJoinPool == null)
+      {
+         for (int i = 0; i < activeSubtrees.size(); i++)
+         {
+            activeSubtrees.get(i).compute();
+         }
+      }
+      else if (!activeSubtrees.isEmpty())
+      {
+         parallelSubtreesUpdate.reinitialize();
+         forkJoinPool.invoke(parallelSubtreesUpdate);
+      }
+
+      numberOfFrames = trunk.frames.size();
+      numberOfTransformsToRootChanged = trunk.numberOfTransformsToRootChanged;
+
+      for (int i = 0; i < activeSubtrees.size(); i++)
+      {
+         numberOfFrames += activeSubtrees.get(i).frames.size();
+         numberOfTransformsToRootChanged += activeSubtrees.get(i).numberOfTransformsToRootChanged;
+      }
+
+      if (rootFrame.isConcurrentTreeEnabled())
+         return;
+
+      // All the transforms to root are now up-to-date, the ones that have changed share a new id.
+      long transformToRootID = ++ReferenceFrame.nextTransformToRootID;
+      trunk.setTransformToRootID(transformToRootID);
+
+      for (int i = 0; i < activeSubtrees.size(); i++)
+      {
+         activeSubtrees.get(i).setTransformToRootID(transformToRootID);
+      }
+   }
+
+   /**
+    * Gets the root frame of the tree updated by this updater.
+    *
+    * @return the root frame.
+    */
+   public ReferenceFrame getRootFrame()
+   {
+      return rootFrame;
+   }
+
+   /**
+    * Gets the pool used to update the parallel subtrees.
+    *
+    * @return the pool, or {@code null} if the subtrees are updated serially.
+    */
+   public ForkJoinPool getForkJoinPool()
+   {
+      return forkJoinPool;
+   }
+
+   /**
+    * Gets the number of parallel subtrees.
+    *
+    * @return the number of subtrees.
+    */
+   public int getNumberOfParallelSubtrees()
+   {
+      return subtrees.size();
+   }
+
+   /**
+    * Gets the number of frames, including the root frame, that were updated during the last update.
+    *
+    * @return the number of frames in the tree at the last update.
+    */
+   public int getNumberOfFrames()
+   {
+      return numberOfFrames;
+   }
+
+   /**
+    * Gets the number of frames which transform to root was recomputed during the last update.
+    *
+    * @return the number of transforms to root that have changed.
+    */
+   public int getNumberOfTransformsToRootChanged()
+   {
+      return numberOfTransformsToRootChanged;
+   }
+
+   /**
+    * Part of the tree starting at a given frame that is updated in breadth-first order by a single
+    * thread.
+    */
+   private static class FrameTreeSegment extends RecursiveAction
+   {
+      private static final long serialVersionUID = -4032745813659462071L;
+      private static final int INITIAL_CAPACITY = 32;
+
+      private final ReferenceFrame startFrame;
+      /** The frames of the segment in breadth-first order, starting with {@link #startFrame}. */
+      private final List<ReferenceFrame> frames = new ArrayList<>();
+      /** For each frame, the index of its parent in {@link #frames}. */
+      private int[] parentIndices = new int[INITIAL_CAPACITY];
+      /** For each frame, whether its transform to root has changed during the last update. */
+      private boolean[] haveTransformsToRootChanged = new boolean[INITIAL_CAPACITY];
+      private final RigidBodyTransform previousTransformToParent = new RigidBodyTransform();
+      private int numberOfTransformsToRootChanged = 0;
+      /** When this segment is a subtree, the index of the parent of its start frame in the trunk. */
+      private int parentIndexInTrunk = -1;
+      /** When this segment is a subtree, whether the parent of its start frame has changed. */
+      private boolean hasParentTransformToRootChanged = false;
+
+      private FrameTreeSegment(ReferenceFrame startFrame)
+      {
+         this.startFrame = startFrame;
+      }
+
+      @Override
+      protected void compute()
+      {
+         collectFramesBreadthFirst(null);
+         updateFrames(hasParentTransformToRootChanged);
+      }
+
+      /**
+       * Collects the frames of this segment, stopping at the start frames of the given subtrees.
+       */
+      private void collectFramesBreadthFirst(List<FrameTreeSegment> subtrees)
+      {
+         frames.clear();
+         frames.add(startFrame);
+
+         if (subtrees != null)
+         {
+            for (int i = 0; i < subtrees.size(); i++)
+            {
+               subtrees.get(i).parentIndexInTrunk = -1;
+            }
+         }
+
+         for (int parentIndex = 0; parentIndex < frames.size(); parentIndex++)
+         {
+            ReferenceFrame parent = frames.get(parentIndex);
+
+            childLoop:
+            for (int childIndex = 0; childIndex < parent.getNumberOfChildren(); childIndex++)
+            {
+               ReferenceFrame child = parent.getChild(childIndex);
+
+               if (child == null)
+                  continue;
+
+               if (subtrees != null)
+               {
+                  for (int i = 0; i < subtrees.size(); i++)
+                  {
+                     if (subtrees.get(i).startFrame == child)
+                     {
+                        subtrees.get(i).parentIndexInTrunk = parentIndex;
+                        continue childLoop;
+                     }
+                  }
+               }
+
+               if (frames.size() == parentIndices.length)
+               {
+                  parentIndices = Arrays.copyOf(parentIndices, 2 * parentIndices.length);
+                  haveTransformsToRootChanged = Arrays.copyOf(haveTransformsToRootChanged, 2 * haveTransformsToRootChanged.length);
+               }
+
+               parentIndices[frames.size()] = parentIndex;
+               frames.add(child);
+            }
+         }
+      }
+
+      /**
+       * Updates the frames of this segment, the root frame of the tree is not updated.
+       */
+      private void updateFrames(boolean hasParentTransformToRootChanged)
+      {
+         numberOfTransformsToRootChanged = 0;
+
+         if (startFrame.isRootFrame())
+            haveTransformsToRootChanged[0] = false;
+         else
+            haveTransformsToRootChanged[0] = updateFrame(0, hasParentTransformToRootChanged);
+
+         for (int i = 1; i < frames.size(); i++)
+         {
+            haveTransformsToRootChanged[i] = updateFrame(i, haveTransformsToRootChanged[parentIndices[i]]);
+         }
+      }
+
+      private boolean updateFrame(int index, boolean hasParentTransformToRootChanged)
+      {
+         boolean hasTransformToRootChanged = frames.get(index).updateInFrameTree(hasParentTransformToRootChanged, previousTransformToParent);
+         if (hasTransformToRootChanged)
+            numberOfTransformsToRootChanged++;
+         return hasTransformToRootChanged;
+      }
+
+      private void setTransformToRootID(long transformToRootID)
+      {
+         for (int i = startFrame.isRootFrame() ? 1 : 0; i < frames.size(); i++)
+         {
+            // The ids of the frames that have not changed are still valid as their parents have not changed either.
+            if (haveTransformsToRootChanged[i])
+               frames.get(i).transformToRootID = transformToRootID;
+         }
+      }
+   }
+}
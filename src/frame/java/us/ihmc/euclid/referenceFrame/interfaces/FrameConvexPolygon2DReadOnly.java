@@ -7,6 +7,7 @@ import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.Line2DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.LineSegment2DBasics;
 import us.ihmc.euclid.geometry.interfaces.LineSegment2DReadOnly;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
 import us.ihmc.euclid.referenceFrame.FrameConvexPolygon2D;
 import us.ihmc.euclid.referenceFrame.FrameLineSegment2D;
 import us.ihmc.euclid.referenceFrame.FramePoint2D;
@@ -1864,6 +1865,159 @@ public interface FrameConvexPolygon2DReadOnly extends ConvexPolygon2DReadOnly, R
       ConvexPolygon2DReadOnly.super.getEdge(edgeIndex, edgeToPack);
    }
 
+   /**
+    * Tests whether this polygon and {@code other} intersect using the separating axis theorem.
+    *
+    * @param other the other polygon to test. Not modified.
+    * @return {@code true} if the two polygons intersect, {@code false} otherwise.
+    * @throws ReferenceFrameMismatchException if {@code other} and {@code this} are not expressed in
+    *                                         the same reference frame.
+    * @see #isIntersecting(ConvexPolygon2DReadOnly)
+    */
+   default boolean isIntersecting(FrameConvexPolygon2DReadOnly other)
+   {
+      checkReferenceFrameMatch(other);
+      return ConvexPolygon2DReadOnly.super.isIntersecting(other);
+   }
+
+   /**
+    * Computes the intersection of this polygon with {@code other} in linear time.
+    *
+    * @param other              the other polygon. Not modified.
+    * @param intersectionToPack the polygon in which the intersection is stored. It cannot be
+    *                           {@code this} or {@code other}. Modified.
+    * @return {@code true} if the two polygons intersect, {@code false} otherwise.
+    * @throws ReferenceFrameMismatchException if {@code other}, {@code intersectionToPack}, and {@code this}
+    *                                         are not expressed in the same reference frame.
+    * @see #intersectionWith(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default boolean intersectionWith(FrameConvexPolygon2DReadOnly other, FixedFrameConvexPolygon2DBasics intersectionToPack)
+   {
+      checkReferenceFrameMatch(other, intersectionToPack);
+      return ConvexPolygon2DReadOnly.super.intersectionWith(other, intersectionToPack);
+   }
+
+   /**
+    * Computes the intersection of this polygon with {@code other} in linear time.
+    *
+    * @param other              the other polygon. Not modified.
+    * @param intersectionToPack the polygon in which the intersection is stored. It cannot be
+    *                           {@code this} or {@code other}. Modified.
+    * @return {@code true} if the two polygons intersect, {@code false} otherwise.
+    * @throws ReferenceFrameMismatchException if {@code other} and {@code this} are not expressed in
+    *                                         the same reference frame.
+    * @see #intersectionWith(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default boolean intersectionWith(FrameConvexPolygon2DReadOnly other, FrameConvexPolygon2DBasics intersectionToPack)
+   {
+      checkReferenceFrameMatch(other);
+      EuclidGeometryPolygonTools.checkConvexPolygon2DOperationArguments(this, other, intersectionToPack);
+      intersectionToPack.setReferenceFrame(getReferenceFrame());
+      return ConvexPolygon2DReadOnly.super.intersectionWith(other, intersectionToPack);
+   }
+
+   /**
+    * Computes the smallest convex polygon containing both this polygon and {@code other}.
+    *
+    * @param other       the other polygon. Not modified.
+    * @param unionToPack the polygon in which the convex hull of the two polygons is stored. It
+    *                    cannot be {@code this} or {@code other}. Modified.
+    * @throws ReferenceFrameMismatchException if {@code other}, {@code unionToPack}, and {@code this}
+    *                                         are not expressed in the same reference frame.
+    * @see #unionHullWith(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default void unionHullWith(FrameConvexPolygon2DReadOnly other, FixedFrameConvexPolygon2DBasics unionToPack)
+   {
+      checkReferenceFrameMatch(other, unionToPack);
+      ConvexPolygon2DReadOnly.super.unionHullWith(other, unionToPack);
+   }
+
+   /**
+    * Computes the smallest convex polygon containing both this polygon and {@code other}.
+    *
+    * @param other       the other polygon. Not modified.
+    * @param unionToPack the polygon in which the convex hull of the two polygons is stored. It
+    *                    cannot be {@code this} or {@code other}. Modified.
+    * @throws ReferenceFrameMismatchException if {@code other} and {@code this} are not expressed in
+    *                                         the same reference frame.
+    * @see #unionHullWith(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default void unionHullWith(FrameConvexPolygon2DReadOnly other, FrameConvexPolygon2DBasics unionToPack)
+   {
+      checkReferenceFrameMatch(other);
+      EuclidGeometryPolygonTools.checkConvexPolygon2DOperationArguments(this, other, unionToPack);
+      unionToPack.setReferenceFrame(getReferenceFrame());
+      ConvexPolygon2DReadOnly.super.unionHullWith(other, unionToPack);
+   }
+
+   /**
+    * Computes the Minkowski sum of this polygon with {@code other} in linear time.
+    *
+    * @param other     the other polygon. Not modified.
+    * @param sumToPack the polygon in which the Minkowski sum is stored. It cannot be
+    *                  {@code this} or {@code other}. Modified.
+    * @throws ReferenceFrameMismatchException if {@code other}, {@code sumToPack}, and {@code this}
+    *                                         are not expressed in the same reference frame.
+    * @see #minkowskiSum(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default void minkowskiSum(FrameConvexPolygon2DReadOnly other, FixedFrameConvexPolygon2DBasics sumToPack)
+   {
+      checkReferenceFrameMatch(other, sumToPack);
+      ConvexPolygon2DReadOnly.super.minkowskiSum(other, sumToPack);
+   }
+
+   /**
+    * Computes the Minkowski sum of this polygon with {@code other} in linear time.
+    *
+    * @param other     the other polygon. Not modified.
+    * @param sumToPack the polygon in which the Minkowski sum is stored. It cannot be
+    *                  {@code this} or {@code other}. Modified.
+    * @throws ReferenceFrameMismatchException if {@code other} and {@code this} are not expressed in
+    *                                         the same reference frame.
+    * @see #minkowskiSum(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default void minkowskiSum(FrameConvexPolygon2DReadOnly other, FrameConvexPolygon2DBasics sumToPack)
+   {
+      checkReferenceFrameMatch(other);
+      EuclidGeometryPolygonTools.checkConvexPolygon2DOperationArguments(this, other, sumToPack);
+      sumToPack.setReferenceFrame(getReferenceFrame());
+      ConvexPolygon2DReadOnly.super.minkowskiSum(other, sumToPack);
+   }
+
+   /**
+    * Computes the Minkowski difference of this polygon with {@code other} in linear time.
+    *
+    * @param other            the other polygon. Not modified.
+    * @param differenceToPack the polygon in which the Minkowski difference is stored. It cannot be
+    *                         {@code this} or {@code other}. Modified.
+    * @throws ReferenceFrameMismatchException if {@code other}, {@code differenceToPack}, and {@code this}
+    *                                         are not expressed in the same reference frame.
+    * @see #minkowskiDifference(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default void minkowskiDifference(FrameConvexPolygon2DReadOnly other, FixedFrameConvexPolygon2DBasics differenceToPack)
+   {
+      checkReferenceFrameMatch(other, differenceToPack);
+      ConvexPolygon2DReadOnly.super.minkowskiDifference(other, differenceToPack);
+   }
+
+   /**
+    * Computes the Minkowski difference of this polygon with {@code other} in linear time.
+    *
+    * @param other            the other polygon. Not modified.
+    * @param differenceToPack the polygon in which the Minkowski difference is stored. It cannot be
+    *                         {@code this} or {@code other}. Modified.
+    * @throws ReferenceFrameMismatchException if {@code other} and {@code this} are not expressed in
+    *                                         the same reference frame.
+    * @see #minkowskiDifference(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default void minkowskiDifference(FrameConvexPolygon2DReadOnly other, FrameConvexPolygon2DBasics differenceToPack)
+   {
+      checkReferenceFrameMatch(other);
+      EuclidGeometryPolygonTools.checkConvexPolygon2DOperationArguments(this, other, differenceToPack);
+      differenceToPack.setReferenceFrame(getReferenceFrame());
+      ConvexPolygon2DReadOnly.super.minkowskiDifference(other, differenceToPack);
+   }
+
    /** {@inheritDoc} */
    @Override
    default FrameConvexPolygon2DBasics translateCopy(Tuple2DReadOnly translation)
@@ -7,6 +7,7 @@ import java.util.List;
 
 import us.ihmc.euclid.referenceFrame.FixedReferenceFrame;
 import us.ihmc.euclid.referenceFrame.ReferenceFrame;
+import us.ihmc.euclid.referenceFrame.ReferenceFrameTreeUpdater;
 import us.ihmc.euclid.transform.RigidBodyTransform;
 import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
@@ -258,6 +259,25 @@ public class ReferenceFrameTools
       worldFrame.clearChildren();
    }
 
+   /**
+    * Updates all the reference frames of the tree that the provided frame is part of and computes
+    * their transform to root.
+    * <p>
+    * The tree is walked once in breadth-first order and the transforms to root are only recomputed
+    * for the frames affected by the update, see {@link ReferenceFrameTreeUpdater}.
+    * </p>
+    * <p>
+    * WARNING: This method generates garbage. When updating the tree repeatedly, prefer using a
+    * {@link ReferenceFrameTreeUpdater}.
+    * </p>
+    *
+    * @param frame in the reference frame tree to update.
+    */
+   public static void updateFrameTree(ReferenceFrame frame)
+   {
+      new ReferenceFrameTreeUpdater(frame).update();
+   }
+
    /**
     * Will create a collection of all reference frames in the frame tree that the provided frame is
     * part of.
@@ -0,0 +1,98 @@
+package us.ihmc.euclid.geometry;
+
+import java.util.List;
+
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+
+/**
+ * Enumeration of the algorithms available for computing the convex hull 2D of a set of points.
+ * <p>
+ * All the algorithms are in-place and garbage free, and result in the same clockwise ordered convex
+ * hull starting with the vertex with the lowest x-coordinate. When several vertices share the lowest
+ * x-coordinate, the hull starts with the one with the highest y-coordinate.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public enum ConvexHull2DAlgorithm
+{
+   /**
+    * Refers to {@link EuclidGeometryPolygonTools#inPlaceGiftWrapConvexHull2D(List, int)}.
+    * <p>
+    * Runs in O(n h) where h is the number of vertices of the hull, well suited for a small number of
+    * points.
+    * </p>
+    */
+   GIFT_WRAP
+   {
+      @Override
+      public int inPlaceConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+      {
+         return EuclidGeometryPolygonTools.inPlaceGiftWrapConvexHull2D(vertices, numberOfVertices);
+      }
+   },
+   /**
+    * Refers to {@link EuclidGeometryPolygonTools#inPlaceGrahamScanConvexHull2D(List, int)}.
+    */
+   GRAHAM_SCAN
+   {
+      @Override
+      public int inPlaceConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+      {
+         return EuclidGeometryPolygonTools.inPlaceGrahamScanConvexHull2D(vertices, numberOfVertices);
+      }
+   },
+   /**
+    * Refers to {@link EuclidGeometryPolygonTools#inPlaceMonotoneChainConvexHull2D(List, int)}.
+    * <p>
+    * Runs in O(n log(n)), well suited for a large number of points.
+    * </p>
+    */
+   MONOTONE_CHAIN
+   {
+      @Override
+      public int inPlaceConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+      {
+         return EuclidGeometryPolygonTools.inPlaceMonotoneChainConvexHull2D(vertices, numberOfVertices);
+      }
+   },
+   /**
+    * Refers to {@link EuclidGeometryPolygonTools#inPlaceAklToussaintConvexHull2D(List, int)}.
+    * <p>
+    * Discards most interior points in linear time before running the monotone chain, well suited for
+    * a large number of points of which only a few are on the hull.
+    * </p>
+    */
+   AKL_TOUSSAINT
+   {
+      @Override
+      public int inPlaceConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+      {
+         return EuclidGeometryPolygonTools.inPlaceAklToussaintConvexHull2D(vertices, numberOfVertices);
+      }
+   };
+
+   /**
+    * Static final field holding the return from {@link #values()}. This field should be used in place
+    * of calling values() for garbage-free operations.
+    */
+   public static final ConvexHull2DAlgorithm[] values = values();
+
+   /**
+    * Computes in-place the convex hull 2D of the given vertices.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex hull
+    * are positioned first. The method returns the number of vertices that compose the convex hull.
+    * </p>
+    *
+    * @param vertices         the 2D point cloud from which the convex hull is to be computed.
+    *                         Modified.
+    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm will
+    *                         only process the points &in; [0; {@code numberOfVertices}[.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the size
+    *                                  of the given list of vertices.
+    */
+   public abstract int inPlaceConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices);
+}
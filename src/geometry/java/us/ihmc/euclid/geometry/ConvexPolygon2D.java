@@ -12,6 +12,7 @@ import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryIOTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
 import us.ihmc.euclid.interfaces.GeometryObject;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
 import us.ihmc.euclid.tuple2D.Point2D;
@@ -91,6 +92,10 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
     * </p>
     */
    private boolean isUpToDate = false;
+   /**
+    * The algorithm used in {@link #update()} to compute the convex hull of the vertices.
+    */
+   private ConvexHull2DAlgorithm convexHullAlgorithm = ConvexHull2DAlgorithm.GIFT_WRAP;
 
    /**
     * Creates an empty convex polygon.
@@ -150,6 +155,34 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
       set(firstVertex2DSupplier, secondVertex2DSupplier);
    }
 
+   /**
+    * Sets the algorithm used to compute the convex hull of the vertices when calling
+    * {@link #update()}.
+    * <p>
+    * The default algorithm is {@link ConvexHull2DAlgorithm#GIFT_WRAP} which is best suited for
+    * polygons built from a small number of points, {@link ConvexHull2DAlgorithm#MONOTONE_CHAIN} or
+    * {@link ConvexHull2DAlgorithm#AKL_TOUSSAINT} should be preferred when building a polygon from a
+    * large number of points.
+    * </p>
+    *
+    * @param convexHullAlgorithm the algorithm to use for the next updates.
+    */
+   public void setConvexHullAlgorithm(ConvexHull2DAlgorithm convexHullAlgorithm)
+   {
+      this.convexHullAlgorithm = convexHullAlgorithm;
+   }
+
+   /**
+    * Gets the algorithm used to compute the convex hull of the vertices when calling
+    * {@link #update()}.
+    *
+    * @return the convex hull algorithm.
+    */
+   public ConvexHull2DAlgorithm getConvexHullAlgorithm()
+   {
+      return convexHullAlgorithm;
+   }
+
    @Override
    public boolean isClockwiseOrdered()
    {
@@ -226,13 +259,182 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
       if (isUpToDate)
          return;
 
-      numberOfVertices = EuclidGeometryPolygonTools.inPlaceGiftWrapConvexHull2D(vertexBuffer, numberOfVertices);
+      numberOfVertices = convexHullAlgorithm.inPlaceConvexHull2D(vertexBuffer, numberOfVertices);
       isUpToDate = true;
 
       updateCentroidAndArea();
       updateBoundingBox();
    }
 
+   /**
+    * Adds a vertex to this polygon and updates it without computing the convex hull of all the
+    * vertices.
+    * <p>
+    * When this polygon is up-to-date, the edges visible from the new vertex are found in O(log(n)),
+    * the vertices they enclose are replaced with the new vertex, and the area, centroid, and bounding
+    * box are updated incrementally. When the new vertex is inside this polygon or very close to one
+    * of its vertices, this polygon remains unchanged.
+    * </p>
+    * <p>
+    * When this polygon is not up-to-date or has less than 3 vertices, this method is equivalent to
+    * calling {@link #addVertex(double, double)} followed by {@link #update()}.
+    * </p>
+    *
+    * @param x the x-coordinate of the new vertex.
+    * @param y the y-coordinate of the new vertex.
+    * @return {@code true} if the new vertex is now a vertex of this polygon, {@code false} otherwise.
+    */
+   public boolean addVertexAndUpdate(double x, double y)
+   {
+      if (!isUpToDate || numberOfVertices < 3)
+      {
+         Point2D newVertex = vertexBuffer.size() > numberOfVertices ? vertexBuffer.get(numberOfVertices) : null;
+         addVertex(x, y);
+         if (newVertex == null)
+            newVertex = vertexBuffer.get(numberOfVertices - 1);
+         update();
+
+         for (int i = 0; i < numberOfVertices; i++)
+         {
+            if (vertexBuffer.get(i) == newVertex)
+               return true;
+         }
+         return false;
+      }
+
+      int visibleEdgeIndex = EuclidGeometryPolygonTools.findEdgeIndexVisibleFromPoint2D(x, y, vertexBuffer, numberOfVertices, clockwiseOrdered);
+
+      if (visibleEdgeIndex == -1)
+         return false;
+
+      // Completing the chain of visible edges, edges aligned with the new vertex are included so their vertex shared with the chain is removed.
+      int firstEdgeIndex = visibleEdgeIndex;
+      int numberOfVisibleEdges = 1;
+
+      while (numberOfVisibleEdges < numberOfVertices - 1)
+      {
+         int previousEdgeIndex = EuclidGeometryPolygonTools.previous(firstEdgeIndex, numberOfVertices);
+         if (EuclidGeometryTools.isPoint2DOnSideOfLine2D(x, y, vertexBuffer.get(previousEdgeIndex), vertexBuffer.get(firstEdgeIndex), !clockwiseOrdered))
+            break;
+         firstEdgeIndex = previousEdgeIndex;
+         numberOfVisibleEdges++;
+      }
+
+      int lastEdgeIndex = visibleEdgeIndex;
+
+      while (numberOfVisibleEdges < numberOfVertices - 1)
+      {
+         int nextEdgeIndex = EuclidGeometryPolygonTools.next(lastEdgeIndex, numberOfVertices);
+         Point2D nextEdgeEnd = vertexBuffer.get(EuclidGeometryPolygonTools.next(nextEdgeIndex, numberOfVertices));
+         if (EuclidGeometryTools.isPoint2DOnSideOfLine2D(x, y, vertexBuffer.get(nextEdgeIndex), nextEdgeEnd, !clockwiseOrdered))
+            break;
+         lastEdgeIndex = nextEdgeIndex;
+         numberOfVisibleEdges++;
+      }
+
+      double addedArea = 0.0;
+      double addedCentroidX = 0.0;
+      double addedCentroidY = 0.0;
+
+      for (int i = 0; i < numberOfVisibleEdges; i++)
+      {
+         Point2D edgeStart = vertexBuffer.get((firstEdgeIndex + i) % numberOfVertices);
+         Point2D edgeEnd = vertexBuffer.get((firstEdgeIndex + i + 1) % numberOfVertices);
+
+         if (i == 0 && areVerticesEqual(edgeStart, x, y))
+            return false;
+         if (areVerticesEqual(edgeEnd, x, y))
+            return false;
+
+         double edgeDirectionX = edgeEnd.getX() - edgeStart.getX();
+         double edgeDirectionY = edgeEnd.getY() - edgeStart.getY();
+         double triangleArea = 0.5 * Math.abs(edgeDirectionX * (y - edgeStart.getY()) - edgeDirectionY * (x - edgeStart.getX()));
+         addedArea += triangleArea;
+         addedCentroidX += triangleArea * (edgeStart.getX() + edgeEnd.getX() + x) / 3.0;
+         addedCentroidY += triangleArea * (edgeStart.getY() + edgeEnd.getY() + y) / 3.0;
+      }
+
+      double newArea = area + addedArea;
+      centroid.set((area * centroid.getX() + addedCentroidX) / newArea, (area * centroid.getY() + addedCentroidY) / newArea);
+      area = newArea;
+      boundingBox.updateToIncludePoint(x, y);
+
+      // Replacing the vertices enclosed by the chain of visible edges with the new vertex.
+      int numberOfVerticesToRemove = numberOfVisibleEdges - 1;
+      boolean isFirstVertexRemoved = firstEdgeIndex + numberOfVerticesToRemove >= numberOfVertices;
+
+      if (isFirstVertexRemoved)
+      {
+         rotateVertexBuffer(0, numberOfVertices, firstEdgeIndex);
+         firstEdgeIndex = 0;
+      }
+
+      int newVertexIndex = firstEdgeIndex + 1;
+
+      if (numberOfVerticesToRemove == 0)
+      {
+         setOrCreate(x, y, numberOfVertices);
+         rotateVertexBuffer(newVertexIndex, numberOfVertices + 1, numberOfVertices - newVertexIndex);
+         numberOfVertices++;
+      }
+      else
+      {
+         vertexBuffer.get(newVertexIndex).set(x, y);
+         rotateVertexBuffer(newVertexIndex + 1, numberOfVertices, numberOfVerticesToRemove - 1);
+         numberOfVertices -= numberOfVerticesToRemove - 1;
+      }
+
+      // Maintaining the vertex with the lowest x-coordinate first as done by the convex hull algorithms.
+      Point2D firstVertex = vertexBuffer.get(0);
+
+      if (isFirstVertexRemoved)
+         rotateVertexBuffer(0, numberOfVertices, EuclidGeometryPolygonTools.findVertexIndex(this, true, Bound.MIN, Bound.MAX));
+      else if (x < firstVertex.getX() || (x == firstVertex.getX() && y > firstVertex.getY()))
+         rotateVertexBuffer(0, numberOfVertices, newVertexIndex);
+
+      return true;
+   }
+
+   /**
+    * Adds a vertex to this polygon and updates it without computing the convex hull of all the
+    * vertices, see {@link #addVertexAndUpdate(double, double)}.
+    *
+    * @param vertex the new vertex. Not modified.
+    * @return {@code true} if the new vertex is now a vertex of this polygon, {@code false} otherwise.
+    */
+   public boolean addVertexAndUpdate(Point2DReadOnly vertex)
+   {
+      return addVertexAndUpdate(vertex.getX(), vertex.getY());
+   }
+
+   /**
+    * Method for internal use only.
+    * <p>
+    * Rotates the points of {@link #vertexBuffer} in [{@code start}, {@code end}[ such that the point
+    * at {@code start + distance} ends up at {@code start}.
+    * </p>
+    */
+   private void rotateVertexBuffer(int start, int end, int distance)
+   {
+      if (distance == 0 || distance == end - start)
+         return;
+
+      reverseVertexBuffer(start, start + distance);
+      reverseVertexBuffer(start + distance, end);
+      reverseVertexBuffer(start, end);
+   }
+
+   private void reverseVertexBuffer(int start, int end)
+   {
+      for (int i = start, j = end - 1; i < j; i++, j--)
+         Collections.swap(vertexBuffer, i, j);
+   }
+
+   private static boolean areVerticesEqual(Point2DReadOnly vertex, double x, double y)
+   {
+      return Math.abs(vertex.getX() - x) <= EuclidGeometryTools.ONE_TEN_MILLIONTH && Math.abs(vertex.getY() - y) <= EuclidGeometryTools.ONE_TEN_MILLIONTH;
+   }
+
    /**
     * This method does:
     * <ol>
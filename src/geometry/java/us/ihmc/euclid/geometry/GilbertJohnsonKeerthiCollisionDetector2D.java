@@ -0,0 +1,475 @@
+package us.ihmc.euclid.geometry;
+
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+
+/**
+ * Implementation of the Gilbert-Johnson-Keerthi algorithm specialized for convex polygons in the
+ * plane.
+ * <p>
+ * This collision detector computes whether two convex polygons, given as {@link Vertex2DSupplier}s,
+ * are colliding or not, and when not colliding it provides the distance between the two polygons
+ * and the pair of closest points from each polygon. As opposed to the 3D collision detector of the
+ * shape module, the simplex is at most a triangle and is stored in plain coordinates, such that an
+ * evaluation does not generate garbage once this detector has been created.
+ * </p>
+ * <p>
+ * The order of the vertices does not matter, and the vertices are not required to form a convex
+ * polygon: the algorithm operates on their convex hull. When only the overlap between two polygons
+ * is needed, the separating axis test
+ * {@link us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DReadOnly#isIntersecting(us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DReadOnly)}
+ * is usually faster.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class GilbertJohnsonKeerthiCollisionDetector2D
+{
+   /** The default value for the tolerance used to trigger the terminal condition. */
+   public static final double DEFAULT_TERMINAL_CONDITION_EPSILON = 1.0e-12;
+   /**
+    * The default value for the tolerance on the squared distance under which the polygons are
+    * considered to be colliding.
+    */
+   public static final double DEFAULT_COLLISION_EPSILON = 1.0e-20;
+
+   /** The tolerance used to trigger the terminal condition. */
+   private double terminalConditionEpsilon = DEFAULT_TERMINAL_CONDITION_EPSILON;
+   /** The tolerance on the squared distance under which the polygons are considered colliding. */
+   private double collisionEpsilon = DEFAULT_COLLISION_EPSILON;
+   /** The maximum number of iterations allowed before terminating. */
+   private int maxIterations = 100;
+   /** The number of iterations performed during the last evaluation. */
+   private int numberOfIterations = 0;
+
+   /** The number of vertices of the current simplex, in [0, 3]. */
+   private int simplexSize = 0;
+   /** The vertices of the simplex in the Minkowski difference {@code A - B}. */
+   private final double[] simplexX = new double[3];
+   private final double[] simplexY = new double[3];
+   /** The indices of the supporting vertices of the shapes A and B for each simplex vertex. */
+   private final int[] simplexIndexA = new int[3];
+   private final int[] simplexIndexB = new int[3];
+   /** The barycentric coordinates of the point of the simplex closest to the origin. */
+   private final double[] simplexLambdas = new double[3];
+
+   /** The outcome of the last evaluation. */
+   private boolean isColliding = false;
+   private double distance = Double.NaN;
+   private final Point2D pointOnA = new Point2D();
+   private final Point2D pointOnB = new Point2D();
+
+   /**
+    * Creates a new collision detector that can be used right away to evaluate collisions.
+    */
+   public GilbertJohnsonKeerthiCollisionDetector2D()
+   {
+   }
+
+   /**
+    * Evaluates the collision state between the two given convex polygons.
+    * <p>
+    * The result of the evaluation can be obtained using {@link #getDistance()},
+    * {@link #getPointOnA()}, and {@link #getPointOnB()}. When the polygons are colliding, the distance
+    * is {@code 0.0} and the closest points are set to {@link Double#NaN}.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if any of the two polygons is empty, the polygons are considered not colliding and the
+    * distance and closest points are set to {@link Double#NaN}.
+    * <li>if the polygons only touch, they are considered colliding only if the squared distance
+    * computed is within the collision tolerance, see {@link #setCollisionEpsilon(double)}.
+    * </ul>
+    * </p>
+    *
+    * @param polygonA the first convex polygon. Not modified.
+    * @param polygonB the second convex polygon. Not modified.
+    * @return {@code true} if the two polygons are colliding, {@code false} otherwise.
+    */
+   public boolean evaluateCollision(Vertex2DSupplier polygonA, Vertex2DSupplier polygonB)
+   {
+      numberOfIterations = 0;
+      simplexSize = 0;
+
+      if (polygonA.isEmpty() || polygonB.isEmpty())
+      {
+         isColliding = false;
+         distance = Double.NaN;
+         pointOnA.setToNaN();
+         pointOnB.setToNaN();
+         return false;
+      }
+
+      // Initializing the simplex with the difference between the first vertices.
+      addSimplexVertex(polygonA, 0, polygonB, 0);
+      simplexLambdas[0] = 1.0;
+      double closestX = simplexX[0];
+      double closestY = simplexY[0];
+      double distanceSquared = closestX * closestX + closestY * closestY;
+
+      isColliding = false;
+
+      while (numberOfIterations < maxIterations)
+      {
+         numberOfIterations++;
+
+         if (distanceSquared <= collisionEpsilon)
+         {
+            isColliding = true;
+            break;
+         }
+
+         // Searching the Minkowski difference in the direction of the origin, i.e. -closest.
+         int supportIndexA = supportingVertexIndex(polygonA, -closestX, -closestY);
+         int supportIndexB = supportingVertexIndex(polygonB, closestX, closestY);
+         Point2DReadOnly supportA = polygonA.getVertex(supportIndexA);
+         Point2DReadOnly supportB = polygonB.getVertex(supportIndexB);
+         double supportX = supportA.getX() - supportB.getX();
+         double supportY = supportA.getY() - supportB.getY();
+
+         // The new vertex does not get the simplex closer to the origin: the closest point has been found.
+         if (distanceSquared - (closestX * supportX + closestY * supportY) <= terminalConditionEpsilon * distanceSquared)
+            break;
+         if (isSimplexVertex(supportIndexA, supportIndexB))
+            break;
+
+         addSimplexVertex(polygonA, supportIndexA, polygonB, supportIndexB);
+
+         if (!reduceSimplex())
+         { // The origin is inside the triangle.
+            isColliding = true;
+            break;
+         }
+
+         double newClosestX = 0.0;
+         double newClosestY = 0.0;
+
+         for (int i = 0; i < simplexSize; i++)
+         {
+            newClosestX += simplexLambdas[i] * simplexX[i];
+            newClosestY += simplexLambdas[i] * simplexY[i];
+         }
+
+         double newDistanceSquared = newClosestX * newClosestX + newClosestY * newClosestY;
+
+         // Numerical safeguard, the distance has to decrease at each iteration.
+         if (newDistanceSquared >= distanceSquared)
+         {
+            distanceSquared = newDistanceSquared;
+            break;
+         }
+
+         closestX = newClosestX;
+         closestY = newClosestY;
+         distanceSquared = newDistanceSquared;
+      }
+
+      if (isColliding)
+      {
+         distance = 0.0;
+         pointOnA.setToNaN();
+         pointOnB.setToNaN();
+      }
+      else
+      {
+         distance = Math.sqrt(distanceSquared);
+         pointOnA.setToZero();
+         pointOnB.setToZero();
+
+         for (int i = 0; i < simplexSize; i++)
+         {
+            Point2DReadOnly vertexA = polygonA.getVertex(simplexIndexA[i]);
+            Point2DReadOnly vertexB = polygonB.getVertex(simplexIndexB[i]);
+            pointOnA.scaleAdd(simplexLambdas[i], vertexA, pointOnA);
+            pointOnB.scaleAdd(simplexLambdas[i], vertexB, pointOnB);
+         }
+      }
+
+      return isColliding;
+   }
+
+   /**
+    * Evaluates the distance between the two given convex polygons.
+    * <p>
+    * This is equivalent to calling {@link #evaluateCollision(Vertex2DSupplier, Vertex2DSupplier)}
+    * followed by {@link #getDistance()}.
+    * </p>
+    *
+    * @param polygonA the first convex polygon. Not modified.
+    * @param polygonB the second convex polygon. Not modified.
+    * @return the distance between the two polygons, {@code 0.0} when colliding, or {@link Double#NaN}
+    *         if any of the polygons is empty.
+    */
+   public double distance(Vertex2DSupplier polygonA, Vertex2DSupplier polygonB)
+   {
+      evaluateCollision(polygonA, polygonB);
+      return distance;
+   }
+
+   private void addSimplexVertex(Vertex2DSupplier polygonA, int indexA, Vertex2DSupplier polygonB, int indexB)
+   {
+      Point2DReadOnly vertexA = polygonA.getVertex(indexA);
+      Point2DReadOnly vertexB = polygonB.getVertex(indexB);
+      simplexX[simplexSize] = vertexA.getX() - vertexB.getX();
+      simplexY[simplexSize] = vertexA.getY() - vertexB.getY();
+      simplexIndexA[simplexSize] = indexA;
+      simplexIndexB[simplexSize] = indexB;
+      simplexSize++;
+   }
+
+   private boolean isSimplexVertex(int indexA, int indexB)
+   {
+      for (int i = 0; i < simplexSize; i++)
+      {
+         if (simplexIndexA[i] == indexA && simplexIndexB[i] == indexB)
+            return true;
+      }
+      return false;
+   }
+
+   /**
+    * Reduces the simplex to the smallest sub-simplex containing the point closest to the origin and
+    * computes the barycentric coordinates of that point.
+    * <p>
+    * The sub-simplex is found by testing the Voronoi regions of the simplex features, see Christer
+    * Ericson, <i>Real-Time Collision Detection</i>, section 5.1.5.
+    * </p>
+    *
+    * @return {@code false} if the origin is inside the triangle simplex, {@code true} otherwise.
+    */
+   private boolean reduceSimplex()
+   {
+      if (simplexSize == 2)
+      {
+         reduceSegmentSimplex(0, 1);
+         return true;
+      }
+
+      double ax = simplexX[0], ay = simplexY[0];
+      double bx = simplexX[1], by = simplexY[1];
+      double cx = simplexX[2], cy = simplexY[2];
+      double abx = bx - ax, aby = by - ay;
+      double acx = cx - ax, acy = cy - ay;
+
+      double d1 = -(abx * ax + aby * ay);
+      double d2 = -(acx * ax + acy * ay);
+      if (d1 <= 0.0 && d2 <= 0.0)
+      {
+         keepSimplexVertex(0);
+         return true;
+      }
+
+      double d3 = -(abx * bx + aby * by);
+      double d4 = -(acx * bx + acy * by);
+      if (d3 >= 0.0 && d4 <= d3)
+      {
+         keepSimplexVertex(1);
+         return true;
+      }
+
+      double vc = d1 * d4 - d3 * d2;
+      if (vc <= 0.0 && d1 >= 0.0 && d3 <= 0.0)
+      {
+         reduceSegmentSimplex(0, 1);
+         return true;
+      }
+
+      double d5 = -(abx * cx + aby * cy);
+      double d6 = -(acx * cx + acy * cy);
+      if (d6 >= 0.0 && d5 <= d6)
+      {
+         keepSimplexVertex(2);
+         return true;
+      }
+
+      double vb = d5 * d2 - d1 * d6;
+      if (vb <= 0.0 && d2 >= 0.0 && d6 <= 0.0)
+      {
+         reduceSegmentSimplex(0, 2);
+         return true;
+      }
+
+      double va = d3 * d6 - d5 * d4;
+      if (va <= 0.0 && d4 - d3 >= 0.0 && d5 - d6 >= 0.0)
+      {
+         reduceSegmentSimplex(1, 2);
+         return true;
+      }
+
+      return false;
+   }
+
+   private void reduceSegmentSimplex(int startIndex, int endIndex)
+   {
+      double ax = simplexX[startIndex], ay = simplexY[startIndex];
+      double abx = simplexX[endIndex] - ax, aby = simplexY[endIndex] - ay;
+      double d1 = -(abx * ax + aby * ay);
+
+      if (d1 <= 0.0)
+      {
+         keepSimplexVertex(startIndex);
+         return;
+      }
+
+      double lengthSquared = abx * abx + aby * aby;
+
+      if (d1 >= lengthSquared)
+      {
+         keepSimplexVertex(endIndex);
+         return;
+      }
+
+      double t = d1 / lengthSquared;
+      moveSimplexVertex(startIndex, 0);
+      moveSimplexVertex(endIndex, 1);
+      simplexSize = 2;
+      simplexLambdas[0] = 1.0 - t;
+      simplexLambdas[1] = t;
+   }
+
+   private void keepSimplexVertex(int index)
+   {
+      moveSimplexVertex(index, 0);
+      simplexSize = 1;
+      simplexLambdas[0] = 1.0;
+   }
+
+   private void moveSimplexVertex(int from, int to)
+   {
+      if (from == to)
+         return;
+      simplexX[to] = simplexX[from];
+      simplexY[to] = simplexY[from];
+      simplexIndexA[to] = simplexIndexA[from];
+      simplexIndexB[to] = simplexIndexB[from];
+   }
+
+   private static int supportingVertexIndex(Vertex2DSupplier polygon, double directionX, double directionY)
+   {
+      int bestIndex = 0;
+      Point2DReadOnly vertex = polygon.getVertex(0);
+      double bestDotProduct = vertex.getX() * directionX + vertex.getY() * directionY;
+
+      for (int i = 1; i < polygon.getNumberOfVertices(); i++)
+      {
+         vertex = polygon.getVertex(i);
+         double dotProduct = vertex.getX() * directionX + vertex.getY() * directionY;
+
+         if (dotProduct > bestDotProduct)
+         {
+            bestIndex = i;
+            bestDotProduct = dotProduct;
+         }
+      }
+
+      return bestIndex;
+   }
+
+   /**
+    * Sets the limit to the number of iterations in case the algorithm does not succeed to converge.
+    *
+    * @param maxIterations the maximum of iterations allowed before terminating.
+    */
+   public void setMaxIterations(int maxIterations)
+   {
+      this.maxIterations = maxIterations;
+   }
+
+   /**
+    * Sets the relative tolerance used to trigger the termination condition of this algorithm.
+    *
+    * @param terminalConditionEpsilon the terminal condition tolerance to use, default value
+    *                                 {@value #DEFAULT_TERMINAL_CONDITION_EPSILON}.
+    */
+   public void setTerminalConditionEpsilon(double terminalConditionEpsilon)
+   {
+      this.terminalConditionEpsilon = terminalConditionEpsilon;
+   }
+
+   /**
+    * Sets the tolerance on the squared distance under which the polygons are considered to be
+    * colliding.
+    *
+    * @param collisionEpsilon the collision tolerance to use, default value
+    *                         {@value #DEFAULT_COLLISION_EPSILON}.
+    */
+   public void setCollisionEpsilon(double collisionEpsilon)
+   {
+      this.collisionEpsilon = collisionEpsilon;
+   }
+
+   /**
+    * Gets the relative tolerance used to trigger the termination condition of this algorithm.
+    *
+    * @return the terminal condition tolerance.
+    */
+   public double getTerminalConditionEpsilon()
+   {
+      return terminalConditionEpsilon;
+   }
+
+   /**
+    * Gets the tolerance on the squared distance under which the polygons are considered to be
+    * colliding.
+    *
+    * @return the collision tolerance.
+    */
+   public double getCollisionEpsilon()
+   {
+      return collisionEpsilon;
+   }
+
+   /**
+    * Gets the number of iterations needed for the last evaluation.
+    *
+    * @return the number of iterations from the last evaluation.
+    */
+   public int getNumberOfIterations()
+   {
+      return numberOfIterations;
+   }
+
+   /**
+    * Gets whether the two polygons were colliding during the last evaluation.
+    *
+    * @return {@code true} if the polygons were colliding, {@code false} otherwise.
+    */
+   public boolean isColliding()
+   {
+      return isColliding;
+   }
+
+   /**
+    * Gets the distance between the two polygons from the last evaluation.
+    *
+    * @return the distance between the two polygons, {@code 0.0} when colliding.
+    */
+   public double getDistance()
+   {
+      return distance;
+   }
+
+   /**
+    * Gets the point on the first polygon that is the closest to the second polygon from the last
+    * evaluation.
+    *
+    * @return the closest point on the first polygon, or {@link Double#NaN} when colliding.
+    */
+   public Point2DReadOnly getPointOnA()
+   {
+      return pointOnA;
+   }
+
+   /**
+    * Gets the point on the second polygon that is the closest to the first polygon from the last
+    * evaluation.
+    *
+    * @return the closest point on the second polygon, or {@link Double#NaN} when colliding.
+    */
+   public Point2DReadOnly getPointOnB()
+   {
+      return pointOnB;
+   }
+}
@@ -0,0 +1,73 @@
+package us.ihmc.euclid.geometry;
+
+import us.ihmc.euclid.geometry.interfaces.Pose3DBasics;
+import us.ihmc.euclid.geometry.interfaces.Pose3DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple4D.QuaternionInterpolator;
+
+/**
+ * Interpolator for evaluating repeatedly the interpolation between the same two poses.
+ * <p>
+ * The position is interpolated linearly and the orientation is interpolated with a
+ * {@link QuaternionInterpolator} which precomputes the angle between the two orientations when
+ * calling {@link #set(Pose3DReadOnly, Pose3DReadOnly)}.
+ * </p>
+ * <p>
+ * This interpolator does not generate garbage and is not thread-safe.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class Pose3DInterpolator
+{
+   private final QuaternionInterpolator orientationInterpolator = new QuaternionInterpolator();
+   private final Point3D position0 = new Point3D();
+   private final Point3D positionf = new Point3D();
+
+   /**
+    * Creates a new interpolator. {@link #set(Pose3DReadOnly, Pose3DReadOnly)} has to be called before
+    * interpolating.
+    */
+   public Pose3DInterpolator()
+   {
+   }
+
+   /**
+    * Sets the maximum angular error allowed when interpolating the orientation with a normalized
+    * linear interpolation.
+    *
+    * @param maxNlerpError the maximum angular error in radians.
+    * @see QuaternionInterpolator#setMaxNlerpError(double)
+    */
+   public void setMaxNlerpError(double maxNlerpError)
+   {
+      orientationInterpolator.setMaxNlerpError(maxNlerpError);
+   }
+
+   /**
+    * Sets the two poses to interpolate between and precomputes the interpolation coefficients.
+    *
+    * @param pose0 the pose at {@code alpha = 0}. Not modified.
+    * @param posef the pose at {@code alpha = 1}. Not modified.
+    */
+   public void set(Pose3DReadOnly pose0, Pose3DReadOnly posef)
+   {
+      position0.set(pose0.getPosition());
+      positionf.set(posef.getPosition());
+      orientationInterpolator.set(pose0.getOrientation(), posef.getOrientation());
+   }
+
+   /**
+    * Computes the interpolated pose for the given percentage.
+    *
+    * @param alpha      the percentage to use for the interpolation. A value of 0 will result in
+    *                   setting {@code poseToPack} to {@code pose0}, while a value of 1 is equivalent
+    *                   to setting it to {@code posef}.
+    * @param poseToPack the pose in which the result is stored. Modified.
+    */
+   public void interpolate(double alpha, Pose3DBasics poseToPack)
+   {
+      poseToPack.getPosition().interpolate(position0, positionf, alpha);
+      orientationInterpolator.interpolate(alpha, poseToPack.getOrientation());
+   }
+}
@@ -1563,6 +1563,121 @@ public interface ConvexPolygon2DReadOnly extends Vertex2DSupplier
       edgeToPack.set(getVertex(edgeIndex), getNextVertex(edgeIndex));
    }
 
+   /**
+    * Computes the intersection of this polygon with {@code other} in linear time, see
+    * {@link EuclidGeometryPolygonTools#intersectionBetweenTwoConvexPolygon2Ds(List, int, List, int, boolean, ConvexPolygon2DBasics)}.
+    *
+    * @param other              the other polygon to intersect with this polygon. Not modified.
+    * @param intersectionToPack the polygon in which the intersection is stored. It cannot be
+    *                           {@code this} or {@code other}. Modified.
+    * @return {@code true} if the two polygons intersect, {@code false} otherwise.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *                                  since last time this polygon's or {@code other}'s vertices were
+    *                                  edited.
+    * @throws IllegalArgumentException if {@code intersectionToPack} is one of the two polygons.
+    */
+   default boolean intersectionWith(ConvexPolygon2DReadOnly other, ConvexPolygon2DBasics intersectionToPack)
+   {
+      EuclidGeometryPolygonTools.checkConvexPolygon2DOperationArguments(this, other, intersectionToPack);
+      return EuclidGeometryPolygonTools.intersectionBetweenTwoConvexPolygon2Ds(getVertexBufferView(),
+                                                                              getNumberOfVertices(),
+                                                                              other.getVertexBufferView(),
+                                                                              other.getNumberOfVertices(),
+                                                                              isClockwiseOrdered(),
+                                                                              intersectionToPack);
+   }
+
+   /**
+    * Tests whether this polygon and {@code other} intersect using the separating axis theorem, see
+    * {@link EuclidGeometryPolygonTools#doConvexPolygon2DsIntersect(List, int, List, int, boolean)}.
+    * <p>
+    * The bounding boxes of the two polygons are compared first, then the edges are tested until a
+    * separating edge is found. This test does not generate garbage. The two polygons are considered
+    * intersecting when they only touch.
+    * </p>
+    *
+    * @param other the other polygon to test. Not modified.
+    * @return {@code true} if the two polygons intersect, {@code false} otherwise.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *                                  since last time this polygon's or {@code other}'s vertices were
+    *                                  edited.
+    * @throws IllegalArgumentException if the two polygons are not ordered the same way.
+    */
+   default boolean isIntersecting(ConvexPolygon2DReadOnly other)
+   {
+      EuclidGeometryPolygonTools.checkConvexPolygon2DOperationArguments(this, other, null);
+      if (!getBoundingBox().intersectsInclusive(other.getBoundingBox()))
+         return false;
+      return EuclidGeometryPolygonTools.doConvexPolygon2DsIntersect(getVertexBufferView(),
+                                                                   getNumberOfVertices(),
+                                                                   other.getVertexBufferView(),
+                                                                   other.getNumberOfVertices(),
+                                                                   isClockwiseOrdered());
+   }
+
+   /**
+    * Computes the smallest convex polygon containing both this polygon and {@code other}.
+    *
+    * @param other        the other polygon. Not modified.
+    * @param unionToPack  the polygon in which the convex hull of the two polygons is stored. It
+    *                     cannot be {@code this} or {@code other}. Modified.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *                                  since last time this polygon's or {@code other}'s vertices were
+    *                                  edited.
+    * @throws IllegalArgumentException if {@code unionToPack} is one of the two polygons.
+    */
+   default void unionHullWith(ConvexPolygon2DReadOnly other, ConvexPolygon2DBasics unionToPack)
+   {
+      EuclidGeometryPolygonTools.checkConvexPolygon2DOperationArguments(this, other, unionToPack);
+      unionToPack.set(this, other);
+   }
+
+   /**
+    * Computes the Minkowski sum of this polygon with {@code other} in linear time, see
+    * {@link EuclidGeometryPolygonTools#minkowskiSumOfTwoConvexPolygon2Ds(List, int, List, int, boolean, ConvexPolygon2DBasics)}.
+    *
+    * @param other     the other polygon. Not modified.
+    * @param sumToPack the polygon in which the Minkowski sum is stored. It cannot be {@code this} or
+    *                  {@code other}. Modified.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *                                  since last time this polygon's or {@code other}'s vertices were
+    *                                  edited.
+    * @throws IllegalArgumentException if {@code sumToPack} is one of the two polygons.
+    */
+   default void minkowskiSum(ConvexPolygon2DReadOnly other, ConvexPolygon2DBasics sumToPack)
+   {
+      EuclidGeometryPolygonTools.checkConvexPolygon2DOperationArguments(this, other, sumToPack);
+      EuclidGeometryPolygonTools.minkowskiSumOfTwoConvexPolygon2Ds(getVertexBufferView(),
+                                                                  getNumberOfVertices(),
+                                                                  other.getVertexBufferView(),
+                                                                  other.getNumberOfVertices(),
+                                                                  isClockwiseOrdered(),
+                                                                  sumToPack);
+   }
+
+   /**
+    * Computes the Minkowski difference of this polygon with {@code other} in linear time, see
+    * {@link EuclidGeometryPolygonTools#minkowskiDifferenceOfTwoConvexPolygon2Ds(List, int, List, int, boolean, ConvexPolygon2DBasics)}.
+    *
+    * @param other            the other polygon. Not modified.
+    * @param differenceToPack the polygon in which the Minkowski difference is stored. It cannot be
+    *                         {@code this} or {@code other}. Modified.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *                                  since last time this polygon's or {@code other}'s vertices were
+    *                                  edited.
+    * @throws IllegalArgumentException if {@code differenceToPack} is one of the two polygons.
+    */
+   default void minkowskiDifference(ConvexPolygon2DReadOnly other, ConvexPolygon2DBasics differenceToPack)
+   {
+      EuclidGeometryPolygonTools.checkConvexPolygon2DOperationArguments(this, other, differenceToPack);
+      EuclidGeometryPolygonTools.minkowskiDifferenceOfTwoConvexPolygon2Ds(getVertexBufferView(),
+                                                                         getNumberOfVertices(),
+                                                                         other.getVertexBufferView(),
+                                                                         other.getNumberOfVertices(),
+                                                                         isClockwiseOrdered(),
+                                                                         differenceToPack);
+   }
+
    /**
     * Copies this polygon, translates the copy, and returns it.
     * <p>
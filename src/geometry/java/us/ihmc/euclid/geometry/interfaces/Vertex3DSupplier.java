@@ -3,6 +3,9 @@ package us.ihmc.euclid.geometry.interfaces;
 import java.util.Arrays;
 import java.util.List;
 
+import us.ihmc.euclid.tools.BulkTransformTools;
+import us.ihmc.euclid.transform.interfaces.AffineTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 
 /**
@@ -46,6 +49,65 @@ public interface Vertex3DSupplier
     */
    public int getNumberOfVertices();
 
+   /**
+    * Packs the vertices of this supplier in the given array as successive triplets
+    * {@code (x, y, z)}.
+    *
+    * @param verticesToPack the array in which the coordinates of the vertices are stored. Modified.
+    * @param startIndex     the index in {@code verticesToPack} of the x-coordinate of the first
+    *                       vertex.
+    * @throws IllegalArgumentException if the array is too small to hold the vertices.
+    */
+   default void getVertices(double[] verticesToPack, int startIndex)
+   {
+      int numberOfVertices = getNumberOfVertices();
+
+      if (startIndex < 0 || startIndex + 3 * numberOfVertices > verticesToPack.length)
+         throw new IllegalArgumentException("The array is too small. Array length = " + verticesToPack.length + ", expected minimum length = "
+               + (startIndex + 3 * numberOfVertices));
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         getVertex(i).get(startIndex + 3 * i, verticesToPack);
+      }
+   }
+
+   /**
+    * Transforms the vertices of this supplier and packs the result in the given array as successive
+    * triplets {@code (x, y, z)}.
+    *
+    * @param transform           the transform to apply to the vertices. Not modified.
+    * @param verticesTransformed the array in which the coordinates of the transformed vertices are
+    *                            stored. Modified.
+    * @param startIndex          the index in {@code verticesTransformed} of the x-coordinate of the
+    *                            first vertex.
+    * @throws IllegalArgumentException if the array is too small to hold the vertices.
+    * @see BulkTransformTools#transformPoints(RigidBodyTransformReadOnly, double[], int, double[], int, int)
+    */
+   default void transformVertices(RigidBodyTransformReadOnly transform, double[] verticesTransformed, int startIndex)
+   {
+      getVertices(verticesTransformed, startIndex);
+      BulkTransformTools.transformPoints(transform, verticesTransformed, startIndex, verticesTransformed, startIndex, getNumberOfVertices());
+   }
+
+   /**
+    * Transforms the vertices of this supplier and packs the result in the given array as successive
+    * triplets {@code (x, y, z)}.
+    *
+    * @param transform           the transform to apply to the vertices. Not modified.
+    * @param verticesTransformed the array in which the coordinates of the transformed vertices are
+    *                            stored. Modified.
+    * @param startIndex          the index in {@code verticesTransformed} of the x-coordinate of the
+    *                            first vertex.
+    * @throws IllegalArgumentException if the array is too small to hold the vertices.
+    * @see AffineTransformReadOnly#transformPoints(double[], int, double[], int, int)
+    */
+   default void transformVertices(AffineTransformReadOnly transform, double[] verticesTransformed, int startIndex)
+   {
+      getVertices(verticesTransformed, startIndex);
+      transform.transformPoints(verticesTransformed, startIndex, verticesTransformed, startIndex, getNumberOfVertices());
+   }
+
    /**
     * Tests whether this supplier is empty or not.
     *
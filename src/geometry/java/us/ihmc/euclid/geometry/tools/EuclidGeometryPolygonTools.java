@@ -14,6 +14,7 @@ import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.intersectionBetw
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DInFrontOfRay2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnLeftSideOfLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnLine2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnRightSideOfLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnSideOfLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.orthogonalProjectionOnLineSegment2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.percentageOfIntersectionBetweenTwoLine2Ds;
@@ -24,6 +25,9 @@ import java.util.List;
 import java.util.Random;
 
 import us.ihmc.euclid.geometry.Bound;
+import us.ihmc.euclid.geometry.exceptions.OutdatedPolygonException;
+import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DBasics;
+import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tuple2D.Point2D;
@@ -41,6 +45,11 @@ public class EuclidGeometryPolygonTools
 {
    private static final Random random = new Random();
    static final double EPSILON = 1.0e-7;
+   /**
+    * Number of vertices from which the queries on a convex polygon switch from iterating over every
+    * edge to a binary search.
+    */
+   static final int BINARY_SEARCH_VERTEX_THRESHOLD = 16;
 
    private EuclidGeometryPolygonTools()
    {
@@ -325,6 +334,217 @@ public class EuclidGeometryPolygonTools
       return numberOfVertices;
    }
 
+   /**
+    * In-place and garbage free implementation of
+    * <a href="https://en.wikibooks.org/wiki/Algorithm_Implementation/Geometry/Convex_hull/Monotone_chain">Andrew's
+    * monotone chain algorithm</a> for computing the convex hull 2D of a set of points.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex hull
+    * are positioned first. The method returns the number of vertices that compose the convex hull.
+    * </p>
+    * <p>
+    * This algorithm runs in O(n log(n)), which makes it preferable to
+    * {@link #inPlaceGiftWrapConvexHull2D(List)} when the convex hull of a large number of points is to
+    * be computed.
+    * </p>
+    *
+    * @param vertices the 2D point cloud from which the convex hull is to be computed. Modified.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the size
+    *                                  of the given list of vertices.
+    */
+   public static int inPlaceMonotoneChainConvexHull2D(List<? extends Point2DReadOnly> vertices)
+   {
+      return inPlaceMonotoneChainConvexHull2D(vertices, vertices.size());
+   }
+
+   /**
+    * In-place and garbage free implementation of
+    * <a href="https://en.wikibooks.org/wiki/Algorithm_Implementation/Geometry/Convex_hull/Monotone_chain">Andrew's
+    * monotone chain algorithm</a> for computing the convex hull 2D of a set of points.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex hull
+    * are positioned first. The method returns the number of vertices that compose the convex hull.
+    * </p>
+    * <p>
+    * This algorithm runs in O(n log(n)), which makes it preferable to
+    * {@link #inPlaceGiftWrapConvexHull2D(List, int)} when the convex hull of a large number of points
+    * is to be computed.
+    * </p>
+    *
+    * @param vertices         the 2D point cloud from which the convex hull is to be computed.
+    *                         Modified.
+    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm will
+    *                         only process the points &in; [0; {@code numberOfVertices}[.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the size
+    *                                  of the given list of vertices.
+    */
+   public static int inPlaceMonotoneChainConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   {
+      if (numberOfVertices == 0)
+         return 0;
+
+      checkNumberOfVertices(vertices, numberOfVertices);
+
+      if (numberOfVertices == 1)
+         return 1;
+
+      /*
+       * The first vertex L is the one with the lowest x-coordinate, ties broken with the highest
+       * y-coordinate, and the last R the one with the highest x-coordinate, ties broken with the lowest
+       * y-coordinate. The vertices are split with the line going through L and R.
+       * @formatter:off
+       * +------------------------------------------------+
+       * | L | above (L, R) | R | below or on (L, R) |
+       * +------------------------------------------------+
+       * @formatter:on
+       * The vertices above the line are sorted in increasing order and the vertices below in decreasing
+       * order such that the list describes a polygon going clockwise, the convex hull is then extracted
+       * in a single pass.
+       */
+      Collections.swap(vertices, findMinXMaxYVertexIndex(vertices, numberOfVertices), 0);
+      Collections.swap(vertices, findMaxXMinYVertexIndex(vertices, 1, numberOfVertices), numberOfVertices - 1);
+      Point2DReadOnly firstVertex = vertices.get(0);
+      Point2DReadOnly lastVertex = vertices.get(numberOfVertices - 1);
+
+      int lowerChainStartIndex = 1;
+
+      for (int vertexIndex = 1; vertexIndex < numberOfVertices - 1; vertexIndex++)
+      {
+         if (isPoint2DOnLeftSideOfLine2D(vertices.get(vertexIndex), firstVertex, lastVertex))
+            Collections.swap(vertices, vertexIndex, lowerChainStartIndex++);
+      }
+
+      Collections.swap(vertices, lowerChainStartIndex, numberOfVertices - 1);
+      monotoneChainSort(vertices, 1, lowerChainStartIndex - 1, true);
+      monotoneChainSort(vertices, lowerChainStartIndex + 1, numberOfVertices - 1, false);
+
+      // The hull is built in place at the beginning of the list, the vertices that are rejected are swapped with the next vertex to process.
+      int hullSize = 0;
+      // Minimum size of the hull for removing its last vertex, such that neither L nor R can be removed.
+      int minHullSizeToRemove = 2;
+
+      for (int vertexIndex = 0; vertexIndex < numberOfVertices; vertexIndex++)
+      {
+         Point2DReadOnly vertex = vertices.get(vertexIndex);
+
+         while (hullSize >= minHullSizeToRemove && !isPoint2DOnRightSideOfLine2D(vertex, vertices.get(hullSize - 2), vertices.get(hullSize - 1)))
+            hullSize--;
+
+         Collections.swap(vertices, vertexIndex, hullSize++);
+
+         if (vertexIndex == lowerChainStartIndex)
+            minHullSizeToRemove = hullSize + 1;
+      }
+
+      // Closing the polygon
+      while (hullSize >= minHullSizeToRemove && !isPoint2DOnRightSideOfLine2D(firstVertex, vertices.get(hullSize - 2), vertices.get(hullSize - 1)))
+         hullSize--;
+
+      // Removing duplicate vertices
+      int lastHullVertexIndex = 0;
+
+      for (int vertexIndex = 1; vertexIndex < hullSize; vertexIndex++)
+      {
+         if (!vertices.get(vertexIndex).epsilonEquals(vertices.get(lastHullVertexIndex), EPSILON))
+            Collections.swap(vertices, vertexIndex, ++lastHullVertexIndex);
+      }
+
+      while (lastHullVertexIndex > 0 && vertices.get(lastHullVertexIndex).epsilonEquals(firstVertex, EPSILON))
+         lastHullVertexIndex--;
+
+      return lastHullVertexIndex + 1;
+   }
+
+   /**
+    * In-place and garbage free computation of the convex hull 2D of a set of points using the
+    * <a href="https://en.wikipedia.org/wiki/Convex_hull_algorithms#Akl%E2%80%93Toussaint_heuristic">Akl-Toussaint
+    * heuristic</a> followed by {@link #inPlaceMonotoneChainConvexHull2D(List, int)}.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex hull
+    * are positioned first. The method returns the number of vertices that compose the convex hull.
+    * </p>
+    * <p>
+    * The heuristic discards in linear time the points that are inside the quadrilateral formed by the
+    * extreme points along the x and y axes, only the remaining points are then sorted. This approach
+    * is well suited for large point clouds for which only a few points are on the convex hull.
+    * </p>
+    *
+    * @param vertices the 2D point cloud from which the convex hull is to be computed. Modified.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the size
+    *                                  of the given list of vertices.
+    */
+   public static int inPlaceAklToussaintConvexHull2D(List<? extends Point2DReadOnly> vertices)
+   {
+      return inPlaceAklToussaintConvexHull2D(vertices, vertices.size());
+   }
+
+   /**
+    * In-place and garbage free computation of the convex hull 2D of a set of points using the
+    * <a href="https://en.wikipedia.org/wiki/Convex_hull_algorithms#Akl%E2%80%93Toussaint_heuristic">Akl-Toussaint
+    * heuristic</a> followed by {@link #inPlaceMonotoneChainConvexHull2D(List, int)}.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex hull
+    * are positioned first. The method returns the number of vertices that compose the convex hull.
+    * </p>
+    * <p>
+    * The heuristic discards in linear time the points that are inside the quadrilateral formed by the
+    * extreme points along the x and y axes, only the remaining points are then sorted. This approach
+    * is well suited for large point clouds for which only a few points are on the convex hull.
+    * </p>
+    *
+    * @param vertices         the 2D point cloud from which the convex hull is to be computed.
+    *                         Modified.
+    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm will
+    *                         only process the points &in; [0; {@code numberOfVertices}[.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the size
+    *                                  of the given list of vertices.
+    */
+   public static int inPlaceAklToussaintConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   {
+      if (numberOfVertices == 0)
+         return 0;
+
+      checkNumberOfVertices(vertices, numberOfVertices);
+
+      if (numberOfVertices <= 4)
+         return inPlaceMonotoneChainConvexHull2D(vertices, numberOfVertices);
+
+      Point2DReadOnly minXVertex = vertices.get(findMinXMaxYVertexIndex(vertices, numberOfVertices));
+      Point2DReadOnly maxXVertex = vertices.get(findMaxXMinYVertexIndex(vertices, 0, numberOfVertices));
+      Point2DReadOnly minYVertex = vertices.get(0);
+      Point2DReadOnly maxYVertex = vertices.get(0);
+
+      for (int vertexIndex = 1; vertexIndex < numberOfVertices; vertexIndex++)
+      {
+         Point2DReadOnly vertex = vertices.get(vertexIndex);
+
+         if (vertex.getY() < minYVertex.getY() || vertex.getY() == minYVertex.getY() && vertex.getX() < minYVertex.getX())
+            minYVertex = vertex;
+         if (vertex.getY() > maxYVertex.getY() || vertex.getY() == maxYVertex.getY() && vertex.getX() > maxYVertex.getX())
+            maxYVertex = vertex;
+      }
+
+      // The vertices strictly inside the clockwise quadrilateral cannot be part of the convex hull.
+      int numberOfCandidates = 0;
+
+      for (int vertexIndex = 0; vertexIndex < numberOfVertices; vertexIndex++)
+      {
+         Point2DReadOnly vertex = vertices.get(vertexIndex);
+
+         boolean isInside = isPoint2DOnRightSideOfLine2D(vertex, minXVertex, maxYVertex) && isPoint2DOnRightSideOfLine2D(vertex, maxYVertex, maxXVertex)
+               && isPoint2DOnRightSideOfLine2D(vertex, maxXVertex, minYVertex) && isPoint2DOnRightSideOfLine2D(vertex, minYVertex, minXVertex);
+
+         if (!isInside)
+            Collections.swap(vertices, vertexIndex, numberOfCandidates++);
+      }
+
+      return inPlaceMonotoneChainConvexHull2D(vertices, numberOfCandidates);
+   }
+
    /**
     * Computes the area and centroid (optional) of a convex polygon defined by its size
     * {@code numberOfVertices} and vertices {@code convexPolygon2D}.
@@ -566,6 +786,9 @@ public class EuclidGeometryPolygonTools
          return crossProduct == 0.0;
       }
 
+      if (numberOfVertices >= BINARY_SEARCH_VERTEX_THRESHOLD)
+         return findEdgeIndexVisibleFromPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered) == -1;
+
       if (isPoint2DOnSideOfLine2D(pointX, pointY, edgeStart, edgeEnd, clockwiseOrdered))
          return false;
 
@@ -618,6 +841,112 @@ public class EuclidGeometryPolygonTools
       return isPoint2DInsideConvexPolygon2D(point.getX(), point.getY(), convexPolygon2D, numberOfVertices, clockwiseOrdered);
    }
 
+   /**
+    * Finds in O(log(n)) an edge of the convex polygon that is visible from the given point, i.e. the
+    * point is strictly outside the line supporting the edge.
+    * <p>
+    * WARNING: This method assumes that the given vertices already form a convex polygon.
+    * </p>
+    * <p>
+    * The search is a binary search over the fan of triangles formed by the first vertex and the other
+    * edges of the polygon, which makes this method preferable to
+    * {@link #isPoint2DInsideConvexPolygon2D(double, double, List, int, boolean)} for polygons with a
+    * large number of vertices.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>when more than one edge is visible from the query, this method returns one of them, the
+    * visible edges form a chain that can be completed by iterating around the found edge.
+    * <li>if the query is exactly on the boundary of the polygon, this method returns {@code -1}.
+    * </ul>
+    * </p>
+    *
+    * @param pointX           the x-coordinate of the query.
+    * @param pointY           the y-coordinate of the query.
+    * @param convexPolygon2D  the list containing in [0, {@code numberOfVertices}[ the vertices of the
+    *                         convex polygon. Not modified.
+    * @param numberOfVertices the number of vertices that belong to the convex polygon.
+    * @param clockwiseOrdered whether the vertices are clockwise or counter-clockwise ordered.
+    * @return the index of the first vertex of a visible edge, or {@code -1} if the query is inside the
+    *         polygon.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is less than 3 or greater than the
+    *                                  size of the given list of vertices.
+    */
+   public static int findEdgeIndexVisibleFromPoint2D(double pointX,
+                                                     double pointY,
+                                                     List<? extends Point2DReadOnly> convexPolygon2D,
+                                                     int numberOfVertices,
+                                                     boolean clockwiseOrdered)
+   {
+      checkNumberOfVertices(convexPolygon2D, numberOfVertices);
+
+      if (numberOfVertices < 3)
+         throw new IllegalArgumentException("The polygon should have at least 3 vertices, was: " + numberOfVertices);
+
+      Point2DReadOnly firstVertex = convexPolygon2D.get(0);
+
+      if (isPoint2DOnSideOfLine2D(pointX, pointY, firstVertex, convexPolygon2D.get(1), clockwiseOrdered))
+         return 0;
+      if (isPoint2DOnSideOfLine2D(pointX, pointY, convexPolygon2D.get(numberOfVertices - 1), firstVertex, clockwiseOrdered))
+         return numberOfVertices - 1;
+
+      if (!isPoint2DOnSideOfLine2D(pointX, pointY, convexPolygon2D.get(1), firstVertex, clockwiseOrdered)
+            || !isPoint2DOnSideOfLine2D(pointX, pointY, firstVertex, convexPolygon2D.get(numberOfVertices - 1), clockwiseOrdered))
+      { // The query is on the line of an edge at the first vertex, the fan can be degenerate when other vertices are on that line.
+         for (int edgeIndex = 1; edgeIndex < numberOfVertices - 1; edgeIndex++)
+         {
+            if (isPoint2DOnSideOfLine2D(pointX, pointY, convexPolygon2D.get(edgeIndex), convexPolygon2D.get(edgeIndex + 1), clockwiseOrdered))
+               return edgeIndex;
+         }
+         return -1;
+      }
+
+      // The query is within the angle formed at the first vertex, looking for the wedge (v0, v_low, v_high) containing it.
+      int lowIndex = 1;
+      int highIndex = numberOfVertices - 1;
+
+      while (highIndex - lowIndex > 1)
+      {
+         int midIndex = (lowIndex + highIndex) >>> 1;
+
+         if (isPoint2DOnSideOfLine2D(pointX, pointY, firstVertex, convexPolygon2D.get(midIndex), clockwiseOrdered))
+            highIndex = midIndex;
+         else
+            lowIndex = midIndex;
+      }
+
+      if (isPoint2DOnSideOfLine2D(pointX, pointY, convexPolygon2D.get(lowIndex), convexPolygon2D.get(highIndex), clockwiseOrdered))
+         return lowIndex;
+      else
+         return -1;
+   }
+
+   /**
+    * Finds in O(log(n)) an edge of the convex polygon that is visible from the given point, i.e. the
+    * point is strictly outside the line supporting the edge.
+    * <p>
+    * See {@link #findEdgeIndexVisibleFromPoint2D(double, double, List, int, boolean)} for details.
+    * </p>
+    *
+    * @param point            the coordinates of the query. Not modified.
+    * @param convexPolygon2D  the list containing in [0, {@code numberOfVertices}[ the vertices of the
+    *                         convex polygon. Not modified.
+    * @param numberOfVertices the number of vertices that belong to the convex polygon.
+    * @param clockwiseOrdered whether the vertices are clockwise or counter-clockwise ordered.
+    * @return the index of the first vertex of a visible edge, or {@code -1} if the query is inside the
+    *         polygon.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is less than 3 or greater than the
+    *                                  size of the given list of vertices.
+    */
+   public static int findEdgeIndexVisibleFromPoint2D(Point2DReadOnly point,
+                                                     List<? extends Point2DReadOnly> convexPolygon2D,
+                                                     int numberOfVertices,
+                                                     boolean clockwiseOrdered)
+   {
+      return findEdgeIndexVisibleFromPoint2D(point.getX(), point.getY(), convexPolygon2D, numberOfVertices, clockwiseOrdered);
+   }
+
    /**
     * Determines if the point is inside the convex polygon given the tolerance {@code epsilon}.
     * <p>
@@ -659,6 +988,13 @@ public class EuclidGeometryPolygonTools
                                                         boolean clockwiseOrdered,
                                                         double epsilon)
    {
+      if (epsilon >= 0.0 && numberOfVertices >= BINARY_SEARCH_VERTEX_THRESHOLD)
+      { // A query inside the polygon is inside the enlarged polygon, the distance to the edges does not need to be computed.
+         checkNumberOfVertices(convexPolygon2D, numberOfVertices);
+         if (findEdgeIndexVisibleFromPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered) == -1)
+            return true;
+      }
+
       return signedDistanceFromPoint2DToConvexPolygon2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered) <= epsilon;
    }
 
@@ -1322,6 +1658,611 @@ public class EuclidGeometryPolygonTools
       }
    }
 
+   /**
+    * Computes the intersection of two convex polygons using O'Rourke's algorithm in
+    * O(n<sub>1</sub> + n<sub>2</sub>).
+    * <p>
+    * WARNING: This method assumes that the given vertices already form two convex polygons.
+    * </p>
+    * <p>
+    * The boundaries of the two polygons are advanced simultaneously such that the edges of one
+    * polygon chase the edges of the other, the vertices of the intersection being the crossings
+    * between the two boundaries and the vertices of each polygon inside the other.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if any of the two polygons is empty or if the polygons do not intersect,
+    * {@code intersectionToPack} is empty and this method returns {@code false}.
+    * <li>if the polygons only touch, the intersection is the point or segment they share.
+    * <li>polygons with less than 3 vertices are handled by testing every pair of edges.
+    * </ul>
+    * </p>
+    *
+    * @param firstPolygon             the list containing in [0, {@code firstNumberOfVertices}[ the
+    *                                 vertices of the first convex polygon. Not modified.
+    * @param firstNumberOfVertices    the number of vertices that belong to the first convex polygon.
+    * @param secondPolygon            the list containing in [0, {@code secondNumberOfVertices}[ the
+    *                                 vertices of the second convex polygon. Not modified.
+    * @param secondNumberOfVertices   the number of vertices that belong to the second convex polygon.
+    * @param clockwiseOrdered         whether the vertices of both polygons are clockwise or
+    *                                 counter-clockwise ordered.
+    * @param intersectionToPack       the polygon in which the intersection is stored, it is cleared and
+    *                                 updated by this method. Modified.
+    * @return {@code true} if the two polygons intersect, {@code false} otherwise.
+    * @throws IllegalArgumentException if {@code firstNumberOfVertices} or
+    *                                  {@code secondNumberOfVertices} is negative or greater than the
+    *                                  size of the corresponding list of vertices.
+    */
+   public static boolean intersectionBetweenTwoConvexPolygon2Ds(List<? extends Point2DReadOnly> firstPolygon,
+                                                                int firstNumberOfVertices,
+                                                                List<? extends Point2DReadOnly> secondPolygon,
+                                                                int secondNumberOfVertices,
+                                                                boolean clockwiseOrdered,
+                                                                ConvexPolygon2DBasics intersectionToPack)
+   {
+      checkNumberOfVertices(firstPolygon, firstNumberOfVertices);
+      checkNumberOfVertices(secondPolygon, secondNumberOfVertices);
+
+      intersectionToPack.clear();
+
+      if (firstNumberOfVertices == 0 || secondNumberOfVertices == 0)
+      {
+         intersectionToPack.update();
+         return false;
+      }
+
+      if (firstNumberOfVertices < 3 || secondNumberOfVertices < 3)
+         addDegenerateIntersectionVertices(firstPolygon, firstNumberOfVertices, secondPolygon, secondNumberOfVertices, clockwiseOrdered, intersectionToPack);
+      else
+         addIntersectionVertices(firstPolygon, firstNumberOfVertices, secondPolygon, secondNumberOfVertices, clockwiseOrdered, intersectionToPack);
+
+      intersectionToPack.update();
+      return !intersectionToPack.isEmpty();
+   }
+
+   private static final int UNKNOWN_INSIDE = 0;
+   private static final int FIRST_INSIDE = 1;
+   private static final int SECOND_INSIDE = 2;
+
+   private static void addIntersectionVertices(List<? extends Point2DReadOnly> firstPolygon,
+                                               int firstNumberOfVertices,
+                                               List<? extends Point2DReadOnly> secondPolygon,
+                                               int secondNumberOfVertices,
+                                               boolean clockwiseOrdered,
+                                               ConvexPolygon2DBasics intersectionToPack)
+   {
+      // The algorithm is written for counter-clockwise polygons, the orientation corrects the sign of the cross products.
+      double orientation = clockwiseOrdered ? -1.0 : 1.0;
+
+      int firstIndex = 0;
+      int secondIndex = 0;
+      int firstAdvances = 0;
+      int secondAdvances = 0;
+      int inside = UNKNOWN_INSIDE;
+
+      do
+      {
+         Point2DReadOnly firstEdgeStart = firstPolygon.get(previous(firstIndex, firstNumberOfVertices));
+         Point2DReadOnly firstEdgeEnd = firstPolygon.get(firstIndex);
+         Point2DReadOnly secondEdgeStart = secondPolygon.get(previous(secondIndex, secondNumberOfVertices));
+         Point2DReadOnly secondEdgeEnd = secondPolygon.get(secondIndex);
+
+         double firstDirectionX = firstEdgeEnd.getX() - firstEdgeStart.getX();
+         double firstDirectionY = firstEdgeEnd.getY() - firstEdgeStart.getY();
+         double secondDirectionX = secondEdgeEnd.getX() - secondEdgeStart.getX();
+         double secondDirectionY = secondEdgeEnd.getY() - secondEdgeStart.getY();
+         double startToStartX = secondEdgeStart.getX() - firstEdgeStart.getX();
+         double startToStartY = secondEdgeStart.getY() - firstEdgeStart.getY();
+
+         double crossProduct = firstDirectionX * secondDirectionY - firstDirectionY * secondDirectionX;
+         int cross = sign(orientation * crossProduct);
+         // Whether the first edge end is inside the second edge, and the second edge end is inside the first edge.
+         int firstEndInsideSecond = sign(orientation * (secondDirectionX * (firstEdgeEnd.getY() - secondEdgeStart.getY())
+               - secondDirectionY * (firstEdgeEnd.getX() - secondEdgeStart.getX())));
+         int secondEndInsideFirst = sign(orientation * (firstDirectionX * (secondEdgeEnd.getY() - firstEdgeStart.getY())
+               - firstDirectionY * (secondEdgeEnd.getX() - firstEdgeStart.getX())));
+
+         if (crossProduct != 0.0)
+         {
+            double firstPercentage = (startToStartX * secondDirectionY - startToStartY * secondDirectionX) / crossProduct;
+            double secondPercentage = (startToStartX * firstDirectionY - startToStartY * firstDirectionX) / crossProduct;
+
+            if (firstPercentage >= 0.0 && firstPercentage <= 1.0 && secondPercentage >= 0.0 && secondPercentage <= 1.0)
+            {
+               if (inside == UNKNOWN_INSIDE && intersectionToPack.getNumberOfVertices() == 0)
+               { // Restarting the count such that both boundaries are fully traversed from the first crossing.
+                  firstAdvances = 0;
+                  secondAdvances = 0;
+               }
+
+               intersectionToPack.addVertex(firstEdgeStart.getX() + firstPercentage * firstDirectionX,
+                                            firstEdgeStart.getY() + firstPercentage * firstDirectionY);
+
+               if (firstEndInsideSecond > 0)
+                  inside = FIRST_INSIDE;
+               else if (secondEndInsideFirst > 0)
+                  inside = SECOND_INSIDE;
+            }
+         }
+         else if (startToStartX * firstDirectionY - startToStartY * firstDirectionX == 0.0
+               && firstDirectionX * secondDirectionX + firstDirectionY * secondDirectionY < 0.0)
+         { // Collinear edges with opposite directions: the polygons only touch along these edges.
+            double firstLengthSquared = EuclidCoreTools.normSquared(firstDirectionX, firstDirectionY);
+            double percentage0 = (startToStartX * firstDirectionX + startToStartY * firstDirectionY) / firstLengthSquared;
+            double percentage1 = ((secondEdgeEnd.getX() - firstEdgeStart.getX()) * firstDirectionX
+                  + (secondEdgeEnd.getY() - firstEdgeStart.getY()) * firstDirectionY) / firstLengthSquared;
+            double minPercentage = Math.max(0.0, Math.min(percentage0, percentage1));
+            double maxPercentage = Math.min(1.0, Math.max(percentage0, percentage1));
+
+            intersectionToPack.clear();
+
+            if (minPercentage <= maxPercentage)
+            {
+               intersectionToPack.addVertex(firstEdgeStart.getX() + minPercentage * firstDirectionX, firstEdgeStart.getY() + minPercentage * firstDirectionY);
+               intersectionToPack.addVertex(firstEdgeStart.getX() + maxPercentage * firstDirectionX, firstEdgeStart.getY() + maxPercentage * firstDirectionY);
+            }
+            return;
+         }
+
+         if (cross == 0 && firstEndInsideSecond < 0 && secondEndInsideFirst < 0)
+         { // Parallel edges facing away from each other: the polygons are separated.
+            intersectionToPack.clear();
+            return;
+         }
+
+         boolean advanceFirst;
+
+         if (cross == 0 && firstEndInsideSecond == 0 && secondEndInsideFirst == 0)
+            advanceFirst = inside != FIRST_INSIDE;
+         else if (cross >= 0)
+            advanceFirst = secondEndInsideFirst > 0;
+         else
+            advanceFirst = firstEndInsideSecond <= 0;
+
+         if (advanceFirst)
+         {
+            if (inside == FIRST_INSIDE)
+               intersectionToPack.addVertex(firstEdgeEnd);
+            firstAdvances++;
+            firstIndex = next(firstIndex, firstNumberOfVertices);
+         }
+         else
+         {
+            if (inside == SECOND_INSIDE)
+               intersectionToPack.addVertex(secondEdgeEnd);
+            secondAdvances++;
+            secondIndex = next(secondIndex, secondNumberOfVertices);
+         }
+      }
+      while ((firstAdvances < firstNumberOfVertices || secondAdvances < secondNumberOfVertices) && firstAdvances < 2 * firstNumberOfVertices
+            && secondAdvances < 2 * secondNumberOfVertices);
+
+      if (inside == UNKNOWN_INSIDE)
+      { // The boundaries do not cross, one polygon may contain the other.
+         if (isPolygonInside(firstPolygon, firstNumberOfVertices, secondPolygon, secondNumberOfVertices, clockwiseOrdered))
+         {
+            for (int i = 0; i < firstNumberOfVertices; i++)
+               intersectionToPack.addVertex(firstPolygon.get(i));
+         }
+         else if (isPolygonInside(secondPolygon, secondNumberOfVertices, firstPolygon, firstNumberOfVertices, clockwiseOrdered))
+         {
+            for (int i = 0; i < secondNumberOfVertices; i++)
+               intersectionToPack.addVertex(secondPolygon.get(i));
+         }
+      }
+   }
+
+   /**
+    * Tests whether all the vertices of the first polygon are inside the second polygon, which tells
+    * whether the first polygon is inside the second when their boundaries do not cross.
+    */
+   private static boolean isPolygonInside(List<? extends Point2DReadOnly> firstPolygon,
+                                          int firstNumberOfVertices,
+                                          List<? extends Point2DReadOnly> secondPolygon,
+                                          int secondNumberOfVertices,
+                                          boolean clockwiseOrdered)
+   {
+      for (int i = 0; i < firstNumberOfVertices; i++)
+      {
+         if (!isPoint2DInsideConvexPolygon2D(firstPolygon.get(i), secondPolygon, secondNumberOfVertices, clockwiseOrdered))
+            return false;
+      }
+
+      return true;
+   }
+
+   private static void addDegenerateIntersectionVertices(List<? extends Point2DReadOnly> firstPolygon,
+                                                         int firstNumberOfVertices,
+                                                         List<? extends Point2DReadOnly> secondPolygon,
+                                                         int secondNumberOfVertices,
+                                                         boolean clockwiseOrdered,
+                                                         ConvexPolygon2DBasics intersectionToPack)
+   {
+      for (int i = 0; i < firstNumberOfVertices; i++)
+      {
+         Point2DReadOnly vertex = firstPolygon.get(i);
+         if (isPoint2DInsideConvexPolygon2D(vertex, secondPolygon, secondNumberOfVertices, clockwiseOrdered))
+            intersectionToPack.addVertex(vertex);
+      }
+
+      for (int i = 0; i < secondNumberOfVertices; i++)
+      {
+         Point2DReadOnly vertex = secondPolygon.get(i);
+         if (isPoint2DInsideConvexPolygon2D(vertex, firstPolygon, firstNumberOfVertices, clockwiseOrdered))
+            intersectionToPack.addVertex(vertex);
+      }
+
+      if (firstNumberOfVertices == 1 || secondNumberOfVertices == 1)
+         return;
+
+      int firstNumberOfEdges = firstNumberOfVertices == 2 ? 1 : firstNumberOfVertices;
+      int secondNumberOfEdges = secondNumberOfVertices == 2 ? 1 : secondNumberOfVertices;
+
+      for (int i = 0; i < firstNumberOfEdges; i++)
+      {
+         Point2DReadOnly firstEdgeStart = firstPolygon.get(i);
+         Point2DReadOnly firstEdgeEnd = firstPolygon.get(next(i, firstNumberOfVertices));
+         double firstDirectionX = firstEdgeEnd.getX() - firstEdgeStart.getX();
+         double firstDirectionY = firstEdgeEnd.getY() - firstEdgeStart.getY();
+
+         for (int j = 0; j < secondNumberOfEdges; j++)
+         {
+            Point2DReadOnly secondEdgeStart = secondPolygon.get(j);
+            Point2DReadOnly secondEdgeEnd = secondPolygon.get(next(j, secondNumberOfVertices));
+            double secondDirectionX = secondEdgeEnd.getX() - secondEdgeStart.getX();
+            double secondDirectionY = secondEdgeEnd.getY() - secondEdgeStart.getY();
+
+            double crossProduct = firstDirectionX * secondDirectionY - firstDirectionY * secondDirectionX;
+            if (crossProduct == 0.0)
+               continue; // Overlapping collinear edges are already covered by the vertices inside the other polygon.
+
+            double startToStartX = secondEdgeStart.getX() - firstEdgeStart.getX();
+            double startToStartY = secondEdgeStart.getY() - firstEdgeStart.getY();
+            double firstPercentage = (startToStartX * secondDirectionY - startToStartY * secondDirectionX) / crossProduct;
+            double secondPercentage = (startToStartX * firstDirectionY - startToStartY * firstDirectionX) / crossProduct;
+
+            if (firstPercentage >= 0.0 && firstPercentage <= 1.0 && secondPercentage >= 0.0 && secondPercentage <= 1.0)
+               intersectionToPack.addVertex(firstEdgeStart.getX() + firstPercentage * firstDirectionX,
+                                            firstEdgeStart.getY() + firstPercentage * firstDirectionY);
+         }
+      }
+   }
+
+   private static int sign(double value)
+   {
+      return value > 0.0 ? 1 : value < 0.0 ? -1 : 0;
+   }
+
+   /**
+    * Computes the Minkowski sum of two convex polygons in O(n<sub>1</sub> + n<sub>2</sub>).
+    * <p>
+    * WARNING: This method assumes that the given vertices already form two convex polygons.
+    * </p>
+    * <p>
+    * The Minkowski sum is the set of the points {@code a + b} for any point {@code a} in the first
+    * polygon and any point {@code b} in the second polygon. Its edges are the edges of both polygons
+    * merged by order of direction.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if any of the two polygons is empty, {@code sumToPack} is empty.
+    * <li>polygons with less than 3 vertices are handled by summing every pair of vertices.
+    * </ul>
+    * </p>
+    *
+    * @param firstPolygon           the list containing in [0, {@code firstNumberOfVertices}[ the
+    *                               vertices of the first convex polygon. Not modified.
+    * @param firstNumberOfVertices  the number of vertices that belong to the first convex polygon.
+    * @param secondPolygon          the list containing in [0, {@code secondNumberOfVertices}[ the
+    *                               vertices of the second convex polygon. Not modified.
+    * @param secondNumberOfVertices the number of vertices that belong to the second convex polygon.
+    * @param clockwiseOrdered       whether the vertices of both polygons are clockwise or
+    *                               counter-clockwise ordered.
+    * @param sumToPack              the polygon in which the Minkowski sum is stored, it is cleared and
+    *                               updated by this method. Modified.
+    * @throws IllegalArgumentException if {@code firstNumberOfVertices} or
+    *                                  {@code secondNumberOfVertices} is negative or greater than the
+    *                                  size of the corresponding list of vertices.
+    */
+   public static void minkowskiSumOfTwoConvexPolygon2Ds(List<? extends Point2DReadOnly> firstPolygon,
+                                                        int firstNumberOfVertices,
+                                                        List<? extends Point2DReadOnly> secondPolygon,
+                                                        int secondNumberOfVertices,
+                                                        boolean clockwiseOrdered,
+                                                        ConvexPolygon2DBasics sumToPack)
+   {
+      minkowskiSum(firstPolygon, firstNumberOfVertices, secondPolygon, secondNumberOfVertices, 1.0, clockwiseOrdered, sumToPack);
+   }
+
+   /**
+    * Computes the Minkowski difference of two convex polygons in O(n<sub>1</sub> + n<sub>2</sub>).
+    * <p>
+    * WARNING: This method assumes that the given vertices already form two convex polygons.
+    * </p>
+    * <p>
+    * The Minkowski difference is the set of the points {@code a - b} for any point {@code a} in the
+    * first polygon and any point {@code b} in the second polygon, i.e. the Minkowski sum of the first
+    * polygon with the second polygon reflected through the origin. It contains the origin if and only
+    * if the two polygons intersect.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if any of the two polygons is empty, {@code differenceToPack} is empty.
+    * <li>polygons with less than 3 vertices are handled by subtracting every pair of vertices.
+    * </ul>
+    * </p>
+    *
+    * @param firstPolygon           the list containing in [0, {@code firstNumberOfVertices}[ the
+    *                               vertices of the first convex polygon. Not modified.
+    * @param firstNumberOfVertices  the number of vertices that belong to the first convex polygon.
+    * @param secondPolygon          the list containing in [0, {@code secondNumberOfVertices}[ the
+    *                               vertices of the second convex polygon. Not modified.
+    * @param secondNumberOfVertices the number of vertices that belong to the second convex polygon.
+    * @param clockwiseOrdered       whether the vertices of both polygons are clockwise or
+    *                               counter-clockwise ordered.
+    * @param differenceToPack       the polygon in which the Minkowski difference is stored, it is
+    *                               cleared and updated by this method. Modified.
+    * @throws IllegalArgumentException if {@code firstNumberOfVertices} or
+    *                                  {@code secondNumberOfVertices} is negative or greater than the
+    *                                  size of the corresponding list of vertices.
+    */
+   public static void minkowskiDifferenceOfTwoConvexPolygon2Ds(List<? extends Point2DReadOnly> firstPolygon,
+                                                               int firstNumberOfVertices,
+                                                               List<? extends Point2DReadOnly> secondPolygon,
+                                                               int secondNumberOfVertices,
+                                                               boolean clockwiseOrdered,
+                                                               ConvexPolygon2DBasics differenceToPack)
+   {
+      minkowskiSum(firstPolygon, firstNumberOfVertices, secondPolygon, secondNumberOfVertices, -1.0, clockwiseOrdered, differenceToPack);
+   }
+
+   private static void minkowskiSum(List<? extends Point2DReadOnly> firstPolygon,
+                                    int firstNumberOfVertices,
+                                    List<? extends Point2DReadOnly> secondPolygon,
+                                    int secondNumberOfVertices,
+                                    double secondScale,
+                                    boolean clockwiseOrdered,
+                                    ConvexPolygon2DBasics sumToPack)
+   {
+      checkNumberOfVertices(firstPolygon, firstNumberOfVertices);
+      checkNumberOfVertices(secondPolygon, secondNumberOfVertices);
+
+      sumToPack.clear();
+
+      if (firstNumberOfVertices < 3 || secondNumberOfVertices < 3)
+      {
+         for (int i = 0; i < firstNumberOfVertices; i++)
+         {
+            Point2DReadOnly firstVertex = firstPolygon.get(i);
+
+            for (int j = 0; j < secondNumberOfVertices; j++)
+            {
+               Point2DReadOnly secondVertex = secondPolygon.get(j);
+               sumToPack.addVertex(firstVertex.getX() + secondScale * secondVertex.getX(), firstVertex.getY() + secondScale * secondVertex.getY());
+            }
+         }
+
+         sumToPack.update();
+         return;
+      }
+
+      // Both polygons start from their extreme vertex in the same direction, then their edges are merged by order of direction.
+      int firstStartIndex = findMinXMaxYVertexIndex(firstPolygon, firstNumberOfVertices);
+      int secondStartIndex = secondScale > 0.0 ? findMinXMaxYVertexIndex(secondPolygon, secondNumberOfVertices)
+            : findMaxXMinYVertexIndex(secondPolygon, 0, secondNumberOfVertices);
+
+      int firstCount = 0;
+      int secondCount = 0;
+
+      while (firstCount < firstNumberOfVertices || secondCount < secondNumberOfVertices)
+      {
+         int firstIndex = (firstStartIndex + firstCount) % firstNumberOfVertices;
+         int secondIndex = (secondStartIndex + secondCount) % secondNumberOfVertices;
+         Point2DReadOnly firstVertex = firstPolygon.get(firstIndex);
+         Point2DReadOnly secondVertex = secondPolygon.get(secondIndex);
+         sumToPack.addVertex(firstVertex.getX() + secondScale * secondVertex.getX(), firstVertex.getY() + secondScale * secondVertex.getY());
+
+         if (firstCount == firstNumberOfVertices)
+         {
+            secondCount++;
+            continue;
+         }
+
+         if (secondCount == secondNumberOfVertices)
+         {
+            firstCount++;
+            continue;
+         }
+
+         Point2DReadOnly firstNextVertex = firstPolygon.get(next(firstIndex, firstNumberOfVertices));
+         Point2DReadOnly secondNextVertex = secondPolygon.get(next(secondIndex, secondNumberOfVertices));
+         double firstEdgeX = firstNextVertex.getX() - firstVertex.getX();
+         double firstEdgeY = firstNextVertex.getY() - firstVertex.getY();
+         double secondEdgeX = secondScale * (secondNextVertex.getX() - secondVertex.getX());
+         double secondEdgeY = secondScale * (secondNextVertex.getY() - secondVertex.getY());
+         double crossProduct = firstEdgeX * secondEdgeY - firstEdgeY * secondEdgeX;
+
+         if (clockwiseOrdered)
+            crossProduct = -crossProduct;
+
+         if (crossProduct >= 0.0)
+            firstCount++;
+         if (crossProduct <= 0.0)
+            secondCount++;
+      }
+
+      sumToPack.update();
+   }
+
+   /**
+    * Checks the arguments of an operation between two convex polygons, such as
+    * {@link ConvexPolygon2DReadOnly#intersectionWith(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)}.
+    *
+    * @param firstPolygon  the first operand. Not modified.
+    * @param secondPolygon the second operand. Not modified.
+    * @param polygonToPack the polygon in which the result is to be stored, can be {@code null}. Not
+    *                      modified.
+    * @throws OutdatedPolygonException if either polygon is not up-to-date.
+    * @throws IllegalArgumentException if {@code polygonToPack} is one of the two polygons or if the
+    *                                  two polygons are not ordered the same way.
+    */
+   public static void checkConvexPolygon2DOperationArguments(ConvexPolygon2DReadOnly firstPolygon,
+                                                             ConvexPolygon2DReadOnly secondPolygon,
+                                                             ConvexPolygon2DBasics polygonToPack)
+   {
+      firstPolygon.checkIfUpToDate();
+      secondPolygon.checkIfUpToDate();
+
+      if (polygonToPack == firstPolygon || polygonToPack == secondPolygon)
+         throw new IllegalArgumentException("The polygon to pack cannot be one of the operands.");
+      if (firstPolygon.isClockwiseOrdered() != secondPolygon.isClockwiseOrdered())
+         throw new IllegalArgumentException("The two polygons should be ordered the same way.");
+   }
+
+   /**
+    * Tests whether two convex polygons intersect using the separating axis theorem.
+    * <p>
+    * WARNING: This method assumes that the given vertices already form two convex polygons.
+    * </p>
+    * <p>
+    * Two convex polygons do not intersect if and only if one edge of either polygon has all the
+    * vertices of the other polygon strictly on its outer side. The edges are tested one at a time
+    * and the search terminates as soon as a separating edge is found, or as soon as each edge has at
+    * least one vertex of the other polygon on its inner side. This method does not generate garbage
+    * and is well suited for repeated overlap tests between polygons with few vertices, see
+    * {@link #intersectionBetweenTwoConvexPolygon2Ds(List, int, List, int, boolean, ConvexPolygon2DBasics)}
+    * when the overlapping region is needed.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if any of the two polygons is empty, this method returns {@code false}.
+    * <li>if the polygons only touch, this method returns {@code true}.
+    * <li>polygons with less than 3 vertices are handled by testing every pair of edges and whether
+    * one of their vertices is inside the other polygon. A vertex is considered to be on an edge when
+    * their distance is less than {@link EuclidGeometryTools#IS_POINT_ON_LINE_EPS}.
+    * </ul>
+    * </p>
+    *
+    * @param firstPolygon           the list containing in [0, {@code firstNumberOfVertices}[ the
+    *                               vertices of the first convex polygon. Not modified.
+    * @param firstNumberOfVertices  the number of vertices that belong to the first convex polygon.
+    * @param secondPolygon          the list containing in [0, {@code secondNumberOfVertices}[ the
+    *                               vertices of the second convex polygon. Not modified.
+    * @param secondNumberOfVertices the number of vertices that belong to the second convex polygon.
+    * @param clockwiseOrdered       whether the vertices of both polygons are clockwise or
+    *                               counter-clockwise ordered.
+    * @return {@code true} if the two polygons intersect, {@code false} otherwise.
+    * @throws IllegalArgumentException if {@code firstNumberOfVertices} or
+    *                                  {@code secondNumberOfVertices} is negative or greater than the
+    *                                  size of the corresponding list of vertices.
+    */
+   public static boolean doConvexPolygon2DsIntersect(List<? extends Point2DReadOnly> firstPolygon,
+                                                     int firstNumberOfVertices,
+                                                     List<? extends Point2DReadOnly> secondPolygon,
+                                                     int secondNumberOfVertices,
+                                                     boolean clockwiseOrdered)
+   {
+      checkNumberOfVertices(firstPolygon, firstNumberOfVertices);
+      checkNumberOfVertices(secondPolygon, secondNumberOfVertices);
+
+      if (firstNumberOfVertices == 0 || secondNumberOfVertices == 0)
+         return false;
+
+      if (firstNumberOfVertices < 3 || secondNumberOfVertices < 3)
+         return doDegenerateConvexPolygon2DsIntersect(firstPolygon, firstNumberOfVertices, secondPolygon, secondNumberOfVertices, clockwiseOrdered);
+
+      if (isSeparatedByEdge(firstPolygon, firstNumberOfVertices, secondPolygon, secondNumberOfVertices, clockwiseOrdered))
+         return false;
+      return !isSeparatedByEdge(secondPolygon, secondNumberOfVertices, firstPolygon, firstNumberOfVertices, clockwiseOrdered);
+   }
+
+   private static boolean isSeparatedByEdge(List<? extends Point2DReadOnly> polygon,
+                                            int numberOfVertices,
+                                            List<? extends Point2DReadOnly> otherPolygon,
+                                            int otherNumberOfVertices,
+                                            boolean clockwiseOrdered)
+   {
+      // The vertex that prevented the previous edge from separating the polygons is likely to do the same for the next edge.
+      int otherStartIndex = 0;
+
+      for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+      {
+         Point2DReadOnly edgeStart = polygon.get(edgeIndex);
+         Point2DReadOnly edgeEnd = polygon.get(next(edgeIndex, numberOfVertices));
+         double edgeX = edgeEnd.getX() - edgeStart.getX();
+         double edgeY = edgeEnd.getY() - edgeStart.getY();
+
+         if (clockwiseOrdered)
+         { // The outer side is the left side of each edge, it is flipped to the right side as for counter-clockwise polygons.
+            edgeX = -edgeX;
+            edgeY = -edgeY;
+         }
+
+         boolean isSeparatingEdge = true;
+
+         for (int count = 0; count < otherNumberOfVertices; count++)
+         {
+            int otherIndex = (otherStartIndex + count) % otherNumberOfVertices;
+            Point2DReadOnly otherVertex = otherPolygon.get(otherIndex);
+            double crossProduct = edgeX * (otherVertex.getY() - edgeStart.getY()) - edgeY * (otherVertex.getX() - edgeStart.getX());
+
+            if (crossProduct >= 0.0)
+            {
+               isSeparatingEdge = false;
+               otherStartIndex = otherIndex;
+               break;
+            }
+         }
+
+         if (isSeparatingEdge)
+            return true;
+      }
+
+      return false;
+   }
+
+   private static boolean doDegenerateConvexPolygon2DsIntersect(List<? extends Point2DReadOnly> firstPolygon,
+                                                               int firstNumberOfVertices,
+                                                               List<? extends Point2DReadOnly> secondPolygon,
+                                                               int secondNumberOfVertices,
+                                                               boolean clockwiseOrdered)
+   {
+      if (firstNumberOfVertices >= 3 && isPoint2DInsideConvexPolygon2D(secondPolygon.get(0), firstPolygon, firstNumberOfVertices, clockwiseOrdered, 0.0))
+         return true;
+      if (secondNumberOfVertices >= 3 && isPoint2DInsideConvexPolygon2D(firstPolygon.get(0), secondPolygon, secondNumberOfVertices, clockwiseOrdered, 0.0))
+         return true;
+
+      if (firstNumberOfVertices == 1)
+         return secondNumberOfVertices < 3 && EuclidGeometryTools.isPoint2DOnLineSegment2D(firstPolygon.get(0), secondPolygon.get(0), secondPolygon.get(secondNumberOfVertices - 1));
+      if (secondNumberOfVertices == 1)
+         return firstNumberOfVertices < 3 && EuclidGeometryTools.isPoint2DOnLineSegment2D(secondPolygon.get(0), firstPolygon.get(0), firstPolygon.get(firstNumberOfVertices - 1));
+
+      // A polygon with 2 vertices has a single edge.
+      int firstNumberOfEdges = firstNumberOfVertices < 3 ? 1 : firstNumberOfVertices;
+      int secondNumberOfEdges = secondNumberOfVertices < 3 ? 1 : secondNumberOfVertices;
+
+      for (int i = 0; i < firstNumberOfEdges; i++)
+      {
+         Point2DReadOnly firstEdgeStart = firstPolygon.get(i);
+         Point2DReadOnly firstEdgeEnd = firstPolygon.get(next(i, firstNumberOfVertices));
+
+         for (int j = 0; j < secondNumberOfEdges; j++)
+         {
+            Point2DReadOnly secondEdgeStart = secondPolygon.get(j);
+            Point2DReadOnly secondEdgeEnd = secondPolygon.get(next(j, secondNumberOfVertices));
+
+            if (EuclidGeometryTools.doLineSegment2DsIntersect(firstEdgeStart, firstEdgeEnd, secondEdgeStart, secondEdgeEnd))
+               return true;
+         }
+      }
+
+      return false;
+   }
+
    /**
     * Returns minimum distance between the point and the polygon.
     * <p>
@@ -1369,6 +2310,20 @@ public class EuclidGeometryPolygonTools
       if (numberOfVertices == 2)
          return distanceFromPoint2DToLineSegment2D(pointX, pointY, convexPolygon2D.get(0), convexPolygon2D.get(1));
 
+      if (numberOfVertices >= BINARY_SEARCH_VERTEX_THRESHOLD)
+      {
+         int visibleEdgeIndex = findEdgeIndexVisibleFromPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+
+         if (visibleEdgeIndex != -1)
+         {
+            int closestEdgeIndex = closestVisibleEdgeIndexToPoint2D(pointX, pointY, visibleEdgeIndex, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+            return distanceFromPoint2DToLineSegment2D(pointX,
+                                                      pointY,
+                                                      convexPolygon2D.get(closestEdgeIndex),
+                                                      convexPolygon2D.get(next(closestEdgeIndex, numberOfVertices)));
+         }
+      }
+
       boolean isQueryOutsidePolygon = false;
       double minDistance = Double.POSITIVE_INFINITY;
 
@@ -1816,6 +2771,14 @@ public class EuclidGeometryPolygonTools
       if (numberOfVertices <= 1)
          return -1;
 
+      if (numberOfVertices >= BINARY_SEARCH_VERTEX_THRESHOLD)
+      {
+         int visibleEdgeIndex = findEdgeIndexVisibleFromPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+
+         if (visibleEdgeIndex != -1)
+            return closestVisibleEdgeIndexToPoint2D(pointX, pointY, visibleEdgeIndex, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+      }
+
       boolean isQueryOutsidePolygon = false;
       int insideIndex = -1;
       int outsideIndex = -1;
@@ -1886,6 +2849,111 @@ public class EuclidGeometryPolygonTools
       return closestEdgeIndexToPoint2D(point.getX(), point.getY(), convexPolygon2D, numberOfVertices, clockwiseOrdered);
    }
 
+   /**
+    * Finds in O(log(n)) the closest edge to a query located outside the convex polygon.
+    * <p>
+    * The edges visible from the query form a chain along which the distance to the query is unimodal.
+    * Starting from the given visible edge, a binary search is performed towards the closest edge in
+    * the chain. The chain is bounded without being explicitly computed using the fact that its edges
+    * turn by less than a half-turn.
+    * </p>
+    *
+    * @param pointX           the x-coordinate of the query.
+    * @param pointY           the y-coordinate of the query.
+    * @param visibleEdgeIndex the index of an edge visible from the query, see
+    *                         {@link #findEdgeIndexVisibleFromPoint2D(double, double, List, int, boolean)}.
+    * @param convexPolygon2D  the list containing in [0, {@code numberOfVertices}[ the vertices of the
+    *                         convex polygon. Not modified.
+    * @param numberOfVertices the number of vertices that belong to the convex polygon.
+    * @param clockwiseOrdered whether the vertices are clockwise or counter-clockwise ordered.
+    * @return the index of the closest edge to the query, the edge is visible from the query.
+    */
+   private static int closestVisibleEdgeIndexToPoint2D(double pointX,
+                                                       double pointY,
+                                                       int visibleEdgeIndex,
+                                                       List<? extends Point2DReadOnly> convexPolygon2D,
+                                                       int numberOfVertices,
+                                                       boolean clockwiseOrdered)
+   {
+      Point2DReadOnly edgeStart = convexPolygon2D.get(visibleEdgeIndex);
+      Point2DReadOnly edgeEnd = convexPolygon2D.get(next(visibleEdgeIndex, numberOfVertices));
+      double edgeDirectionX = edgeEnd.getX() - edgeStart.getX();
+      double edgeDirectionY = edgeEnd.getY() - edgeStart.getY();
+
+      boolean forward;
+
+      if (edgeDirectionX * (pointX - edgeEnd.getX()) + edgeDirectionY * (pointY - edgeEnd.getY()) > 0.0)
+         forward = true;
+      else if (edgeDirectionX * (pointX - edgeStart.getX()) + edgeDirectionY * (pointY - edgeStart.getY()) < 0.0)
+         forward = false;
+      else
+         return visibleEdgeIndex;
+
+      // Searching for the last edge for which the closest point is still further along the chain.
+      int lowOffset = 0;
+      int highOffset = numberOfVertices;
+
+      while (highOffset - lowOffset > 1)
+      {
+         int midOffset = (lowOffset + highOffset) >>> 1;
+         int edgeIndex = wrap(forward ? visibleEdgeIndex + midOffset : visibleEdgeIndex - midOffset, numberOfVertices);
+
+         if (isClosestPointFurtherAlongChain(pointX, pointY, edgeIndex, edgeDirectionX, edgeDirectionY, forward, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+            lowOffset = midOffset;
+         else
+            highOffset = midOffset;
+      }
+
+      int lastEdgeIndex = wrap(forward ? visibleEdgeIndex + lowOffset : visibleEdgeIndex - lowOffset, numberOfVertices);
+      int candidateEdgeIndex = forward ? next(lastEdgeIndex, numberOfVertices) : previous(lastEdgeIndex, numberOfVertices);
+
+      // When the candidate is not visible, the closest point is the vertex it shares with the last edge of the chain.
+      if (isPoint2DOnSideOfLine2D(pointX,
+                                  pointY,
+                                  convexPolygon2D.get(candidateEdgeIndex),
+                                  convexPolygon2D.get(next(candidateEdgeIndex, numberOfVertices)),
+                                  clockwiseOrdered))
+         return candidateEdgeIndex;
+      else
+         return lastEdgeIndex;
+   }
+
+   private static boolean isClosestPointFurtherAlongChain(double pointX,
+                                                          double pointY,
+                                                          int edgeIndex,
+                                                          double referenceDirectionX,
+                                                          double referenceDirectionY,
+                                                          boolean forward,
+                                                          List<? extends Point2DReadOnly> convexPolygon2D,
+                                                          int numberOfVertices,
+                                                          boolean clockwiseOrdered)
+   {
+      Point2DReadOnly edgeStart = convexPolygon2D.get(edgeIndex);
+      Point2DReadOnly edgeEnd = convexPolygon2D.get(next(edgeIndex, numberOfVertices));
+      double edgeDirectionX = edgeEnd.getX() - edgeStart.getX();
+      double edgeDirectionY = edgeEnd.getY() - edgeStart.getY();
+
+      // The edges of the visible chain turn by less than a half-turn with respect to the reference edge.
+      double turn = referenceDirectionX * edgeDirectionY - referenceDirectionY * edgeDirectionX;
+      if (turn == 0.0)
+      { // The edge is either collinear with the reference edge, which is part of the chain, or it is exactly a half-turn away.
+         if (referenceDirectionX * edgeDirectionX + referenceDirectionY * edgeDirectionY <= 0.0)
+            return false;
+      }
+      else if (forward == clockwiseOrdered ? turn > 0.0 : turn < 0.0)
+      {
+         return false;
+      }
+
+      if (!isPoint2DOnSideOfLine2D(pointX, pointY, edgeStart, edgeEnd, clockwiseOrdered))
+         return false;
+
+      if (forward)
+         return edgeDirectionX * (pointX - edgeEnd.getX()) + edgeDirectionY * (pointY - edgeEnd.getY()) > 0.0;
+      else
+         return edgeDirectionX * (pointX - edgeStart.getX()) + edgeDirectionY * (pointY - edgeStart.getY()) < 0.0;
+   }
+
    /**
     * From the point of view of an observer located outside the polygon, only a continuous subset of
     * the polygon's edges can be seen defining a line-of-sight. This method finds the index of the
@@ -2344,6 +3412,24 @@ public class EuclidGeometryPolygonTools
          return orthogonalProjectionOnLineSegment2D(pointToProjectX, pointToProjectY, convexPolygon2D.get(0), convexPolygon2D.get(1), projectionToPack);
       }
 
+      if (numberOfVertices >= BINARY_SEARCH_VERTEX_THRESHOLD)
+      {
+         int visibleEdgeIndex = findEdgeIndexVisibleFromPoint2D(pointToProjectX, pointToProjectY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+
+         if (visibleEdgeIndex == -1)
+            return false;
+
+         int closestEdgeIndex = closestVisibleEdgeIndexToPoint2D(pointToProjectX,
+                                                                 pointToProjectY,
+                                                                 visibleEdgeIndex,
+                                                                 convexPolygon2D,
+                                                                 numberOfVertices,
+                                                                 clockwiseOrdered);
+         Point2DReadOnly edgeStart = convexPolygon2D.get(closestEdgeIndex);
+         Point2DReadOnly edgeEnd = convexPolygon2D.get(next(closestEdgeIndex, numberOfVertices));
+         return orthogonalProjectionOnLineSegment2D(pointToProjectX, pointToProjectY, edgeStart, edgeEnd, projectionToPack);
+      }
+
       int closestEdgeIndex = closestEdgeIndexToPoint2D(pointToProjectX, pointToProjectY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
 
       if (closestEdgeIndex == -1)
@@ -2691,6 +3777,87 @@ public class EuclidGeometryPolygonTools
       return 1;
    }
 
+   /**
+    * Sorts the vertices in the range [{@code startIndex}, {@code endIndex}] for the monotone chain
+    * algorithm, the vertices are sorted by x-coordinate and then by decreasing y-coordinate when
+    * {@code increasing} is {@code true}.
+    * <p>
+    * The <a href="https://en.wikipedia.org/wiki/Quicksort#Repeated_elements">Quicksort algorithm</a>
+    * with a three-way partitioning is used to prevent garbage generation. Vertices equal to the pivot
+    * are grouped and excluded from the next steps such that duplicate vertices do not degrade the
+    * sort, the recursion is performed on the smaller side to bound the stack depth, and small ranges
+    * are sorted with the insertion sort.
+    * </p>
+    */
+   private static void monotoneChainSort(List<? extends Point2DReadOnly> vertices, int startIndex, int endIndex, boolean increasing)
+   {
+      while (endIndex - startIndex >= 8)
+      {
+         Point2DReadOnly pivot = vertices.get(random.nextInt(endIndex - startIndex + 1) + startIndex);
+
+         /*
+          * Partitioning:
+          * @formatter:off
+          * +-------------------------------------------------+
+          * |  < pivot  |  == pivot  |  unsorted  |  > pivot  |
+          * +-------------------------------------------------+
+          *             ^            ^            ^
+          *             |            |            |
+          *          lessEnd         i       greaterStart
+          * @formatter:on
+          */
+         int lessEnd = startIndex;
+         int greaterStart = endIndex;
+         int i = startIndex;
+
+         while (i <= greaterStart)
+         {
+            int comparison = monotoneChainCompare(vertices.get(i), pivot, increasing);
+
+            if (comparison < 0)
+               Collections.swap(vertices, i++, lessEnd++);
+            else if (comparison > 0)
+               Collections.swap(vertices, i, greaterStart--);
+            else
+               i++;
+         }
+
+         // Recurse on the smaller side to bound the stack depth.
+         if (lessEnd - startIndex < endIndex - greaterStart)
+         {
+            monotoneChainSort(vertices, startIndex, lessEnd - 1, increasing);
+            startIndex = greaterStart + 1;
+         }
+         else
+         {
+            monotoneChainSort(vertices, greaterStart + 1, endIndex, increasing);
+            endIndex = lessEnd - 1;
+         }
+      }
+
+      for (int i = startIndex + 1; i <= endIndex; i++)
+      {
+         for (int j = i; j > startIndex && monotoneChainCompare(vertices.get(j - 1), vertices.get(j), increasing) > 0; j--)
+            Collections.swap(vertices, j - 1, j);
+      }
+   }
+
+   private static int monotoneChainCompare(Point2DReadOnly vertex1, Point2DReadOnly vertex2, boolean increasing)
+   {
+      int result;
+      if (vertex1.getX() < vertex2.getX())
+         result = -1;
+      else if (vertex1.getX() > vertex2.getX())
+         result = 1;
+      else if (vertex1.getY() > vertex2.getY())
+         result = -1;
+      else if (vertex1.getY() < vertex2.getY())
+         result = 1;
+      else
+         return 0;
+      return increasing ? result : -result;
+   }
+
    /**
     * Moves the element located at {@code indexOfElementToShift} to {@code listSize - 1} and shifts all
     * the elements located in [{@code indexToRemove + 1}; {@code listSize - 1}] by {@code -1}.
@@ -2746,6 +3913,44 @@ public class EuclidGeometryPolygonTools
       return minXMaxYIndex;
    }
 
+   /**
+    * Finds the index of the vertex with the highest x-coordinate. If the highest x-coordinate exists
+    * in more than one vertex in the list, the vertex with the lowest y-coordinate out of the
+    * candidates is chosen.
+    *
+    * @param vertices   the list of vertices to search in. Not modified.
+    * @param startIndex the index of the first vertex to search.
+    * @param endIndex   the index after the last vertex to search. This method searches in the range
+    *                   [{@code startIndex}, {@code endIndex}[.
+    * @return the index of the vertex with max x-coordinate.
+    */
+   static int findMaxXMinYVertexIndex(List<? extends Point2DReadOnly> vertices, int startIndex, int endIndex)
+   {
+      if (endIndex <= startIndex)
+         return -1;
+
+      int maxXMinYIndex = startIndex;
+      Point2DReadOnly maxXMinY = vertices.get(maxXMinYIndex);
+
+      for (int vertexIndex = startIndex + 1; vertexIndex < endIndex; vertexIndex++)
+      {
+         Point2DReadOnly candidate = vertices.get(vertexIndex);
+
+         if (candidate.getX() > maxXMinY.getX())
+         {
+            maxXMinYIndex = vertexIndex;
+            maxXMinY = candidate;
+         }
+         else if (candidate.getX() == maxXMinY.getX() && candidate.getY() < maxXMinY.getY())
+         {
+            maxXMinYIndex = vertexIndex;
+            maxXMinY = candidate;
+         }
+      }
+
+      return maxXMinYIndex;
+   }
+
    /**
     * Finds the index of a vertex in the specified supplier given search criteria.
     *
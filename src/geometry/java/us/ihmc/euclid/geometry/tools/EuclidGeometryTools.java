@@ -19,6 +19,7 @@ import us.ihmc.euclid.tuple2D.interfaces.UnitVector2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
 import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DBuffer;
 import us.ihmc.euclid.tuple3D.Vector3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
@@ -808,6 +809,13 @@ public class EuclidGeometryTools
       if (points.isEmpty())
          return null;
 
+      if (points instanceof Point3DBuffer)
+      { // Avoids creating a view per point.
+         Point3D average = new Point3D();
+         ((Point3DBuffer) points).getAverage(average);
+         return average;
+      }
+
       Point3D totalPoint = new Point3D();
 
       for (Point3DReadOnly point : points)
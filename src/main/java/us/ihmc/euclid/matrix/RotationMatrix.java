@@ -11,6 +11,8 @@ import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
 import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 
 /**
@@ -55,8 +57,19 @@ public class RotationMatrix implements RotationMatrixBasics, GeometryObject<Rota
    /** The 3rd row 3rd column coefficient of this matrix. */
    private double m22;
 
-   private boolean dirty = false;
-   private boolean isIdentity = true;
+   /** Flag set in {@link #state} when the other flags have to be updated. */
+   private static final int DIRTY = 1;
+   /** Flag set in {@link #state} when this matrix is the identity, see {@link #isIdentity()}. */
+   private static final int IDENTITY = 2;
+   /** Flag set in {@link #state} when this matrix is a 2D rotation, see {@link #isOrientation2D()}. */
+   private static final int ORIENTATION_2D = 4;
+   /** Flag set in {@link #state} when this matrix is a pure yaw, see {@link #isYawRotation()}. */
+   private static final int YAW_ROTATION = 8;
+   /**
+    * The flags describing this matrix. They are packed in a single field such that they can be read
+    * consistently from multiple threads.
+    */
+   private int state = IDENTITY | ORIENTATION_2D | YAW_ROTATION;
 
    /**
     * Create a new rotation matrix initialized to identity.
@@ -177,8 +190,7 @@ public class RotationMatrix implements RotationMatrixBasics, GeometryObject<Rota
    public void setIdentity()
    {
       setUnsafe(1.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 1.0);
-      isIdentity = true;
-      dirty = false;
+      state = IDENTITY | ORIENTATION_2D | YAW_ROTATION;
    }
 
    /**
@@ -191,8 +203,7 @@ public class RotationMatrix implements RotationMatrixBasics, GeometryObject<Rota
    public void setToNaN()
    {
       setUnsafe(Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
-      isIdentity = false;
-      dirty = false;
+      state = 0;
    }
 
    /**
@@ -221,21 +232,75 @@ public class RotationMatrix implements RotationMatrixBasics, GeometryObject<Rota
    @Override
    public boolean isIdentity()
    {
-      if (dirty)
-         isIdentity = RotationMatrixBasics.super.isIdentity();
-      return isIdentity;
+      return (getState() & IDENTITY) != 0;
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The state of this rotation matrix is saved for performance improvement, see
+    * {@link #isIdentity()}.
+    * </p>
+    */
+   @Override
+   public boolean isOrientation2D()
+   {
+      return (getState() & ORIENTATION_2D) != 0;
+   }
+
+   /**
+    * Tests if this rotation matrix is exactly a rotation around the z-axis, i.e. the coefficients
+    * {@code m02}, {@code m12}, {@code m20}, and {@code m21} are exactly equal to zero and {@code m22}
+    * is exactly equal to one.
+    * <p>
+    * Unlike {@link #isOrientation2D()}, no tolerance is used such that transformations can be
+    * performed on the xy-plane only without affecting the result. The state of this rotation matrix
+    * is saved for performance improvement, see {@link #isIdentity()}.
+    * </p>
+    *
+    * @return {@code true} if this matrix is exactly a rotation around the z-axis, {@code false}
+    *         otherwise.
+    */
+   public boolean isYawRotation()
+   {
+      return (getState() & YAW_ROTATION) != 0;
+   }
+
+   private int getState()
+   {
+      int state = this.state;
+      return (state & DIRTY) != 0 ? updateState() : state;
+   }
+
+   private int updateState()
+   {
+      int state;
+
+      // The identity is a 2D rotation, so the identity test is only performed on 2D rotations.
+      if (m02 == 0.0 && m12 == 0.0 && m20 == 0.0 && m21 == 0.0 && m22 == 1.0)
+         state = ORIENTATION_2D | YAW_ROTATION;
+      else if (isMatrix2D(ORIENTATION_2D_EPSILON))
+         state = ORIENTATION_2D;
+      else
+         state = 0;
+
+      if (state != 0 && RotationMatrixBasics.super.isIdentity())
+         state |= IDENTITY;
+
+      this.state = state;
+      return state;
    }
 
    /**
     * Marks this rotation matrix as dirty.
     * <p>
-    * When a rotation matrix is marked as dirty, {@link #isIdentity()} will perform a thorough test to
-    * update the state of this matrix.
+    * When a rotation matrix is marked as dirty, {@link #isIdentity()}, {@link #isOrientation2D()},
+    * and {@link #isYawRotation()} will perform a thorough test to update the state of this matrix.
     * </p>
     */
    public void markAsDirty()
    {
-      dirty = true;
+      state = DIRTY;
    }
 
    /**
@@ -325,21 +390,220 @@ public class RotationMatrix implements RotationMatrixBasics, GeometryObject<Rota
       m21 = other.getM21();
       m22 = other.getM22();
 
-      if (other.isDirty())
-      {
+      if (other instanceof RotationMatrix)
+         state = ((RotationMatrix) other).state;
+      else
          markAsDirty();
+   }
+
+   @Override
+   public boolean isDirty()
+   {
+      return (state & DIRTY) != 0;
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The multiplication is performed on the xy-plane only when both matrices are exactly rotations
+    * around the z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void append(Orientation3DReadOnly orientation)
+   {
+      if (isYawRotation() && isYawRotation(orientation))
+         multiplyYawRotations(this, false, (RotationMatrix) orientation, false);
+      else
+         RotationMatrixBasics.super.append(orientation);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The multiplication is performed on the xy-plane only when both matrices are exactly rotations
+    * around the z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void appendInvertOther(Orientation3DReadOnly orientation)
+   {
+      if (isYawRotation() && isYawRotation(orientation))
+         multiplyYawRotations(this, false, (RotationMatrix) orientation, true);
+      else
+         RotationMatrixBasics.super.appendInvertOther(orientation);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The multiplication is performed on the xy-plane only when both matrices are exactly rotations
+    * around the z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void prepend(Orientation3DReadOnly orientation)
+   {
+      if (isYawRotation() && isYawRotation(orientation))
+         multiplyYawRotations((RotationMatrix) orientation, false, this, false);
+      else
+         RotationMatrixBasics.super.prepend(orientation);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The multiplication is performed on the xy-plane only when both matrices are exactly rotations
+    * around the z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void prependInvertOther(Orientation3DReadOnly orientation)
+   {
+      if (isYawRotation() && isYawRotation(orientation))
+         multiplyYawRotations((RotationMatrix) orientation, true, this, false);
+      else
+         RotationMatrixBasics.super.prependInvertOther(orientation);
+   }
+
+   private static boolean isYawRotation(Orientation3DReadOnly orientation)
+   {
+      return orientation instanceof RotationMatrix && ((RotationMatrix) orientation).isYawRotation();
+   }
+
+   /**
+    * Sets this matrix to the product of two rotations around the z-axis: this = a * b.
+    * <p>
+    * Only the upper-left 2-by-2 blocks of the matrices are used. {@code a} and {@code b} can be the
+    * same object as {@code this}.
+    * </p>
+    */
+   private void multiplyYawRotations(RotationMatrix a, boolean transposeA, RotationMatrix b, boolean transposeB)
+   {
+      double a01 = transposeA ? a.m10 : a.m01;
+      double a10 = transposeA ? a.m01 : a.m10;
+      double b01 = transposeB ? b.m10 : b.m01;
+      double b10 = transposeB ? b.m01 : b.m10;
+
+      double c00 = a.m00 * b.m00 + a01 * b10;
+      double c01 = a.m00 * b01 + a01 * b.m11;
+      double c10 = a10 * b.m00 + a.m11 * b10;
+      double c11 = a10 * b01 + a.m11 * b.m11;
+      setUnsafe(c00, c01, 0.0, c10, c11, 0.0, 0.0, 0.0, 1.0);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * Only the x and y components are transformed when this matrix is exactly a rotation around the
+    * z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void transform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      int state = getState();
+
+      if ((state & IDENTITY) != 0)
+      {
+         if (tupleOriginal != tupleTransformed)
+            tupleTransformed.set(tupleOriginal);
+      }
+      else if ((state & YAW_ROTATION) != 0)
+      {
+         double x = m00 * tupleOriginal.getX() + m01 * tupleOriginal.getY();
+         double y = m10 * tupleOriginal.getX() + m11 * tupleOriginal.getY();
+         tupleTransformed.set(x, y, tupleOriginal.getZ());
       }
       else
       {
-         dirty = false;
-         isIdentity = other.isIdentity();
+         Matrix3DTools.transform(this, tupleOriginal, tupleTransformed);
       }
    }
 
+   /**
+    * {@inheritDoc}
+    * <p>
+    * Only the x and y components are transformed when this matrix is exactly a rotation around the
+    * z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
    @Override
-   public boolean isDirty()
+   public void addTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      int state = getState();
+
+      if ((state & IDENTITY) != 0)
+      {
+         tupleTransformed.add(tupleOriginal);
+      }
+      else if ((state & YAW_ROTATION) != 0)
+      {
+         double x = m00 * tupleOriginal.getX() + m01 * tupleOriginal.getY();
+         double y = m10 * tupleOriginal.getX() + m11 * tupleOriginal.getY();
+         tupleTransformed.add(x, y, tupleOriginal.getZ());
+      }
+      else
+      {
+         Matrix3DTools.addTransform(this, tupleOriginal, tupleTransformed);
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * Only the x and y components are transformed when this matrix is exactly a rotation around the
+    * z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void subTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
    {
-      return dirty;
+      int state = getState();
+
+      if ((state & IDENTITY) != 0)
+      {
+         tupleTransformed.sub(tupleOriginal);
+      }
+      else if ((state & YAW_ROTATION) != 0)
+      {
+         double x = m00 * tupleOriginal.getX() + m01 * tupleOriginal.getY();
+         double y = m10 * tupleOriginal.getX() + m11 * tupleOriginal.getY();
+         tupleTransformed.sub(x, y, tupleOriginal.getZ());
+      }
+      else
+      {
+         Matrix3DTools.subTransform(this, tupleOriginal, tupleTransformed);
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * Only the x and y components are transformed when this matrix is exactly a rotation around the
+    * z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void inverseTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      int state = getState();
+
+      if ((state & IDENTITY) != 0)
+      {
+         if (tupleOriginal != tupleTransformed)
+            tupleTransformed.set(tupleOriginal);
+      }
+      else if ((state & YAW_ROTATION) != 0)
+      {
+         double x = m00 * tupleOriginal.getX() + m10 * tupleOriginal.getY();
+         double y = m01 * tupleOriginal.getX() + m11 * tupleOriginal.getY();
+         tupleTransformed.set(x, y, tupleOriginal.getZ());
+      }
+      else
+      {
+         RotationMatrixBasics.super.inverseTransform(tupleOriginal, tupleTransformed);
+      }
    }
 
    /** {@inheritDoc} */
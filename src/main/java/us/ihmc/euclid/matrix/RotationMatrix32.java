@@ -0,0 +1,799 @@
+package us.ihmc.euclid.matrix;
+
+import us.ihmc.euclid.exceptions.NotARotationMatrixException;
+import us.ihmc.euclid.interfaces.GeometryObject;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixBasics;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tools.Matrix3DFeatures;
+import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * A {@code RotationMatrix32} is a 3-by-3 matrix used to represent 3d orientations.
+ * <p>
+ * This version of rotation matrix uses single precision fields to save the value of each
+ * coefficient. It is meant for garbage free usage and for situations where heap memory is limited,
+ * such as large tables of orientations. When memory is not a constraint, the use of
+ * {@link RotationMatrix} is preferable.
+ * </p>
+ * <p>
+ * The operations are performed in double precision and the result is rounded when stored. As a
+ * consequence, the rows of a {@code RotationMatrix32} are orthonormal only up to the single
+ * precision, which is reflected in {@link #isRotationMatrix()}. The rounding errors accumulate over
+ * long sequences of operations such as {@link #append(Orientation3DReadOnly)}, {@link #normalize()}
+ * should be called periodically in such case.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class RotationMatrix32 implements RotationMatrixBasics, GeometryObject<RotationMatrix32>
+{
+   /** The 1st row 1st column coefficient of this matrix. */
+   private float m00;
+   /** The 1st row 2nd column coefficient of this matrix. */
+   private float m01;
+   /** The 1st row 3rd column coefficient of this matrix. */
+   private float m02;
+   /** The 2nd row 1st column coefficient of this matrix. */
+   private float m10;
+   /** The 2nd row 2nd column coefficient of this matrix. */
+   private float m11;
+   /** The 2nd row 3rd column coefficient of this matrix. */
+   private float m12;
+   /** The 3rd row 1st column coefficient of this matrix. */
+   private float m20;
+   /** The 3rd row 2nd column coefficient of this matrix. */
+   private float m21;
+   /** The 3rd row 3rd column coefficient of this matrix. */
+   private float m22;
+
+   /** Flag set in {@link #state} when the other flags have to be updated. */
+   private static final int DIRTY = 1;
+   /** Flag set in {@link #state} when this matrix is the identity, see {@link #isIdentity()}. */
+   private static final int IDENTITY = 2;
+   /** Flag set in {@link #state} when this matrix is a 2D rotation, see {@link #isOrientation2D()}. */
+   private static final int ORIENTATION_2D = 4;
+   /** Flag set in {@link #state} when this matrix is a pure yaw, see {@link #isYawRotation()}. */
+   private static final int YAW_ROTATION = 8;
+   /**
+    * The flags describing this matrix. They are packed in a single field such that they can be read
+    * consistently from multiple threads.
+    */
+   private int state = IDENTITY | ORIENTATION_2D | YAW_ROTATION;
+
+   /**
+    * Create a new rotation matrix initialized to identity.
+    */
+   public RotationMatrix32()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Creates a new rotation matrix and initializes it from the given 9 coefficients.
+    *
+    * @param m00 the 1st row 1st column coefficient for this matrix.
+    * @param m01 the 1st row 2nd column coefficient for this matrix.
+    * @param m02 the 1st row 3rd column coefficient for this matrix.
+    * @param m10 the 2nd row 1st column coefficient for this matrix.
+    * @param m11 the 2nd row 2nd column coefficient for this matrix.
+    * @param m12 the 2nd row 3rd column coefficient for this matrix.
+    * @param m20 the 3rd row 1st column coefficient for this matrix.
+    * @param m21 the 3rd row 2nd column coefficient for this matrix.
+    * @param m22 the 3rd row 3rd column coefficient for this matrix.
+    * @throws NotARotationMatrixException if the resulting matrix is not a rotation matrix.
+    */
+   public RotationMatrix32(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22)
+   {
+      set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+   }
+
+   /**
+    * Creates a new rotation matrix and initializes it from the given array.
+    *
+    * <pre>
+    *        / rotationMatrixArray[0]  rotationMatrixArray[1]  rotationMatrixArray[2] \
+    * this = | rotationMatrixArray[3]  rotationMatrixArray[4]  rotationMatrixArray[5] |
+    *        \ rotationMatrixArray[6]  rotationMatrixArray[7]  rotationMatrixArray[8] /
+    * </pre>
+    *
+    * @param rotationMatrixArray the array containing the values for this matrix. Not modified.
+    * @throws NotARotationMatrixException if the resulting matrix is not a rotation matrix.
+    */
+   public RotationMatrix32(float[] rotationMatrixArray)
+   {
+      set(rotationMatrixArray);
+   }
+
+   /**
+    * Creates a new rotation matrix that is the same as {@code rotationMatrix}.
+    *
+    * @param rotationMatrix the other 3D matrix to copy the values from. Not modified.
+    * @throws NotARotationMatrixException if the resulting matrix is not a rotation matrix.
+    */
+   public RotationMatrix32(Matrix3DReadOnly rotationMatrix)
+   {
+      set(rotationMatrix);
+   }
+
+   /**
+    * Creates a new rotation matrix that is the same as {@code other}.
+    *
+    * @param other the other 3D matrix to copy the values from. Not modified.
+    */
+   public RotationMatrix32(RotationMatrixReadOnly other)
+   {
+      set(other);
+   }
+
+   /**
+    * Creates a new rotation matrix that represents the same orientation as the given one.
+    *
+    * @param orientation the orientation used to initialize this rotation matrix. Not modified.
+    */
+   public RotationMatrix32(Orientation3DReadOnly orientation)
+   {
+      set(orientation);
+   }
+
+   /**
+    * Creates a new rotation matrix representing the same orientation as the given rotation vector
+    * {@code rotationVector}.
+    * <p>
+    * WARNING: a rotation vector is different from a yaw-pitch-roll or Euler angles representation. A
+    * rotation vector is equivalent to the axis of an axis-angle that is multiplied by the angle of the
+    * same axis-angle.
+    * </p>
+    *
+    * @param rotationVector the rotation vector used to initialize this rotation matrix. Not modified.
+    */
+   public RotationMatrix32(Vector3DReadOnly rotationVector)
+   {
+      setRotationVector(rotationVector);
+   }
+
+   /**
+    * Creates a new rotation matrix and initializes such that it represents the same orientation as the
+    * given yaw-pitch-roll {@code yaw}, {@code pitch}, and {@code roll}.
+    *
+    * @param yaw   the angle to rotate about the z-axis.
+    * @param pitch the angle to rotate about the y-axis.
+    * @param roll  the angle to rotate about the x-axis.
+    */
+   public RotationMatrix32(double yaw, double pitch, double roll)
+   {
+      setYawPitchRoll(yaw, pitch, roll);
+   }
+
+   @Override
+   public void setIdentity()
+   {
+      setUnsafe(1.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 1.0);
+      state = IDENTITY | ORIENTATION_2D | YAW_ROTATION;
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * Note that this rotation matrix becomes invalid and has to be updated before being usable again.
+    * </p>
+    */
+   @Override
+   public void setToNaN()
+   {
+      setUnsafe(Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+      state = 0;
+   }
+
+   /**
+    * Orthonormalization of the rotation matrix using the
+    * <a href="https://en.wikipedia.org/wiki/Gram%E2%80%93Schmidt_process"> Gram-Schmidt method</a>.
+    *
+    * @throws NotARotationMatrixException if the orthonormalization failed.
+    */
+   @Override
+   public void normalize()
+   {
+      if (isIdentity())
+         setIdentity();
+      else
+         Matrix3DTools.normalize(this);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The state of this rotation matrix is saved for performance improvement. It updated only when this
+    * matrix is marked as dirty which can be set by calling {@link #markAsDirty()}. The matrix is
+    * marked as dirty whenever its elements are updated.
+    * </p>
+    */
+   @Override
+   public boolean isIdentity()
+   {
+      return (getState() & IDENTITY) != 0;
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The state of this rotation matrix is saved for performance improvement, see
+    * {@link #isIdentity()}.
+    * </p>
+    */
+   @Override
+   public boolean isOrientation2D()
+   {
+      return (getState() & ORIENTATION_2D) != 0;
+   }
+
+   /**
+    * Tests if this rotation matrix is exactly a rotation around the z-axis, i.e. the coefficients
+    * {@code m02}, {@code m12}, {@code m20}, and {@code m21} are exactly equal to zero and {@code m22}
+    * is exactly equal to one.
+    * <p>
+    * Unlike {@link #isOrientation2D()}, no tolerance is used. The state of this rotation matrix is
+    * saved for performance improvement, see {@link #isIdentity()}.
+    * </p>
+    *
+    * @return {@code true} if this matrix is exactly a rotation around the z-axis, {@code false}
+    *         otherwise.
+    */
+   public boolean isYawRotation()
+   {
+      return (getState() & YAW_ROTATION) != 0;
+   }
+
+   private int getState()
+   {
+      int state = this.state;
+      return (state & DIRTY) != 0 ? updateState() : state;
+   }
+
+   private int updateState()
+   {
+      int state;
+
+      // The identity is a 2D rotation, so the identity test is only performed on 2D rotations.
+      if (m02 == 0.0f && m12 == 0.0f && m20 == 0.0f && m21 == 0.0f && m22 == 1.0f)
+         state = ORIENTATION_2D | YAW_ROTATION;
+      else if (isMatrix2D(ORIENTATION_2D_EPSILON))
+         state = ORIENTATION_2D;
+      else
+         state = 0;
+
+      if (state != 0 && RotationMatrixBasics.super.isIdentity())
+         state |= IDENTITY;
+
+      this.state = state;
+      return state;
+   }
+
+   /**
+    * Tests if this matrix is a rotation matrix using the tolerance
+    * {@link Matrix3DFeatures#EPS_CHECK_ROTATION_32} which accounts for the single precision of this
+    * matrix coefficients.
+    *
+    * @return {@code true} if this matrix is a rotation matrix, {@code false} otherwise.
+    */
+   @Override
+   public boolean isRotationMatrix()
+   {
+      return isRotationMatrix(Matrix3DFeatures.EPS_CHECK_ROTATION_32);
+   }
+
+   /**
+    * Marks this rotation matrix as dirty.
+    * <p>
+    * When a rotation matrix is marked as dirty, {@link #isIdentity()}, {@link #isOrientation2D()},
+    * and {@link #isYawRotation()} will perform a thorough test to update the state of this matrix.
+    * </p>
+    */
+   public void markAsDirty()
+   {
+      state = DIRTY;
+   }
+
+   @Override
+   public boolean isDirty()
+   {
+      return (state & DIRTY) != 0;
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The multiplication is performed on the xy-plane only when both matrices are exactly rotations
+    * around the z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void append(Orientation3DReadOnly orientation)
+   {
+      if (isYawRotation() && isYawRotation(orientation))
+         multiplyYawRotations(this, false, (RotationMatrix32) orientation, false);
+      else
+         RotationMatrixBasics.super.append(orientation);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The multiplication is performed on the xy-plane only when both matrices are exactly rotations
+    * around the z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void appendInvertOther(Orientation3DReadOnly orientation)
+   {
+      if (isYawRotation() && isYawRotation(orientation))
+         multiplyYawRotations(this, false, (RotationMatrix32) orientation, true);
+      else
+         RotationMatrixBasics.super.appendInvertOther(orientation);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The multiplication is performed on the xy-plane only when both matrices are exactly rotations
+    * around the z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void prepend(Orientation3DReadOnly orientation)
+   {
+      if (isYawRotation() && isYawRotation(orientation))
+         multiplyYawRotations((RotationMatrix32) orientation, false, this, false);
+      else
+         RotationMatrixBasics.super.prepend(orientation);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The multiplication is performed on the xy-plane only when both matrices are exactly rotations
+    * around the z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void prependInvertOther(Orientation3DReadOnly orientation)
+   {
+      if (isYawRotation() && isYawRotation(orientation))
+         multiplyYawRotations((RotationMatrix32) orientation, true, this, false);
+      else
+         RotationMatrixBasics.super.prependInvertOther(orientation);
+   }
+
+   private static boolean isYawRotation(Orientation3DReadOnly orientation)
+   {
+      return orientation instanceof RotationMatrix32 && ((RotationMatrix32) orientation).isYawRotation();
+   }
+
+   /**
+    * Sets this matrix to the product of two rotations around the z-axis: this = a * b.
+    * <p>
+    * Only the upper-left 2-by-2 blocks of the matrices are used. {@code a} and {@code b} can be the
+    * same object as {@code this}.
+    * </p>
+    */
+   private void multiplyYawRotations(RotationMatrix32 a, boolean transposeA, RotationMatrix32 b, boolean transposeB)
+   {
+      double a01 = transposeA ? a.m10 : a.m01;
+      double a10 = transposeA ? a.m01 : a.m10;
+      double b01 = transposeB ? b.m10 : b.m01;
+      double b10 = transposeB ? b.m01 : b.m10;
+
+      double c00 = a.m00 * b.m00 + a01 * b10;
+      double c01 = a.m00 * b01 + a01 * b.m11;
+      double c10 = a10 * b.m00 + a.m11 * b10;
+      double c11 = a10 * b01 + a.m11 * b.m11;
+      setUnsafe(c00, c01, 0.0, c10, c11, 0.0, 0.0, 0.0, 1.0);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * Only the x and y components are transformed when this matrix is exactly a rotation around the
+    * z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void transform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      int state = getState();
+
+      if ((state & IDENTITY) != 0)
+      {
+         if (tupleOriginal != tupleTransformed)
+            tupleTransformed.set(tupleOriginal);
+      }
+      else if ((state & YAW_ROTATION) != 0)
+      {
+         double x = m00 * tupleOriginal.getX() + m01 * tupleOriginal.getY();
+         double y = m10 * tupleOriginal.getX() + m11 * tupleOriginal.getY();
+         tupleTransformed.set(x, y, tupleOriginal.getZ());
+      }
+      else
+      {
+         Matrix3DTools.transform(this, tupleOriginal, tupleTransformed);
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * Only the x and y components are transformed when this matrix is exactly a rotation around the
+    * z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void addTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      int state = getState();
+
+      if ((state & IDENTITY) != 0)
+      {
+         tupleTransformed.add(tupleOriginal);
+      }
+      else if ((state & YAW_ROTATION) != 0)
+      {
+         double x = m00 * tupleOriginal.getX() + m01 * tupleOriginal.getY();
+         double y = m10 * tupleOriginal.getX() + m11 * tupleOriginal.getY();
+         tupleTransformed.add(x, y, tupleOriginal.getZ());
+      }
+      else
+      {
+         Matrix3DTools.addTransform(this, tupleOriginal, tupleTransformed);
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * Only the x and y components are transformed when this matrix is exactly a rotation around the
+    * z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void subTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      int state = getState();
+
+      if ((state & IDENTITY) != 0)
+      {
+         tupleTransformed.sub(tupleOriginal);
+      }
+      else if ((state & YAW_ROTATION) != 0)
+      {
+         double x = m00 * tupleOriginal.getX() + m01 * tupleOriginal.getY();
+         double y = m10 * tupleOriginal.getX() + m11 * tupleOriginal.getY();
+         tupleTransformed.sub(x, y, tupleOriginal.getZ());
+      }
+      else
+      {
+         Matrix3DTools.subTransform(this, tupleOriginal, tupleTransformed);
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * Only the x and y components are transformed when this matrix is exactly a rotation around the
+    * z-axis, see {@link #isYawRotation()}.
+    * </p>
+    */
+   @Override
+   public void inverseTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      int state = getState();
+
+      if ((state & IDENTITY) != 0)
+      {
+         if (tupleOriginal != tupleTransformed)
+            tupleTransformed.set(tupleOriginal);
+      }
+      else if ((state & YAW_ROTATION) != 0)
+      {
+         double x = m00 * tupleOriginal.getX() + m10 * tupleOriginal.getY();
+         double y = m01 * tupleOriginal.getX() + m11 * tupleOriginal.getY();
+         tupleTransformed.set(x, y, tupleOriginal.getZ());
+      }
+      else
+      {
+         RotationMatrixBasics.super.inverseTransform(tupleOriginal, tupleTransformed);
+      }
+   }
+
+   /**
+    * Transposes this matrix: m = m<sup>T</sup>.
+    */
+   @Override
+   public void transpose()
+   {
+      float temp;
+
+      temp = m01;
+      m01 = m10;
+      m10 = temp;
+
+      temp = m02;
+      m02 = m20;
+      m20 = temp;
+
+      temp = m12;
+      m12 = m21;
+      m21 = temp;
+   }
+
+   /**
+    * Sets the 9 coefficients of this rotation matrix without performing any checks on the data
+    * provided.
+    * <p>
+    * This method is meant for internal usage. Prefer using
+    * {@link #set(double, double, double, double, double, double, double, double, double)} or
+    * {@link #setAndNormalize(double, double, double, double, double, double, double, double, double)}.
+    * </p>
+    *
+    * @param m00 the new 1st row 1st column coefficient for this matrix.
+    * @param m01 the new 1st row 2nd column coefficient for this matrix.
+    * @param m02 the new 1st row 3rd column coefficient for this matrix.
+    * @param m10 the new 2nd row 1st column coefficient for this matrix.
+    * @param m11 the new 2nd row 2nd column coefficient for this matrix.
+    * @param m12 the new 2nd row 3rd column coefficient for this matrix.
+    * @param m20 the new 3rd row 1st column coefficient for this matrix.
+    * @param m21 the new 3rd row 2nd column coefficient for this matrix.
+    * @param m22 the new 3rd row 3rd column coefficient for this matrix.
+    */
+   @Override
+   public void setUnsafe(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22)
+   {
+      this.m00 = (float) m00;
+      this.m01 = (float) m01;
+      this.m02 = (float) m02;
+
+      this.m10 = (float) m10;
+      this.m11 = (float) m11;
+      this.m12 = (float) m12;
+
+      this.m20 = (float) m20;
+      this.m21 = (float) m21;
+      this.m22 = (float) m22;
+
+      markAsDirty();
+   }
+
+   /**
+    * Sets this rotation matrix to equal the given one {@code other}.
+    *
+    * @param other the other rotation matrix to copy the values from. Not modified.
+    */
+   @Override
+   public void set(RotationMatrix32 other)
+   {
+      set((RotationMatrixReadOnly) other);
+   }
+
+   /**
+    * Sets this rotation matrix to equal the given one {@code other}.
+    *
+    * @param other the other rotation matrix to copy the values from. Not modified.
+    */
+   @Override
+   public void set(RotationMatrixReadOnly other)
+   {
+      m00 = (float) other.getM00();
+      m01 = (float) other.getM01();
+      m02 = (float) other.getM02();
+      m10 = (float) other.getM10();
+      m11 = (float) other.getM11();
+      m12 = (float) other.getM12();
+      m20 = (float) other.getM20();
+      m21 = (float) other.getM21();
+      m22 = (float) other.getM22();
+
+      if (other instanceof RotationMatrix32)
+         state = ((RotationMatrix32) other).state;
+      else
+         markAsDirty();
+   }
+
+   /**
+    * Sets this rotation matrix from the given array.
+    *
+    * <pre>
+    *        / rotationMatrixArray[0]  rotationMatrixArray[1]  rotationMatrixArray[2] \
+    * this = | rotationMatrixArray[3]  rotationMatrixArray[4]  rotationMatrixArray[5] |
+    *        \ rotationMatrixArray[6]  rotationMatrixArray[7]  rotationMatrixArray[8] /
+    * </pre>
+    *
+    * @param rotationMatrixArray the array containing the values for this matrix. Not modified.
+    * @throws NotARotationMatrixException if the resulting matrix is not a rotation matrix.
+    */
+   public void set(float[] rotationMatrixArray)
+   {
+      set(rotationMatrixArray[0],
+          rotationMatrixArray[1],
+          rotationMatrixArray[2],
+          rotationMatrixArray[3],
+          rotationMatrixArray[4],
+          rotationMatrixArray[5],
+          rotationMatrixArray[6],
+          rotationMatrixArray[7],
+          rotationMatrixArray[8]);
+   }
+
+   /**
+    * Packs this rotation matrix into a row-major array.
+    *
+    * <pre>
+    *                       / rotationMatrixArray[0]  rotationMatrixArray[1]  rotationMatrixArray[2] \
+    * rotationMatrixArray = | rotationMatrixArray[3]  rotationMatrixArray[4]  rotationMatrixArray[5] |
+    *                       \ rotationMatrixArray[6]  rotationMatrixArray[7]  rotationMatrixArray[8] /
+    * </pre>
+    *
+    * @param rotationMatrixArrayToPack the array in which the coefficients of this matrix are stored.
+    *                                  Modified.
+    */
+   public void get(float[] rotationMatrixArrayToPack)
+   {
+      rotationMatrixArrayToPack[0] = m00;
+      rotationMatrixArrayToPack[1] = m01;
+      rotationMatrixArrayToPack[2] = m02;
+      rotationMatrixArrayToPack[3] = m10;
+      rotationMatrixArrayToPack[4] = m11;
+      rotationMatrixArrayToPack[5] = m12;
+      rotationMatrixArrayToPack[6] = m20;
+      rotationMatrixArrayToPack[7] = m21;
+      rotationMatrixArrayToPack[8] = m22;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM00()
+   {
+      return m00;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM01()
+   {
+      return m01;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM02()
+   {
+      return m02;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM10()
+   {
+      return m10;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM11()
+   {
+      return m11;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM12()
+   {
+      return m12;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM20()
+   {
+      return m20;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM21()
+   {
+      return m21;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM22()
+   {
+      return m22;
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(Matrix3DReadOnly)}, it returns {@code false} otherwise or if the {@code object} is
+    * {@code null}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof Matrix3DReadOnly)
+         return equals((Matrix3DReadOnly) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests on a per coefficient basis if this matrix is equal to the given {@code other} to an
+    * {@code epsilon}.
+    *
+    * @param other   the other matrix to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two matrices are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(RotationMatrix32 other, double epsilon)
+   {
+      return RotationMatrixBasics.super.epsilonEquals(other, epsilon);
+   }
+
+   /**
+    * Tests if {@code this} and {@code other} represent the same orientation to an {@code epsilon}.
+    * <p>
+    * Two rotation matrices are considered geometrically equal if the magnitude of their difference is
+    * less than or equal to {@code epsilon}.
+    * </p>
+    * <p>
+    * Note that {@code this.geometricallyEquals(other, epsilon) == true} does not necessarily imply
+    * {@code this.epsilonEquals(other, epsilon)} and vice versa.
+    * </p>
+    *
+    * @param other   the other rotation matrix to compare against this. Not modified.
+    * @param epsilon the maximum angle between the two rotation matrices to be considered equal.
+    * @return {@code true} if the two rotation matrices represent the same geometry, {@code false}
+    *         otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(RotationMatrix32 other, double epsilon)
+   {
+      return RotationMatrixBasics.super.geometricallyEquals(other, epsilon);
+   }
+
+   /**
+    * Provides a {@code String} representation of this matrix as follows:
+    *
+    * <pre>
+    * /-0.576, -0.784,  0.949 \
+    * | 0.649, -0.542, -0.941 |
+    * \-0.486, -0.502, -0.619 /
+    * </pre>
+    *
+    * @return the {@code String} representing this matrix.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getMatrix3DString(this);
+   }
+
+   /**
+    * Calculates and returns a hash code value from the value of each component of this matrix.
+    *
+    * @return the hash code value for this matrix.
+    */
+   @Override
+   public int hashCode()
+   {
+      return EuclidHashCodeTools.toIntHashCode(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+   }
+}
@@ -418,4 +418,62 @@ public class QuaternionConversion
       double qz = sYaw * cPitch * cRoll - cYaw * sPitch * sRoll;
       quaternionToPack.setUnsafe(qx, qy, qz, qs);
    }
+
+   /**
+    * Converts a series of yaw-pitch-roll angles into quaternions.
+    * <p>
+    * The angles are packed as successive triplets {@code (yaw, pitch, roll)} and the quaternions are
+    * packed as successive quadruplets {@code (x, y, z, s)}. The result for each orientation is the
+    * same as {@link #convertYawPitchRollToQuaternion(double, double, double, QuaternionBasics)}.
+    * </p>
+    * <p>
+    * The sine and cosine of each angle are computed together with
+    * {@link EuclidCoreTools#sinCos(double, double[], int)}, using {@code quaternionsToPack} as scratch. They
+    * share the argument reduction when the trigonometry mode is
+    * {@link us.ihmc.euclid.tools.TrigonometryMode#APPROXIMATE}. This method does not generate garbage.
+    * </p>
+    *
+    * @param yawPitchRolls           the packed yaw-pitch-roll angles to convert. Not modified.
+    * @param yawPitchRollStartIndex  the index in {@code yawPitchRolls} of the yaw of the first
+    *                                orientation.
+    * @param quaternionsToPack       the array in which the packed quaternions are stored. Modified.
+    * @param quaternionStartIndex    the index in {@code quaternionsToPack} of the x-component of the
+    *                                first quaternion.
+    * @param numberOfOrientations    the number of orientations to convert.
+    * @throws IllegalArgumentException if either array is too small to hold the orientations.
+    */
+   public static void convertYawPitchRollsToQuaternions(double[] yawPitchRolls,
+                                                        int yawPitchRollStartIndex,
+                                                        double[] quaternionsToPack,
+                                                        int quaternionStartIndex,
+                                                        int numberOfOrientations)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(yawPitchRolls, yawPitchRollStartIndex, 3, numberOfOrientations);
+      EuclidCoreTools.checkArrayMinimumLength(quaternionsToPack, quaternionStartIndex, 4, numberOfOrientations);
+
+      for (int i = 0; i < numberOfOrientations; i++)
+      {
+         int yprIndex = yawPitchRollStartIndex + 3 * i;
+         int quaternionIndex = quaternionStartIndex + 4 * i;
+         double halfYaw = 0.5 * yawPitchRolls[yprIndex];
+         double halfPitch = 0.5 * yawPitchRolls[yprIndex + 1];
+         double halfRoll = 0.5 * yawPitchRolls[yprIndex + 2];
+
+         EuclidCoreTools.sinCos(halfYaw, quaternionsToPack, quaternionIndex);
+         EuclidCoreTools.sinCos(halfPitch, quaternionsToPack, quaternionIndex + 2);
+         double sYaw = quaternionsToPack[quaternionIndex];
+         double cYaw = quaternionsToPack[quaternionIndex + 1];
+         double sPitch = quaternionsToPack[quaternionIndex + 2];
+         double cPitch = quaternionsToPack[quaternionIndex + 3];
+
+         EuclidCoreTools.sinCos(halfRoll, quaternionsToPack, quaternionIndex);
+         double sRoll = quaternionsToPack[quaternionIndex];
+         double cRoll = quaternionsToPack[quaternionIndex + 1];
+
+         quaternionsToPack[quaternionIndex] = cYaw * cPitch * sRoll - sYaw * sPitch * cRoll;
+         quaternionsToPack[quaternionIndex + 1] = sYaw * cPitch * sRoll + cYaw * sPitch * cRoll;
+         quaternionsToPack[quaternionIndex + 2] = sYaw * cPitch * cRoll - cYaw * sPitch * sRoll;
+         quaternionsToPack[quaternionIndex + 3] = cYaw * cPitch * cRoll + sYaw * sPitch * sRoll;
+      }
+   }
 }
@@ -1,5 +1,7 @@
 package us.ihmc.euclid.rotationConversion;
 
+import java.util.Arrays;
+
 import us.ihmc.euclid.axisAngle.interfaces.AxisAngleReadOnly;
 import us.ihmc.euclid.matrix.interfaces.CommonMatrix3DBasics;
 import us.ihmc.euclid.matrix.interfaces.RotationMatrixBasics;
@@ -527,4 +529,84 @@ public class RotationMatrixConversion
             matrixToPack.set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
       }
    }
+
+   /**
+    * Converts a series of yaw-pitch-roll angles into rotation matrices.
+    * <p>
+    * The angles are packed as successive triplets {@code (yaw, pitch, roll)} and the matrices are
+    * packed as successive row-major blocks of 9 coefficients, as done in
+    * {@link us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly#get(int, double[])}. The result for each
+    * orientation is the same as
+    * {@link #convertYawPitchRollToMatrix(double, double, double, CommonMatrix3DBasics)}.
+    * </p>
+    * <p>
+    * The sine and cosine of each angle are computed together with
+    * {@link EuclidCoreTools#sinCos(double, double[], int)}, using {@code matricesToPack} as scratch. They
+    * share the argument reduction when the trigonometry mode is
+    * {@link us.ihmc.euclid.tools.TrigonometryMode#APPROXIMATE}. This method does not generate garbage.
+    * </p>
+    *
+    * @param yawPitchRolls          the packed yaw-pitch-roll angles to convert. Not modified.
+    * @param yawPitchRollStartIndex the index in {@code yawPitchRolls} of the yaw of the first
+    *                               orientation.
+    * @param matricesToPack         the array in which the packed matrices are stored. Modified.
+    * @param matrixStartIndex       the index in {@code matricesToPack} of the first coefficient of
+    *                               the first matrix.
+    * @param numberOfOrientations   the number of orientations to convert.
+    * @throws IllegalArgumentException if either array is too small to hold the orientations.
+    */
+   public static void convertYawPitchRollsToMatrices(double[] yawPitchRolls,
+                                                     int yawPitchRollStartIndex,
+                                                     double[] matricesToPack,
+                                                     int matrixStartIndex,
+                                                     int numberOfOrientations)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(yawPitchRolls, yawPitchRollStartIndex, 3, numberOfOrientations);
+      EuclidCoreTools.checkArrayMinimumLength(matricesToPack, matrixStartIndex, 9, numberOfOrientations);
+
+      for (int i = 0; i < numberOfOrientations; i++)
+      {
+         int yprIndex = yawPitchRollStartIndex + 3 * i;
+         int index = matrixStartIndex + 9 * i;
+         double yaw = yawPitchRolls[yprIndex];
+         double pitch = yawPitchRolls[yprIndex + 1];
+         double roll = yawPitchRolls[yprIndex + 2];
+
+         if (EuclidCoreTools.containsNaN(yaw, pitch, roll))
+         {
+            Arrays.fill(matricesToPack, index, index + 9, Double.NaN);
+            continue;
+         }
+
+         if (YawPitchRollTools.isZero(yaw, pitch, roll, EPS))
+         {
+            Arrays.fill(matricesToPack, index, index + 9, 0.0);
+            matricesToPack[index] = 1.0;
+            matricesToPack[index + 4] = 1.0;
+            matricesToPack[index + 8] = 1.0;
+            continue;
+         }
+
+         EuclidCoreTools.sinCos(yaw, matricesToPack, index);
+         EuclidCoreTools.sinCos(pitch, matricesToPack, index + 2);
+         EuclidCoreTools.sinCos(roll, matricesToPack, index + 4);
+
+         double sinc = matricesToPack[index];
+         double cosc = matricesToPack[index + 1];
+         double sinb = matricesToPack[index + 2];
+         double cosb = matricesToPack[index + 3];
+         double sina = matricesToPack[index + 4];
+         double cosa = matricesToPack[index + 5];
+
+         matricesToPack[index] = cosc * cosb;
+         matricesToPack[index + 1] = cosc * sinb * sina - sinc * cosa;
+         matricesToPack[index + 2] = cosc * sinb * cosa + sinc * sina;
+         matricesToPack[index + 3] = sinc * cosb;
+         matricesToPack[index + 4] = sinc * sinb * sina + cosc * cosa;
+         matricesToPack[index + 5] = sinc * sinb * cosa - cosc * sina;
+         matricesToPack[index + 6] = -sinb;
+         matricesToPack[index + 7] = cosb * sina;
+         matricesToPack[index + 8] = cosb * cosa;
+      }
+   }
 }
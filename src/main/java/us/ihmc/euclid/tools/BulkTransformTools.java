@@ -0,0 +1,480 @@
+package us.ihmc.euclid.tools;
+
+import java.util.List;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.transform.interfaces.AffineTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * Tools for transforming large sets of points at once, such as point clouds.
+ * <p>
+ * The structure of the transform, i.e. whether it has a rotation or a translation, is evaluated only
+ * once for the whole set, and its coefficients are loaded once such that the points are transformed
+ * in a single loop. A rotation described by a quaternion is converted into a rotation matrix
+ * beforehand which is cheaper to apply to each point.
+ * </p>
+ * <p>
+ * The packed arrays store the points as successive triplets {@code (x, y, z)}, while the
+ * structure-of-arrays variants store each coordinate in a separate array as done in
+ * {@link us.ihmc.euclid.tuple3D.Point3DBuffer}.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class BulkTransformTools
+{
+   private BulkTransformTools()
+   {
+      // Suppresses default constructor, ensuring non-instantiability.
+   }
+
+   /**
+    * Transforms the points stored in {@code pointsOriginal} and stores the result in
+    * {@code pointsTransformed}.
+    * <p>
+    * The two arrays can be the same object as long as {@code originalStartIndex} and
+    * {@code transformedStartIndex} are equal.
+    * </p>
+    * <p>
+    * This method only generates garbage when the rotation of the transform is not a rotation matrix,
+    * in which case it is converted once into a rotation matrix.
+    * </p>
+    *
+    * @param transform             the transform to apply to the points. Not modified.
+    * @param pointsOriginal        the packed coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point.
+    * @param pointsTransformed     the array in which the packed coordinates of the transformed points
+    *                              are stored. Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IllegalArgumentException if either array is too small to hold the points.
+    */
+   public static void transformPoints(RigidBodyTransformReadOnly transform,
+                                      double[] pointsOriginal,
+                                      int originalStartIndex,
+                                      double[] pointsTransformed,
+                                      int transformedStartIndex,
+                                      int numberOfPoints)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(pointsOriginal, originalStartIndex, 3, numberOfPoints);
+      EuclidCoreTools.checkArrayMinimumLength(pointsTransformed, transformedStartIndex, 3, numberOfPoints);
+
+      Tuple3DReadOnly translation = transform.hasTranslation() ? transform.getTranslation() : null;
+
+      if (!transform.hasRotation())
+      {
+         translatePoints(translation, pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+         return;
+      }
+
+      transformPoints(toMatrix3D(transform.getRotation()), translation, pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored in {@code pointsOriginal} and stores the result in
+    * {@code pointsTransformed}.
+    * <p>
+    * The two arrays can be the same object as long as {@code originalStartIndex} and
+    * {@code transformedStartIndex} are equal.
+    * </p>
+    *
+    * @param transform             the transform to apply to the points. Not modified.
+    * @param pointsOriginal        the packed coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point.
+    * @param pointsTransformed     the array in which the packed coordinates of the transformed points
+    *                              are stored. Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IllegalArgumentException if either array is too small to hold the points.
+    */
+   public static void transformPoints(AffineTransformReadOnly transform,
+                                      double[] pointsOriginal,
+                                      int originalStartIndex,
+                                      double[] pointsTransformed,
+                                      int transformedStartIndex,
+                                      int numberOfPoints)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(pointsOriginal, originalStartIndex, 3, numberOfPoints);
+      EuclidCoreTools.checkArrayMinimumLength(pointsTransformed, transformedStartIndex, 3, numberOfPoints);
+
+      Tuple3DReadOnly translation = transform.hasTranslation() ? transform.getTranslation() : null;
+
+      if (transform.hasLinearTransform())
+         transformPoints(transform.getLinearTransform(), translation, pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+      else
+         translatePoints(translation, pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms each point of the given list.
+    * <p>
+    * This method only generates garbage when the rotation of the transform is not a rotation matrix,
+    * in which case it is converted once into a rotation matrix.
+    * </p>
+    *
+    * @param transform         the transform to apply to the points. Not modified.
+    * @param pointsToTransform the points to transform. Modified.
+    */
+   public static void transformPoints(RigidBodyTransformReadOnly transform, List<? extends Point3DBasics> pointsToTransform)
+   {
+      Tuple3DReadOnly translation = transform.hasTranslation() ? transform.getTranslation() : null;
+
+      if (!transform.hasRotation())
+      {
+         translatePoints(translation, pointsToTransform);
+         return;
+      }
+
+      transformPoints(toMatrix3D(transform.getRotation()), translation, pointsToTransform);
+   }
+
+   /**
+    * Transforms each point of the given list.
+    *
+    * @param transform         the transform to apply to the points. Not modified.
+    * @param pointsToTransform the points to transform. Modified.
+    */
+   public static void transformPoints(AffineTransformReadOnly transform, List<? extends Point3DBasics> pointsToTransform)
+   {
+      Tuple3DReadOnly translation = transform.hasTranslation() ? transform.getTranslation() : null;
+
+      if (transform.hasLinearTransform())
+         transformPoints(transform.getLinearTransform(), translation, pointsToTransform);
+      else
+         translatePoints(translation, pointsToTransform);
+   }
+
+   /**
+    * Transforms the points stored in structure-of-arrays layout, i.e. the i<sup>th</sup> point is
+    * {@code (x[i], y[i], z[i])}.
+    * <p>
+    * This method only generates garbage when the rotation of the transform is not a rotation matrix,
+    * in which case it is converted once into a rotation matrix.
+    * </p>
+    *
+    * @param transform      the transform to apply to the points. Not modified.
+    * @param x              the x-coordinates of the points to transform. Modified.
+    * @param y              the y-coordinates of the points to transform. Modified.
+    * @param z              the z-coordinates of the points to transform. Modified.
+    * @param startIndex     the index of the first point to transform.
+    * @param numberOfPoints the number of points to transform.
+    * @throws IllegalArgumentException if any of the arrays is too small to hold the points.
+    */
+   public static void transformPoints(RigidBodyTransformReadOnly transform, double[] x, double[] y, double[] z, int startIndex, int numberOfPoints)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(x, y, z, startIndex, numberOfPoints);
+
+      Tuple3DReadOnly translation = transform.hasTranslation() ? transform.getTranslation() : null;
+
+      if (transform.hasRotation())
+         transform(toMatrix3D(transform.getRotation()), translation, x, y, z, startIndex, numberOfPoints);
+      else
+         translate(translation, x, y, z, startIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored in structure-of-arrays layout, i.e. the i<sup>th</sup> point is
+    * {@code (x[i], y[i], z[i])}.
+    *
+    * @param transform      the transform to apply to the points. Not modified.
+    * @param x              the x-coordinates of the points to transform. Modified.
+    * @param y              the y-coordinates of the points to transform. Modified.
+    * @param z              the z-coordinates of the points to transform. Modified.
+    * @param startIndex     the index of the first point to transform.
+    * @param numberOfPoints the number of points to transform.
+    * @throws IllegalArgumentException if any of the arrays is too small to hold the points.
+    */
+   public static void transformPoints(AffineTransformReadOnly transform, double[] x, double[] y, double[] z, int startIndex, int numberOfPoints)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(x, y, z, startIndex, numberOfPoints);
+
+      Tuple3DReadOnly translation = transform.hasTranslation() ? transform.getTranslation() : null;
+
+      if (transform.hasLinearTransform())
+         transform(transform.getLinearTransform(), translation, x, y, z, startIndex, numberOfPoints);
+      else
+         translate(translation, x, y, z, startIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the vectors stored in structure-of-arrays layout, i.e. the i<sup>th</sup> vector is
+    * {@code (x[i], y[i], z[i])}.
+    * <p>
+    * Only the rotation part of the transform affects the vectors.
+    * </p>
+    * <p>
+    * This method only generates garbage when the rotation of the transform is not a rotation matrix,
+    * in which case it is converted once into a rotation matrix.
+    * </p>
+    *
+    * @param transform       the transform to apply to the vectors. Not modified.
+    * @param x               the x-components of the vectors to transform. Modified.
+    * @param y               the y-components of the vectors to transform. Modified.
+    * @param z               the z-components of the vectors to transform. Modified.
+    * @param startIndex      the index of the first vector to transform.
+    * @param numberOfVectors the number of vectors to transform.
+    * @throws IllegalArgumentException if any of the arrays is too small to hold the vectors.
+    */
+   public static void transformVectors(RigidBodyTransformReadOnly transform, double[] x, double[] y, double[] z, int startIndex, int numberOfVectors)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(x, y, z, startIndex, numberOfVectors);
+
+      if (transform.hasRotation())
+         transform(toMatrix3D(transform.getRotation()), null, x, y, z, startIndex, numberOfVectors);
+   }
+
+   /**
+    * Transforms the vectors stored in structure-of-arrays layout, i.e. the i<sup>th</sup> vector is
+    * {@code (x[i], y[i], z[i])}.
+    * <p>
+    * Only the linear part of the transform affects the vectors.
+    * </p>
+    *
+    * @param transform       the transform to apply to the vectors. Not modified.
+    * @param x               the x-components of the vectors to transform. Modified.
+    * @param y               the y-components of the vectors to transform. Modified.
+    * @param z               the z-components of the vectors to transform. Modified.
+    * @param startIndex      the index of the first vector to transform.
+    * @param numberOfVectors the number of vectors to transform.
+    * @throws IllegalArgumentException if any of the arrays is too small to hold the vectors.
+    */
+   public static void transformVectors(AffineTransformReadOnly transform, double[] x, double[] y, double[] z, int startIndex, int numberOfVectors)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(x, y, z, startIndex, numberOfVectors);
+
+      if (transform.hasLinearTransform())
+         transform(transform.getLinearTransform(), null, x, y, z, startIndex, numberOfVectors);
+   }
+
+   private static Matrix3DReadOnly toMatrix3D(Orientation3DReadOnly rotation)
+   {
+      if (rotation instanceof Matrix3DReadOnly)
+         return (Matrix3DReadOnly) rotation;
+      else
+         return new RotationMatrix(rotation);
+   }
+
+   private static void transform(Matrix3DReadOnly matrix, Tuple3DReadOnly translation, double[] x, double[] y, double[] z, int startIndex, int numberOfTuples)
+   {
+      transform(matrix.getM00(),
+                matrix.getM01(),
+                matrix.getM02(),
+                matrix.getM10(),
+                matrix.getM11(),
+                matrix.getM12(),
+                matrix.getM20(),
+                matrix.getM21(),
+                matrix.getM22(),
+                translation,
+                x,
+                y,
+                z,
+                startIndex,
+                numberOfTuples);
+   }
+
+   private static void transform(double m00,
+                                 double m01,
+                                 double m02,
+                                 double m10,
+                                 double m11,
+                                 double m12,
+                                 double m20,
+                                 double m21,
+                                 double m22,
+                                 Tuple3DReadOnly translation,
+                                 double[] x,
+                                 double[] y,
+                                 double[] z,
+                                 int startIndex,
+                                 int numberOfTuples)
+   {
+      double tx = translation == null ? 0.0 : translation.getX();
+      double ty = translation == null ? 0.0 : translation.getY();
+      double tz = translation == null ? 0.0 : translation.getZ();
+      int endIndex = startIndex + numberOfTuples;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double xi = x[i];
+         double yi = y[i];
+         double zi = z[i];
+         x[i] = m00 * xi + m01 * yi + m02 * zi + tx;
+         y[i] = m10 * xi + m11 * yi + m12 * zi + ty;
+         z[i] = m20 * xi + m21 * yi + m22 * zi + tz;
+      }
+   }
+
+   private static void translate(Tuple3DReadOnly translation, double[] x, double[] y, double[] z, int startIndex, int numberOfTuples)
+   {
+      if (translation == null)
+         return;
+
+      addToAll(translation.getX(), x, startIndex, numberOfTuples);
+      addToAll(translation.getY(), y, startIndex, numberOfTuples);
+      addToAll(translation.getZ(), z, startIndex, numberOfTuples);
+   }
+
+   private static void addToAll(double value, double[] array, int startIndex, int length)
+   {
+      int endIndex = startIndex + length;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         array[i] += value;
+      }
+   }
+
+   private static void transformPoints(Matrix3DReadOnly matrix,
+                                       Tuple3DReadOnly translation,
+                                       double[] pointsOriginal,
+                                       int originalStartIndex,
+                                       double[] pointsTransformed,
+                                       int transformedStartIndex,
+                                       int numberOfPoints)
+   {
+      transformPoints(matrix.getM00(),
+                      matrix.getM01(),
+                      matrix.getM02(),
+                      matrix.getM10(),
+                      matrix.getM11(),
+                      matrix.getM12(),
+                      matrix.getM20(),
+                      matrix.getM21(),
+                      matrix.getM22(),
+                      translation,
+                      pointsOriginal,
+                      originalStartIndex,
+                      pointsTransformed,
+                      transformedStartIndex,
+                      numberOfPoints);
+   }
+
+   private static void transformPoints(double m00,
+                                       double m01,
+                                       double m02,
+                                       double m10,
+                                       double m11,
+                                       double m12,
+                                       double m20,
+                                       double m21,
+                                       double m22,
+                                       Tuple3DReadOnly translation,
+                                       double[] pointsOriginal,
+                                       int originalStartIndex,
+                                       double[] pointsTransformed,
+                                       int transformedStartIndex,
+                                       int numberOfPoints)
+   {
+      double tx = translation == null ? 0.0 : translation.getX();
+      double ty = translation == null ? 0.0 : translation.getY();
+      double tz = translation == null ? 0.0 : translation.getZ();
+      int indexOffset = transformedStartIndex - originalStartIndex;
+      int originalEndIndex = originalStartIndex + 3 * numberOfPoints;
+
+      for (int i = originalStartIndex; i < originalEndIndex; i += 3)
+      {
+         double x = pointsOriginal[i];
+         double y = pointsOriginal[i + 1];
+         double z = pointsOriginal[i + 2];
+         int j = i + indexOffset;
+         pointsTransformed[j] = m00 * x + m01 * y + m02 * z + tx;
+         pointsTransformed[j + 1] = m10 * x + m11 * y + m12 * z + ty;
+         pointsTransformed[j + 2] = m20 * x + m21 * y + m22 * z + tz;
+      }
+   }
+
+   private static void translatePoints(Tuple3DReadOnly translation,
+                                       double[] pointsOriginal,
+                                       int originalStartIndex,
+                                       double[] pointsTransformed,
+                                       int transformedStartIndex,
+                                       int numberOfPoints)
+   {
+      if (translation == null)
+      {
+         if (pointsOriginal != pointsTransformed || originalStartIndex != transformedStartIndex)
+            System.arraycopy(pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, 3 * numberOfPoints);
+         return;
+      }
+
+      double tx = translation.getX();
+      double ty = translation.getY();
+      double tz = translation.getZ();
+      int indexOffset = transformedStartIndex - originalStartIndex;
+      int originalEndIndex = originalStartIndex + 3 * numberOfPoints;
+
+      for (int i = originalStartIndex; i < originalEndIndex; i += 3)
+      {
+         int j = i + indexOffset;
+         pointsTransformed[j] = pointsOriginal[i] + tx;
+         pointsTransformed[j + 1] = pointsOriginal[i + 1] + ty;
+         pointsTransformed[j + 2] = pointsOriginal[i + 2] + tz;
+      }
+   }
+
+   private static void transformPoints(Matrix3DReadOnly matrix, Tuple3DReadOnly translation, List<? extends Point3DBasics> pointsToTransform)
+   {
+      transformPoints(matrix.getM00(),
+                      matrix.getM01(),
+                      matrix.getM02(),
+                      matrix.getM10(),
+                      matrix.getM11(),
+                      matrix.getM12(),
+                      matrix.getM20(),
+                      matrix.getM21(),
+                      matrix.getM22(),
+                      translation,
+                      pointsToTransform);
+   }
+
+   private static void transformPoints(double m00,
+                                       double m01,
+                                       double m02,
+                                       double m10,
+                                       double m11,
+                                       double m12,
+                                       double m20,
+                                       double m21,
+                                       double m22,
+                                       Tuple3DReadOnly translation,
+                                       List<? extends Point3DBasics> pointsToTransform)
+   {
+      double tx = translation == null ? 0.0 : translation.getX();
+      double ty = translation == null ? 0.0 : translation.getY();
+      double tz = translation == null ? 0.0 : translation.getZ();
+
+      for (int i = 0; i < pointsToTransform.size(); i++)
+      {
+         Point3DBasics point = pointsToTransform.get(i);
+         double x = point.getX();
+         double y = point.getY();
+         double z = point.getZ();
+         point.set(m00 * x + m01 * y + m02 * z + tx, m10 * x + m11 * y + m12 * z + ty, m20 * x + m21 * y + m22 * z + tz);
+      }
+   }
+
+   private static void translatePoints(Tuple3DReadOnly translation, List<? extends Point3DBasics> pointsToTransform)
+   {
+      if (translation == null)
+         return;
+
+      double tx = translation.getX();
+      double ty = translation.getY();
+      double tz = translation.getZ();
+
+      for (int i = 0; i < pointsToTransform.size(); i++)
+      {
+         pointsToTransform.get(i).add(tx, ty, tz);
+      }
+   }
+}
@@ -0,0 +1,171 @@
+package us.ihmc.euclid.tools;
+
+/**
+ * Tools for operating on large sets of 3D tuples at once, such as the normals of a point cloud.
+ * <p>
+ * The tuples are stored in structure-of-arrays layout, i.e. the i<sup>th</sup> tuple is
+ * {@code (x[i], y[i], z[i])}, as done in {@link us.ihmc.euclid.tuple3D.Vector3DBuffer}. Each
+ * operation is a single counted loop over primitive arrays without branching or method calls, such
+ * that the JIT compiler can use the SIMD instructions of the processor to process several tuples at
+ * once.
+ * </p>
+ * <p>
+ * Unless stated otherwise, the output arrays can be the same objects as the input arrays.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class BulkTupleTools
+{
+   private BulkTupleTools()
+   {
+      // Suppresses default constructor, ensuring non-instantiability.
+   }
+
+   /**
+    * Computes the dot product of each pair of tuples: dotToPack[i] = a<sub>i</sub> &sdot; b<sub>i</sub>.
+    *
+    * @param ax             the x-components of the first tuples. Not modified.
+    * @param ay             the y-components of the first tuples. Not modified.
+    * @param az             the z-components of the first tuples. Not modified.
+    * @param bx             the x-components of the second tuples. Not modified.
+    * @param by             the y-components of the second tuples. Not modified.
+    * @param bz             the z-components of the second tuples. Not modified.
+    * @param dotToPack      the array in which the dot products are stored. Modified.
+    * @param startIndex     the index of the first pair of tuples.
+    * @param numberOfTuples the number of pairs of tuples.
+    * @throws IllegalArgumentException if any of the arrays is too small to hold the tuples.
+    */
+   public static void dot(double[] ax, double[] ay, double[] az, double[] bx, double[] by, double[] bz, double[] dotToPack, int startIndex,
+                          int numberOfTuples)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(ax, ay, az, startIndex, numberOfTuples);
+      EuclidCoreTools.checkArrayMinimumLength(bx, by, bz, startIndex, numberOfTuples);
+      EuclidCoreTools.checkArrayMinimumLength(dotToPack, startIndex, 1, numberOfTuples);
+      int endIndex = startIndex + numberOfTuples;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         dotToPack[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+      }
+   }
+
+   /**
+    * Computes the cross product of each pair of tuples: c<sub>i</sub> = a<sub>i</sub> &times; b<sub>i</sub>.
+    *
+    * @param ax             the x-components of the first tuples. Not modified.
+    * @param ay             the y-components of the first tuples. Not modified.
+    * @param az             the z-components of the first tuples. Not modified.
+    * @param bx             the x-components of the second tuples. Not modified.
+    * @param by             the y-components of the second tuples. Not modified.
+    * @param bz             the z-components of the second tuples. Not modified.
+    * @param cx             the array in which the x-components of the cross products are stored.
+    *                       Modified.
+    * @param cy             the array in which the y-components of the cross products are stored.
+    *                       Modified.
+    * @param cz             the array in which the z-components of the cross products are stored.
+    *                       Modified.
+    * @param startIndex     the index of the first pair of tuples.
+    * @param numberOfTuples the number of pairs of tuples.
+    * @throws IllegalArgumentException if any of the arrays is too small to hold the tuples.
+    */
+   public static void cross(double[] ax, double[] ay, double[] az, double[] bx, double[] by, double[] bz, double[] cx, double[] cy, double[] cz,
+                            int startIndex, int numberOfTuples)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(ax, ay, az, startIndex, numberOfTuples);
+      EuclidCoreTools.checkArrayMinimumLength(bx, by, bz, startIndex, numberOfTuples);
+      EuclidCoreTools.checkArrayMinimumLength(cx, cy, cz, startIndex, numberOfTuples);
+      int endIndex = startIndex + numberOfTuples;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double axi = ax[i], ayi = ay[i], azi = az[i];
+         double bxi = bx[i], byi = by[i], bzi = bz[i];
+         cx[i] = ayi * bzi - azi * byi;
+         cy[i] = azi * bxi - axi * bzi;
+         cz[i] = axi * byi - ayi * bxi;
+      }
+   }
+
+   /**
+    * Computes the norm of each tuple: normToPack[i] = |t<sub>i</sub>|.
+    *
+    * @param x              the x-components of the tuples. Not modified.
+    * @param y              the y-components of the tuples. Not modified.
+    * @param z              the z-components of the tuples. Not modified.
+    * @param normToPack     the array in which the norms are stored. Modified.
+    * @param startIndex     the index of the first tuple.
+    * @param numberOfTuples the number of tuples.
+    * @throws IllegalArgumentException if any of the arrays is too small to hold the tuples.
+    */
+   public static void norm(double[] x, double[] y, double[] z, double[] normToPack, int startIndex, int numberOfTuples)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(x, y, z, startIndex, numberOfTuples);
+      EuclidCoreTools.checkArrayMinimumLength(normToPack, startIndex, 1, numberOfTuples);
+      int endIndex = startIndex + numberOfTuples;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         normToPack[i] = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+      }
+   }
+
+   /**
+    * Normalizes each tuple such that its norm is equal to 1.
+    * <p>
+    * Edge case: as for {@link us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics#normalize()}, a tuple
+    * with a norm of zero is set to {@link Double#NaN}.
+    * </p>
+    *
+    * @param x              the x-components of the tuples to normalize. Modified.
+    * @param y              the y-components of the tuples to normalize. Modified.
+    * @param z              the z-components of the tuples to normalize. Modified.
+    * @param startIndex     the index of the first tuple.
+    * @param numberOfTuples the number of tuples.
+    * @throws IllegalArgumentException if any of the arrays is too small to hold the tuples.
+    */
+   public static void normalize(double[] x, double[] y, double[] z, int startIndex, int numberOfTuples)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(x, y, z, startIndex, numberOfTuples);
+      int endIndex = startIndex + numberOfTuples;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double xi = x[i], yi = y[i], zi = z[i];
+         double invNorm = 1.0 / Math.sqrt(xi * xi + yi * yi + zi * zi);
+         x[i] = xi * invNorm;
+         y[i] = yi * invNorm;
+         z[i] = zi * invNorm;
+      }
+   }
+
+   /**
+    * Scales each tuple a<sub>i</sub> and adds it to b<sub>i</sub>:<br>
+    * b<sub>i</sub> = scale * a<sub>i</sub> + b<sub>i</sub>.
+    *
+    * @param scale          the scale factor to apply to the first tuples.
+    * @param ax             the x-components of the tuples to scale. Not modified.
+    * @param ay             the y-components of the tuples to scale. Not modified.
+    * @param az             the z-components of the tuples to scale. Not modified.
+    * @param bx             the x-components of the tuples to add to. Modified.
+    * @param by             the y-components of the tuples to add to. Modified.
+    * @param bz             the z-components of the tuples to add to. Modified.
+    * @param startIndex     the index of the first pair of tuples.
+    * @param numberOfTuples the number of pairs of tuples.
+    * @throws IllegalArgumentException if any of the arrays is too small to hold the tuples.
+    */
+   public static void scaleAdd(double scale, double[] ax, double[] ay, double[] az, double[] bx, double[] by, double[] bz, int startIndex,
+                               int numberOfTuples)
+   {
+      EuclidCoreTools.checkArrayMinimumLength(ax, ay, az, startIndex, numberOfTuples);
+      EuclidCoreTools.checkArrayMinimumLength(bx, by, bz, startIndex, numberOfTuples);
+      int endIndex = startIndex + numberOfTuples;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         bx[i] += scale * ax[i];
+         by[i] += scale * ay[i];
+         bz[i] += scale * az[i];
+      }
+   }
+}
@@ -16,11 +16,17 @@ import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
  * This class provides a variety of generic tools such as fast square-root algorithm
  * {@link #fastSquareRoot(double)}, or also an linear interpolation algorithm
  * {@link #interpolate(double, double, double)}.
+ * <p>
+ * The trigonometric functions provided here are used throughout the library, their implementation
+ * is selected at startup, see {@link TrigonometryMode}.
+ * </p>
  *
  * @author Sylvain Bertrand
  */
 public class EuclidCoreTools
 {
+   private static final TrigonometryMode TRIGONOMETRY_MODE = TrigonometryMode.fromSystemProperty();
+
    /**
     * This field is used to save unnecessary computation and represents the number
     * {@code 2.0 * Math.PI}.
@@ -1069,6 +1075,17 @@ public class EuclidCoreTools
       return (1.0 - alpha) * a + alpha * b;
    }
 
+   /**
+    * Gets the implementation of the trigonometric functions selected at startup with the system
+    * property {@value TrigonometryMode#PROPERTY_NAME}.
+    *
+    * @return the trigonometry mode in use.
+    */
+   public static TrigonometryMode getTrigonometryMode()
+   {
+      return TRIGONOMETRY_MODE;
+   }
+
    /**
     * Returns the trigonometric tangent of an angle.
     *
@@ -1078,7 +1095,7 @@ public class EuclidCoreTools
     */
    public static double tan(double a)
    {
-      return StrictMath.tan(a);
+      return TRIGONOMETRY_MODE.tan(a);
    }
 
    /**
@@ -1091,7 +1108,7 @@ public class EuclidCoreTools
     */
    public static double atan(double a)
    {
-      return StrictMath.atan(a);
+      return TRIGONOMETRY_MODE.atan(a);
    }
 
    /**
@@ -1107,7 +1124,7 @@ public class EuclidCoreTools
     */
    public static double atan2(double y, double x)
    {
-      return StrictMath.atan2(y, x);
+      return TRIGONOMETRY_MODE.atan2(y, x);
    }
 
    /**
@@ -1119,7 +1136,7 @@ public class EuclidCoreTools
     */
    public static double cos(double a)
    {
-      return StrictMath.cos(a);
+      return TRIGONOMETRY_MODE.cos(a);
    }
 
    /**
@@ -1131,7 +1148,23 @@ public class EuclidCoreTools
     */
    public static double sin(double a)
    {
-      return StrictMath.sin(a);
+      return TRIGONOMETRY_MODE.sin(a);
+   }
+
+   /**
+    * Computes both the sine and cosine of an angle, sharing the computation when the trigonometry
+    * mode allows it.
+    *
+    * @param a            an angle, in radians.
+    * @param sinCosToPack the array in which the sine and the cosine are stored, in this order.
+    *                     Modified.
+    * @param index        the index in {@code sinCosToPack} at which the sine is stored, the cosine is
+    *                     stored at {@code index + 1}.
+    * @see TrigonometryMode#sinCos(double, double[], int)
+    */
+   public static void sinCos(double a, double[] sinCosToPack, int index)
+   {
+      TRIGONOMETRY_MODE.sinCos(a, sinCosToPack, index);
    }
 
    /**
@@ -1143,7 +1176,7 @@ public class EuclidCoreTools
     */
    public static double acos(double a)
    {
-      return StrictMath.acos(a);
+      return TRIGONOMETRY_MODE.acos(a);
    }
 
    /**
@@ -1156,7 +1189,45 @@ public class EuclidCoreTools
     */
    public static double asin(double a)
    {
-      return StrictMath.asin(a);
+      return TRIGONOMETRY_MODE.asin(a);
+   }
+
+   /**
+    * Checks that the given {@code array} is long enough to hold {@code numberOfElements} packed
+    * elements of {@code stride} values each, starting at {@code startIndex}.
+    *
+    * @param array            the array which length is to be tested. Not modified.
+    * @param startIndex       the index in {@code array} of the first value of the first element.
+    * @param stride           the number of values per element.
+    * @param numberOfElements the number of elements that the array should hold.
+    * @throws IllegalArgumentException if the array is too small or if {@code startIndex} or
+    *                                  {@code numberOfElements} is negative.
+    */
+   public static void checkArrayMinimumLength(double[] array, int startIndex, int stride, int numberOfElements)
+   {
+      if (startIndex < 0 || numberOfElements < 0 || startIndex + stride * numberOfElements > array.length)
+         throw new IllegalArgumentException("The array is too small. Array length = " + array.length + ", expected minimum length = "
+               + (startIndex + stride * numberOfElements) + ".");
+   }
+
+   /**
+    * Checks that the given arrays, storing tuples in structure-of-arrays layout, are long enough to
+    * hold {@code numberOfElements} tuples starting at {@code startIndex}.
+    *
+    * @param x                the array of the x-components. Not modified.
+    * @param y                the array of the y-components. Not modified.
+    * @param z                the array of the z-components. Not modified.
+    * @param startIndex       the index of the first tuple.
+    * @param numberOfElements the number of tuples that the arrays should hold.
+    * @throws IllegalArgumentException if any of the arrays is too small or if {@code startIndex} or
+    *                                  {@code numberOfElements} is negative.
+    * @see #checkArrayMinimumLength(double[], int, int, int)
+    */
+   public static void checkArrayMinimumLength(double[] x, double[] y, double[] z, int startIndex, int numberOfElements)
+   {
+      checkArrayMinimumLength(x, startIndex, 1, numberOfElements);
+      checkArrayMinimumLength(y, startIndex, 1, numberOfElements);
+      checkArrayMinimumLength(z, startIndex, 1, numberOfElements);
    }
 
    /**
@@ -22,6 +22,11 @@ public class Matrix3DFeatures
     * Default tolerance for determining whether a matrix 3D represents a 3D rotation matrix or not.
     */
    public static final double EPS_CHECK_ROTATION = 1.0e-7;
+   /**
+    * Default tolerance for determining whether a single precision matrix 3D represents a 3D rotation
+    * matrix or not, it accounts for the rounding of each coefficient to a {@code float}.
+    */
+   public static final double EPS_CHECK_ROTATION_32 = 1.0e-6;
    /**
     * Default tolerance for determining whether a matrix 3D represents a 2D transformation or not.
     */
@@ -0,0 +1,254 @@
+package us.ihmc.euclid.tools;
+
+/**
+ * Pure Java implementation of the trigonometric functions based on the polynomial approximations of
+ * fdlibm, used by {@link TrigonometryMode#APPROXIMATE}.
+ * <p>
+ * Unlike {@link StrictMath}, these methods do not call native code and can be inlined by the JIT
+ * compiler. The price is a simpler argument reduction for {@link #sin(double)}, {@link #cos(double)}
+ * and {@link #tan(double)}: their absolute error grows linearly with the magnitude of the angle,
+ * which is why angles larger than {@value #MAX_REDUCED_ANGLE} fall back to {@link StrictMath}.
+ * Within this range, the error of each function is a few units in the last place of the result.
+ * </p>
+ */
+class PolynomialTrigonometry
+{
+   /** Angles with a larger magnitude are handled by {@link StrictMath}. */
+   static final double MAX_REDUCED_ANGLE = 1.0e5;
+
+   private static final double TWO_OVER_PI = 6.36619772367581382433e-01;
+   // pi/2 is split in three parts such that k * PIO2_1 and k * PIO2_2 are exact for any |k| < 2^20.
+   private static final double PIO2_1 = 1.57079632673412561417e+00;
+   private static final double PIO2_2 = 6.07710050630396597660e-11;
+   private static final double PIO2_2T = 2.02226624879595063154e-21;
+   private static final double PI = 3.1415926535897931160E+00;
+   private static final double PI_LO = 1.2246467991473531772E-16;
+
+   private static final double S1 = -1.66666666666666324348e-01;
+   private static final double S2 = 8.33333333332248946124e-03;
+   private static final double S3 = -1.98412698298579493134e-04;
+   private static final double S4 = 2.75573137070700676789e-06;
+   private static final double S5 = -2.50507602534068634195e-08;
+   private static final double S6 = 1.58969099521155010221e-10;
+
+   private static final double C1 = 4.16666666666666019037e-02;
+   private static final double C2 = -1.38888888888741095749e-03;
+   private static final double C3 = 2.48015872894767294178e-05;
+   private static final double C4 = -2.75573143513906633035e-07;
+   private static final double C5 = 2.08757232129817482790e-09;
+   private static final double C6 = -1.13596475577881948265e-11;
+
+   private static final double[] ATAN_HI = {4.63647609000806093515e-01, 7.85398163397448278999e-01, 9.82793723247329054082e-01,
+         1.57079632679489655800e+00};
+   private static final double[] ATAN_LO = {2.26987774529616870924e-17, 3.06161699786838301793e-17, 1.39033110312309984516e-17,
+         6.12323399573676603587e-17};
+   private static final double AT0 = 3.33333333333329318027e-01;
+   private static final double AT1 = -1.99999999998764832476e-01;
+   private static final double AT2 = 1.42857142725034663711e-01;
+   private static final double AT3 = -1.11111104054623557880e-01;
+   private static final double AT4 = 9.09088713343650656196e-02;
+   private static final double AT5 = -7.69187620504482999495e-02;
+   private static final double AT6 = 6.66107313738753120669e-02;
+   private static final double AT7 = -5.83357013379057348645e-02;
+   private static final double AT8 = 4.97687799461593236017e-02;
+   private static final double AT9 = -3.65315727442169155270e-02;
+   private static final double AT10 = 1.62858201153657823623e-02;
+
+   private PolynomialTrigonometry()
+   {
+      // Suppresses default constructor, ensuring non-instantiability.
+   }
+
+   static double sin(double a)
+   {
+      if (!(Math.abs(a) <= MAX_REDUCED_ANGLE))
+         return StrictMath.sin(a);
+
+      int k = (int) Math.rint(a * TWO_OVER_PI);
+      double r = reduce(a, k);
+
+      switch (k & 3)
+      {
+         case 0:
+            return sinKernel(r);
+         case 1:
+            return cosKernel(r);
+         case 2:
+            return -sinKernel(r);
+         default:
+            return -cosKernel(r);
+      }
+   }
+
+   static double cos(double a)
+   {
+      if (!(Math.abs(a) <= MAX_REDUCED_ANGLE))
+         return StrictMath.cos(a);
+
+      int k = (int) Math.rint(a * TWO_OVER_PI);
+      double r = reduce(a, k);
+
+      switch (k & 3)
+      {
+         case 0:
+            return cosKernel(r);
+         case 1:
+            return -sinKernel(r);
+         case 2:
+            return -cosKernel(r);
+         default:
+            return sinKernel(r);
+      }
+   }
+
+   static double tan(double a)
+   {
+      if (!(Math.abs(a) <= MAX_REDUCED_ANGLE))
+         return StrictMath.tan(a);
+
+      int k = (int) Math.rint(a * TWO_OVER_PI);
+      double r = reduce(a, k);
+
+      if ((k & 1) == 0)
+         return sinKernel(r) / cosKernel(r);
+      else
+         return -cosKernel(r) / sinKernel(r);
+   }
+
+   static void sinCos(double a, double[] sinCosToPack, int index)
+   {
+      if (!(Math.abs(a) <= MAX_REDUCED_ANGLE))
+      {
+         sinCosToPack[index] = StrictMath.sin(a);
+         sinCosToPack[index + 1] = StrictMath.cos(a);
+         return;
+      }
+
+      int k = (int) Math.rint(a * TWO_OVER_PI);
+      double r = reduce(a, k);
+      double sin = sinKernel(r);
+      double cos = cosKernel(r);
+
+      switch (k & 3)
+      {
+         case 0:
+            sinCosToPack[index] = sin;
+            sinCosToPack[index + 1] = cos;
+            break;
+         case 1:
+            sinCosToPack[index] = cos;
+            sinCosToPack[index + 1] = -sin;
+            break;
+         case 2:
+            sinCosToPack[index] = -sin;
+            sinCosToPack[index + 1] = -cos;
+            break;
+         default:
+            sinCosToPack[index] = -cos;
+            sinCosToPack[index + 1] = sin;
+            break;
+      }
+   }
+
+   static double atan(double a)
+   {
+      if (Double.isNaN(a))
+         return a;
+
+      double x = Math.abs(a);
+      int id;
+
+      if (x >= 0x1.0p66)
+      {
+         return Math.copySign(ATAN_HI[3] + ATAN_LO[3], a);
+      }
+      else if (x < 0.4375)
+      {
+         if (x < 0x1.0p-29)
+            return a;
+         id = -1;
+      }
+      else if (x < 1.1875)
+      {
+         if (x < 0.6875)
+         { // 7/16 <= x < 11/16
+            id = 0;
+            x = (2.0 * x - 1.0) / (2.0 + x);
+         }
+         else
+         { // 11/16 <= x < 19/16
+            id = 1;
+            x = (x - 1.0) / (x + 1.0);
+         }
+      }
+      else if (x < 2.4375)
+      { // 19/16 <= x < 39/16
+         id = 2;
+         x = (x - 1.5) / (1.0 + 1.5 * x);
+      }
+      else
+      { // 39/16 <= x < 2^66
+         id = 3;
+         x = -1.0 / x;
+      }
+
+      double z = x * x;
+      double w = z * z;
+      double s1 = z * (AT0 + w * (AT2 + w * (AT4 + w * (AT6 + w * (AT8 + w * AT10)))));
+      double s2 = w * (AT1 + w * (AT3 + w * (AT5 + w * (AT7 + w * AT9))));
+
+      if (id < 0)
+         return a - a * (s1 + s2);
+
+      z = ATAN_HI[id] - ((x * (s1 + s2) - ATAN_LO[id]) - x);
+      return Math.copySign(z, a);
+   }
+
+   static double atan2(double y, double x)
+   {
+      if (y == 0.0 || x == 0.0 || Double.isInfinite(y) || Double.isInfinite(x) || Double.isNaN(y) || Double.isNaN(x))
+         return StrictMath.atan2(y, x);
+
+      double z = atan(Math.abs(y / x));
+
+      if (x < 0.0)
+         z = PI - (z - PI_LO);
+
+      return Math.copySign(z, y);
+   }
+
+   static double asin(double a)
+   {
+      if (!(Math.abs(a) <= 1.0))
+         return Double.NaN;
+
+      return atan2(a, Math.sqrt((1.0 - a) * (1.0 + a)));
+   }
+
+   static double acos(double a)
+   {
+      if (!(Math.abs(a) <= 1.0))
+         return Double.NaN;
+
+      return atan2(Math.sqrt((1.0 - a) * (1.0 + a)), a);
+   }
+
+   private static double reduce(double a, int k)
+   {
+      return ((a - k * PIO2_1) - k * PIO2_2) - k * PIO2_2T;
+   }
+
+   private static double sinKernel(double x)
+   {
+      double z = x * x;
+      double r = S2 + z * (S3 + z * (S4 + z * (S5 + z * S6)));
+      return x + z * x * (S1 + z * r);
+   }
+
+   private static double cosKernel(double x)
+   {
+      double z = x * x;
+      double r = z * (C1 + z * (C2 + z * (C3 + z * (C4 + z * (C5 + z * C6)))));
+      return 1.0 - (0.5 * z - z * r);
+   }
+}
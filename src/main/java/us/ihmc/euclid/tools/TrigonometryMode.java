@@ -0,0 +1,281 @@
+package us.ihmc.euclid.tools;
+
+/**
+ * {@code TrigonometryMode} defines which implementation of the trigonometric functions is used by
+ * {@link EuclidCoreTools}, and thus by the whole library.
+ * <p>
+ * The mode is selected once at startup with the system property {@value #PROPERTY_NAME}, for
+ * instance {@code -Deuclid.trigonometry=fast}, and cannot be changed afterwards such that the JIT
+ * compiler can inline the selected implementation. The default mode is {@link #STRICT}.
+ * </p>
+ *
+ * @see EuclidCoreTools#getTrigonometryMode()
+ */
+public enum TrigonometryMode
+{
+   /**
+    * Uses {@link StrictMath}: the results are reproducible across platforms and JVMs.
+    */
+   STRICT
+   {
+      @Override
+      public double sin(double a)
+      {
+         return StrictMath.sin(a);
+      }
+
+      @Override
+      public double cos(double a)
+      {
+         return StrictMath.cos(a);
+      }
+
+      @Override
+      public double tan(double a)
+      {
+         return StrictMath.tan(a);
+      }
+
+      @Override
+      public double asin(double a)
+      {
+         return StrictMath.asin(a);
+      }
+
+      @Override
+      public double acos(double a)
+      {
+         return StrictMath.acos(a);
+      }
+
+      @Override
+      public double atan(double a)
+      {
+         return StrictMath.atan(a);
+      }
+
+      @Override
+      public double atan2(double y, double x)
+      {
+         return StrictMath.atan2(y, x);
+      }
+   },
+   /**
+    * Uses {@link Math} such that the JIT compiler can replace the calls with its intrinsics when
+    * available. The results are within 1 ulp of the exact result but may differ across platforms.
+    */
+   FAST
+   {
+      @Override
+      public double sin(double a)
+      {
+         return Math.sin(a);
+      }
+
+      @Override
+      public double cos(double a)
+      {
+         return Math.cos(a);
+      }
+
+      @Override
+      public double tan(double a)
+      {
+         return Math.tan(a);
+      }
+
+      @Override
+      public double asin(double a)
+      {
+         return Math.asin(a);
+      }
+
+      @Override
+      public double acos(double a)
+      {
+         return Math.acos(a);
+      }
+
+      @Override
+      public double atan(double a)
+      {
+         return Math.atan(a);
+      }
+
+      @Override
+      public double atan2(double y, double x)
+      {
+         return Math.atan2(y, x);
+      }
+   },
+   /**
+    * Uses polynomial approximations evaluated in Java which can be inlined by the JIT compiler, this
+    * is mostly beneficial to the inverse functions which are not intrinsified by the JVM.
+    * <p>
+    * The error is a few ulps for angles up to {@code 1.0e5} in magnitude, larger angles are handled
+    * by {@link StrictMath}.
+    * </p>
+    */
+   APPROXIMATE
+   {
+      @Override
+      public double sin(double a)
+      {
+         return PolynomialTrigonometry.sin(a);
+      }
+
+      @Override
+      public double cos(double a)
+      {
+         return PolynomialTrigonometry.cos(a);
+      }
+
+      @Override
+      public double tan(double a)
+      {
+         return PolynomialTrigonometry.tan(a);
+      }
+
+      @Override
+      public double asin(double a)
+      {
+         return PolynomialTrigonometry.asin(a);
+      }
+
+      @Override
+      public double acos(double a)
+      {
+         return PolynomialTrigonometry.acos(a);
+      }
+
+      @Override
+      public double atan(double a)
+      {
+         return PolynomialTrigonometry.atan(a);
+      }
+
+      @Override
+      public double atan2(double y, double x)
+      {
+         return PolynomialTrigonometry.atan2(y, x);
+      }
+
+      @Override
+      public void sinCos(double a, double[] sinCosToPack, int index)
+      {
+         PolynomialTrigonometry.sinCos(a, sinCosToPack, index);
+      }
+   };
+
+   /** The name of the system property used to select the mode at startup. */
+   public static final String PROPERTY_NAME = "euclid.trigonometry";
+
+   /**
+    * Returns the trigonometric sine of an angle.
+    *
+    * @param a an angle, in radians.
+    * @return the sine of the argument.
+    */
+   public abstract double sin(double a);
+
+   /**
+    * Returns the trigonometric cosine of an angle.
+    *
+    * @param a an angle, in radians.
+    * @return the cosine of the argument.
+    */
+   public abstract double cos(double a);
+
+   /**
+    * Returns the trigonometric tangent of an angle.
+    *
+    * @param a an angle, in radians.
+    * @return the tangent of the argument.
+    */
+   public abstract double tan(double a);
+
+   /**
+    * Returns the arc sine of a value; the returned angle is in the range -<i>pi</i>/2 through
+    * <i>pi</i>/2.
+    *
+    * @param a the value whose arc sine is to be returned.
+    * @return the arc sine of the argument.
+    */
+   public abstract double asin(double a);
+
+   /**
+    * Returns the arc cosine of a value; the returned angle is in the range 0.0 through <i>pi</i>.
+    *
+    * @param a the value whose arc cosine is to be returned.
+    * @return the arc cosine of the argument.
+    */
+   public abstract double acos(double a);
+
+   /**
+    * Returns the arc tangent of a value; the returned angle is in the range -<i>pi</i>/2 through
+    * <i>pi</i>/2.
+    *
+    * @param a the value whose arc tangent is to be returned.
+    * @return the arc tangent of the argument.
+    */
+   public abstract double atan(double a);
+
+   /**
+    * Returns the angle <i>theta</i> from the conversion of rectangular coordinates
+    * ({@code x},&nbsp;{@code y}) to polar coordinates (r,&nbsp;<i>theta</i>).
+    *
+    * @param y the ordinate coordinate
+    * @param x the abscissa coordinate
+    * @return the <i>theta</i> component of the point (<i>r</i>,&nbsp;<i>theta</i>) in polar
+    *         coordinates that corresponds to the point (<i>x</i>,&nbsp;<i>y</i>) in Cartesian
+    *         coordinates.
+    */
+   public abstract double atan2(double y, double x);
+
+   /**
+    * Computes both the sine and cosine of an angle.
+    * <p>
+    * The {@link #APPROXIMATE} mode shares the argument reduction between the two functions, the other
+    * modes are equivalent to calling {@link #sin(double)} and {@link #cos(double)}.
+    * </p>
+    *
+    * @param a            an angle, in radians.
+    * @param sinCosToPack the array in which the sine and the cosine are stored, in this order.
+    *                     Modified.
+    * @param index        the index in {@code sinCosToPack} at which the sine is stored, the cosine is
+    *                     stored at {@code index + 1}.
+    */
+   public void sinCos(double a, double[] sinCosToPack, int index)
+   {
+      sinCosToPack[index] = sin(a);
+      sinCosToPack[index + 1] = cos(a);
+   }
+
+   /**
+    * Parses the system property {@value #PROPERTY_NAME}.
+    *
+    * <p>
+    * An unknown value is reported on the standard error stream and {@link #STRICT} is used instead,
+    * such that a typo in the property does not prevent the library from being initialized.
+    * </p>
+    *
+    * @return the mode named by the property, or {@link #STRICT} if the property is not set or does
+    *         not name a mode.
+    */
+   static TrigonometryMode fromSystemProperty()
+   {
+      String value = System.getProperty(PROPERTY_NAME);
+
+      if (value == null || value.isEmpty())
+         return STRICT;
+
+      for (TrigonometryMode mode : values())
+      {
+         if (mode.name().equalsIgnoreCase(value.trim()))
+            return mode;
+      }
+
+      System.err.println("Unknown trigonometry mode: " + value + ", expected one of: strict, fast, approximate. Using: strict.");
+      return STRICT;
+   }
+}
@@ -0,0 +1,500 @@
+package us.ihmc.euclid.transform;
+
+import java.util.List;
+
+import us.ihmc.euclid.interfaces.EpsilonComparable;
+import us.ihmc.euclid.interfaces.GeometricallyComparable;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.Tuple4DBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Tuple4DReadOnly;
+
+/**
+ * A {@code DualQuaternionTransform} represents a 3D rigid-body transformation as a unit dual
+ * quaternion:
+ *
+ * <pre>
+ * q = q<sub>r</sub> + &epsilon; q<sub>d</sub>
+ * </pre>
+ *
+ * where the real part q<sub>r</sub> is the unit-quaternion describing the rotation and the dual
+ * part q<sub>d</sub> = 0.5 t q<sub>r</sub> encodes the translation t.
+ * <p>
+ * The real part and the translation are stored such that the rotation and translation parts can be
+ * accessed and modified directly as for any {@link RigidBodyTransformBasics}, the dual part being
+ * computed only when requested with {@link #getDualPart(Tuple4DBasics)}. As for
+ * {@link QuaternionBasedTransform}, multiplying two transforms only requires a quaternion product
+ * and a quaternion-vector rotation.
+ * </p>
+ * <p>
+ * On top of the rigid-body transform features, this class provides the operations for which the
+ * dual quaternion representation is typically chosen:
+ * <ul>
+ * <li>the screw linear interpolation (ScLERP) with
+ * {@link #interpolate(DualQuaternionTransform, DualQuaternionTransform, double)}, which moves along
+ * the screw motion between two transforms at constant linear and angular velocity.
+ * <li>the dual quaternion linear blending (DLB) of several transforms with
+ * {@link #blend(List, double[])}, which is commonly used for skinning.
+ * </ul>
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class DualQuaternionTransform implements RigidBodyTransformBasics, EpsilonComparable<DualQuaternionTransform>,
+      GeometricallyComparable<DualQuaternionTransform>, Settable<DualQuaternionTransform>
+{
+   /** Below this value of sin(&theta;/2), the screw motion is considered a pure translation. */
+   private static final double SCREW_ANGLE_THRESHOLD = 1.0e-7;
+
+   /** The real part of the dual quaternion, i.e. the rotation part of this transform. */
+   private final Quaternion quaternion = new Quaternion();
+   /** The translation part of this transform. */
+   private final Vector3D translationVector = new Vector3D();
+
+   /**
+    * Creates a new dual quaternion transform set to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public DualQuaternionTransform()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Creates a new dual quaternion transform and initializes to the given rigid-body transform.
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy. Not modified.
+    */
+   public DualQuaternionTransform(RigidBodyTransformReadOnly rigidBodyTransform)
+   {
+      set(rigidBodyTransform);
+   }
+
+   /**
+    * Creates a new dual quaternion transform and initializes it to the given orientation and
+    * translation.
+    *
+    * @param orientation the orientation used to initialize the real part of this transform. Not
+    *                    modified.
+    * @param translation the tuple used to initialize the translation part of this transform. Not
+    *                    modified.
+    */
+   public DualQuaternionTransform(Orientation3DReadOnly orientation, Tuple3DReadOnly translation)
+   {
+      set(orientation, translation);
+   }
+
+   /**
+    * Creates a new dual quaternion transform and initializes it from the given real and dual parts,
+    * see {@link #set(Tuple4DReadOnly, Tuple4DReadOnly)}.
+    *
+    * @param realPart the real part of the dual quaternion. Not modified.
+    * @param dualPart the dual part of the dual quaternion. Not modified.
+    */
+   public DualQuaternionTransform(Tuple4DReadOnly realPart, Tuple4DReadOnly dualPart)
+   {
+      set(realPart, dualPart);
+   }
+
+   /**
+    * Resets this dual quaternion transform to represent a zero rotation and zero translation.
+    * <p>
+    * When set to zero, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public void setIdentity()
+   {
+      quaternion.setToZero();
+      translationVector.setToZero();
+   }
+
+   /**
+    * Sets this dual quaternion transform to the given {@code other}.
+    *
+    * @param other the other dual quaternion transform. Not modified.
+    */
+   @Override
+   public void set(DualQuaternionTransform other)
+   {
+      quaternion.set(other.quaternion);
+      translationVector.set(other.translationVector);
+   }
+
+   /**
+    * Sets this transform from the real and dual parts of a dual quaternion.
+    * <p>
+    * The dual quaternion does not need to be normalized: both parts are scaled by the inverse of the
+    * norm of the real part and the component of the dual part along the real part is ignored, such
+    * that the resulting transform is the closest rigid-body transform.
+    * </p>
+    *
+    * @param realPart the real part of the dual quaternion. Not modified.
+    * @param dualPart the dual part of the dual quaternion. Not modified.
+    */
+   public void set(Tuple4DReadOnly realPart, Tuple4DReadOnly dualPart)
+   {
+      set(realPart.getX(), realPart.getY(), realPart.getZ(), realPart.getS(), dualPart.getX(), dualPart.getY(), dualPart.getZ(), dualPart.getS());
+   }
+
+   private void set(double rx, double ry, double rz, double rs, double dx, double dy, double dz, double ds)
+   {
+      double invNorm = 1.0 / EuclidCoreTools.norm(rx, ry, rz, rs);
+      rx *= invNorm;
+      ry *= invNorm;
+      rz *= invNorm;
+      rs *= invNorm;
+      dx *= invNorm;
+      dy *= invNorm;
+      dz *= invNorm;
+      ds *= invNorm;
+
+      // t = 2 q_d q_r^*, the component of q_d along q_r only contributes to the scalar part.
+      double tx = 2.0 * (rs * dx - ds * rx - (dy * rz - dz * ry));
+      double ty = 2.0 * (rs * dy - ds * ry - (dz * rx - dx * rz));
+      double tz = 2.0 * (rs * dz - ds * rz - (dx * ry - dy * rx));
+
+      quaternion.setUnsafe(rx, ry, rz, rs);
+      translationVector.set(tx, ty, tz);
+   }
+
+   /**
+    * Packs the dual part q<sub>d</sub> = 0.5 t q<sub>r</sub> of this dual quaternion.
+    *
+    * @param dualPartToPack the tuple in which the dual part is stored. Modified.
+    */
+   public void getDualPart(Tuple4DBasics dualPartToPack)
+   {
+      double rx = quaternion.getX();
+      double ry = quaternion.getY();
+      double rz = quaternion.getZ();
+      double rs = quaternion.getS();
+      double tx = translationVector.getX();
+      double ty = translationVector.getY();
+      double tz = translationVector.getZ();
+
+      double dx = 0.5 * (rs * tx + ty * rz - tz * ry);
+      double dy = 0.5 * (rs * ty + tz * rx - tx * rz);
+      double dz = 0.5 * (rs * tz + tx * ry - ty * rx);
+      double ds = -0.5 * (tx * rx + ty * ry + tz * rz);
+      dualPartToPack.set(dx, dy, dz, ds);
+   }
+
+   /**
+    * Gets the real part of this dual quaternion, which is the rotation part of this transform.
+    *
+    * @return the real part of this dual quaternion.
+    */
+   public QuaternionBasics getRealPart()
+   {
+      return quaternion;
+   }
+
+   /**
+    * Performs a screw linear interpolation (ScLERP) from this transform to {@code other} given the
+    * percentage {@code alpha}.
+    *
+    * @param other the other transform used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *              this transform, while a value of 1 is equivalent to setting this transform to
+    *              {@code other}.
+    * @see #interpolate(DualQuaternionTransform, DualQuaternionTransform, double)
+    */
+   public void interpolate(DualQuaternionTransform other, double alpha)
+   {
+      interpolate(this, other, alpha);
+   }
+
+   /**
+    * Performs a screw linear interpolation (ScLERP) from {@code firstTransform} to
+    * {@code secondTransform} given the percentage {@code alpha}:
+    *
+    * <pre>
+    * this = firstTransform * (firstTransform<sup>-1</sup> * secondTransform)<sup>alpha</sup>
+    * </pre>
+    * <p>
+    * The relative transform from {@code firstTransform} to {@code secondTransform} is a screw motion,
+    * i.e. a rotation about an axis combined with a translation along the same axis. The interpolation
+    * rotates about and translates along this axis proportionally to {@code alpha}, resulting in a
+    * constant angular velocity, as for the SLERP, and in a constant linear velocity of the screw
+    * motion. The interpolation follows the shortest path.
+    * </p>
+    *
+    * @param firstTransform  the first transform used in the interpolation. Not modified.
+    * @param secondTransform the second transform used in the interpolation. Not modified.
+    * @param alpha           the percentage to use for the interpolation. A value of 0 will result in
+    *                        setting this transform to {@code firstTransform}, while a value of 1 is
+    *                        equivalent to setting this transform to {@code secondTransform}.
+    */
+   public void interpolate(DualQuaternionTransform firstTransform, DualQuaternionTransform secondTransform, double alpha)
+   {
+      double q0x = firstTransform.quaternion.getX();
+      double q0y = firstTransform.quaternion.getY();
+      double q0z = firstTransform.quaternion.getZ();
+      double q0s = firstTransform.quaternion.getS();
+      double q1x = secondTransform.quaternion.getX();
+      double q1y = secondTransform.quaternion.getY();
+      double q1z = secondTransform.quaternion.getZ();
+      double q1s = secondTransform.quaternion.getS();
+      double t0x = firstTransform.translationVector.getX();
+      double t0y = firstTransform.translationVector.getY();
+      double t0z = firstTransform.translationVector.getZ();
+      double t1x = secondTransform.translationVector.getX();
+      double t1y = secondTransform.translationVector.getY();
+      double t1z = secondTransform.translationVector.getZ();
+
+      // Relative rotation: dq = q0^* q1
+      double dqx = q0s * q1x - q1s * q0x - (q0y * q1z - q0z * q1y);
+      double dqy = q0s * q1y - q1s * q0y - (q0z * q1x - q0x * q1z);
+      double dqz = q0s * q1z - q1s * q0z - (q0x * q1y - q0y * q1x);
+      double dqs = q0s * q1s + q0x * q1x + q0y * q1y + q0z * q1z;
+
+      if (dqs < 0.0)
+      { // Shortest path
+         dqx = -dqx;
+         dqy = -dqy;
+         dqz = -dqz;
+         dqs = -dqs;
+      }
+
+      // Relative translation: dt = R0^T (t1 - t0), the translation and quaternion of this transform are used as temporary variables.
+      quaternion.setUnsafe(q0x, q0y, q0z, q0s);
+      translationVector.set(t1x - t0x, t1y - t0y, t1z - t0z);
+      quaternion.inverseTransform(translationVector);
+      double dtx = translationVector.getX();
+      double dty = translationVector.getY();
+      double dtz = translationVector.getZ();
+
+      double sinHalfTheta = EuclidCoreTools.norm(dqx, dqy, dqz);
+      double qax, qay, qaz, qas;
+
+      if (sinHalfTheta < SCREW_ANGLE_THRESHOLD)
+      { // Pure translation
+         qax = alpha * dqx;
+         qay = alpha * dqy;
+         qaz = alpha * dqz;
+         qas = 1.0;
+         translationVector.set(alpha * dtx, alpha * dty, alpha * dtz);
+      }
+      else
+      {
+         double halfTheta = EuclidCoreTools.atan2(sinHalfTheta, dqs);
+         double ux = dqx / sinHalfTheta;
+         double uy = dqy / sinHalfTheta;
+         double uz = dqz / sinHalfTheta;
+
+         // Translation along the screw axis.
+         double pitch = ux * dtx + uy * dty + uz * dtz;
+         // Point on the screw axis: p = 0.5 * (dt_perp + cot(theta/2) u x dt)
+         double cotHalfTheta = dqs / sinHalfTheta;
+         double px = 0.5 * (dtx - pitch * ux + cotHalfTheta * (uy * dtz - uz * dty));
+         double py = 0.5 * (dty - pitch * uy + cotHalfTheta * (uz * dtx - ux * dtz));
+         double pz = 0.5 * (dtz - pitch * uz + cotHalfTheta * (ux * dty - uy * dtx));
+
+         double alphaHalfTheta = alpha * halfTheta;
+         double sinAlphaHalfTheta = EuclidCoreTools.sin(alphaHalfTheta);
+         qax = sinAlphaHalfTheta * ux;
+         qay = sinAlphaHalfTheta * uy;
+         qaz = sinAlphaHalfTheta * uz;
+         qas = EuclidCoreTools.cos(alphaHalfTheta);
+
+         // ta = alpha * pitch * u + (I - R(alpha)) p
+         quaternion.setUnsafe(qax, qay, qaz, qas);
+         translationVector.set(px, py, pz);
+         quaternion.transform(translationVector);
+         translationVector.set(alpha * pitch * ux + px - translationVector.getX(),
+                               alpha * pitch * uy + py - translationVector.getY(),
+                               alpha * pitch * uz + pz - translationVector.getZ());
+      }
+
+      // this = T0 * Ta
+      quaternion.setUnsafe(q0x, q0y, q0z, q0s);
+      quaternion.transform(translationVector);
+      translationVector.add(t0x, t0y, t0z);
+
+      double qx = q0s * qax + qas * q0x + q0y * qaz - q0z * qay;
+      double qy = q0s * qay + qas * q0y + q0z * qax - q0x * qaz;
+      double qz = q0s * qaz + qas * q0z + q0x * qay - q0y * qax;
+      double qs = q0s * qas - q0x * qax - q0y * qay - q0z * qaz;
+      quaternion.set(qx, qy, qz, qs);
+   }
+
+   /**
+    * Sets this transform to the dual quaternion linear blending (DLB) of the given transforms:
+    *
+    * <pre>
+    *        &Sigma; w<sub>i</sub> q<sub>i</sub>
+    * this = --------------
+    *        |&Sigma; w<sub>i</sub> q<sub>i</sub>|
+    * </pre>
+    *
+    * where q<sub>i</sub> is the dual quaternion of the i<sup>th</sup> transform and w<sub>i</sub> its
+    * weight.
+    * <p>
+    * The weighted sum is computed on the dual quaternions, such that, unlike blending rotation
+    * matrices, the result is always a rigid-body transform. The sign of each dual quaternion is chosen
+    * such that its real part is in the same hemisphere as the real part of the first transform.
+    * </p>
+    * <p>
+    * The weights are typically positive and sum to 1, but they do not need to be normalized.
+    * </p>
+    *
+    * @param transforms the transforms to blend. Not modified.
+    * @param weights    the weight of each transform, only the first {@code transforms.size()} elements
+    *                   are used. Not modified.
+    * @throws IllegalArgumentException if {@code transforms} is empty or if {@code weights} has fewer
+    *                                  elements than {@code transforms}.
+    */
+   public void blend(List<? extends DualQuaternionTransform> transforms, double[] weights)
+   {
+      if (transforms.isEmpty())
+         throw new IllegalArgumentException("Cannot blend an empty list of transforms.");
+      if (weights.length < transforms.size())
+         throw new IllegalArgumentException("Not enough weights, expected " + transforms.size() + " but was " + weights.length);
+
+      QuaternionReadOnly pivot = transforms.get(0).getRotation();
+      double rx = 0.0, ry = 0.0, rz = 0.0, rs = 0.0;
+      double dx = 0.0, dy = 0.0, dz = 0.0, ds = 0.0;
+
+      for (int i = 0; i < transforms.size(); i++)
+      {
+         DualQuaternionTransform transform = transforms.get(i);
+         QuaternionReadOnly q = transform.quaternion;
+         double w = weights[i];
+
+         if (q.dot(pivot) < 0.0)
+            w = -w;
+
+         double qx = q.getX();
+         double qy = q.getY();
+         double qz = q.getZ();
+         double qs = q.getS();
+         double tx = transform.translationVector.getX();
+         double ty = transform.translationVector.getY();
+         double tz = transform.translationVector.getZ();
+
+         rx += w * qx;
+         ry += w * qy;
+         rz += w * qz;
+         rs += w * qs;
+         // q_d = 0.5 t q_r
+         double halfW = 0.5 * w;
+         dx += halfW * (qs * tx + ty * qz - tz * qy);
+         dy += halfW * (qs * ty + tz * qx - tx * qz);
+         dz += halfW * (qs * tz + tx * qy - ty * qx);
+         ds -= halfW * (tx * qx + ty * qy + tz * qz);
+      }
+
+      set(rx, ry, rz, rs, dx, dy, dz, ds);
+   }
+
+   @Override
+   public QuaternionBasics getRotation()
+   {
+      return quaternion;
+   }
+
+   @Override
+   public Vector3DBasics getTranslation()
+   {
+      return translationVector;
+   }
+
+   /**
+    * Tests separately and on a per component basis if the rotation part and the translation part of
+    * this transform and {@code other} are equal to an {@code epsilon}.
+    *
+    * @param other the other dual quaternion transform to compare against this. Not modified.
+    */
+   @Override
+   public boolean epsilonEquals(DualQuaternionTransform other, double epsilon)
+   {
+      return quaternion.epsilonEquals(other.quaternion, epsilon) && translationVector.epsilonEquals(other.translationVector, epsilon);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(DualQuaternionTransform)}, it returns {@code false} otherwise or if the
+    * {@code object} is {@code null}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof DualQuaternionTransform)
+         return equals((DualQuaternionTransform) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests separately and on a per component basis if the rotation part and the translation part of
+    * this transform and {@code other} are exactly equal.
+    * <p>
+    * The method returns {@code false} if the given transform is {@code null}.
+    * </p>
+    *
+    * @param other the other transform to compare against this. Not modified.
+    * @return {@code true} if the two transforms are exactly equal, {@code false} otherwise.
+    */
+   public boolean equals(DualQuaternionTransform other)
+   {
+      if (other == this)
+         return true;
+      else if (other == null)
+         return false;
+      else
+         return quaternion.equals(other.quaternion) && translationVector.equals(other.translationVector);
+   }
+
+   /**
+    * Two dual quaternion transforms are considered geometrically equal if both their rotation parts
+    * and translation vectors are equal.
+    *
+    * @param other   the other dual quaternion transform to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two dual quaternion transforms are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(DualQuaternionTransform other, double epsilon)
+   {
+      return other.quaternion.geometricallyEquals(quaternion, epsilon) && other.translationVector.geometricallyEquals(translationVector, epsilon);
+   }
+
+   /**
+    * Provides a {@code String} representation of this transform as follows: <br>
+    * Real part: (qx, qy, qz, qs) <br>
+    * Dual part: (qx, qy, qz, qs)
+    *
+    * @return the {@code String} representing this transform.
+    */
+   @Override
+   public String toString()
+   {
+      Vector4D dualPart = new Vector4D();
+      getDualPart(dualPart);
+      return "Real part: " + EuclidCoreIOTools.getTuple4DString(quaternion) + "\nDual part: " + EuclidCoreIOTools.getTuple4DString(dualPart);
+   }
+
+   @Override
+   public int hashCode()
+   {
+      long bits = EuclidHashCodeTools.addToHashCode(quaternion.hashCode(), translationVector.hashCode());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
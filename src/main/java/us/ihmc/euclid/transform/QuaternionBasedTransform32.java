@@ -0,0 +1,365 @@
+package us.ihmc.euclid.transform;
+
+import us.ihmc.euclid.interfaces.EpsilonComparable;
+import us.ihmc.euclid.interfaces.GeometricallyComparable;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple3D.Vector3D32;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple4D.Quaternion32;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+
+/**
+ * A {@code QuaternionBasedTransform32} represents a 3D rigid-body transformation with a
+ * quaternion for its rotation part and a vector for its translation part, see
+ * {@link QuaternionBasedTransform}.
+ * <p>
+ * This version of quaternion-based transform uses single precision fields to save the value of
+ * each component: its rotation part is a {@link Quaternion32} and its translation part a
+ * {@link Vector3D32}. It is meant for situations where heap memory is limited or where transforms
+ * are exchanged with single precision buffers. When memory is not a constraint, the use of
+ * {@link QuaternionBasedTransform} is preferable.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class QuaternionBasedTransform32 implements RigidBodyTransformBasics, EpsilonComparable<QuaternionBasedTransform32>,
+      GeometricallyComparable<QuaternionBasedTransform32>, Settable<QuaternionBasedTransform32>
+{
+   /** The rotation part of this transform. */
+   private final Quaternion32 quaternion = new Quaternion32();
+   /** The translation part of this transform. */
+   private final Vector3D32 translationVector = new Vector3D32();
+
+   /**
+    * Creates a new quaternion-based transform set to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public QuaternionBasedTransform32()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Creates a new quaternion-based transform and initializes to the given rigid-body transform.
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy. Not modified.
+    */
+   public QuaternionBasedTransform32(RigidBodyTransformReadOnly rigidBodyTransform)
+   {
+      set(rigidBodyTransform);
+   }
+
+   /**
+    * Creates a new quaternion-based transform given the value of its 7 components, see
+    * {@link #set(float[])}.
+    *
+    * @param array the array containing the values of the 7 components of this transform. Not modified.
+    */
+   public QuaternionBasedTransform32(float[] array)
+   {
+      set(array);
+   }
+
+   /**
+    * Creates a new quaternion-based transform and initializes it to the given orientation and
+    * translation.
+    *
+    * @param orientation the orientation used to initialize the quaternion of this transform. Not
+    *                    modified.
+    * @param translation the tuple used to initialize the translation part of this transform. Not
+    *                    modified.
+    */
+   public QuaternionBasedTransform32(Orientation3DReadOnly orientation, Tuple3DReadOnly translation)
+   {
+      set(orientation, translation);
+   }
+
+   /**
+    * Resets this quaternion-based transform to represent a zero rotation and zero translation.
+    * <p>
+    * When set to zero, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public void setIdentity()
+   {
+      quaternion.setToZero();
+      translationVector.setToZero();
+   }
+
+   /**
+    * Sets the 7 components of this transform.
+    * <p>
+    * The quaternion part will be normalized.
+    * </p>
+    *
+    * @param qx the x-component of the quaternion's vector part.
+    * @param qy the y-component of the quaternion's vector part.
+    * @param qz the z-component of the quaternion's vector part.
+    * @param qs the scalar component of the quaternion.
+    * @param x  the x-component of the translation.
+    * @param y  the y-component of the translation.
+    * @param z  the z-component of the translation.
+    */
+   public void set(double qx, double qy, double qz, double qs, double x, double y, double z)
+   {
+      quaternion.set(qx, qy, qz, qs);
+      translationVector.set(x, y, z);
+   }
+
+   /**
+    * Sets the 7 components of this transform.
+    * <p>
+    * Prefer using the method {@link #set(double, double, double, double, double, double, double)} as
+    * it normalizes the quaternion part.
+    * </p>
+    *
+    * @param qx the x-component of the quaternion's vector part.
+    * @param qy the y-component of the quaternion's vector part.
+    * @param qz the z-component of the quaternion's vector part.
+    * @param qs the scalar component of the quaternion.
+    * @param x  the x-component of the translation.
+    * @param y  the y-component of the translation.
+    * @param z  the z-component of the translation.
+    */
+   public void setUnsafe(double qx, double qy, double qz, double qs, double x, double y, double z)
+   {
+      quaternion.setUnsafe(qx, qy, qz, qs);
+      translationVector.set(x, y, z);
+   }
+
+   /**
+    * Sets this quaternion-based transform to the given {@code other}.
+    *
+    * @param other the other quaternion-based transform. Not modified.
+    */
+   @Override
+   public void set(QuaternionBasedTransform32 other)
+   {
+      set((RigidBodyTransformReadOnly) other);
+   }
+
+   /**
+    * Sets the value of this transform's 7 components.
+    * <p>
+    * The quaternion q is set as follows:
+    *
+    * <pre>
+    *     / qx = array[0] \
+    * q = | qy = array[1] |
+    *     | qz = array[2] |
+    *     \ qs = array[3] /
+    * </pre>
+    *
+    * The translation part T is set as follows:
+    *
+    * <pre>
+    *     / array[4] \
+    * T = | array[5] |
+    *     \ array[6] /
+    * </pre>
+    * </p>
+    *
+    * @param array the array containing the values of the 7 components of this transform. Not modified.
+    */
+   public void set(float[] array)
+   {
+      set(0, array);
+   }
+
+   /**
+    * Sets the value of this transform's 7 components from {@code array} starting at
+    * {@code startIndex}, such that a table of transforms can be stored contiguously in a single array.
+    * <p>
+    * The quaternion is stored first followed by the translation, see {@link #set(float[])}.
+    * </p>
+    *
+    * @param startIndex the index of the first element of this transform in the array.
+    * @param array      the array containing the values of the 7 components of this transform. Not
+    *                   modified.
+    */
+   public void set(int startIndex, float[] array)
+   {
+      quaternion.set(startIndex, array);
+      translationVector.set(startIndex + 4, array);
+   }
+
+   /**
+    * Performs a linear interpolation from this transform to {@code other} given the percentage
+    * {@code alpha}.
+    * <p>
+    * The interpolation is done on the rotation part and translation part separately.
+    * </p>
+    * <p>
+    * this = (1.0 - alpha) * this + alpha * other
+    * </p>
+    *
+    * @param other the other transform used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *              this transform, while a value of 1 is equivalent to setting this transform to
+    *              {@code other}.
+    */
+   public void interpolate(QuaternionBasedTransform32 other, double alpha)
+   {
+      interpolate(this, other, alpha);
+   }
+
+   /**
+    * Performs a linear interpolation from {@code firstTransform} to {@code secondTransform} given the
+    * percentage {@code alpha}.
+    * <p>
+    * The interpolation is done on the rotation part and translation part separately.
+    * </p>
+    * <p>
+    * this = (1.0 - alpha) * firstTransform + alpha * secondTransform
+    * </p>
+    *
+    * @param firstTransform  the first transform used in the interpolation. Not modified.
+    * @param secondTransform the second transform used in the interpolation. Not modified.
+    * @param alpha           the percentage to use for the interpolation. A value of 0 will result in
+    *                        setting this transform to {@code firstTransform}, while a value of 1 is
+    *                        equivalent to setting this transform to {@code secondTransform}.
+    */
+   public void interpolate(QuaternionBasedTransform32 firstTransform, QuaternionBasedTransform32 secondTransform, double alpha)
+   {
+      quaternion.interpolate(firstTransform.getRotation(), secondTransform.getRotation(), alpha);
+      translationVector.interpolate(firstTransform.getTranslation(), secondTransform.getTranslation(), alpha);
+   }
+
+   /**
+    * Packs this quaternion-based transform in an array.
+    *
+    * <pre>
+    *     / qx \
+    *     | qy |
+    *     | qz |
+    * H = | qs |
+    *     | tx |
+    *     | ty |
+    *     \ tz /
+    * </pre>
+    *
+    * where (qx, qy, qz, qs) is the quaternion and (tx, ty, tz) the translation of this transform.
+    *
+    * @param transformArrayToPack the array in which this transform is packed. Modified.
+    */
+   public void get(float[] transformArrayToPack)
+   {
+      get(0, transformArrayToPack);
+   }
+
+   /**
+    * Packs this quaternion-based transform in 7 elements of {@code transformArrayToPack} starting at
+    * {@code startIndex}, see {@link #get(float[])}.
+    *
+    * @param startIndex           the index of the first element of this transform in the array.
+    * @param transformArrayToPack the array in which this transform is packed. Modified.
+    */
+   public void get(int startIndex, float[] transformArrayToPack)
+   {
+      quaternion.get(startIndex, transformArrayToPack);
+      translationVector.get(startIndex + 4, transformArrayToPack);
+   }
+
+   @Override
+   public QuaternionBasics getRotation()
+   {
+      return quaternion;
+   }
+
+   @Override
+   public Vector3DBasics getTranslation()
+   {
+      return translationVector;
+   }
+
+   /**
+    * Tests separately and on a per component basis if the rotation part and the translation part of
+    * this transform and {@code other} are equal to an {@code epsilon}.
+    *
+    * @param other the other quaternion-based transform to compare against this. Not modified.
+    */
+   @Override
+   public boolean epsilonEquals(QuaternionBasedTransform32 other, double epsilon)
+   {
+      return quaternion.epsilonEquals(other.quaternion, epsilon) && translationVector.epsilonEquals(other.translationVector, epsilon);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(QuaternionBasedTransform32)}, it returns {@code false} otherwise or if the
+    * {@code object} is {@code null}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof QuaternionBasedTransform32)
+         return equals((QuaternionBasedTransform32) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests separately and on a per component basis if the rotation part and the translation part of
+    * this transform and {@code other} are exactly equal.
+    * <p>
+    * The method returns {@code false} if the given transform is {@code null}.
+    * </p>
+    *
+    * @param other the other transform to compare against this. Not modified.
+    * @return {@code true} if the two transforms are exactly equal, {@code false} otherwise.
+    */
+   public boolean equals(QuaternionBasedTransform32 other)
+   {
+      if (other == this)
+         return true;
+      else if (other == null)
+         return false;
+      else
+         return quaternion.equals(other.quaternion) && translationVector.equals(other.translationVector);
+   }
+
+   /**
+    * Two quaternion based transforms are considered geometrically equal if both the rotation-scale
+    * matrices and translation vectors are equal.
+    *
+    * @param other   the other quaternion based transform to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two quaternion based transforms are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(QuaternionBasedTransform32 other, double epsilon)
+   {
+      return other.quaternion.geometricallyEquals(quaternion, epsilon) && other.translationVector.geometricallyEquals(translationVector, epsilon);
+   }
+
+   /**
+    * Provides a {@code String} representation of this transform as follows: <br>
+    * Quaternion: (qx, qy, qz, qs) <br>
+    * Translation: ( x, y, z)
+    *
+    * @return the {@code String} representing this transform.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getQuaternionBasedTransformString(new QuaternionBasedTransform(this));
+   }
+
+   @Override
+   public int hashCode()
+   {
+      long bits = EuclidHashCodeTools.addToHashCode(quaternion.hashCode(), translationVector.hashCode());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
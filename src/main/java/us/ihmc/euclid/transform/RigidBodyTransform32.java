@@ -0,0 +1,325 @@
+package us.ihmc.euclid.transform;
+
+import us.ihmc.euclid.exceptions.NotARotationMatrixException;
+import us.ihmc.euclid.interfaces.EpsilonComparable;
+import us.ihmc.euclid.interfaces.GeometricallyComparable;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.matrix.RotationMatrix32;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixBasics;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple3D.Vector3D32;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+
+/**
+ * A {@code RigidBodyTransform32} is a 4-by-4 matrix that represents a 3D rigid-body transformation
+ * with a rotation and a translation, see {@link RigidBodyTransform}.
+ * <p>
+ * This version of rigid-body transform uses single precision fields to save the value of each
+ * coefficient: its rotation part is a {@link RotationMatrix32} and its translation part a
+ * {@link Vector3D32}. It is meant for situations where heap memory is limited or where transforms
+ * are exchanged with single precision buffers, such as large tables of transforms or meshes sent to
+ * a GPU. When memory is not a constraint, the use of {@link RigidBodyTransform} is preferable.
+ * </p>
+ * <p>
+ * The operations are performed in double precision and the result is rounded when stored.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class RigidBodyTransform32
+      implements RigidBodyTransformBasics, EpsilonComparable<RigidBodyTransform32>, GeometricallyComparable<RigidBodyTransform32>, Settable<RigidBodyTransform32>
+{
+   /** The rotation part of this transform. */
+   private final RotationMatrix32 rotationMatrix = new RotationMatrix32();
+   /** The translation part of this transform. */
+   private final Vector3D32 translationVector = new Vector3D32();
+
+   /**
+    * Creates a new rigid-body transform set to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public RigidBodyTransform32()
+   {
+   }
+
+   /**
+    * Creates a new rigid-body transform and sets it to {@code other}.
+    *
+    * @param other the other rigid-body transform to copy. Not modified.
+    */
+   public RigidBodyTransform32(RigidBodyTransformReadOnly other)
+   {
+      set(other);
+   }
+
+   /**
+    * Creates a new rigid-body transform and sets it to the given {@code orientation} and
+    * {@code translation}.
+    *
+    * @param orientation the orientation used to set this transform's rotation part. Not modified.
+    * @param translation the tuple used to set this transform's translation part. Not modified.
+    */
+   public RigidBodyTransform32(Orientation3DReadOnly orientation, Tuple3DReadOnly translation)
+   {
+      set(orientation, translation);
+   }
+
+   /**
+    * Creates a new rigid-body transform and sets its raw components from the given
+    * {@code transformArray}, see {@link #set(float[])}.
+    *
+    * @param transformArray the 1D row-major array to get this transform's components from. Not
+    *                       modified.
+    * @throws NotARotationMatrixException if the resulting matrix for the rotation part of this
+    *                                     transform is not a rotation matrix.
+    */
+   public RigidBodyTransform32(float[] transformArray)
+   {
+      set(transformArray);
+   }
+
+   /**
+    * Resets this rigid-body transform to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public void setIdentity()
+   {
+      RigidBodyTransformBasics.super.setToZero();
+   }
+
+   /**
+    * Sets this rigid-body transform to {@code other}.
+    *
+    * @param other the other rigid-body transform to copy the values from. Not modified.
+    */
+   @Override
+   public void set(RigidBodyTransform32 other)
+   {
+      set((RigidBodyTransformReadOnly) other);
+   }
+
+   /**
+    * Sets the raw components of this rigid-body transform from the given {@code transformArray}.
+    * <p>
+    * The rotation part R is set as follows:
+    *
+    * <pre>
+    *     / transformArray[0] transformArray[1] transformArray[ 2] \
+    * R = | transformArray[4] transformArray[5] transformArray[ 6] |
+    *     \ transformArray[8] transformArray[9] transformArray[10] /
+    * </pre>
+    *
+    * The translation part T is set as follows:
+    *
+    * <pre>
+    *     / transformArray[ 3] \
+    * T = | transformArray[ 7] |
+    *     \ transformArray[11] /
+    * </pre>
+    * </p>
+    *
+    * @param transformArray the 1D row-major array to get this transform's components from. Not
+    *                       modified.
+    * @throws NotARotationMatrixException if the resulting matrix for the rotation part of this
+    *                                     transform is not a rotation matrix.
+    */
+   public void set(float[] transformArray)
+   {
+      set(0, transformArray);
+   }
+
+   /**
+    * Sets the raw components of this rigid-body transform from the 12 elements of
+    * {@code transformArray} starting at {@code startIndex}.
+    * <p>
+    * The 12 elements represent the first 3 rows of the 4-by-4 matrix of this transform in row-major
+    * order, such that a table of transforms can be stored contiguously in a single array:
+    *
+    * <pre>
+    *     / transformArray[startIndex + 0] transformArray[startIndex + 1] transformArray[startIndex +  2] \
+    * R = | transformArray[startIndex + 4] transformArray[startIndex + 5] transformArray[startIndex +  6] |
+    *     \ transformArray[startIndex + 8] transformArray[startIndex + 9] transformArray[startIndex + 10] /
+    *
+    *     / transformArray[startIndex +  3] \
+    * T = | transformArray[startIndex +  7] |
+    *     \ transformArray[startIndex + 11] /
+    * </pre>
+    * </p>
+    *
+    * @param startIndex     the index of the first element of this transform in the array.
+    * @param transformArray the array to get this transform's components from. Not modified.
+    * @throws NotARotationMatrixException if the resulting matrix for the rotation part of this
+    *                                     transform is not a rotation matrix.
+    */
+   public void set(int startIndex, float[] transformArray)
+   {
+      rotationMatrix.set(transformArray[startIndex],
+                         transformArray[startIndex + 1],
+                         transformArray[startIndex + 2],
+                         transformArray[startIndex + 4],
+                         transformArray[startIndex + 5],
+                         transformArray[startIndex + 6],
+                         transformArray[startIndex + 8],
+                         transformArray[startIndex + 9],
+                         transformArray[startIndex + 10]);
+      translationVector.set(transformArray[startIndex + 3], transformArray[startIndex + 7], transformArray[startIndex + 11]);
+   }
+
+   /**
+    * Packs this transform as a 4-by-4 matrix into a 1D row-major array.
+    *
+    * <pre>
+    *     / R(0, 0) R(0, 1) R(0, 2) Tx \
+    * H = | R(1, 0) R(1, 1) R(1, 2) Ty |
+    *     | R(2, 0) R(2, 1) R(2, 2) Tz |
+    *     \    0       0       0     1 /
+    * </pre>
+    *
+    * where R is the 3-by-3 rotation matrix and (Tx, Ty, Tz) is the translation part of this transform.
+    *
+    * @param transformArrayToPack the array in which this transform is stored. Modified.
+    */
+   public void get(float[] transformArrayToPack)
+   {
+      get(0, transformArrayToPack);
+      transformArrayToPack[12] = 0.0f;
+      transformArrayToPack[13] = 0.0f;
+      transformArrayToPack[14] = 0.0f;
+      transformArrayToPack[15] = 1.0f;
+   }
+
+   /**
+    * Packs the first 3 rows of the 4-by-4 matrix of this transform in row-major order into 12
+    * elements of {@code transformArrayToPack} starting at {@code startIndex}, see
+    * {@link #set(int, float[])}.
+    *
+    * @param startIndex           the index of the first element of this transform in the array.
+    * @param transformArrayToPack the array in which this transform is stored. Modified.
+    */
+   public void get(int startIndex, float[] transformArrayToPack)
+   {
+      transformArrayToPack[startIndex] = (float) rotationMatrix.getM00();
+      transformArrayToPack[startIndex + 1] = (float) rotationMatrix.getM01();
+      transformArrayToPack[startIndex + 2] = (float) rotationMatrix.getM02();
+      transformArrayToPack[startIndex + 3] = translationVector.getX32();
+      transformArrayToPack[startIndex + 4] = (float) rotationMatrix.getM10();
+      transformArrayToPack[startIndex + 5] = (float) rotationMatrix.getM11();
+      transformArrayToPack[startIndex + 6] = (float) rotationMatrix.getM12();
+      transformArrayToPack[startIndex + 7] = translationVector.getY32();
+      transformArrayToPack[startIndex + 8] = (float) rotationMatrix.getM20();
+      transformArrayToPack[startIndex + 9] = (float) rotationMatrix.getM21();
+      transformArrayToPack[startIndex + 10] = (float) rotationMatrix.getM22();
+      transformArrayToPack[startIndex + 11] = translationVector.getZ32();
+   }
+
+   @Override
+   public RotationMatrixBasics getRotation()
+   {
+      return rotationMatrix;
+   }
+
+   @Override
+   public Vector3DBasics getTranslation()
+   {
+      return translationVector;
+   }
+
+   /**
+    * Tests separately and on a per component basis if the rotation part and the translation part of
+    * this transform and {@code other} are equal to an {@code epsilon}.
+    *
+    * @param epsilon tolerance to use when comparing each component.
+    * @param other   the other rigid-body transform to compare against this. Not modified.
+    * @return {@code true} if the two objects are equal component-wise, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(RigidBodyTransform32 other, double epsilon)
+   {
+      return rotationMatrix.epsilonEquals(other.rotationMatrix, epsilon) && translationVector.epsilonEquals(other.translationVector, epsilon);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(RigidBodyTransform32)}, it returns {@code false} otherwise or if the
+    * {@code object} is {@code null}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof RigidBodyTransform32)
+         return equals((RigidBodyTransform32) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests separately and on a per component basis if the rotation part and the translation part of
+    * this transform and {@code other} are exactly equal.
+    * <p>
+    * The method returns {@code false} if the given transform is {@code null}.
+    * </p>
+    *
+    * @param other the other transform to compare against this. Not modified.
+    * @return {@code true} if the two transforms are exactly equal, {@code false} otherwise.
+    */
+   public boolean equals(RigidBodyTransform32 other)
+   {
+      if (other == this)
+         return true;
+      else if (other == null)
+         return false;
+      else
+         return rotationMatrix.equals(other.rotationMatrix) && translationVector.equals(other.translationVector);
+   }
+
+   /**
+    * Two rigid body transforms are considered geometrically equal if both the rotation matrices and
+    * translation vectors are equal.
+    *
+    * @param other   the other rigid body transform to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two rigid body transforms are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(RigidBodyTransform32 other, double epsilon)
+   {
+      return other.rotationMatrix.geometricallyEquals(rotationMatrix, epsilon) && other.translationVector.geometricallyEquals(translationVector, epsilon);
+   }
+
+   /**
+    * Provides a {@code String} representation of this transform as follows:
+    *
+    * <pre>
+    *  0.596  0.630  0.930 | -0.435
+    * -0.264  0.763  0.575 | -0.464
+    * -0.430 -0.188 -0.048 |  0.611
+    *  0.000  0.000  0.000 |  1.000
+    * </pre>
+    *
+    * @return the {@code String} representing this transform.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getRigidBodyTransformString(new RigidBodyTransform(this));
+   }
+
+   @Override
+   public int hashCode()
+   {
+      long bits = EuclidHashCodeTools.addToHashCode(rotationMatrix.hashCode(), translationVector.hashCode());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
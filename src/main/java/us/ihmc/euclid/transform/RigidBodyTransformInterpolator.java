@@ -0,0 +1,82 @@
+package us.ihmc.euclid.transform;
+
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.QuaternionInterpolator;
+
+/**
+ * Interpolator for evaluating repeatedly the interpolation between the same two rigid-body
+ * transforms.
+ * <p>
+ * The translation is interpolated linearly and the rotation is interpolated with a
+ * {@link QuaternionInterpolator}, such that the rotations are converted to quaternions only once
+ * when calling {@link #set(RigidBodyTransformReadOnly, RigidBodyTransformReadOnly)}.
+ * </p>
+ * <p>
+ * This interpolator does not generate garbage and is not thread-safe.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class RigidBodyTransformInterpolator
+{
+   private final QuaternionInterpolator rotationInterpolator = new QuaternionInterpolator();
+   private final Vector3D translation0 = new Vector3D();
+   private final Vector3D translationf = new Vector3D();
+   private final Quaternion rotation0 = new Quaternion();
+   private final Quaternion rotationf = new Quaternion();
+   private final Quaternion interpolatedRotation = new Quaternion();
+
+   /**
+    * Creates a new interpolator.
+    * {@link #set(RigidBodyTransformReadOnly, RigidBodyTransformReadOnly)} has to be called before
+    * interpolating.
+    */
+   public RigidBodyTransformInterpolator()
+   {
+   }
+
+   /**
+    * Sets the maximum angular error allowed when interpolating the rotation with a normalized linear
+    * interpolation.
+    *
+    * @param maxNlerpError the maximum angular error in radians.
+    * @see QuaternionInterpolator#setMaxNlerpError(double)
+    */
+   public void setMaxNlerpError(double maxNlerpError)
+   {
+      rotationInterpolator.setMaxNlerpError(maxNlerpError);
+   }
+
+   /**
+    * Sets the two transforms to interpolate between and precomputes the interpolation coefficients.
+    *
+    * @param transform0 the transform at {@code alpha = 0}. Not modified.
+    * @param transformf the transform at {@code alpha = 1}. Not modified.
+    */
+   public void set(RigidBodyTransformReadOnly transform0, RigidBodyTransformReadOnly transformf)
+   {
+      translation0.set(transform0.getTranslation());
+      translationf.set(transformf.getTranslation());
+      rotation0.set(transform0.getRotation());
+      rotationf.set(transformf.getRotation());
+      rotationInterpolator.set(rotation0, rotationf);
+   }
+
+   /**
+    * Computes the interpolated transform for the given percentage.
+    *
+    * @param alpha           the percentage to use for the interpolation. A value of 0 will result in
+    *                        setting {@code transformToPack} to {@code transform0}, while a value of 1
+    *                        is equivalent to setting it to {@code transformf}.
+    * @param transformToPack the transform in which the result is stored. Modified.
+    */
+   public void interpolate(double alpha, RigidBodyTransformBasics transformToPack)
+   {
+      rotationInterpolator.interpolate(alpha, interpolatedRotation);
+      transformToPack.getRotation().set(interpolatedRotation);
+      transformToPack.getTranslation().interpolate(translation0, translationf, alpha);
+   }
+}
@@ -0,0 +1,317 @@
+package us.ihmc.euclid.transform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * A {@code TransformChain} represents the product of a sequence of rigid-body transforms, such as
+ * the transforms along a kinematic chain:
+ *
+ * <pre>
+ * this = T<sub>0</sub> * T<sub>1</sub> * ... * T<sub>n-1</sub>
+ * </pre>
+ *
+ * where each T<sub>i</sub> is a rigid-body transform or the inverse of one.
+ * <p>
+ * The chain only holds references to the transforms and the product is evaluated lazily, i.e. when
+ * the rotation or translation of this chain is actually read. The partial products
+ * T<sub>0</sub> * ... * T<sub>i</sub> are cached such that when only the tail of the chain has
+ * changed, only the products past the first changed transform are recomputed.
+ * </p>
+ * <p>
+ * As the chain cannot detect when one of the referenced transforms is modified, the user has to
+ * notify the chain with {@link #markModified(int)} or {@link #markAllModified()}. Modifications of
+ * the chain itself, such as {@link #set(int, RigidBodyTransformReadOnly)}, are tracked
+ * automatically.
+ * </p>
+ * <p>
+ * Once the chain has reached its maximum length, it does not generate garbage.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class TransformChain implements RigidBodyTransformReadOnly
+{
+   private final RigidBodyTransform identity = new RigidBodyTransform();
+   private final List<RigidBodyTransformReadOnly> transforms = new ArrayList<>();
+   private boolean[] inverted = new boolean[8];
+   /** The i<sup>th</sup> element is the product of the first i + 1 transforms. */
+   private final List<RigidBodyTransform> partialProducts = new ArrayList<>();
+   /** Number of elements of {@link #partialProducts} that are up-to-date. */
+   private int numberOfValidProducts = 0;
+
+   /**
+    * Creates a new empty chain which is equivalent to the identity transform.
+    */
+   public TransformChain()
+   {
+   }
+
+   /**
+    * Appends a transform at the end of this chain.
+    * <p>
+    * this = this * transform
+    * </p>
+    *
+    * @param transform the transform to append. Not modified, the reference is saved.
+    */
+   public void add(RigidBodyTransformReadOnly transform)
+   {
+      add(transform, false);
+   }
+
+   /**
+    * Appends the inverse of a transform at the end of this chain.
+    * <p>
+    * this = this * transform<sup>-1</sup>
+    * </p>
+    *
+    * @param transform the transform which inverse is to be appended. Not modified, the reference is
+    *                  saved.
+    */
+   public void addInverse(RigidBodyTransformReadOnly transform)
+   {
+      add(transform, true);
+   }
+
+   private void add(RigidBodyTransformReadOnly transform, boolean inverse)
+   {
+      int index = transforms.size();
+      transforms.add(transform);
+
+      if (index >= inverted.length)
+         inverted = Arrays.copyOf(inverted, 2 * inverted.length);
+      inverted[index] = inverse;
+   }
+
+   /**
+    * Replaces the transform at the given index of this chain.
+    *
+    * @param index     the index of the transform to replace.
+    * @param transform the new transform. Not modified, the reference is saved.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public void set(int index, RigidBodyTransformReadOnly transform)
+   {
+      set(index, transform, false);
+   }
+
+   /**
+    * Replaces the transform at the given index of this chain with the inverse of {@code transform}.
+    *
+    * @param index     the index of the transform to replace.
+    * @param transform the transform which inverse is to be used. Not modified, the reference is
+    *                  saved.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public void setInverse(int index, RigidBodyTransformReadOnly transform)
+   {
+      set(index, transform, true);
+   }
+
+   private void set(int index, RigidBodyTransformReadOnly transform, boolean inverse)
+   {
+      transforms.set(index, transform);
+      inverted[index] = inverse;
+      markModified(index);
+   }
+
+   /**
+    * Removes the last transform of this chain.
+    * <p>
+    * The cached partial products for the remaining transforms are preserved.
+    * </p>
+    *
+    * @throws IndexOutOfBoundsException if this chain is empty.
+    */
+   public void removeLast()
+   {
+      transforms.remove(transforms.size() - 1);
+      numberOfValidProducts = Math.min(numberOfValidProducts, transforms.size());
+   }
+
+   /**
+    * Removes all the transforms of this chain, it is then equivalent to the identity transform.
+    */
+   public void clear()
+   {
+      transforms.clear();
+      numberOfValidProducts = 0;
+   }
+
+   /**
+    * Notifies this chain that the transform at the given index has been modified.
+    * <p>
+    * The cached partial products starting at {@code index} will be recomputed on the next read.
+    * </p>
+    *
+    * @param index the index of the modified transform.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public void markModified(int index)
+   {
+      if (index < 0 || index >= transforms.size())
+         throw new IndexOutOfBoundsException("Index: " + index + ", size: " + transforms.size());
+      numberOfValidProducts = Math.min(numberOfValidProducts, index);
+   }
+
+   /**
+    * Notifies this chain that any of its transforms may have been modified.
+    */
+   public void markAllModified()
+   {
+      numberOfValidProducts = 0;
+   }
+
+   /**
+    * Gets the number of transforms in this chain.
+    *
+    * @return the length of this chain.
+    */
+   public int size()
+   {
+      return transforms.size();
+   }
+
+   /**
+    * Gets the reference to the transform at the given index of this chain.
+    *
+    * @param index the index of the transform.
+    * @return the transform at {@code index}.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public RigidBodyTransformReadOnly get(int index)
+   {
+      return transforms.get(index);
+   }
+
+   /**
+    * Tests whether the transform at the given index is used inverted in this chain.
+    *
+    * @param index the index of the transform.
+    * @return {@code true} if the inverse of the transform is used, {@code false} otherwise.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public boolean isInverse(int index)
+   {
+      if (index < 0 || index >= transforms.size())
+         throw new IndexOutOfBoundsException("Index: " + index + ", size: " + transforms.size());
+      return inverted[index];
+   }
+
+   /**
+    * Gets the product of the first transforms of this chain, i.e. for
+    * {@code numberOfTransforms = i + 1}:
+    *
+    * <pre>
+    * transformToPack = T<sub>0</sub> * T<sub>1</sub> * ... * T<sub>i</sub>
+    * </pre>
+    *
+    * Only the partial products that are not up-to-date yet are computed.
+    *
+    * @param numberOfTransforms the number of transforms, starting from the head of the chain, to
+    *                           multiply together. A value of 0 results in the identity transform.
+    * @param transformToPack    the transform in which the result is stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code numberOfTransforms} is not in [0, {@link #size()}].
+    */
+   public void getPartialProduct(int numberOfTransforms, RigidBodyTransformBasics transformToPack)
+   {
+      if (numberOfTransforms < 0 || numberOfTransforms > transforms.size())
+         throw new IndexOutOfBoundsException("Number of transforms: " + numberOfTransforms + ", size: " + transforms.size());
+      transformToPack.set(evaluate(numberOfTransforms));
+   }
+
+   /**
+    * Evaluates the product of this chain if needed and packs it into the given transform.
+    *
+    * @param transformToPack the transform in which the result is stored. Modified.
+    */
+   public void get(RigidBodyTransformBasics transformToPack)
+   {
+      transformToPack.set(evaluate(transforms.size()));
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The product of this chain is evaluated if needed.
+    * </p>
+    */
+   @Override
+   public Orientation3DReadOnly getRotation()
+   {
+      return evaluate(transforms.size()).getRotation();
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The product of this chain is evaluated if needed.
+    * </p>
+    */
+   @Override
+   public Tuple3DReadOnly getTranslation()
+   {
+      return evaluate(transforms.size()).getTranslation();
+   }
+
+   private RigidBodyTransformReadOnly evaluate(int numberOfTransforms)
+   {
+      if (numberOfTransforms == 0)
+         return identity;
+
+      while (partialProducts.size() < numberOfTransforms)
+         partialProducts.add(new RigidBodyTransform());
+
+      for (int i = numberOfValidProducts; i < numberOfTransforms; i++)
+      {
+         RigidBodyTransform product = partialProducts.get(i);
+         RigidBodyTransformReadOnly transform = transforms.get(i);
+
+         if (i == 0)
+         {
+            if (inverted[i])
+               product.setAndInvert(transform);
+            else
+               product.set(transform);
+         }
+         else
+         {
+            product.set(partialProducts.get(i - 1));
+
+            if (inverted[i])
+               product.multiplyInvertOther(transform);
+            else
+               product.multiply(transform);
+         }
+      }
+
+      numberOfValidProducts = Math.max(numberOfValidProducts, numberOfTransforms);
+      return partialProducts.get(numberOfTransforms - 1);
+   }
+
+   /**
+    * Provides a {@code String} representation of the product of this chain as follows:
+    *
+    * <pre>
+    *  0.596  0.630  0.930 | -0.264
+    * -0.435  0.186  0.538 |  0.919
+    *  0.469  0.241  0.584 |  0.663
+    *  0.000  0.000  0.000 |  1.000
+    * </pre>
+    *
+    * @return the {@code String} representing this chain.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getRigidBodyTransformString(new RigidBodyTransform(this));
+   }
+}
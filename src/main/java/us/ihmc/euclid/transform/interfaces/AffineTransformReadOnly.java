@@ -1,5 +1,7 @@
 package us.ihmc.euclid.transform.interfaces;
 
+import java.util.List;
+
 import org.ejml.data.DMatrix;
 
 import us.ihmc.euclid.matrix.interfaces.CommonMatrix3DBasics;
@@ -8,6 +10,7 @@ import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.BulkTransformTools;
 import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tools.TupleTools;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
@@ -86,6 +89,60 @@ public interface AffineTransformReadOnly extends Transform
          pointTransformed.add(getTranslation());
    }
 
+   /**
+    * Transforms each point of the given list by this transform.
+    * <p>
+    * The result is the same as calling {@link #transform(Point3DBasics)} on each point, but the
+    * structure of this transform is evaluated only once and the points are transformed in a single
+    * loop, which is faster for large sets of points such as point clouds.
+    * </p>
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    * @see BulkTransformTools
+    */
+   default void transformPoints(List<? extends Point3DBasics> pointsToTransform)
+   {
+      BulkTransformTools.transformPoints(this, pointsToTransform);
+   }
+
+   /**
+    * Transforms the points packed in the given array as successive triplets {@code (x, y, z)}.
+    *
+    * @param pointsToTransform the packed coordinates of the points to transform. Modified.
+    * @throws IllegalArgumentException if the length of the array is not a multiple of 3.
+    * @see #transformPoints(double[], int, double[], int, int)
+    */
+   default void transformPoints(double[] pointsToTransform)
+   {
+      if (pointsToTransform.length % 3 != 0)
+         throw new IllegalArgumentException("The array length should be a multiple of 3, was: " + pointsToTransform.length);
+      transformPoints(pointsToTransform, 0, pointsToTransform, 0, pointsToTransform.length / 3);
+   }
+
+   /**
+    * Transforms the points packed in {@code pointsOriginal} as successive triplets {@code (x, y, z)}
+    * and stores the result in {@code pointsTransformed}.
+    * <p>
+    * The two arrays can be the same object as long as {@code originalStartIndex} and
+    * {@code transformedStartIndex} are equal.
+    * </p>
+    *
+    * @param pointsOriginal        the packed coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point.
+    * @param pointsTransformed     the array in which the packed coordinates of the transformed points
+    *                              are stored. Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IllegalArgumentException if either array is too small to hold the points.
+    * @see BulkTransformTools
+    */
+   default void transformPoints(double[] pointsOriginal, int originalStartIndex, double[] pointsTransformed, int transformedStartIndex, int numberOfPoints)
+   {
+      BulkTransformTools.transformPoints(this, pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
    /** {@inheritDoc} */
    @Override
    default void transform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
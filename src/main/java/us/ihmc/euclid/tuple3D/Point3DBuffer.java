@@ -0,0 +1,122 @@
+package us.ihmc.euclid.tuple3D;
+
+import us.ihmc.euclid.tools.BulkTransformTools;
+import us.ihmc.euclid.transform.interfaces.AffineTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * A growable buffer of 3D points stored in structure-of-arrays layout.
+ * <p>
+ * This is meant for handling large sets of points, such as point clouds, without allocating one
+ * object per point. The points can be accessed through flyweight views, see
+ * {@link Tuple3DBuffer}.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class Point3DBuffer extends Tuple3DBuffer<Point3DBasics>
+{
+   /**
+    * Creates a new empty buffer with a default initial capacity.
+    */
+   public Point3DBuffer()
+   {
+      super();
+   }
+
+   /**
+    * Creates a new empty buffer.
+    *
+    * @param initialCapacity the number of points this buffer can store before growing.
+    * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+    */
+   public Point3DBuffer(int initialCapacity)
+   {
+      super(initialCapacity);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   protected Point3DBasics newView(int index)
+   {
+      return new PointView(index);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   protected Point3DBasics newCopy(double x, double y, double z)
+   {
+      return new Point3D(x, y, z);
+   }
+
+   /**
+    * Transforms the points of this buffer by the given transform.
+    * <p>
+    * When the transform is a {@link RigidBodyTransformReadOnly} or an
+    * {@link AffineTransformReadOnly}, the points are transformed at once using
+    * {@link BulkTransformTools}, otherwise they are transformed one at a time.
+    * </p>
+    *
+    * @param transform the transform to apply on this. Not modified.
+    */
+   @Override
+   public void applyTransform(Transform transform)
+   {
+      if (transform instanceof RigidBodyTransformReadOnly)
+      {
+         BulkTransformTools.transformPoints((RigidBodyTransformReadOnly) transform, x, y, z, 0, size);
+      }
+      else if (transform instanceof AffineTransformReadOnly)
+      {
+         BulkTransformTools.transformPoints((AffineTransformReadOnly) transform, x, y, z, 0, size);
+      }
+      else
+      {
+         PointView view = new PointView(0);
+
+         for (int i = 0; i < size; i++)
+         {
+            view.index = i;
+            transform.transform(view);
+         }
+      }
+   }
+
+   /**
+    * Transforms the points of this buffer by the inverse of the given transform, one point at a
+    * time.
+    *
+    * @param transform the transform to apply on this. Not modified.
+    */
+   @Override
+   public void applyInverseTransform(Transform transform)
+   {
+      PointView view = new PointView(0);
+
+      for (int i = 0; i < size; i++)
+      {
+         view.index = i;
+         transform.inverseTransform(view);
+      }
+   }
+
+   private class PointView extends TupleView implements Point3DBasics
+   {
+      private PointView(int index)
+      {
+         super(index);
+      }
+
+      @Override
+      public boolean equals(Object object)
+      {
+         if (object instanceof Point3DReadOnly)
+            return equals((Point3DReadOnly) object);
+         else
+            return false;
+      }
+   }
+}
@@ -0,0 +1,550 @@
+package us.ihmc.euclid.tuple3D;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import us.ihmc.euclid.interfaces.Transformable;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * Base class for a growable buffer of 3D tuples stored in structure-of-arrays layout.
+ * <p>
+ * Instead of allocating one object per tuple, the coordinates are stored in three contiguous
+ * arrays, one per axis, which improves memory usage and cache locality when handling large sets of
+ * tuples such as point clouds. The tuples can be accessed by index either directly via
+ * {@link #getX(int)}, {@link #setX(int, double)}, etc, or through flyweight views obtained with
+ * {@link #get(int)} which read and write directly into the buffer.
+ * </p>
+ * <p>
+ * The buffer is a {@code List} of views such that it can be passed to the tools accepting
+ * collections of tuples. Note that {@link #add(Tuple3DBasics)} and {@link #set(int, Tuple3DBasics)}
+ * copy the coordinates of the given tuple into the buffer, the tuple itself is not stored, and that
+ * {@link #set(int, Tuple3DBasics)} and {@link #remove(int)} return a new tuple detached from this
+ * buffer holding the previous coordinates.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ * @param <T> the type of the views on the tuples of this buffer.
+ */
+public abstract class Tuple3DBuffer<T extends Tuple3DBasics> extends AbstractList<T> implements RandomAccess, Transformable
+{
+   private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+   /** The x-coordinates of the tuples. */
+   protected double[] x;
+   /** The y-coordinates of the tuples. */
+   protected double[] y;
+   /** The z-coordinates of the tuples. */
+   protected double[] z;
+   /** The number of tuples currently stored in this buffer. */
+   protected int size = 0;
+
+   /**
+    * Creates a new empty buffer with a default initial capacity.
+    */
+   public Tuple3DBuffer()
+   {
+      this(DEFAULT_INITIAL_CAPACITY);
+   }
+
+   /**
+    * Creates a new empty buffer.
+    *
+    * @param initialCapacity the number of tuples this buffer can store before growing.
+    * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+    */
+   public Tuple3DBuffer(int initialCapacity)
+   {
+      if (initialCapacity < 0)
+         throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+      x = new double[initialCapacity];
+      y = new double[initialCapacity];
+      z = new double[initialCapacity];
+   }
+
+   /**
+    * Creates a new flyweight view on the tuple at the given index.
+    *
+    * @param index the index of the tuple to view.
+    * @return the new view.
+    */
+   protected abstract T newView(int index);
+
+   /**
+    * Creates a new tuple that is detached from this buffer.
+    *
+    * @param x the x-coordinate of the new tuple.
+    * @param y the y-coordinate of the new tuple.
+    * @param z the z-coordinate of the new tuple.
+    * @return the new tuple.
+    */
+   protected abstract T newCopy(double x, double y, double z);
+
+   /**
+    * Ensures that this buffer can store at least {@code minimumCapacity} tuples without growing.
+    *
+    * @param minimumCapacity the minimum number of tuples this buffer should be able to store.
+    */
+   public void ensureCapacity(int minimumCapacity)
+   {
+      if (minimumCapacity <= x.length)
+         return;
+
+      int newCapacity = Math.max(minimumCapacity, x.length + (x.length >> 1) + 1);
+      x = Arrays.copyOf(x, newCapacity);
+      y = Arrays.copyOf(y, newCapacity);
+      z = Arrays.copyOf(z, newCapacity);
+   }
+
+   /**
+    * Gets the number of tuples this buffer can store before growing.
+    *
+    * @return the capacity of this buffer.
+    */
+   public int getCapacity()
+   {
+      return x.length;
+   }
+
+   /**
+    * Sets the number of tuples stored in this buffer.
+    * <p>
+    * When growing, the new tuples are set to zero.
+    * </p>
+    *
+    * @param newSize the new number of tuples.
+    * @throws IllegalArgumentException if {@code newSize} is negative.
+    */
+   public void setSize(int newSize)
+   {
+      if (newSize < 0)
+         throw new IllegalArgumentException("Illegal size: " + newSize);
+
+      ensureCapacity(newSize);
+
+      if (newSize > size)
+      {
+         Arrays.fill(x, size, newSize, 0.0);
+         Arrays.fill(y, size, newSize, 0.0);
+         Arrays.fill(z, size, newSize, 0.0);
+      }
+
+      size = newSize;
+      modCount++;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public int size()
+   {
+      return size;
+   }
+
+   /**
+    * Removes all the tuples from this buffer. The capacity of this buffer remains unchanged.
+    */
+   @Override
+   public void clear()
+   {
+      size = 0;
+      modCount++;
+   }
+
+   /**
+    * Appends a new tuple to this buffer.
+    *
+    * @param x the x-coordinate of the new tuple.
+    * @param y the y-coordinate of the new tuple.
+    * @param z the z-coordinate of the new tuple.
+    */
+   public void add(double x, double y, double z)
+   {
+      ensureCapacity(size + 1);
+      this.x[size] = x;
+      this.y[size] = y;
+      this.z[size] = z;
+      size++;
+      modCount++;
+   }
+
+   /**
+    * Appends a copy of the given tuple to this buffer.
+    *
+    * @param tuple the tuple to copy the coordinates of. Not modified.
+    */
+   public void addCopy(Tuple3DReadOnly tuple)
+   {
+      add(tuple.getX(), tuple.getY(), tuple.getZ());
+   }
+
+   /**
+    * Appends a copy of the given tuple to this buffer.
+    *
+    * @param tuple the tuple to copy the coordinates of. Not modified.
+    * @return {@code true}.
+    */
+   @Override
+   public boolean add(T tuple)
+   {
+      addCopy(tuple);
+      return true;
+   }
+
+   /**
+    * Inserts a new tuple at the given index, the following tuples are shifted to the right.
+    *
+    * @param index the index at which the new tuple is to be inserted.
+    * @param x     the x-coordinate of the new tuple.
+    * @param y     the y-coordinate of the new tuple.
+    * @param z     the z-coordinate of the new tuple.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}].
+    */
+   public void add(int index, double x, double y, double z)
+   {
+      if (index < 0 || index > size)
+         throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+      ensureCapacity(size + 1);
+      int numberToMove = size - index;
+      System.arraycopy(this.x, index, this.x, index + 1, numberToMove);
+      System.arraycopy(this.y, index, this.y, index + 1, numberToMove);
+      System.arraycopy(this.z, index, this.z, index + 1, numberToMove);
+      this.x[index] = x;
+      this.y[index] = y;
+      this.z[index] = z;
+      size++;
+      modCount++;
+   }
+
+   /**
+    * Inserts a copy of the given tuple at the given index, the following tuples are shifted to the
+    * right.
+    *
+    * @param index the index at which the new tuple is to be inserted.
+    * @param tuple the tuple to copy the coordinates of. Not modified.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}].
+    */
+   @Override
+   public void add(int index, T tuple)
+   {
+      add(index, tuple.getX(), tuple.getY(), tuple.getZ());
+   }
+
+   /**
+    * Gets a new flyweight view on the tuple at the given index.
+    * <p>
+    * The view reads and writes directly into this buffer. It remains valid as long as the tuple is
+    * not removed from this buffer.
+    * </p>
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param index the index of the tuple.
+    * @return the view on the tuple.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   @Override
+   public T get(int index)
+   {
+      checkIndex(index);
+      return newView(index);
+   }
+
+   /**
+    * Sets the tuple at the given index to the given tuple.
+    * <p>
+    * WARNING: This method generates garbage, see {@link #set(int, double, double, double)}.
+    * </p>
+    *
+    * @param index the index of the tuple to set.
+    * @param tuple the tuple to copy the coordinates of. Not modified.
+    * @return a new tuple detached from this buffer holding the previous coordinates.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   @Override
+   public T set(int index, T tuple)
+   {
+      checkIndex(index);
+      T previous = newCopy(x[index], y[index], z[index]);
+      set(index, tuple.getX(), tuple.getY(), tuple.getZ());
+      return previous;
+   }
+
+   /**
+    * Sets the coordinates of the tuple at the given index.
+    *
+    * @param index the index of the tuple to set.
+    * @param x     the new x-coordinate.
+    * @param y     the new y-coordinate.
+    * @param z     the new z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public void set(int index, double x, double y, double z)
+   {
+      checkIndex(index);
+      this.x[index] = x;
+      this.y[index] = y;
+      this.z[index] = z;
+   }
+
+   /**
+    * Removes the tuple at the given index, the following tuples are shifted to the left.
+    * <p>
+    * WARNING: This method generates garbage, see {@link #removeQuick(int)}.
+    * </p>
+    *
+    * @param index the index of the tuple to remove.
+    * @return a new tuple detached from this buffer holding the coordinates of the removed tuple.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   @Override
+   public T remove(int index)
+   {
+      checkIndex(index);
+      T removed = newCopy(x[index], y[index], z[index]);
+      removeQuick(index);
+      return removed;
+   }
+
+   /**
+    * Removes the tuple at the given index, the following tuples are shifted to the left.
+    *
+    * @param index the index of the tuple to remove.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public void removeQuick(int index)
+   {
+      checkIndex(index);
+      int numberToMove = size - index - 1;
+      System.arraycopy(x, index + 1, x, index, numberToMove);
+      System.arraycopy(y, index + 1, y, index, numberToMove);
+      System.arraycopy(z, index + 1, z, index, numberToMove);
+      size--;
+      modCount++;
+   }
+
+   /**
+    * Gets the x-coordinate of the tuple at the given index.
+    *
+    * @param index the index of the tuple.
+    * @return the x-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public double getX(int index)
+   {
+      checkIndex(index);
+      return x[index];
+   }
+
+   /**
+    * Gets the y-coordinate of the tuple at the given index.
+    *
+    * @param index the index of the tuple.
+    * @return the y-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public double getY(int index)
+   {
+      checkIndex(index);
+      return y[index];
+   }
+
+   /**
+    * Gets the z-coordinate of the tuple at the given index.
+    *
+    * @param index the index of the tuple.
+    * @return the z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public double getZ(int index)
+   {
+      checkIndex(index);
+      return z[index];
+   }
+
+   /**
+    * Sets the x-coordinate of the tuple at the given index.
+    *
+    * @param index the index of the tuple.
+    * @param x     the new x-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public void setX(int index, double x)
+   {
+      checkIndex(index);
+      this.x[index] = x;
+   }
+
+   /**
+    * Sets the y-coordinate of the tuple at the given index.
+    *
+    * @param index the index of the tuple.
+    * @param y     the new y-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public void setY(int index, double y)
+   {
+      checkIndex(index);
+      this.y[index] = y;
+   }
+
+   /**
+    * Sets the z-coordinate of the tuple at the given index.
+    *
+    * @param index the index of the tuple.
+    * @param z     the new z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}[.
+    */
+   public void setZ(int index, double z)
+   {
+      checkIndex(index);
+      this.z[index] = z;
+   }
+
+   /**
+    * Packs the tuple at the given index in {@code tupleToPack}.
+    *
+    * @param index       the index of the tuple.
+    * @param tupleToPack the tuple used to store the coordinates. Modified.
+    */
+   public void get(int index, Tuple3DBasics tupleToPack)
+   {
+      checkIndex(index);
+      tupleToPack.set(x[index], y[index], z[index]);
+   }
+
+   /**
+    * Computes the average of the tuples of this buffer.
+    *
+    * @param averageToPack the tuple used to store the average. Modified.
+    * @return {@code false} if this buffer is empty, in which case {@code averageToPack} is not
+    *         modified, {@code true} otherwise.
+    */
+   public boolean getAverage(Tuple3DBasics averageToPack)
+   {
+      if (size == 0)
+         return false;
+
+      double sumX = 0.0, sumY = 0.0, sumZ = 0.0;
+
+      for (int i = 0; i < size; i++)
+      {
+         sumX += x[i];
+         sumY += y[i];
+         sumZ += z[i];
+      }
+
+      double scale = 1.0 / size;
+      averageToPack.set(sumX * scale, sumY * scale, sumZ * scale);
+      return true;
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= size)
+         throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+   }
+
+   /**
+    * Base class for the flyweight views on the tuples of this buffer.
+    * <p>
+    * A view does not store any coordinate, it reads and writes directly into the arrays of the
+    * buffer at its index.
+    * </p>
+    */
+   protected abstract class TupleView implements Tuple3DBasics
+   {
+      /** The index in the buffer of the tuple this view points to. */
+      protected int index;
+
+      /**
+       * Creates a new view on the tuple at the given index.
+       *
+       * @param index the index of the tuple to view.
+       */
+      protected TupleView(int index)
+      {
+         this.index = index;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void setX(double x)
+      {
+         Tuple3DBuffer.this.x[index] = x;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void setY(double y)
+      {
+         Tuple3DBuffer.this.y[index] = y;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void setZ(double z)
+      {
+         Tuple3DBuffer.this.z[index] = z;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getX()
+      {
+         return Tuple3DBuffer.this.x[index];
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getY()
+      {
+         return Tuple3DBuffer.this.y[index];
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getZ()
+      {
+         return Tuple3DBuffer.this.z[index];
+      }
+
+      /**
+       * Tests if the given {@code object}'s class is the same as this view's tuple type and if so,
+       * tests on a per component basis if {@code object} and this tuple are exactly equal.
+       *
+       * @param object the object to compare against this. Not modified.
+       * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+       */
+      @Override
+      public abstract boolean equals(Object object);
+
+      /**
+       * Calculates and returns a hash code value from the value of each component of this tuple.
+       *
+       * @return the hash code value for this tuple.
+       */
+      @Override
+      public int hashCode()
+      {
+         return EuclidHashCodeTools.toIntHashCode(getX(), getY(), getZ());
+      }
+
+      /**
+       * Provides a {@code String} representation of this tuple as follows: (x, y, z).
+       *
+       * @return the {@code String} representing this tuple.
+       */
+      @Override
+      public String toString()
+      {
+         return EuclidCoreIOTools.getTuple3DString(this);
+      }
+   }
+}
@@ -0,0 +1,176 @@
+package us.ihmc.euclid.tuple3D;
+
+import us.ihmc.euclid.tools.BulkTransformTools;
+import us.ihmc.euclid.tools.BulkTupleTools;
+import us.ihmc.euclid.transform.interfaces.AffineTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * A growable buffer of 3D vectors stored in structure-of-arrays layout.
+ * <p>
+ * This is meant for handling large sets of vectors, such as surface normals, without allocating one
+ * object per vector. The vectors can be accessed through flyweight views, see
+ * {@link Tuple3DBuffer}.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class Vector3DBuffer extends Tuple3DBuffer<Vector3DBasics>
+{
+   /**
+    * Creates a new empty buffer with a default initial capacity.
+    */
+   public Vector3DBuffer()
+   {
+      super();
+   }
+
+   /**
+    * Creates a new empty buffer.
+    *
+    * @param initialCapacity the number of vectors this buffer can store before growing.
+    * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+    */
+   public Vector3DBuffer(int initialCapacity)
+   {
+      super(initialCapacity);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   protected Vector3DBasics newView(int index)
+   {
+      return new VectorView(index);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   protected Vector3DBasics newCopy(double x, double y, double z)
+   {
+      return new Vector3D(x, y, z);
+   }
+
+   /**
+    * Normalizes all the vectors of this buffer.
+    * <p>
+    * Edge case: a vector with a norm of zero is set to {@link Double#NaN}.
+    * </p>
+    */
+   public void normalizeAll()
+   {
+      BulkTupleTools.normalize(x, y, z, 0, size);
+   }
+
+   /**
+    * Computes the dot product of each vector of this buffer with the vector of {@code other} at the
+    * same index.
+    *
+    * @param other     the other vectors. Not modified.
+    * @param dotToPack the array in which the dot products are stored. Modified.
+    * @throws IllegalArgumentException if {@code other} does not have the same size as this buffer or
+    *                                  if {@code dotToPack} is too small.
+    */
+   public void dot(Vector3DBuffer other, double[] dotToPack)
+   {
+      checkSameSize(other);
+      BulkTupleTools.dot(x, y, z, other.x, other.y, other.z, dotToPack, 0, size);
+   }
+
+   /**
+    * Computes the cross product of each vector of this buffer with the vector of {@code other} at the
+    * same index.
+    * <p>
+    * {@code crossToPack} is resized to the size of this buffer and can be either this buffer or
+    * {@code other}.
+    * </p>
+    *
+    * @param other       the other vectors. Not modified.
+    * @param crossToPack the buffer in which the cross products are stored. Modified.
+    * @throws IllegalArgumentException if {@code other} does not have the same size as this buffer.
+    */
+   public void cross(Vector3DBuffer other, Vector3DBuffer crossToPack)
+   {
+      checkSameSize(other);
+      crossToPack.ensureCapacity(size);
+      BulkTupleTools.cross(x, y, z, other.x, other.y, other.z, crossToPack.x, crossToPack.y, crossToPack.z, 0, size);
+      crossToPack.size = size;
+      crossToPack.modCount++;
+   }
+
+   private void checkSameSize(Vector3DBuffer other)
+   {
+      if (other.size != size)
+         throw new IllegalArgumentException("The buffers have different sizes: " + size + " and " + other.size);
+   }
+
+   /**
+    * Transforms the vectors of this buffer by the given transform.
+    * <p>
+    * When the transform is a {@link RigidBodyTransformReadOnly} or an
+    * {@link AffineTransformReadOnly}, the vectors are transformed at once using
+    * {@link BulkTransformTools}, otherwise they are transformed one at a time.
+    * </p>
+    *
+    * @param transform the transform to apply on this. Not modified.
+    */
+   @Override
+   public void applyTransform(Transform transform)
+   {
+      if (transform instanceof RigidBodyTransformReadOnly)
+      {
+         BulkTransformTools.transformVectors((RigidBodyTransformReadOnly) transform, x, y, z, 0, size);
+      }
+      else if (transform instanceof AffineTransformReadOnly)
+      {
+         BulkTransformTools.transformVectors((AffineTransformReadOnly) transform, x, y, z, 0, size);
+      }
+      else
+      {
+         VectorView view = new VectorView(0);
+
+         for (int i = 0; i < size; i++)
+         {
+            view.index = i;
+            transform.transform(view);
+         }
+      }
+   }
+
+   /**
+    * Transforms the vectors of this buffer by the inverse of the given transform, one vector at a
+    * time.
+    *
+    * @param transform the transform to apply on this. Not modified.
+    */
+   @Override
+   public void applyInverseTransform(Transform transform)
+   {
+      VectorView view = new VectorView(0);
+
+      for (int i = 0; i < size; i++)
+      {
+         view.index = i;
+         transform.inverseTransform(view);
+      }
+   }
+
+   private class VectorView extends TupleView implements Vector3DBasics
+   {
+      private VectorView(int index)
+      {
+         super(index);
+      }
+
+      @Override
+      public boolean equals(Object object)
+      {
+         if (object instanceof Vector3DReadOnly)
+            return equals((Vector3DReadOnly) object);
+         else
+            return false;
+      }
+   }
+}
@@ -0,0 +1,216 @@
+package us.ihmc.euclid.tuple4D;
+
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+
+/**
+ * Interpolator for evaluating repeatedly the spherical linear interpolation (SLERP) between the same
+ * two quaternions.
+ * <p>
+ * {@link QuaternionBasics#interpolate(QuaternionReadOnly, QuaternionReadOnly, double)} computes the
+ * angle between the two quaternions for every call. Instead, this interpolator decomposes the
+ * segment once when calling {@link #set(QuaternionReadOnly, QuaternionReadOnly)} into the start
+ * quaternion q<sub>0</sub> and the unit quaternion q<sub>&perp;</sub> orthogonal to q<sub>0</sub>
+ * in the plane of the segment, such that:
+ *
+ * <pre>
+ * q(alpha) = cos(alpha * &theta;/2) q<sub>0</sub> + sin(alpha * &theta;/2) q<sub>&perp;</sub>
+ * </pre>
+ *
+ * where &theta; is the angle between the two orientations. Evaluating an interpolation only
+ * requires the sine and cosine of a single angle.
+ * </p>
+ * <p>
+ * For cases where accuracy can be traded for speed, such as visualization, the interpolator can use
+ * instead the normalized linear interpolation (NLERP) when the resulting angular error for the
+ * current segment is below the threshold given with {@link #setMaxNlerpError(double)}. NLERP does
+ * not require any trigonometric function but does not have a constant angular velocity, the maximum
+ * angular error grows with the cube of the angle between the two orientations and is about 1.6e-2
+ * radian for a 90 degrees segment.
+ * </p>
+ * <p>
+ * This interpolator does not generate garbage and is not thread-safe.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class QuaternionInterpolator
+{
+   /** Below this threshold on 1 - cos(&theta;/2), the quaternions are interpolated linearly. */
+   private static final double LINEAR_THRESHOLD = 1.0e-12;
+   /** Percentage at which the error of the NLERP is maximum for small angles: 0.5 - sqrt(3) / 6. */
+   private static final double NLERP_WORST_ALPHA = 0.21132486540518713;
+   /**
+    * The maximum NLERP error moves away from {@link #NLERP_WORST_ALPHA} as the angle increases, the
+    * error evaluated at this percentage underestimates the actual maximum by up to 1.4%.
+    */
+   private static final double NLERP_ERROR_SAFETY_FACTOR = 1.02;
+
+   private double q0x, q0y, q0z, q0s;
+   /** Either the end quaternion, possibly negated, or the orthogonal quaternion for the SLERP. */
+   private double q1x, q1y, q1z, q1s;
+   private double halfTheta;
+   private boolean linear = true;
+   private boolean nlerp = false;
+   private double nlerpError = 0.0;
+   private double maxNlerpError = 0.0;
+
+   private final double[] sinCos = new double[2];
+
+   /**
+    * Creates a new interpolator. {@link #set(QuaternionReadOnly, QuaternionReadOnly)} has to be called
+    * before interpolating.
+    */
+   public QuaternionInterpolator()
+   {
+      q0s = 1.0;
+      q1s = 1.0;
+   }
+
+   /**
+    * Sets the maximum angular error allowed when using the normalized linear interpolation instead of
+    * the spherical linear interpolation.
+    * <p>
+    * The default value is zero, i.e. the interpolator always performs a SLERP. The new value is
+    * considered on the next call to {@link #set(QuaternionReadOnly, QuaternionReadOnly)}.
+    * </p>
+    *
+    * @param maxNlerpError the maximum angular error in radians.
+    */
+   public void setMaxNlerpError(double maxNlerpError)
+   {
+      this.maxNlerpError = maxNlerpError;
+   }
+
+   /**
+    * Sets the two quaternions to interpolate between and precomputes the interpolation coefficients.
+    * <p>
+    * Both quaternions are expected to be unit-quaternions. As for
+    * {@link QuaternionBasics#interpolate(QuaternionReadOnly, QuaternionReadOnly, double)}, the
+    * interpolation follows the shortest path.
+    * </p>
+    *
+    * @param q0 the quaternion at {@code alpha = 0}. Not modified.
+    * @param qf the quaternion at {@code alpha = 1}. Not modified.
+    */
+   public void set(QuaternionReadOnly q0, QuaternionReadOnly qf)
+   {
+      q0x = q0.getX();
+      q0y = q0.getY();
+      q0z = q0.getZ();
+      q0s = q0.getS();
+
+      double cosHalfTheta = q0.dot(qf);
+      double sign = 1.0;
+
+      if (cosHalfTheta < 0.0)
+      {
+         sign = -1.0;
+         cosHalfTheta = -cosHalfTheta;
+      }
+
+      q1x = sign * qf.getX();
+      q1y = sign * qf.getY();
+      q1z = sign * qf.getZ();
+      q1s = sign * qf.getS();
+
+      if (!(1.0 - cosHalfTheta > LINEAR_THRESHOLD))
+      {
+         linear = true;
+         nlerp = false;
+         halfTheta = 0.0;
+         nlerpError = 0.0;
+         return;
+      }
+
+      halfTheta = EuclidCoreTools.acos(Math.min(cosHalfTheta, 1.0));
+      nlerpError = computeNlerpError(halfTheta);
+
+      if (nlerpError <= maxNlerpError)
+      {
+         linear = true;
+         nlerp = true;
+         return;
+      }
+
+      linear = false;
+      nlerp = false;
+      // Gram-Schmidt: removing the component along q0 from qf.
+      q1x -= cosHalfTheta * q0x;
+      q1y -= cosHalfTheta * q0y;
+      q1z -= cosHalfTheta * q0z;
+      q1s -= cosHalfTheta * q0s;
+      double invNorm = 1.0 / EuclidCoreTools.norm(q1x, q1y, q1z, q1s);
+      q1x *= invNorm;
+      q1y *= invNorm;
+      q1z *= invNorm;
+      q1s *= invNorm;
+   }
+
+   /**
+    * Computes the interpolated quaternion for the given percentage.
+    *
+    * @param alpha            the percentage to use for the interpolation. A value of 0 will result in
+    *                         setting {@code quaternionToPack} to {@code q0}, while a value of 1 is
+    *                         equivalent to setting it to {@code qf}.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public void interpolate(double alpha, QuaternionBasics quaternionToPack)
+   {
+      double alpha0, alpha1;
+
+      if (linear)
+      {
+         alpha0 = 1.0 - alpha;
+         alpha1 = alpha;
+      }
+      else
+      {
+         EuclidCoreTools.sinCos(alpha * halfTheta, sinCos, 0);
+         alpha0 = sinCos[1];
+         alpha1 = sinCos[0];
+      }
+
+      double qx = alpha0 * q0x + alpha1 * q1x;
+      double qy = alpha0 * q0y + alpha1 * q1y;
+      double qz = alpha0 * q0z + alpha1 * q1z;
+      double qs = alpha0 * q0s + alpha1 * q1s;
+
+      quaternionToPack.set(qx, qy, qz, qs);
+   }
+
+   /**
+    * Whether this interpolator uses the normalized linear interpolation for the current segment.
+    *
+    * @return {@code true} if the NLERP is used, {@code false} if the SLERP is used.
+    */
+   public boolean isUsingNlerp()
+   {
+      return nlerp;
+   }
+
+   /**
+    * Gets the estimated maximum angular error that the normalized linear interpolation would introduce
+    * on the current segment for {@code alpha} in [0, 1].
+    *
+    * @return the maximum angular error of the NLERP, in radians.
+    */
+   public double getNlerpError()
+   {
+      return nlerpError;
+   }
+
+   /**
+    * Estimates the maximum angular error between the NLERP and SLERP for a segment.
+    *
+    * @param halfTheta half the angle between the two orientations.
+    * @return the estimated maximum error, in radians.
+    */
+   static double computeNlerpError(double halfTheta)
+   {
+      double alpha = NLERP_WORST_ALPHA;
+      double nlerpHalfAngle = EuclidCoreTools.atan2(alpha * EuclidCoreTools.sin(halfTheta), 1.0 - alpha + alpha * EuclidCoreTools.cos(halfTheta));
+      return NLERP_ERROR_SAFETY_FACTOR * 2.0 * Math.abs(alpha * halfTheta - nlerpHalfAngle);
+   }
+}
@@ -0,0 +1,307 @@
+package us.ihmc.euclid.shape.collision.broadPhase;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.shape.collision.EuclidShape3DCollisionResult;
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.primitives.Box3D;
+import us.ihmc.euclid.shape.primitives.Ramp3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DChangeListener;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+
+/**
+ * Broad-phase collision detector for a large set of shapes.
+ * <p>
+ * The shapes are stored in a {@link DynamicAABBTree3D} using their bounding boxes, such that the
+ * pairs of shapes which bounding boxes overlap can be found without testing every pair of shapes.
+ * The resulting candidate pairs can then be passed to a narrow-phase collision detector, by default
+ * the {@link ExpandingPolytopeAlgorithm}, see {@link #evaluateCollisions(List)}.
+ * </p>
+ * <p>
+ * The bounding boxes are updated incrementally when calling {@link #update()}: the shapes that
+ * support {@link Shape3DChangeListener}s, i.e. {@link Box3D} and {@link Ramp3D}, are only updated
+ * when they have changed, while the bounding boxes of the other shapes are re-computed at every
+ * update. In both cases, the tree is only modified when a shape has moved outside the enlarged
+ * bounding box of its leaf.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class BroadPhaseCollisionDetector
+{
+   /** The tree holding the shapes. */
+   private final DynamicAABBTree3D<ShapeEntry> tree;
+   /** The entries for each shape registered, used for fast look-up when removing a shape. */
+   private final Map<Shape3DReadOnly, ShapeEntry> entryMap = new IdentityHashMap<>();
+   /** The entries for each shape registered, used for iterating over the shapes. */
+   private final List<ShapeEntry> entries = new ArrayList<>();
+   /** The narrow-phase detector used in {@link #evaluateCollisions(List)}. */
+   private final ExpandingPolytopeAlgorithm narrowPhaseDetector = new ExpandingPolytopeAlgorithm();
+
+   /** The consumer for the current call to {@link #forEachCandidatePair(BiConsumer)}. */
+   private BiConsumer<? super Shape3DReadOnly, ? super Shape3DReadOnly> candidatePairConsumer;
+   /** Filters the pairs found by the tree using the bounding boxes of the shapes. */
+   private final BiConsumer<ShapeEntry, ShapeEntry> treePairConsumer = (entryA, entryB) ->
+   {
+      if (entryA.boundingBox.intersectsInclusive(entryB.boundingBox))
+         candidatePairConsumer.accept(entryA.shape, entryB.shape);
+   };
+
+   /**
+    * Creates a new empty broad-phase detector using the default bounding box margin
+    * {@value DynamicAABBTree3D#DEFAULT_BOUNDING_BOX_MARGIN}.
+    */
+   public BroadPhaseCollisionDetector()
+   {
+      this(DynamicAABBTree3D.DEFAULT_BOUNDING_BOX_MARGIN);
+   }
+
+   /**
+    * Creates a new empty broad-phase detector.
+    *
+    * @param boundingBoxMargin the margin used to enlarge the bounding box of each shape in the tree. A
+    *                          larger margin reduces the number of tree updates when shapes move at the
+    *                          cost of more pairs to filter.
+    */
+   public BroadPhaseCollisionDetector(double boundingBoxMargin)
+   {
+      tree = new DynamicAABBTree3D<>(boundingBoxMargin);
+   }
+
+   /**
+    * Registers a new shape to this detector.
+    * <p>
+    * In the case the shape is already registered, nothing changes.
+    * </p>
+    *
+    * @param shape the shape to register. Not modified, reference saved.
+    * @return {@code true} if the shape was added, {@code false} if it was already registered.
+    */
+   public boolean addShape(Shape3DReadOnly shape)
+   {
+      if (entryMap.containsKey(shape))
+         return false;
+
+      ShapeEntry entry = new ShapeEntry(shape);
+      shape.getBoundingBox(entry.boundingBox);
+      entry.leaf = tree.add(entry, entry.boundingBox);
+      entry.hasChanged = false;
+      entryMap.put(shape, entry);
+      entries.add(entry);
+      return true;
+   }
+
+   /**
+    * Unregisters a shape from this detector.
+    *
+    * @param shape the shape to unregister. Not modified.
+    * @return {@code true} if the shape was removed, {@code false} if it was not registered.
+    */
+   public boolean removeShape(Shape3DReadOnly shape)
+   {
+      ShapeEntry entry = entryMap.remove(shape);
+
+      if (entry == null)
+         return false;
+
+      entry.unregisterListener();
+      tree.remove(entry.leaf);
+      entries.remove(entry);
+      return true;
+   }
+
+   /**
+    * Unregisters all the shapes from this detector.
+    */
+   public void clear()
+   {
+      for (int i = 0; i < entries.size(); i++)
+         entries.get(i).unregisterListener();
+
+      tree.clear();
+      entryMap.clear();
+      entries.clear();
+   }
+
+   /**
+    * Updates the bounding boxes of the shapes that may have changed since the last update.
+    */
+   public void update()
+   {
+      for (int i = 0; i < entries.size(); i++)
+      {
+         ShapeEntry entry = entries.get(i);
+
+         if (!entry.isListening || entry.hasChanged)
+         {
+            entry.shape.getBoundingBox(entry.boundingBox);
+            tree.update(entry.leaf, entry.boundingBox);
+            entry.hasChanged = false;
+         }
+      }
+   }
+
+   /**
+    * Updates this detector and finds all the pairs of shapes which bounding boxes overlap.
+    * <p>
+    * Each pair is reported only once.
+    * </p>
+    *
+    * @param consumer the consumer to call for each candidate pair.
+    */
+   public void forEachCandidatePair(BiConsumer<? super Shape3DReadOnly, ? super Shape3DReadOnly> consumer)
+   {
+      update();
+      candidatePairConsumer = consumer;
+      tree.queryOverlappingPairs(treePairConsumer);
+      candidatePairConsumer = null;
+   }
+
+   /**
+    * Updates this detector and finds all the pairs of shapes which bounding boxes overlap.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @return the list of candidate pairs, each pair is stored as an array of 2 shapes.
+    */
+   public List<Shape3DReadOnly[]> findCandidatePairs()
+   {
+      List<Shape3DReadOnly[]> candidatePairs = new ArrayList<>();
+      forEachCandidatePair((shapeA, shapeB) -> candidatePairs.add(new Shape3DReadOnly[] {shapeA, shapeB}));
+      return candidatePairs;
+   }
+
+   /**
+    * Updates this detector, finds the candidate pairs, and evaluates the collision for each candidate
+    * pair using the narrow-phase detector.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param collisionsToPack the list to which the results of the pairs of shapes that are colliding
+    *                         are added. Modified.
+    * @return the number of pairs of shapes that are colliding.
+    * @see #getNarrowPhaseDetector()
+    */
+   public int evaluateCollisions(List<EuclidShape3DCollisionResult> collisionsToPack)
+   {
+      int initialSize = collisionsToPack.size();
+
+      forEachCandidatePair((shapeA, shapeB) ->
+      {
+         EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+         if (narrowPhaseDetector.evaluateCollision(shapeA, shapeB, result))
+            collisionsToPack.add(result);
+      });
+
+      return collisionsToPack.size() - initialSize;
+   }
+
+   /**
+    * Finds the shapes which enlarged bounding boxes in the tree intersect the given bounding box.
+    * <p>
+    * This method does not update this detector.
+    * </p>
+    *
+    * @param boundingBox the query. Not modified.
+    * @param consumer    the consumer to call for each shape found.
+    */
+   public void query(BoundingBox3DReadOnly boundingBox, Consumer<? super Shape3DReadOnly> consumer)
+   {
+      tree.query(boundingBox, entry -> consumer.accept(entry.shape));
+   }
+
+   /**
+    * Tests whether the given shape is registered to this detector.
+    *
+    * @param shape the query. Not modified.
+    * @return {@code true} if the shape is registered, {@code false} otherwise.
+    */
+   public boolean containsShape(Shape3DReadOnly shape)
+   {
+      return entryMap.containsKey(shape);
+   }
+
+   /**
+    * Gets the number of shapes registered to this detector.
+    *
+    * @return the number of shapes.
+    */
+   public int getNumberOfShapes()
+   {
+      return entries.size();
+   }
+
+   /**
+    * Gets the narrow-phase detector used in {@link #evaluateCollisions(List)}.
+    *
+    * @return the narrow-phase detector.
+    */
+   public ExpandingPolytopeAlgorithm getNarrowPhaseDetector()
+   {
+      return narrowPhaseDetector;
+   }
+
+   /**
+    * Gets the internal tree holding the shapes.
+    *
+    * @return the tree.
+    */
+   public DynamicAABBTree3D<?> getTree()
+   {
+      return tree;
+   }
+
+   private static class ShapeEntry implements Shape3DChangeListener
+   {
+      private final Shape3DReadOnly shape;
+      /** The tight bounding box of the shape. */
+      private final BoundingBox3D boundingBox = new BoundingBox3D();
+      /** Whether the shape notifies this entry when it changes. */
+      private final boolean isListening;
+      private boolean hasChanged = true;
+      private DynamicAABBTree3D.Node<ShapeEntry> leaf;
+
+      public ShapeEntry(Shape3DReadOnly shape)
+      {
+         this.shape = shape;
+
+         if (shape instanceof Box3D)
+         {
+            ((Box3D) shape).addChangeListener(this);
+            isListening = true;
+         }
+         else if (shape instanceof Ramp3D)
+         {
+            ((Ramp3D) shape).addChangeListener(this);
+            isListening = true;
+         }
+         else
+         {
+            isListening = false;
+         }
+      }
+
+      public void unregisterListener()
+      {
+         if (shape instanceof Box3D)
+            ((Box3D) shape).removeChangeListener(this);
+         else if (shape instanceof Ramp3D)
+            ((Ramp3D) shape).removeChangeListener(this);
+      }
+
+      @Override
+      public void changed()
+      {
+         hasChanged = true;
+      }
+   }
+}
@@ -0,0 +1,625 @@
+package us.ihmc.euclid.shape.collision.broadPhase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+
+/**
+ * Dynamic bounding volume hierarchy of axis-aligned bounding boxes.
+ * <p>
+ * This tree is meant to be used as a broad-phase for collision detection: it allows to find
+ * efficiently the pairs of objects which bounding boxes overlap, such that the expensive
+ * narrow-phase algorithms only have to be run on these candidate pairs.
+ * </p>
+ * <p>
+ * Each object is stored in a leaf which bounding box is enlarged by a margin. When an object moves
+ * such that its new bounding box remains inside the enlarged bounding box of its leaf, the tree
+ * does not need to be modified. Otherwise, the leaf is removed and re-inserted. The insertion uses
+ * the surface area heuristic to choose the sibling of the new leaf and the tree is kept balanced
+ * using tree rotations.
+ * </p>
+ * <p>
+ * The internal nodes are recycled such that updating and removing leaves does not generate
+ * garbage.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ * @param <T> the type of the objects stored in this tree.
+ */
+public class DynamicAABBTree3D<T>
+{
+   /** The default value for the margin used to enlarge the bounding box of each leaf. */
+   public static final double DEFAULT_BOUNDING_BOX_MARGIN = 0.01;
+
+   /** The margin used to enlarge the bounding box of each leaf. */
+   private double boundingBoxMargin;
+   private Node<T> root = null;
+   private int numberOfLeaves = 0;
+   /** Internal nodes that have been removed from the tree and that can be recycled. */
+   private final List<Node<T>> unusedInternalNodes = new ArrayList<>();
+
+   /**
+    * Creates a new empty tree using the default bounding box margin
+    * {@value #DEFAULT_BOUNDING_BOX_MARGIN}.
+    */
+   public DynamicAABBTree3D()
+   {
+      this(DEFAULT_BOUNDING_BOX_MARGIN);
+   }
+
+   /**
+    * Creates a new empty tree.
+    *
+    * @param boundingBoxMargin the margin used to enlarge the bounding box of each leaf. A larger
+    *                          margin reduces the number of re-insertions when objects move at the
+    *                          cost of more candidate pairs.
+    */
+   public DynamicAABBTree3D(double boundingBoxMargin)
+   {
+      setBoundingBoxMargin(boundingBoxMargin);
+   }
+
+   /**
+    * Sets the margin used to enlarge the bounding box of each leaf.
+    * <p>
+    * The new margin only affects the leaves that are inserted or re-inserted after calling this
+    * method.
+    * </p>
+    *
+    * @param boundingBoxMargin the new margin, default value {@value #DEFAULT_BOUNDING_BOX_MARGIN}.
+    * @throws IllegalArgumentException if {@code boundingBoxMargin} is negative.
+    */
+   public void setBoundingBoxMargin(double boundingBoxMargin)
+   {
+      if (boundingBoxMargin < 0.0)
+         throw new IllegalArgumentException("The bounding box margin cannot be negative: " + boundingBoxMargin);
+      this.boundingBoxMargin = boundingBoxMargin;
+   }
+
+   /**
+    * Removes all the objects from this tree.
+    */
+   public void clear()
+   {
+      root = null;
+      numberOfLeaves = 0;
+   }
+
+   /**
+    * Adds a new object to this tree.
+    *
+    * @param object      the object to add. Not modified, reference saved.
+    * @param boundingBox the bounding box of the object. Not modified.
+    * @return the leaf holding the object, to be used for updating or removing the object.
+    */
+   public Node<T> add(T object, BoundingBox3DReadOnly boundingBox)
+   {
+      Node<T> leaf = new Node<>();
+      leaf.object = object;
+      setEnlargedBoundingBox(boundingBox, leaf.boundingBox);
+      insertLeaf(leaf);
+      numberOfLeaves++;
+      return leaf;
+   }
+
+   /**
+    * Removes the given leaf from this tree.
+    *
+    * @param leaf the leaf to remove. Modified.
+    * @throws IllegalArgumentException if {@code leaf} does not belong to this tree.
+    */
+   public void remove(Node<T> leaf)
+   {
+      if (!isLeafInTree(leaf))
+         throw new IllegalArgumentException("The given leaf does not belong to this tree.");
+
+      removeLeaf(leaf);
+      numberOfLeaves--;
+   }
+
+   /**
+    * Updates the bounding box of the object held by the given leaf.
+    * <p>
+    * The tree is only modified if the new bounding box is not contained in the enlarged bounding box
+    * of the leaf.
+    * </p>
+    *
+    * @param leaf        the leaf holding the object to update. Modified.
+    * @param boundingBox the new bounding box of the object. Not modified.
+    * @return {@code true} if the leaf had to be re-inserted, {@code false} otherwise.
+    * @throws IllegalArgumentException if {@code leaf} does not belong to this tree.
+    */
+   public boolean update(Node<T> leaf, BoundingBox3DReadOnly boundingBox)
+   {
+      if (!isLeafInTree(leaf))
+         throw new IllegalArgumentException("The given leaf does not belong to this tree.");
+
+      if (contains(leaf.boundingBox, boundingBox))
+         return false;
+
+      removeLeaf(leaf);
+      setEnlargedBoundingBox(boundingBox, leaf.boundingBox);
+      insertLeaf(leaf);
+      return true;
+   }
+
+   /**
+    * Finds all the objects which enlarged bounding box intersects the given bounding box.
+    *
+    * @param boundingBox the query. Not modified.
+    * @param consumer    the consumer to call for each object found.
+    */
+   public void query(BoundingBox3DReadOnly boundingBox, Consumer<? super T> consumer)
+   {
+      if (root != null)
+         query(root, boundingBox, consumer);
+   }
+
+   private void query(Node<T> node, BoundingBox3DReadOnly boundingBox, Consumer<? super T> consumer)
+   {
+      if (!node.boundingBox.intersectsInclusive(boundingBox))
+         return;
+
+      if (node.isLeaf())
+      {
+         consumer.accept(node.object);
+      }
+      else
+      {
+         query(node.child1, boundingBox, consumer);
+         query(node.child2, boundingBox, consumer);
+      }
+   }
+
+   /**
+    * Finds all the pairs of objects which enlarged bounding boxes intersect.
+    * <p>
+    * Each pair is reported only once.
+    * </p>
+    *
+    * @param consumer the consumer to call for each pair found.
+    */
+   public void queryOverlappingPairs(BiConsumer<? super T, ? super T> consumer)
+   {
+      if (root != null)
+         queryOverlappingPairs(root, consumer);
+   }
+
+   private void queryOverlappingPairs(Node<T> node, BiConsumer<? super T, ? super T> consumer)
+   {
+      if (node.isLeaf())
+         return;
+
+      queryOverlappingPairs(node.child1, node.child2, consumer);
+      queryOverlappingPairs(node.child1, consumer);
+      queryOverlappingPairs(node.child2, consumer);
+   }
+
+   private void queryOverlappingPairs(Node<T> nodeA, Node<T> nodeB, BiConsumer<? super T, ? super T> consumer)
+   {
+      if (!nodeA.boundingBox.intersectsInclusive(nodeB.boundingBox))
+         return;
+
+      if (nodeA.isLeaf())
+      {
+         if (nodeB.isLeaf())
+         {
+            consumer.accept(nodeA.object, nodeB.object);
+         }
+         else
+         {
+            queryOverlappingPairs(nodeA, nodeB.child1, consumer);
+            queryOverlappingPairs(nodeA, nodeB.child2, consumer);
+         }
+      }
+      else if (nodeB.isLeaf() || nodeA.height >= nodeB.height)
+      { // Descending the deepest sub-tree first.
+         queryOverlappingPairs(nodeA.child1, nodeB, consumer);
+         queryOverlappingPairs(nodeA.child2, nodeB, consumer);
+      }
+      else
+      {
+         queryOverlappingPairs(nodeA, nodeB.child1, consumer);
+         queryOverlappingPairs(nodeA, nodeB.child2, consumer);
+      }
+   }
+
+   private void insertLeaf(Node<T> leaf)
+   {
+      leaf.height = 0;
+      leaf.child1 = null;
+      leaf.child2 = null;
+
+      if (root == null)
+      {
+         root = leaf;
+         leaf.parent = null;
+         return;
+      }
+
+      // Finding the best sibling for the new leaf using the surface area heuristic.
+      BoundingBox3D leafBoundingBox = leaf.boundingBox;
+      Node<T> sibling = root;
+
+      while (!sibling.isLeaf())
+      {
+         double area = surfaceArea(sibling.boundingBox);
+         double combinedArea = unionSurfaceArea(sibling.boundingBox, leafBoundingBox);
+         // Cost of creating a new parent for this node and the new leaf.
+         double cost = 2.0 * combinedArea;
+         // Minimum cost of pushing the leaf further down the tree.
+         double inheritanceCost = 2.0 * (combinedArea - area);
+         double cost1 = descendingCost(sibling.child1, leafBoundingBox) + inheritanceCost;
+         double cost2 = descendingCost(sibling.child2, leafBoundingBox) + inheritanceCost;
+
+         if (cost < cost1 && cost < cost2)
+            break;
+
+         sibling = cost1 < cost2 ? sibling.child1 : sibling.child2;
+      }
+
+      Node<T> oldParent = sibling.parent;
+      Node<T> newParent = newInternalNode();
+      newParent.parent = oldParent;
+      newParent.boundingBox.combine(leafBoundingBox, sibling.boundingBox);
+      newParent.height = sibling.height + 1;
+
+      if (oldParent != null)
+      {
+         if (oldParent.child1 == sibling)
+            oldParent.child1 = newParent;
+         else
+            oldParent.child2 = newParent;
+      }
+      else
+      {
+         root = newParent;
+      }
+
+      newParent.child1 = sibling;
+      newParent.child2 = leaf;
+      sibling.parent = newParent;
+      leaf.parent = newParent;
+
+      refitAncestors(leaf.parent);
+   }
+
+   private void removeLeaf(Node<T> leaf)
+   {
+      if (leaf == root)
+      {
+         root = null;
+         return;
+      }
+
+      Node<T> parent = leaf.parent;
+      Node<T> grandParent = parent.parent;
+      Node<T> sibling = parent.child1 == leaf ? parent.child2 : parent.child1;
+      leaf.parent = null;
+
+      if (grandParent != null)
+      {
+         if (grandParent.child1 == parent)
+            grandParent.child1 = sibling;
+         else
+            grandParent.child2 = sibling;
+         sibling.parent = grandParent;
+         recycleInternalNode(parent);
+         refitAncestors(grandParent);
+      }
+      else
+      {
+         root = sibling;
+         sibling.parent = null;
+         recycleInternalNode(parent);
+      }
+   }
+
+   /**
+    * Walks up the tree from the given node to the root to re-balance the tree and update the height
+    * and bounding box of each internal node.
+    */
+   private void refitAncestors(Node<T> node)
+   {
+      while (node != null)
+      {
+         node = balance(node);
+         node.height = 1 + Math.max(node.child1.height, node.child2.height);
+         node.boundingBox.combine(node.child1.boundingBox, node.child2.boundingBox);
+         node = node.parent;
+      }
+   }
+
+   /**
+    * Performs a left or right rotation if {@code nodeA} is imbalanced.
+    *
+    * @return the root of the sub-tree after rotation.
+    */
+   private Node<T> balance(Node<T> nodeA)
+   {
+      if (nodeA.isLeaf() || nodeA.height < 2)
+         return nodeA;
+
+      Node<T> nodeB = nodeA.child1;
+      Node<T> nodeC = nodeA.child2;
+      int balance = nodeC.height - nodeB.height;
+
+      if (balance > 1)
+      { // Rotating nodeC up.
+         Node<T> nodeF = nodeC.child1;
+         Node<T> nodeG = nodeC.child2;
+
+         nodeC.child1 = nodeA;
+         replaceChild(nodeA.parent, nodeA, nodeC);
+         nodeA.parent = nodeC;
+
+         if (nodeF.height > nodeG.height)
+         {
+            nodeC.child2 = nodeF;
+            nodeA.child2 = nodeG;
+            nodeG.parent = nodeA;
+         }
+         else
+         {
+            nodeC.child2 = nodeG;
+            nodeA.child2 = nodeF;
+            nodeF.parent = nodeA;
+         }
+
+         nodeA.boundingBox.combine(nodeA.child1.boundingBox, nodeA.child2.boundingBox);
+         nodeA.height = 1 + Math.max(nodeA.child1.height, nodeA.child2.height);
+         nodeC.boundingBox.combine(nodeA.boundingBox, nodeC.child2.boundingBox);
+         nodeC.height = 1 + Math.max(nodeA.height, nodeC.child2.height);
+         return nodeC;
+      }
+
+      if (balance < -1)
+      { // Rotating nodeB up.
+         Node<T> nodeD = nodeB.child1;
+         Node<T> nodeE = nodeB.child2;
+
+         nodeB.child1 = nodeA;
+         replaceChild(nodeA.parent, nodeA, nodeB);
+         nodeA.parent = nodeB;
+
+         if (nodeD.height > nodeE.height)
+         {
+            nodeB.child2 = nodeD;
+            nodeA.child1 = nodeE;
+            nodeE.parent = nodeA;
+         }
+         else
+         {
+            nodeB.child2 = nodeE;
+            nodeA.child1 = nodeD;
+            nodeD.parent = nodeA;
+         }
+
+         nodeA.boundingBox.combine(nodeA.child1.boundingBox, nodeA.child2.boundingBox);
+         nodeA.height = 1 + Math.max(nodeA.child1.height, nodeA.child2.height);
+         nodeB.boundingBox.combine(nodeA.boundingBox, nodeB.child2.boundingBox);
+         nodeB.height = 1 + Math.max(nodeA.height, nodeB.child2.height);
+         return nodeB;
+      }
+
+      return nodeA;
+   }
+
+   private void replaceChild(Node<T> parent, Node<T> oldChild, Node<T> newChild)
+   {
+      newChild.parent = parent;
+
+      if (parent == null)
+         root = newChild;
+      else if (parent.child1 == oldChild)
+         parent.child1 = newChild;
+      else
+         parent.child2 = newChild;
+   }
+
+   private Node<T> newInternalNode()
+   {
+      if (unusedInternalNodes.isEmpty())
+         return new Node<>();
+      else
+         return unusedInternalNodes.remove(unusedInternalNodes.size() - 1);
+   }
+
+   private void recycleInternalNode(Node<T> node)
+   {
+      node.parent = null;
+      node.child1 = null;
+      node.child2 = null;
+      node.height = 0;
+      unusedInternalNodes.add(node);
+   }
+
+   private boolean isLeafInTree(Node<T> leaf)
+   {
+      if (leaf == null || !leaf.isLeaf())
+         return false;
+
+      Node<T> node = leaf;
+      while (node.parent != null)
+         node = node.parent;
+      return node == root;
+   }
+
+   private void setEnlargedBoundingBox(BoundingBox3DReadOnly boundingBox, BoundingBox3D enlargedBoundingBoxToPack)
+   {
+      enlargedBoundingBoxToPack.set(boundingBox.getMinX() - boundingBoxMargin,
+                                    boundingBox.getMinY() - boundingBoxMargin,
+                                    boundingBox.getMinZ() - boundingBoxMargin,
+                                    boundingBox.getMaxX() + boundingBoxMargin,
+                                    boundingBox.getMaxY() + boundingBoxMargin,
+                                    boundingBox.getMaxZ() + boundingBoxMargin);
+   }
+
+   private static double descendingCost(Node<?> child, BoundingBox3DReadOnly leafBoundingBox)
+   {
+      double combinedArea = unionSurfaceArea(child.boundingBox, leafBoundingBox);
+      if (child.isLeaf())
+         return combinedArea;
+      else
+         return combinedArea - surfaceArea(child.boundingBox);
+   }
+
+   private static boolean contains(BoundingBox3DReadOnly outer, BoundingBox3DReadOnly inner)
+   {
+      return outer.getMinX() <= inner.getMinX() && outer.getMinY() <= inner.getMinY() && outer.getMinZ() <= inner.getMinZ()
+            && inner.getMaxX() <= outer.getMaxX() && inner.getMaxY() <= outer.getMaxY() && inner.getMaxZ() <= outer.getMaxZ();
+   }
+
+   private static double surfaceArea(BoundingBox3DReadOnly boundingBox)
+   {
+      double dx = boundingBox.getMaxX() - boundingBox.getMinX();
+      double dy = boundingBox.getMaxY() - boundingBox.getMinY();
+      double dz = boundingBox.getMaxZ() - boundingBox.getMinZ();
+      return 2.0 * (dx * dy + dy * dz + dz * dx);
+   }
+
+   private static double unionSurfaceArea(BoundingBox3DReadOnly boundingBoxA, BoundingBox3DReadOnly boundingBoxB)
+   {
+      double dx = Math.max(boundingBoxA.getMaxX(), boundingBoxB.getMaxX()) - Math.min(boundingBoxA.getMinX(), boundingBoxB.getMinX());
+      double dy = Math.max(boundingBoxA.getMaxY(), boundingBoxB.getMaxY()) - Math.min(boundingBoxA.getMinY(), boundingBoxB.getMinY());
+      double dz = Math.max(boundingBoxA.getMaxZ(), boundingBoxB.getMaxZ()) - Math.min(boundingBoxA.getMinZ(), boundingBoxB.getMinZ());
+      return 2.0 * (dx * dy + dy * dz + dz * dx);
+   }
+
+   /**
+    * Gets the current margin used to enlarge the bounding box of each leaf.
+    *
+    * @return the bounding box margin.
+    */
+   public double getBoundingBoxMargin()
+   {
+      return boundingBoxMargin;
+   }
+
+   /**
+    * Gets the root of this tree.
+    *
+    * @return the root node, or {@code null} if this tree is empty.
+    */
+   public Node<T> getRoot()
+   {
+      return root;
+   }
+
+   /**
+    * Gets the number of objects stored in this tree.
+    *
+    * @return the number of leaves.
+    */
+   public int getNumberOfLeaves()
+   {
+      return numberOfLeaves;
+   }
+
+   /**
+    * Gets the height of this tree, a tree with a single leaf has a height of 0.
+    *
+    * @return the height of this tree, or {@code -1} if this tree is empty.
+    */
+   public int getHeight()
+   {
+      return root == null ? -1 : root.height;
+   }
+
+   /**
+    * Node of a {@link DynamicAABBTree3D}.
+    * <p>
+    * A leaf holds an object while an internal node has exactly 2 children and its bounding box
+    * contains the bounding boxes of its children.
+    * </p>
+    *
+    * @param <T> the type of the objects stored in the tree.
+    */
+   public static class Node<T>
+   {
+      private final BoundingBox3D boundingBox = new BoundingBox3D();
+      private T object;
+      private Node<T> parent;
+      private Node<T> child1;
+      private Node<T> child2;
+      private int height = 0;
+
+      private Node()
+      {
+      }
+
+      /**
+       * Whether this node is a leaf, i.e. it holds an object and has no children.
+       *
+       * @return {@code true} if this node is a leaf, {@code false} otherwise.
+       */
+      public boolean isLeaf()
+      {
+         return child1 == null;
+      }
+
+      /**
+       * Gets the bounding box of this node. For a leaf, this is the enlarged bounding box of the object.
+       *
+       * @return the bounding box of this node.
+       */
+      public BoundingBox3DReadOnly getBoundingBox()
+      {
+         return boundingBox;
+      }
+
+      /**
+       * Gets the object held by this node.
+       *
+       * @return the object, or {@code null} if this node is not a leaf.
+       */
+      public T getObject()
+      {
+         return object;
+      }
+
+      /**
+       * Gets the parent of this node.
+       *
+       * @return the parent, or {@code null} if this node is the root or not in a tree.
+       */
+      public Node<T> getParent()
+      {
+         return parent;
+      }
+
+      /**
+       * Gets the first child of this node.
+       *
+       * @return the first child, or {@code null} if this node is a leaf.
+       */
+      public Node<T> getChild1()
+      {
+         return child1;
+      }
+
+      /**
+       * Gets the second child of this node.
+       *
+       * @return the second child, or {@code null} if this node is a leaf.
+       */
+      public Node<T> getChild2()
+      {
+         return child2;
+      }
+
+      /**
+       * Gets the height of this node, it is equal to 0 for a leaf.
+       *
+       * @return the height of the sub-tree starting at this node.
+       */
+      public int getHeight()
+      {
+         return height;
+      }
+   }
+}
@@ -0,0 +1,150 @@
+package us.ihmc.euclid.shape.collision.epa;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of {@link EPAFace3D} ordered according to {@link EPAFace3D#compareTo(EPAFace3D)},
+ * i.e. the face the closest to the origin is at the head of the queue.
+ * <p>
+ * As opposed to {@link java.util.PriorityQueue}, this queue can be cleared and reused without
+ * generating garbage once it has grown to the required capacity. The sifting operations are the
+ * same as the ones used in {@link java.util.PriorityQueue} such that faces are polled in the same
+ * order, including when several faces are at the same distance from the origin.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ * @see ExpandingPolytopeAlgorithm
+ */
+public class EPAFacePriorityQueue
+{
+   private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+   private EPAFace3D[] heap;
+   private int size = 0;
+
+   /**
+    * Creates a new empty queue.
+    */
+   public EPAFacePriorityQueue()
+   {
+      this(DEFAULT_INITIAL_CAPACITY);
+   }
+
+   /**
+    * Creates a new empty queue.
+    *
+    * @param initialCapacity the number of faces the queue can hold before growing.
+    */
+   public EPAFacePriorityQueue(int initialCapacity)
+   {
+      heap = new EPAFace3D[Math.max(1, initialCapacity)];
+   }
+
+   /**
+    * Removes all the faces from this queue.
+    */
+   public void clear()
+   {
+      Arrays.fill(heap, 0, size, null);
+      size = 0;
+   }
+
+   /**
+    * Inserts a face into this queue.
+    *
+    * @param face the face to insert. Not modified, reference saved.
+    */
+   public void add(EPAFace3D face)
+   {
+      if (face == null)
+         throw new NullPointerException();
+
+      if (size >= heap.length)
+         heap = Arrays.copyOf(heap, 2 * heap.length);
+
+      siftUp(size, face);
+      size++;
+   }
+
+   /**
+    * Retrieves and removes the face at the head of this queue.
+    *
+    * @return the face the closest to the origin, or {@code null} if this queue is empty.
+    */
+   public EPAFace3D poll()
+   {
+      if (size == 0)
+         return null;
+
+      EPAFace3D result = heap[0];
+      size--;
+      EPAFace3D last = heap[size];
+      heap[size] = null;
+      if (size > 0)
+         siftDown(0, last);
+      return result;
+   }
+
+   /**
+    * Retrieves without removing the face at the head of this queue.
+    *
+    * @return the face the closest to the origin, or {@code null} if this queue is empty.
+    */
+   public EPAFace3D peek()
+   {
+      return size == 0 ? null : heap[0];
+   }
+
+   /**
+    * Gets the number of faces in this queue.
+    *
+    * @return the size of this queue.
+    */
+   public int size()
+   {
+      return size;
+   }
+
+   /**
+    * Whether this queue is empty.
+    *
+    * @return {@code true} if this queue contains no face, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return size == 0;
+   }
+
+   private void siftUp(int index, EPAFace3D face)
+   {
+      while (index > 0)
+      {
+         int parent = (index - 1) >>> 1;
+         EPAFace3D parentFace = heap[parent];
+         if (face.compareTo(parentFace) >= 0)
+            break;
+         heap[index] = parentFace;
+         index = parent;
+      }
+      heap[index] = face;
+   }
+
+   private void siftDown(int index, EPAFace3D face)
+   {
+      int half = size >>> 1;
+
+      while (index < half)
+      {
+         int child = 2 * index + 1;
+         EPAFace3D childFace = heap[child];
+         int right = child + 1;
+         if (right < size && childFace.compareTo(heap[right]) > 0)
+            childFace = heap[child = right];
+         if (face.compareTo(childFace) <= 0)
+            break;
+         heap[index] = childFace;
+         index = child;
+      }
+      heap[index] = face;
+   }
+}
@@ -13,9 +13,9 @@ import us.ihmc.euclid.tools.EuclidHashCodeTools;
 public class EPAHalfEdge3D implements HalfEdge3DReadOnly
 {
    /** The vertex this half-edge starts from. */
-   private final EPAVertex3D v0;
+   private EPAVertex3D v0;
    /** The vertex this half-edge ends at. */
-   private final EPAVertex3D v1;
+   private EPAVertex3D v1;
    /**
     * The half-edge on an adjacent face that starts from {@code destination} and ends at
     * {@code origin}.
@@ -30,10 +30,21 @@ public class EPAHalfEdge3D implements HalfEdge3DReadOnly
     */
    private EPAHalfEdge3D previous;
    /** The face that this edge is part of. */
-   private final EPAFace3D face;
+   private EPAFace3D face;
    /** Whether this face has been discarded and is no longer part of a polytope. */
    private boolean obsolete = false;
 
+   /**
+    * Creates a new edge which has to be initialized using
+    * {@link #set(EPAVertex3D, EPAVertex3D, EPAFace3D)} before being used.
+    * <p>
+    * This constructor is meant to be used for recycling edges across collision evaluations.
+    * </p>
+    */
+   public EPAHalfEdge3D()
+   {
+   }
+
    /**
     * Creates a new edge and initializes its endpoints and the face it belongs to.
     *
@@ -42,10 +53,30 @@ public class EPAHalfEdge3D implements HalfEdge3DReadOnly
     * @param face the face the half-edge belongs to. Not modified, reference saved.
     */
    public EPAHalfEdge3D(EPAVertex3D v0, EPAVertex3D v1, EPAFace3D face)
+   {
+      set(v0, v1, face);
+   }
+
+   /**
+    * Resets this edge and initializes its endpoints and the face it belongs to.
+    * <p>
+    * The references to the twin, next, and previous half-edges are cleared and this edge is no
+    * longer marked as obsolete.
+    * </p>
+    *
+    * @param v0   the vertex the half-edge starts from. Not modified, reference saved.
+    * @param v1   the vertex the half-edge ends at. Not modified, reference saved.
+    * @param face the face the half-edge belongs to. Not modified, reference saved.
+    */
+   public void set(EPAVertex3D v0, EPAVertex3D v1, EPAFace3D face)
    {
       this.face = face;
       this.v0 = v0;
       this.v1 = v1;
+      twin = null;
+      next = null;
+      previous = null;
+      obsolete = false;
       v0.addAssociatedEdge(this);
    }
 
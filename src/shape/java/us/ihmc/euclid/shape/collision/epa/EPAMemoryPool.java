@@ -0,0 +1,294 @@
+package us.ihmc.euclid.shape.collision.epa;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.shape.collision.gjk.GJKVertex3D;
+import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+
+/**
+ * Memory pool for the vertices, edges, and faces used in the Expanding Polytope algorithm.
+ * <p>
+ * The objects are stored in arrays and handed out by increasing index, calling {@link #clear()}
+ * makes all of them available again without releasing the memory. The arrays grow on demand, such
+ * that once a pool has been warmed up with a few evaluations it does not generate garbage anymore.
+ * </p>
+ * <p>
+ * Each vertex provided by this pool owns a copy of the pair of supporting vertices it is built
+ * from, such that the supporting vertices of the shapes can be safely recycled.
+ * </p>
+ * <p>
+ * When recycling is disabled, see {@link #setRecycling(boolean)}, this pool creates a new vertex or
+ * face for each request and does not retain it, as the Expanding Polytope algorithm does by
+ * default.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ * @see ExpandingPolytopeAlgorithm
+ */
+public class EPAMemoryPool
+{
+   private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+   /** The vertices, the first {@code numberOfVertices} are in use. */
+   private EPAVertex3D[] vertices;
+   /** The copies of the supporting vertices on the first shape, one per vertex. */
+   private Point3D[] verticesOnShapeA;
+   /** The copies of the supporting vertices on the second shape, one per vertex. */
+   private Point3D[] verticesOnShapeB;
+   private int numberOfVertices = 0;
+   /** The faces, the first {@code numberOfFaces} are in use. Each face owns its 3 half-edges. */
+   private EPAFace3D[] faces;
+   private int numberOfFaces = 0;
+   /** Whether the vertices and faces are recycled, see {@link #setRecycling(boolean)}. */
+   private boolean recycling = true;
+
+   /** Intermediate variables used in {@link EPATools} to build the initial polytope. */
+   final Vector3D[] intermediateVectors = {new Vector3D(), new Vector3D(), new Vector3D(), new Vector3D()};
+   final AxisAngle intermediateAxisAngle = new AxisAngle();
+   final RotationMatrix intermediateRotationMatrix = new RotationMatrix();
+
+   /**
+    * Creates a new empty pool.
+    */
+   public EPAMemoryPool()
+   {
+      this(DEFAULT_INITIAL_CAPACITY);
+   }
+
+   /**
+    * Creates a new empty pool.
+    *
+    * @param initialCapacity the number of vertices and faces to allocate upfront.
+    */
+   public EPAMemoryPool(int initialCapacity)
+   {
+      vertices = new EPAVertex3D[initialCapacity];
+      verticesOnShapeA = new Point3D[initialCapacity];
+      verticesOnShapeB = new Point3D[initialCapacity];
+      faces = new EPAFace3D[initialCapacity];
+
+      for (int i = 0; i < initialCapacity; i++)
+      {
+         vertices[i] = new EPAVertex3D();
+         verticesOnShapeA[i] = new Point3D();
+         verticesOnShapeB[i] = new Point3D();
+         faces[i] = new EPAFace3D();
+      }
+   }
+
+   /**
+    * Makes all the vertices and faces of this pool available again.
+    * <p>
+    * The objects previously provided by this pool should not be used after calling this method.
+    * </p>
+    */
+   public void clear()
+   {
+      numberOfVertices = 0;
+      numberOfFaces = 0;
+   }
+
+   /**
+    * Enables or disables the recycling of the vertices and faces provided by this pool.
+    * <p>
+    * When disabled, each request creates a new object which remains valid after calling
+    * {@link #clear()}. The vertices then save a reference to the supporting vertices they are built
+    * from instead of a copy.
+    * </p>
+    *
+    * @param recycling {@code true} to recycle the vertices and faces, {@code false} to create new ones
+    *                  for each request. Default value is {@code true}.
+    */
+   public void setRecycling(boolean recycling)
+   {
+      this.recycling = recycling;
+   }
+
+   /**
+    * Whether this pool recycles the vertices and faces it provides.
+    *
+    * @return {@code true} if the vertices and faces are recycled, {@code false} otherwise.
+    * @see #setRecycling(boolean)
+    */
+   public boolean isRecycling()
+   {
+      return recycling;
+   }
+
+   /**
+    * Gets the next available vertex and initializes it from the given {@code GJKVertex3D}.
+    *
+    * @param gjkVertex the GJK vertex to copy. Not modified.
+    * @return the vertex.
+    */
+   public EPAVertex3D newVertex(GJKVertex3D gjkVertex)
+   {
+      if (!recycling)
+         return new EPAVertex3D(gjkVertex);
+
+      return newVertex(gjkVertex.getVertexOnShapeA(), gjkVertex.getVertexOnShapeB());
+   }
+
+   /**
+    * Gets the next available vertex and initializes it as follows:<br>
+    * {@code vertex = vertexOnShapeA - vertexOnShapeB}.
+    *
+    * @param vertexOnShapeA the supporting vertex from the first shape. Not modified.
+    * @param vertexOnShapeB the supporting vertex from the second shape. Not modified.
+    * @return the vertex.
+    */
+   public EPAVertex3D newVertex(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
+   {
+      if (!recycling)
+         return new EPAVertex3D(vertexOnShapeA, vertexOnShapeB);
+
+      int index = numberOfVertices;
+      ensureVertexCapacity(index + 1);
+      numberOfVertices++;
+
+      Point3D vertexOnShapeACopy = verticesOnShapeA[index];
+      Point3D vertexOnShapeBCopy = verticesOnShapeB[index];
+      vertexOnShapeACopy.set(vertexOnShapeA);
+      vertexOnShapeBCopy.set(vertexOnShapeB);
+      EPAVertex3D vertex = vertices[index];
+      vertex.set(vertexOnShapeACopy, vertexOnShapeBCopy);
+      return vertex;
+   }
+
+   /**
+    * Gets the next available vertex and initializes it from the supporting vertices of the two
+    * shapes.
+    * <p>
+    * The supporting vertex of {@code shapeA} is evaluated in the direction {@code supportDirection}
+    * while the supporting vertex of {@code shapeB} is evaluated in the opposite direction.
+    * </p>
+    *
+    * @param shapeA           the first shape. Not modified.
+    * @param shapeB           the second shape. Not modified.
+    * @param supportDirection the direction used to evaluate the supporting vertex on
+    *                         {@code shapeA}. Modified, it is negated when this method returns.
+    * @return the vertex.
+    */
+   public EPAVertex3D newSupportingVertex(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB, Vector3DBasics supportDirection)
+   {
+      if (!recycling)
+      {
+         Point3DReadOnly vertexOnShapeA = shapeA.getSupportingVertex(supportDirection);
+         supportDirection.negate();
+         Point3DReadOnly vertexOnShapeB = shapeB.getSupportingVertex(supportDirection);
+         return new EPAVertex3D(vertexOnShapeA, vertexOnShapeB);
+      }
+
+      int index = numberOfVertices;
+      ensureVertexCapacity(index + 1);
+      numberOfVertices++;
+
+      Point3D vertexOnShapeA = verticesOnShapeA[index];
+      Point3D vertexOnShapeB = verticesOnShapeB[index];
+      shapeA.getSupportingVertex(supportDirection, vertexOnShapeA);
+      supportDirection.negate();
+      shapeB.getSupportingVertex(supportDirection, vertexOnShapeB);
+      EPAVertex3D vertex = vertices[index];
+      vertex.set(vertexOnShapeA, vertexOnShapeB);
+      return vertex;
+   }
+
+   /**
+    * Gets the next available face and initializes it from 3 given vertices.
+    *
+    * @param v0      the first vertex of the face. Not modified, reference saved.
+    * @param v1      the second vertex of the face. Not modified, reference saved.
+    * @param v2      the third vertex of the face. Not modified, reference saved.
+    * @param epsilon tolerance used notably for determining whether the triangle face is affinely
+    *                dependent or not.
+    * @return the face.
+    * @see EPAFace3D#set(EPAVertex3D, EPAVertex3D, EPAVertex3D, double)
+    */
+   public EPAFace3D newFace(EPAVertex3D v0, EPAVertex3D v1, EPAVertex3D v2, double epsilon)
+   {
+      EPAFace3D face = nextFace();
+      face.set(v0, v1, v2, epsilon);
+      return face;
+   }
+
+   /**
+    * Gets the next available face and initializes it from one of its edge's twin and a vertex.
+    *
+    * @param vertex  one of the face vertex. Not modified, reference saved.
+    * @param twin    the twin of one of the face's edges. Not modified, reference saved.
+    * @param epsilon tolerance used notably for determining whether the triangle face is affinely
+    *                dependent or not.
+    * @return the face.
+    * @see EPAFace3D#setFromVertexAndTwinEdge(EPAVertex3D, EPAHalfEdge3D, double)
+    */
+   public EPAFace3D newFace(EPAVertex3D vertex, EPAHalfEdge3D twin, double epsilon)
+   {
+      EPAFace3D face = nextFace();
+      face.setFromVertexAndTwinEdge(vertex, twin, epsilon);
+      return face;
+   }
+
+   private EPAFace3D nextFace()
+   {
+      if (!recycling)
+         return new EPAFace3D();
+
+      int index = numberOfFaces;
+
+      if (index >= faces.length)
+      {
+         int previousLength = faces.length;
+         faces = Arrays.copyOf(faces, Math.max(2 * previousLength, index + 1));
+         for (int i = previousLength; i < faces.length; i++)
+            faces[i] = new EPAFace3D();
+      }
+
+      numberOfFaces++;
+      return faces[index];
+   }
+
+   private void ensureVertexCapacity(int capacity)
+   {
+      if (capacity <= vertices.length)
+         return;
+
+      int previousLength = vertices.length;
+      int newLength = Math.max(2 * previousLength, capacity);
+      vertices = Arrays.copyOf(vertices, newLength);
+      verticesOnShapeA = Arrays.copyOf(verticesOnShapeA, newLength);
+      verticesOnShapeB = Arrays.copyOf(verticesOnShapeB, newLength);
+
+      for (int i = previousLength; i < newLength; i++)
+      {
+         vertices[i] = new EPAVertex3D();
+         verticesOnShapeA[i] = new Point3D();
+         verticesOnShapeB[i] = new Point3D();
+      }
+   }
+
+   /**
+    * Gets the number of vertices currently in use.
+    *
+    * @return the number of vertices in use.
+    */
+   public int getNumberOfVertices()
+   {
+      return numberOfVertices;
+   }
+
+   /**
+    * Gets the number of faces currently in use.
+    *
+    * @return the number of faces in use.
+    */
+   public int getNumberOfFaces()
+   {
+      return numberOfFaces;
+   }
+}
@@ -151,9 +151,9 @@ public class EPATools
             if (Math.abs(C1) > epsilon)
                isAlmostInside = false;
 
-            double[] candidateOutput = barycentricCoordinatesFrom1Simplex(s2, s3);
-            double lambda2 = candidateOutput[0];
-            double lambda3 = candidateOutput[1];
+            barycentricCoordinatesFrom1Simplex(s2, s3, lambdasToPack);
+            double lambda2 = lambdasToPack[0];
+            double lambda3 = lambdasToPack[1];
             p0x = lambda2 * s2x + lambda3 * s3x;
             p0y = lambda2 * s2y + lambda3 * s3y;
             p0z = lambda2 * s2z + lambda3 * s3z;
@@ -169,9 +169,11 @@ public class EPATools
             if (Math.abs(C2) > epsilon)
                isAlmostInside = false;
 
-            double[] candidateOutput = barycentricCoordinatesFrom1Simplex(s1, s3);
-            double lambda1 = candidateOutput[0];
-            double lambda3 = candidateOutput[1];
+            // Using lambdasToPack as a buffer for the candidate, the current best coordinates are saved beforehand.
+            double best0 = lambdasToPack[0], best1 = lambdasToPack[1];
+            barycentricCoordinatesFrom1Simplex(s1, s3, lambdasToPack);
+            double lambda1 = lambdasToPack[0];
+            double lambda3 = lambdasToPack[1];
             p0x = lambda1 * s1x + lambda3 * s3x;
             p0y = lambda1 * s1y + lambda3 * s3y;
             p0z = lambda1 * s1z + lambda3 * s3z;
@@ -183,6 +185,11 @@ public class EPATools
                lambdasToPack[2] = lambda3;
                normSquared = candidateNormSquared;
             }
+            else
+            {
+               lambdasToPack[0] = best0;
+               lambdasToPack[1] = best1;
+            }
          }
 
          if (compareSigns(muMax, -C3))
@@ -190,9 +197,10 @@ public class EPATools
             if (Math.abs(C3) > epsilon)
                isAlmostInside = false;
 
-            double[] candidateOutput = barycentricCoordinatesFrom1Simplex(s1, s2);
-            double lambda1 = candidateOutput[0];
-            double lambda2 = candidateOutput[1];
+            double best0 = lambdasToPack[0], best1 = lambdasToPack[1];
+            barycentricCoordinatesFrom1Simplex(s1, s2, lambdasToPack);
+            double lambda1 = lambdasToPack[0];
+            double lambda2 = lambdasToPack[1];
             p0x = lambda1 * s1x + lambda2 * s2x;
             p0y = lambda1 * s1y + lambda2 * s2y;
             p0z = lambda1 * s1z + lambda2 * s2z;
@@ -204,6 +212,11 @@ public class EPATools
                lambdasToPack[2] = 0.0;
                normSquared = candidateNormSquared;
             }
+            else
+            {
+               lambdasToPack[0] = best0;
+               lambdasToPack[1] = best1;
+            }
          }
 
          return isAlmostInside ? BarycentricCoordinatesOutput.INSIDE : BarycentricCoordinatesOutput.OUTSIDE;
@@ -218,6 +231,21 @@ public class EPATools
     * @return the barycentric coordinates.
     */
    public static double[] barycentricCoordinatesFrom1Simplex(Point3DReadOnly s1, Point3DReadOnly s2)
+   {
+      double[] lambdas = new double[2];
+      barycentricCoordinatesFrom1Simplex(s1, s2, lambdas);
+      return lambdas;
+   }
+
+   /**
+    * Computes the barycentric coordinates of the projection of the origin onto the line segment.
+    *
+    * @param s1            the first vertex of the line segment. Not modified.
+    * @param s2            the second vertex of the line segment. Not modified.
+    * @param lambdasToPack the array used to store the barycentric coordinates. Only the first 2
+    *                      elements are modified. Modified.
+    */
+   public static void barycentricCoordinatesFrom1Simplex(Point3DReadOnly s1, Point3DReadOnly s2, double[] lambdasToPack)
    {
       double s1x = s1.getX(), s1y = s1.getY(), s1z = s1.getZ();
       double s2x = s2.getX(), s2y = s2.getY(), s2z = s2.getZ();
@@ -276,16 +304,19 @@ public class EPATools
 
          if (compareSigns(muMax, C2))
          { // The projection in between the edge endpoints. Computing the barycentric coordinates.
-            return new double[] {C1 / muMax, C2 / muMax};
+            lambdasToPack[0] = C1 / muMax;
+            lambdasToPack[1] = C2 / muMax;
          }
          else
          {
-            return new double[] {0.0, 1.0};
+            lambdasToPack[0] = 0.0;
+            lambdasToPack[1] = 1.0;
          }
       }
       else
       {
-         return new double[] {1.0, 0.0};
+         lambdasToPack[0] = 1.0;
+         lambdasToPack[1] = 0.0;
       }
    }
 
@@ -320,37 +351,74 @@ public class EPATools
                                                               double epsilon)
    {
       List<EPAFace3D> epaPolytope = new ArrayList<>();
+      EPAMemoryPool memoryPool = new EPAMemoryPool(0);
+      memoryPool.setRecycling(false);
+      if (newEPAPolytopeFromGJKSimplex(shapeA, shapeB, gjkVertices, epsilon, memoryPool, epaPolytope))
+         return epaPolytope;
+      else
+         return null;
+   }
 
+   /**
+    * Given a simplex defined by {@code gjkVertices}, construct a polytope usable for the initial
+    * iteration of the expanding polytope algorithm.
+    * <p>
+    * This method is equivalent to
+    * {@link #newEPAPolytopeFromGJKSimplex(SupportingVertexHolder, SupportingVertexHolder, GJKVertex3D[], double)}
+    * but the vertices and faces of the polytope are obtained from the given {@code memoryPool}.
+    * </p>
+    *
+    * @param shapeA         the shape in the collision evaluation used in case additional vertices
+    *                       need to be generated. Not modified.
+    * @param shapeB         the shape in the collision evaluation used in case additional vertices
+    *                       need to be generated. Not modified.
+    * @param gjkVertices    the simplex that is commonly the output of the Gilbert-Johnson-Keerthi
+    *                       algorithm. Not modified.
+    * @param epsilon        tolerance required when constructing faces and notably used to determine
+    *                       whether a triangle is affinely dependent or not.
+    * @param memoryPool     the pool from which the vertices and faces are obtained. Modified.
+    * @param polytopeToPack the list in which the faces of the polytope are added. Modified.
+    * @return {@code true} if the polytope was successfully constructed, {@code false} if the simplex
+    *         is a point or that the polytope has a triangle face that is affinely dependent.
+    */
+   public static boolean newEPAPolytopeFromGJKSimplex(SupportingVertexHolder shapeA,
+                                                      SupportingVertexHolder shapeB,
+                                                      GJKVertex3D[] gjkVertices,
+                                                      double epsilon,
+                                                      EPAMemoryPool memoryPool,
+                                                      List<EPAFace3D> polytopeToPack)
+   {
       if (gjkVertices == null)
       {
-         return null;
+         return false;
       }
       else if (gjkVertices.length == 4)
       {
-         EPAVertex3D y0 = new EPAVertex3D(gjkVertices[0]);
-         EPAVertex3D y1 = new EPAVertex3D(gjkVertices[1]);
-         EPAVertex3D y2 = new EPAVertex3D(gjkVertices[2]);
-         EPAVertex3D y3 = new EPAVertex3D(gjkVertices[3]);
+         EPAVertex3D y0 = memoryPool.newVertex(gjkVertices[0]);
+         EPAVertex3D y1 = memoryPool.newVertex(gjkVertices[1]);
+         EPAVertex3D y2 = memoryPool.newVertex(gjkVertices[2]);
+         EPAVertex3D y3 = memoryPool.newVertex(gjkVertices[3]);
 
          // Estimate the face's normal based on its vertices and knowing the expecting ordering based on the twin-edge: v1, v2, then v3.
-         Vector3D n = EuclidPolytopeTools.crossProductOfLineSegment3Ds(y0, y1, y1, y2);
+         Vector3D n = memoryPool.intermediateVectors[0];
+         EuclidPolytopeTools.crossProductOfLineSegment3Ds(y0, y1, y1, y2, n);
          // As the vertices are clockwise ordered the cross-product of 2 successive edges should be negated to obtain the face's normal.
          n.negate();
 
          if (EuclidGeometryTools.isPoint3DAbovePlane3D(y3, y0, n))
          {
-            EPAFace3D f0 = new EPAFace3D(y3, y0, y1, epsilon);
+            EPAFace3D f0 = memoryPool.newFace(y3, y0, y1, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y3, y1, y2, epsilon);
+               return false;
+            EPAFace3D f1 = memoryPool.newFace(y3, y1, y2, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y3, y2, y0, epsilon);
+               return false;
+            EPAFace3D f2 = memoryPool.newFace(y3, y2, y0, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y0, y2, y1, epsilon);
+               return false;
+            EPAFace3D f3 = memoryPool.newFace(y0, y2, y1, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f0.getEdge1().setTwin(f3.getEdge2()); // e01 <-> e10
             f3.getEdge0().setTwin(f2.getEdge1()); // e02 <-> e20
@@ -360,25 +428,25 @@ public class EPATools
             f0.getEdge2().setTwin(f1.getEdge0()); // e13 <-> e31
             f1.getEdge2().setTwin(f2.getEdge0()); // e23 <-> e32
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            polytopeToPack.add(f0);
+            polytopeToPack.add(f1);
+            polytopeToPack.add(f2);
+            polytopeToPack.add(f3);
          }
          else
          {
-            EPAFace3D f0 = new EPAFace3D(y3, y1, y0, epsilon);
+            EPAFace3D f0 = memoryPool.newFace(y3, y1, y0, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y3, y2, y1, epsilon);
+               return false;
+            EPAFace3D f1 = memoryPool.newFace(y3, y2, y1, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y3, y0, y2, epsilon);
+               return false;
+            EPAFace3D f2 = memoryPool.newFace(y3, y0, y2, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y0, y1, y2, epsilon);
+               return false;
+            EPAFace3D f3 = memoryPool.newFace(y0, y1, y2, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f3.getEdge0().setTwin(f0.getEdge1()); // e01 <-> e10
             f2.getEdge1().setTwin(f3.getEdge2()); // e02 <-> e20
@@ -388,48 +456,41 @@ public class EPATools
             f1.getEdge2().setTwin(f0.getEdge0()); // e13 <-> e31
             f2.getEdge2().setTwin(f1.getEdge0()); // e23 <-> e32
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            polytopeToPack.add(f0);
+            polytopeToPack.add(f1);
+            polytopeToPack.add(f2);
+            polytopeToPack.add(f3);
          }
       }
       else if (gjkVertices.length == 3)
       {
-         EPAVertex3D y0 = new EPAVertex3D(gjkVertices[0]);
-         EPAVertex3D y1 = new EPAVertex3D(gjkVertices[1]);
-         EPAVertex3D y2 = new EPAVertex3D(gjkVertices[2]);
+         EPAVertex3D y0 = memoryPool.newVertex(gjkVertices[0]);
+         EPAVertex3D y1 = memoryPool.newVertex(gjkVertices[1]);
+         EPAVertex3D y2 = memoryPool.newVertex(gjkVertices[2]);
 
          // Estimate the face's normal based on its vertices and knowing the expecting ordering based on the twin-edge: v1, v2, then v3.
-         Vector3D n = EuclidPolytopeTools.crossProductOfLineSegment3Ds(y0, y1, y1, y2);
+         Vector3D n = memoryPool.intermediateVectors[0];
+         EuclidPolytopeTools.crossProductOfLineSegment3Ds(y0, y1, y1, y2, n);
          // As the vertices are clockwise ordered the cross-product of 2 successive edges should be negated to obtain the face's normal.
          n.negate();
 
-         Point3DReadOnly vertexA, vertexB;
-         EPAVertex3D y3, y4;
-         vertexA = shapeA.getSupportingVertex(n);
-         n.negate();
-         vertexB = shapeB.getSupportingVertex(n);
-         y3 = new EPAVertex3D(vertexA, vertexB);
-         vertexA = shapeA.getSupportingVertex(n);
-         n.negate();
-         vertexB = shapeB.getSupportingVertex(n);
-         y4 = new EPAVertex3D(vertexA, vertexB);
+         EPAVertex3D y3 = memoryPool.newSupportingVertex(shapeA, shapeB, n);
+         EPAVertex3D y4 = memoryPool.newSupportingVertex(shapeA, shapeB, n);
 
          if (EuclidPolytopeTools.tetrahedronContainsOrigin(y0, y1, y2, y3))
          {
-            EPAFace3D f0 = new EPAFace3D(y3, y0, y1, epsilon);
+            EPAFace3D f0 = memoryPool.newFace(y3, y0, y1, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y3, y1, y2, epsilon);
+               return false;
+            EPAFace3D f1 = memoryPool.newFace(y3, y1, y2, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y3, y2, y0, epsilon);
+               return false;
+            EPAFace3D f2 = memoryPool.newFace(y3, y2, y0, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y0, y2, y1, epsilon);
+               return false;
+            EPAFace3D f3 = memoryPool.newFace(y0, y2, y1, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f0.getEdge1().setTwin(f3.getEdge2()); // e01 <-> e10
             f3.getEdge0().setTwin(f2.getEdge1()); // e02 <-> e20
@@ -439,25 +500,25 @@ public class EPATools
             f0.getEdge2().setTwin(f1.getEdge0()); // e13 <-> e31
             f1.getEdge2().setTwin(f2.getEdge0()); // e23 <-> e32
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            polytopeToPack.add(f0);
+            polytopeToPack.add(f1);
+            polytopeToPack.add(f2);
+            polytopeToPack.add(f3);
          }
          else if (EuclidPolytopeTools.tetrahedronContainsOrigin(y0, y1, y2, y4))
          {
-            EPAFace3D f0 = new EPAFace3D(y4, y1, y0, epsilon);
+            EPAFace3D f0 = memoryPool.newFace(y4, y1, y0, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y4, y2, y1, epsilon);
+               return false;
+            EPAFace3D f1 = memoryPool.newFace(y4, y2, y1, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y4, y0, y2, epsilon);
+               return false;
+            EPAFace3D f2 = memoryPool.newFace(y4, y0, y2, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y0, y1, y2, epsilon);
+               return false;
+            EPAFace3D f3 = memoryPool.newFace(y0, y1, y2, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f3.getEdge0().setTwin(f0.getEdge1()); // e01 <-> e10
             f2.getEdge1().setTwin(f3.getEdge2()); // e02 <-> e20
@@ -467,31 +528,31 @@ public class EPATools
             f1.getEdge2().setTwin(f0.getEdge0()); // e14 <-> e41
             f2.getEdge2().setTwin(f1.getEdge0()); // e24 <-> e42
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            polytopeToPack.add(f0);
+            polytopeToPack.add(f1);
+            polytopeToPack.add(f2);
+            polytopeToPack.add(f3);
          }
          else
          {
-            EPAFace3D f0 = new EPAFace3D(y4, y1, y0, epsilon);
+            EPAFace3D f0 = memoryPool.newFace(y4, y1, y0, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y4, y2, y1, epsilon);
+               return false;
+            EPAFace3D f1 = memoryPool.newFace(y4, y2, y1, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y4, y0, y2, epsilon);
+               return false;
+            EPAFace3D f2 = memoryPool.newFace(y4, y0, y2, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y3, y0, y1, epsilon);
+               return false;
+            EPAFace3D f3 = memoryPool.newFace(y3, y0, y1, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f4 = new EPAFace3D(y3, y1, y2, epsilon);
+               return false;
+            EPAFace3D f4 = memoryPool.newFace(y3, y1, y2, epsilon);
             if (f4.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f5 = new EPAFace3D(y3, y2, y0, epsilon);
+               return false;
+            EPAFace3D f5 = memoryPool.newFace(y3, y2, y0, epsilon);
             if (f5.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f3.getEdge0().setTwin(f5.getEdge2()); // e30 <-> e03
             f4.getEdge0().setTwin(f3.getEdge2()); // e31 <-> e13
@@ -505,20 +566,20 @@ public class EPATools
             f2.getEdge1().setTwin(f5.getEdge1()); // e02 <-> e20
             f4.getEdge1().setTwin(f1.getEdge1()); // e12 <-> e21
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
-            epaPolytope.add(f4);
-            epaPolytope.add(f5);
+            polytopeToPack.add(f0);
+            polytopeToPack.add(f1);
+            polytopeToPack.add(f2);
+            polytopeToPack.add(f3);
+            polytopeToPack.add(f4);
+            polytopeToPack.add(f5);
          }
       }
       else if (gjkVertices.length == 2)
       {
-         EPAVertex3D y0 = new EPAVertex3D(gjkVertices[0]);
-         EPAVertex3D y1 = new EPAVertex3D(gjkVertices[1]);
+         EPAVertex3D y0 = memoryPool.newVertex(gjkVertices[0]);
+         EPAVertex3D y1 = memoryPool.newVertex(gjkVertices[1]);
 
-         Vector3D d = new Vector3D();
+         Vector3D d = memoryPool.intermediateVectors[0];
          d.sub(y1, y0);
 
          Vector3DReadOnly axis = Axis3D.X;
@@ -536,44 +597,36 @@ public class EPATools
             axis = Axis3D.Z;
          }
 
-         Vector3D v1 = new Vector3D();
+         Vector3D v1 = memoryPool.intermediateVectors[1];
          v1.cross(d, axis);
-         RotationMatrix r = new RotationMatrix(new AxisAngle(d, 2.0 / 3.0 * Math.PI));
-         Vector3D v2 = new Vector3D();
-         Vector3D v3 = new Vector3D();
+         AxisAngle axisAngle = memoryPool.intermediateAxisAngle;
+         axisAngle.set(d, 2.0 / 3.0 * Math.PI);
+         RotationMatrix r = memoryPool.intermediateRotationMatrix;
+         r.set(axisAngle);
+         Vector3D v2 = memoryPool.intermediateVectors[2];
+         Vector3D v3 = memoryPool.intermediateVectors[3];
          r.transform(v1, v2);
          r.transform(v2, v3);
 
-         Point3DReadOnly vertexA, vertexB;
-         EPAVertex3D y2, y3, y4;
-         vertexA = shapeA.getSupportingVertex(v1);
-         v1.negate();
-         vertexB = shapeB.getSupportingVertex(v1);
-         y2 = new EPAVertex3D(vertexA, vertexB);
-         vertexA = shapeA.getSupportingVertex(v2);
-         v2.negate();
-         vertexB = shapeB.getSupportingVertex(v2);
-         y3 = new EPAVertex3D(vertexA, vertexB);
-         vertexA = shapeA.getSupportingVertex(v3);
-         v3.negate();
-         vertexB = shapeB.getSupportingVertex(v3);
-         y4 = new EPAVertex3D(vertexA, vertexB);
+         EPAVertex3D y2 = memoryPool.newSupportingVertex(shapeA, shapeB, v1);
+         EPAVertex3D y3 = memoryPool.newSupportingVertex(shapeA, shapeB, v2);
+         EPAVertex3D y4 = memoryPool.newSupportingVertex(shapeA, shapeB, v3);
 
          if (EuclidPolytopeTools.tetrahedronContainsOrigin(y0, y2, y3, y4))
          {
             // Building the faces such that clockwise winding
-            EPAFace3D f0 = new EPAFace3D(y0, y2, y3, epsilon);
+            EPAFace3D f0 = memoryPool.newFace(y0, y2, y3, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y0, y3, y4, epsilon);
+               return false;
+            EPAFace3D f1 = memoryPool.newFace(y0, y3, y4, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y0, y4, y2, epsilon);
+               return false;
+            EPAFace3D f2 = memoryPool.newFace(y0, y4, y2, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y2, y4, y3, epsilon);
+               return false;
+            EPAFace3D f3 = memoryPool.newFace(y2, y4, y3, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f0.getEdge0().setTwin(f2.getEdge2()); // e02 <-> e20
             f1.getEdge0().setTwin(f0.getEdge2()); // e03 <-> e30
@@ -583,26 +636,26 @@ public class EPATools
             f3.getEdge0().setTwin(f2.getEdge1()); // e24 <-> e42
             f1.getEdge1().setTwin(f3.getEdge1()); // e34 <-> e43
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            polytopeToPack.add(f0);
+            polytopeToPack.add(f1);
+            polytopeToPack.add(f2);
+            polytopeToPack.add(f3);
          }
          else if (EuclidPolytopeTools.tetrahedronContainsOrigin(y1, y2, y3, y4))
          {
             // Building the faces such that clockwise winding
-            EPAFace3D f0 = new EPAFace3D(y1, y3, y2, epsilon);
+            EPAFace3D f0 = memoryPool.newFace(y1, y3, y2, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y1, y4, y3, epsilon);
+               return false;
+            EPAFace3D f1 = memoryPool.newFace(y1, y4, y3, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y1, y2, y4, epsilon);
+               return false;
+            EPAFace3D f2 = memoryPool.newFace(y1, y2, y4, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y2, y3, y4, epsilon);
+               return false;
+            EPAFace3D f3 = memoryPool.newFace(y2, y3, y4, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f2.getEdge0().setTwin(f0.getEdge2()); // e12 <-> e21
             f0.getEdge0().setTwin(f1.getEdge2()); // e13 <-> e31
@@ -612,31 +665,31 @@ public class EPATools
             f2.getEdge1().setTwin(f3.getEdge2()); // e24 <-> e42
             f3.getEdge1().setTwin(f1.getEdge1()); // e34 <-> e43
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            polytopeToPack.add(f0);
+            polytopeToPack.add(f1);
+            polytopeToPack.add(f2);
+            polytopeToPack.add(f3);
          }
          else
          {
-            EPAFace3D f0 = new EPAFace3D(y0, y2, y3, epsilon);
+            EPAFace3D f0 = memoryPool.newFace(y0, y2, y3, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y0, y3, y4, epsilon);
+               return false;
+            EPAFace3D f1 = memoryPool.newFace(y0, y3, y4, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y0, y4, y2, epsilon);
+               return false;
+            EPAFace3D f2 = memoryPool.newFace(y0, y4, y2, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y1, y3, y2, epsilon);
+               return false;
+            EPAFace3D f3 = memoryPool.newFace(y1, y3, y2, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f4 = new EPAFace3D(y1, y4, y3, epsilon);
+               return false;
+            EPAFace3D f4 = memoryPool.newFace(y1, y4, y3, epsilon);
             if (f4.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f5 = new EPAFace3D(y1, y2, y4, epsilon);
+               return false;
+            EPAFace3D f5 = memoryPool.newFace(y1, y2, y4, epsilon);
             if (f5.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f0.getEdge0().setTwin(f2.getEdge2()); // e02 <-> e20
             f1.getEdge0().setTwin(f0.getEdge2()); // e03 <-> e30
@@ -654,21 +707,21 @@ public class EPATools
             f5.getEdge1().setTwin(f2.getEdge1()); // e24 <-> e42
             f1.getEdge1().setTwin(f4.getEdge1()); // e34 <-> e43
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
-            epaPolytope.add(f4);
-            epaPolytope.add(f5);
+            polytopeToPack.add(f0);
+            polytopeToPack.add(f1);
+            polytopeToPack.add(f2);
+            polytopeToPack.add(f3);
+            polytopeToPack.add(f4);
+            polytopeToPack.add(f5);
          }
       }
       else if (gjkVertices.length == 1)
       {
          // Supposedly this case only occurs when 2 shapes are only touching with 0-depth.
-         return null;
+         return false;
       }
 
-      return epaPolytope;
+      return true;
    }
 
    /**
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 
 import us.ihmc.euclid.shape.collision.gjk.GJKVertex3D;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.HalfEdge3DReadOnly;
 import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DReadOnly;
 import us.ihmc.euclid.shape.tools.EuclidShapeIOTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
@@ -22,14 +23,25 @@ import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 public class EPAVertex3D implements Vertex3DReadOnly
 {
    /** The coordinates of this vertex. */
-   private final double x, y, z;
+   private double x, y, z;
    /** The supporting vertex from the first shape. */
-   private final Point3DReadOnly vertexOnShapeA;
+   private Point3DReadOnly vertexOnShapeA;
    /** The supporting vertex from the second shape. */
-   private final Point3DReadOnly vertexOnShapeB;
+   private Point3DReadOnly vertexOnShapeB;
    /** List of edges that start at this vertex. */
    private final List<EPAHalfEdge3D> associatedEdges = new ArrayList<>();
 
+   /**
+    * Creates a new vertex which has to be initialized using {@link #set(Point3DReadOnly, Point3DReadOnly)}
+    * before being used.
+    * <p>
+    * This constructor is meant to be used for recycling vertices across collision evaluations.
+    * </p>
+    */
+   public EPAVertex3D()
+   {
+   }
+
    /**
     * Creates a new vertex from a {@code GJKVertex3D} copying its coordinates the supporting vertex
     * from both shapes.
@@ -38,6 +50,33 @@ public class EPAVertex3D implements Vertex3DReadOnly
     */
    public EPAVertex3D(GJKVertex3D gjkVertex3D)
    {
+      set(gjkVertex3D);
+   }
+
+   /**
+    * Creates a new vertex and initializes its coordinates as follows:<br>
+    * {@code this = vertexOnShapeA - vertexOnShapeB}.
+    *
+    * @param vertexOnShapeA the supporting vertex from the first shape. Not modified, reference saved.
+    * @param vertexOnShapeB the supporting vertex from the second shape. Not modified, reference saved.
+    */
+   public EPAVertex3D(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
+   {
+      set(vertexOnShapeA, vertexOnShapeB);
+   }
+
+   /**
+    * Resets this vertex from a {@code GJKVertex3D} copying its coordinates the supporting vertex from
+    * both shapes.
+    * <p>
+    * The edges previously associated to this vertex are cleared.
+    * </p>
+    *
+    * @param gjkVertex3D the GJK vertex to copy. Not modified.
+    */
+   public void set(GJKVertex3D gjkVertex3D)
+   {
+      associatedEdges.clear();
       vertexOnShapeA = gjkVertex3D.getVertexOnShapeA();
       vertexOnShapeB = gjkVertex3D.getVertexOnShapeB();
       x = gjkVertex3D.getX();
@@ -46,14 +85,18 @@ public class EPAVertex3D implements Vertex3DReadOnly
    }
 
    /**
-    * Creates a new vertex and initializes its coordinates as follows:<br>
+    * Resets this vertex and sets its coordinates as follows:<br>
     * {@code this = vertexOnShapeA - vertexOnShapeB}.
+    * <p>
+    * The edges previously associated to this vertex are cleared.
+    * </p>
     *
     * @param vertexOnShapeA the supporting vertex from the first shape. Not modified, reference saved.
     * @param vertexOnShapeB the supporting vertex from the second shape. Not modified, reference saved.
     */
-   public EPAVertex3D(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
+   public void set(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
    {
+      associatedEdges.clear();
       this.vertexOnShapeA = vertexOnShapeA;
       this.vertexOnShapeB = vertexOnShapeB;
       x = vertexOnShapeA.getX() - vertexOnShapeB.getX();
@@ -123,6 +166,18 @@ public class EPAVertex3D implements Vertex3DReadOnly
       return false;
    }
 
+   /** {@inheritDoc} */
+   @Override
+   public boolean isEdgeAssociated(HalfEdge3DReadOnly edgeToCheck)
+   {
+      for (int i = 0; i < associatedEdges.size(); i++)
+      {
+         if (associatedEdges.get(i) == edgeToCheck)
+            return true;
+      }
+      return false;
+   }
+
    /** {@inheritDoc} */
    @Override
    public EPAHalfEdge3D getEdgeTo(Vertex3DReadOnly destination)
@@ -2,7 +2,6 @@ package us.ihmc.euclid.shape.collision.epa;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.PriorityQueue;
 
 import us.ihmc.euclid.shape.collision.EuclidShape3DCollisionResult;
 import us.ihmc.euclid.shape.collision.gjk.GJKVertex3D;
@@ -15,7 +14,6 @@ import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
 import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tools.TupleTools;
 import us.ihmc.euclid.tuple3D.Vector3D;
-import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 
 /**
  * Implementation of the Expanding Polytope algorithm used for collision detection.
@@ -61,11 +59,31 @@ public class ExpandingPolytopeAlgorithm
     */
    private EPAFace3D lastResult = null;
 
+   /**
+    * When {@code true}, the vertices and faces used during an evaluation are recycled across
+    * evaluations.
+    */
+   private boolean garbageFree = false;
+   /**
+    * The pool used to create the vertices and faces of the polytope, it only recycles them in
+    * garbage-free mode.
+    */
+   private final EPAMemoryPool memoryPool = new EPAMemoryPool(0);
+   /** The queue of faces sorted by increasing distance to the origin. */
+   private final EPAFacePriorityQueue queue = new EPAFacePriorityQueue();
+   /** Intermediate variable used to build the initial polytope. */
+   private final List<EPAFace3D> initialPolytope = new ArrayList<>();
+   /** Intermediate variable used to store the silhouette of the polytope as seen from a new vertex. */
+   private final List<EPAHalfEdge3D> silhouette = new ArrayList<>();
+   /** Intermediate variable used to store the current support direction. */
+   private final Vector3D supportDirection = new Vector3D();
+
    /**
     * Creates a new collision detector that can be used right away to evaluate collisions.
     */
    public ExpandingPolytopeAlgorithm()
    {
+      memoryPool.setRecycling(false);
    }
 
    /**
@@ -187,12 +205,15 @@ public class ExpandingPolytopeAlgorithm
                                     GJKVertex3D[] simplex,
                                     EuclidShape3DCollisionResultBasics resultToPack)
    {
-      PriorityQueue<EPAFace3D> queue = new PriorityQueue<>();
+      queue.clear();
       double mu = Double.POSITIVE_INFINITY;
 
-      List<EPAFace3D> initialPolytope = EPATools.newEPAPolytopeFromGJKSimplex(shapeA, shapeB, simplex, epsilon);
+      memoryPool.clear();
+
+      initialPolytope.clear();
+      boolean isInitialPolytopeValid = EPATools.newEPAPolytopeFromGJKSimplex(shapeA, shapeB, simplex, epsilon, memoryPool, initialPolytope);
 
-      if (initialPolytope == null)
+      if (!isInitialPolytopeValid)
       {
          lastResult = null;
          if (VERBOSE)
@@ -200,8 +221,9 @@ public class ExpandingPolytopeAlgorithm
       }
       else
       {
-         initialPolytope.forEach(queue::add);
-         Vector3D supportDirection = new Vector3D();
+         for (int i = 0; i < initialPolytope.size(); i++)
+            queue.add(initialPolytope.get(i));
+         initialPolytope.clear();
          numberOfIterations = 0;
 
          while (numberOfIterations < maxIterations)
@@ -245,11 +267,7 @@ public class ExpandingPolytopeAlgorithm
             else if (supportDirection.getZ() == 0.0)
                supportDirection.setZ(SUPPORT_DIRECTION_ZERO_COMPONENT);
 
-            Point3DReadOnly vertexA = shapeA.getSupportingVertex(supportDirection);
-            supportDirection.negate();
-            Point3DReadOnly vertexB = shapeB.getSupportingVertex(supportDirection);
-
-            EPAVertex3D newVertex = new EPAVertex3D(vertexA, vertexB);
+            EPAVertex3D newVertex = memoryPool.newSupportingVertex(shapeA, shapeB, supportDirection);
 
             if (entry.contains(newVertex))
             {
@@ -276,11 +294,7 @@ public class ExpandingPolytopeAlgorithm
 
                if (retry)
                {
-                  vertexA = shapeA.getSupportingVertex(supportDirection);
-                  supportDirection.negate();
-                  vertexB = shapeB.getSupportingVertex(supportDirection);
-
-                  newVertex = new EPAVertex3D(vertexA, vertexB);
+                  newVertex = memoryPool.newSupportingVertex(shapeA, shapeB, supportDirection);
 
                   terminate = entry.contains(newVertex);
                }
@@ -319,16 +333,17 @@ public class ExpandingPolytopeAlgorithm
             }
 
             entry.markObsolete();
-            List<EPAHalfEdge3D> silhouette = new ArrayList<>();
+            silhouette.clear();
             EPATools.silhouette(entry.getEdge0().getTwin(), newVertex, silhouette);
             EPATools.silhouette(entry.getEdge1().getTwin(), newVertex, silhouette);
             EPATools.silhouette(entry.getEdge2().getTwin(), newVertex, silhouette);
 
             boolean areNewTrianglesFine = true;
 
-            for (EPAHalfEdge3D sentryEdge : silhouette)
+            for (int silhouetteIndex = 0; silhouetteIndex < silhouette.size(); silhouetteIndex++)
             {
-               EPAFace3D newEntry = EPAFace3D.fromVertexAndTwinEdge(newVertex, sentryEdge, epsilon);
+               EPAHalfEdge3D sentryEdge = silhouette.get(silhouetteIndex);
+               EPAFace3D newEntry = memoryPool.newFace(newVertex, sentryEdge, epsilon);
 
                if (newEntry.isTriangleAffinelyDependent())
                {
@@ -373,9 +388,9 @@ public class ExpandingPolytopeAlgorithm
             if (terminate)
                break;
 
-            for (EPAHalfEdge3D sentryEdge : silhouette)
+            for (int silhouetteIndex = 0; silhouetteIndex < silhouette.size(); silhouetteIndex++)
             {
-               EPAVertex3D vertexOnSilhouette = sentryEdge.getOrigin();
+               EPAVertex3D vertexOnSilhouette = silhouette.get(silhouetteIndex).getOrigin();
 
                for (int index = vertexOnSilhouette.getNumberOfAssociatedEdges() - 1; index >= 0; index--)
                { // Remove obsolete edges to limit the growth of the internal list.
@@ -386,7 +401,10 @@ public class ExpandingPolytopeAlgorithm
          }
       }
 
-      if (initialPolytope == null)
+      queue.clear();
+      silhouette.clear();
+
+      if (!isInitialPolytopeValid)
       {
          resultToPack.setShapesAreColliding(false);
          resultToPack.setSignedDistance(0.0);
@@ -420,6 +438,33 @@ public class ExpandingPolytopeAlgorithm
       return gjkCollisionDetector;
    }
 
+   /**
+    * Enables or disables the garbage-free mode of this detector.
+    * <p>
+    * When enabled, the evaluation of the collision between two {@link SupportingVertexHolder}s does
+    * not generate garbage once this detector has been warmed up. The vertices and faces of the
+    * polytope are obtained from a memory pool owned by this detector and recycled across evaluations,
+    * such that the face returned by {@link #getClosestFace()} is only valid until the next evaluation.
+    * </p>
+    * <p>
+    * This also enables or disables the garbage-free mode of the internal GJK collision detector, see
+    * {@link GilbertJohnsonKeerthiCollisionDetector#setGarbageFree(boolean)}.
+    * </p>
+    * <p>
+    * Note that the evaluation of the collision between two {@link Shape3DReadOnly}s may still
+    * generate garbage when the shapes are primitives.
+    * </p>
+    *
+    * @param garbageFree {@code true} to recycle the internal objects across evaluations, {@code false}
+    *                    to allocate new ones for each evaluation. Default value is {@code false}.
+    */
+   public void setGarbageFree(boolean garbageFree)
+   {
+      this.garbageFree = garbageFree;
+      memoryPool.setRecycling(garbageFree);
+      gjkCollisionDetector.setGarbageFree(garbageFree);
+   }
+
    /**
     * Sets the limit to the number of iterations in case the algorithm does not succeed to converge.
     *
@@ -452,6 +497,18 @@ public class ExpandingPolytopeAlgorithm
       return epsilon;
    }
 
+   /**
+    * Whether this detector is in garbage-free mode.
+    *
+    * @return {@code true} if the internal objects are recycled across evaluations, {@code false}
+    *         otherwise.
+    * @see #setGarbageFree(boolean)
+    */
+   public boolean isGarbageFree()
+   {
+      return garbageFree;
+   }
+
    /**
     * Gets the number of iterations needed for the last evaluation.
     *
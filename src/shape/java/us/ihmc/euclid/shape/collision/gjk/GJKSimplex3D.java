@@ -6,6 +6,7 @@ import us.ihmc.euclid.tools.TupleTools;
 import us.ihmc.euclid.tuple3D.Point3D;
 import us.ihmc.euclid.tuple3D.Vector3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 
 /**
  * Simplex 3D used in the Gilbert-Johnson-Keerthi algorithm.
@@ -24,17 +25,20 @@ import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
  */
 public class GJKSimplex3D
 {
+   private static final GJKVertex3D[] EMPTY_VERTICES = new GJKVertex3D[0];
+   private static final double[] EMPTY_COORDINATES = new double[0];
+
    /** The vertices composing this simplex. */
-   private final GJKVertex3D[] vertices;
+   private GJKVertex3D[] vertices;
    /**
     * The barycentric coordinates of {@code closestPointToOrigin}. See:
     * <a href="https://en.wikipedia.org/wiki/Barycentric_coordinate_system">link</a>.
     */
-   private final double[] barycentricCoordinates;
+   private double[] barycentricCoordinates;
    /** Location of the point on this simplex that is the closest to the origin. */
-   private final Point3D closestPointToOrigin;
+   private Point3D closestPointToOrigin;
    /** The square of the distance between this simplex and the origin. */
-   private final double distanceFromOriginSquared;
+   private double distanceFromOriginSquared;
 
    /** The distance between this simplex and the origin, evaluated upon request only. */
    private double distanceFromOrigin = Double.NaN;
@@ -43,13 +47,24 @@ public class GJKSimplex3D
     */
    private double maxDistanceSquaredFromOrigin = Double.NEGATIVE_INFINITY;
 
+   /**
+    * Arrays used internally when this simplex is being recycled, indexed by the number of vertices.
+    * They are only allocated when this simplex is set while already holding vertices, such that a
+    * simplex that is never recycled does not hold onto them.
+    */
+   private GJKVertex3D[][] vertexBuffers = null;
+   /**
+    * Arrays used internally when this simplex is being recycled, indexed by the number of vertices.
+    */
+   private double[][] barycentricCoordinateBuffers = null;
+
    /**
     * Creates a new empty simplex, i.e. no vertices.
     */
    public GJKSimplex3D()
    {
-      vertices = new GJKVertex3D[0];
-      barycentricCoordinates = new double[0];
+      vertices = EMPTY_VERTICES;
+      barycentricCoordinates = EMPTY_COORDINATES;
       closestPointToOrigin = null;
       distanceFromOriginSquared = Double.NaN;
    }
@@ -83,6 +98,183 @@ public class GJKSimplex3D
       this.barycentricCoordinates = barycentricCoordinates;
 
       closestPointToOrigin = new Point3D();
+      updateClosestPointToOrigin();
+   }
+
+   /**
+    * Clears this simplex such that it has no vertices.
+    */
+   public void clear()
+   {
+      useBuffers(0);
+      closestPointToOrigin.setToNaN();
+      distanceFromOriginSquared = Double.NaN;
+   }
+
+   /**
+    * Sets this simplex to be a 0-simplex.
+    * <p>
+    * Unlike the constructors, this method does not generate garbage once this simplex has been warmed
+    * up.
+    * </p>
+    *
+    * @param vertex the vertex defining this simplex. Not modified, reference saved.
+    */
+   public void set(GJKVertex3D vertex)
+   {
+      useBuffers(1);
+      vertices[0] = vertex;
+      barycentricCoordinates[0] = 1.0;
+      closestPointToOrigin.set(vertex);
+      distanceFromOriginSquared = vertex.distanceFromOriginSquared();
+   }
+
+   /**
+    * Sets this simplex to be a 1-simplex.
+    * <p>
+    * Unlike the constructors, this method does not generate garbage once this simplex has been warmed
+    * up.
+    * </p>
+    *
+    * @param s1      the first vertex. Not modified, reference saved.
+    * @param s2      the second vertex. Not modified, reference saved.
+    * @param lambda1 the barycentric coordinate associated to {@code s1}.
+    * @param lambda2 the barycentric coordinate associated to {@code s2}.
+    */
+   public void set(GJKVertex3D s1, GJKVertex3D s2, double lambda1, double lambda2)
+   {
+      useBuffers(2);
+      vertices[0] = s1;
+      vertices[1] = s2;
+      barycentricCoordinates[0] = lambda1;
+      barycentricCoordinates[1] = lambda2;
+      updateClosestPointToOrigin();
+   }
+
+   /**
+    * Sets this simplex to be a 2-simplex.
+    * <p>
+    * Unlike the constructors, this method does not generate garbage once this simplex has been warmed
+    * up.
+    * </p>
+    *
+    * @param s1      the first vertex. Not modified, reference saved.
+    * @param s2      the second vertex. Not modified, reference saved.
+    * @param s3      the third vertex. Not modified, reference saved.
+    * @param lambda1 the barycentric coordinate associated to {@code s1}.
+    * @param lambda2 the barycentric coordinate associated to {@code s2}.
+    * @param lambda3 the barycentric coordinate associated to {@code s3}.
+    */
+   public void set(GJKVertex3D s1, GJKVertex3D s2, GJKVertex3D s3, double lambda1, double lambda2, double lambda3)
+   {
+      useBuffers(3);
+      vertices[0] = s1;
+      vertices[1] = s2;
+      vertices[2] = s3;
+      barycentricCoordinates[0] = lambda1;
+      barycentricCoordinates[1] = lambda2;
+      barycentricCoordinates[2] = lambda3;
+      updateClosestPointToOrigin();
+   }
+
+   /**
+    * Sets this simplex to be a 3-simplex.
+    * <p>
+    * Unlike the constructors, this method does not generate garbage once this simplex has been warmed
+    * up.
+    * </p>
+    *
+    * @param s1      the first vertex. Not modified, reference saved.
+    * @param s2      the second vertex. Not modified, reference saved.
+    * @param s3      the third vertex. Not modified, reference saved.
+    * @param s4      the fourth vertex. Not modified, reference saved.
+    * @param lambda1 the barycentric coordinate associated to {@code s1}.
+    * @param lambda2 the barycentric coordinate associated to {@code s2}.
+    * @param lambda3 the barycentric coordinate associated to {@code s3}.
+    * @param lambda4 the barycentric coordinate associated to {@code s4}.
+    */
+   public void set(GJKVertex3D s1, GJKVertex3D s2, GJKVertex3D s3, GJKVertex3D s4, double lambda1, double lambda2, double lambda3, double lambda4)
+   {
+      useBuffers(4);
+      vertices[0] = s1;
+      vertices[1] = s2;
+      vertices[2] = s3;
+      vertices[3] = s4;
+      barycentricCoordinates[0] = lambda1;
+      barycentricCoordinates[1] = lambda2;
+      barycentricCoordinates[2] = lambda3;
+      barycentricCoordinates[3] = lambda4;
+      updateClosestPointToOrigin();
+   }
+
+   /**
+    * Sets this simplex to be a copy of {@code other}.
+    * <p>
+    * The vertices are not copied, only their references are.
+    * </p>
+    *
+    * @param other the other simplex to copy. Not modified.
+    */
+   public void set(GJKSimplex3D other)
+   {
+      if (other == this)
+         return;
+
+      int numberOfVertices = other.getNumberOfVertices();
+      useBuffers(numberOfVertices);
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         vertices[i] = other.vertices[i];
+         barycentricCoordinates[i] = other.barycentricCoordinates[i];
+      }
+
+      if (other.closestPointToOrigin == null)
+         closestPointToOrigin.setToNaN();
+      else
+         closestPointToOrigin.set(other.closestPointToOrigin);
+      distanceFromOriginSquared = other.distanceFromOriginSquared;
+      distanceFromOrigin = other.distanceFromOrigin;
+      maxDistanceSquaredFromOrigin = other.maxDistanceSquaredFromOrigin;
+   }
+
+   private void useBuffers(int numberOfVertices)
+   {
+      if (closestPointToOrigin == null)
+         closestPointToOrigin = new Point3D();
+
+      distanceFromOrigin = Double.NaN;
+      maxDistanceSquaredFromOrigin = Double.NEGATIVE_INFINITY;
+
+      if (vertexBuffers == null)
+      {
+         if (vertices == EMPTY_VERTICES)
+         { // First use of a simplex created empty, the buffer tables are only needed if it is set again.
+            if (numberOfVertices > 0)
+            {
+               vertices = new GJKVertex3D[numberOfVertices];
+               barycentricCoordinates = new double[numberOfVertices];
+            }
+            return;
+         }
+
+         vertexBuffers = new GJKVertex3D[5][];
+         barycentricCoordinateBuffers = new double[5][];
+      }
+
+      if (vertexBuffers[numberOfVertices] == null)
+      {
+         vertexBuffers[numberOfVertices] = new GJKVertex3D[numberOfVertices];
+         barycentricCoordinateBuffers[numberOfVertices] = new double[numberOfVertices];
+      }
+
+      vertices = vertexBuffers[numberOfVertices];
+      barycentricCoordinates = barycentricCoordinateBuffers[numberOfVertices];
+   }
+
+   private void updateClosestPointToOrigin()
+   {
+      closestPointToOrigin.setToZero();
       for (int i = 0; i < getNumberOfVertices(); i++)
          closestPointToOrigin.scaleAdd(barycentricCoordinates[i], vertices[i], closestPointToOrigin);
       distanceFromOriginSquared = closestPointToOrigin.distanceFromOriginSquared();
@@ -112,6 +304,8 @@ public class GJKSimplex3D
     */
    public Point3D getClosestPointToOrigin()
    {
+      if (getNumberOfVertices() == 0)
+         return null;
       return closestPointToOrigin;
    }
 
@@ -163,12 +357,27 @@ public class GJKSimplex3D
     */
    public Vector3D getTriangleNormal()
    {
-      if (vertices.length != 3)
+      Vector3D n = new Vector3D();
+      if (getTriangleNormal(n))
+         return n;
+      else
          return null;
-      Vector3D n = EuclidPolytopeTools.crossProductOfLineSegment3Ds(vertices[0], vertices[1], vertices[0], vertices[2]);
-      if (TupleTools.dot(n, closestPointToOrigin) > 0.0)
-         n.negate();
-      return n;
+   }
+
+   /**
+    * When this simplex is a triangle, its computes its normal vector.
+    *
+    * @param normalToPack the vector used to store the triangle normal. Modified.
+    * @return {@code true} if this is a 2-simplex and the normal was computed, {@code false} otherwise.
+    */
+   public boolean getTriangleNormal(Vector3DBasics normalToPack)
+   {
+      if (vertices.length != 3)
+         return false;
+      EuclidPolytopeTools.crossProductOfLineSegment3Ds(vertices[0], vertices[1], vertices[0], vertices[2], normalToPack);
+      if (TupleTools.dot(normalToPack, closestPointToOrigin) > 0.0)
+         normalToPack.negate();
+      return true;
    }
 
    /**
@@ -276,4 +485,17 @@ public class GJKSimplex3D
    {
       return vertices;
    }
+
+   /**
+    * Gets the barycentric coordinates of the point on this simplex that is the closest to the origin.
+    * <p>
+    * The i<sup>th</sup> coordinate is associated to the i<sup>th</sup> vertex of this simplex.
+    * </p>
+    *
+    * @return the barycentric coordinates of the closest point to the origin.
+    */
+   public double[] getBarycentricCoordinates()
+   {
+      return barycentricCoordinates;
+   }
 }
\ No newline at end of file
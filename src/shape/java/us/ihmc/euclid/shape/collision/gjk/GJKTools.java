@@ -118,15 +118,63 @@ public class GJKTools
     * @return the smallest simplex that is the closest to the origin.
     */
    public static GJKSimplex3D simplexClosestToOrigin(GJKVertex3D[] oldVertices, GJKVertex3D newVertex)
+   {
+      GJKSimplex3D output = new GJKSimplex3D();
+      return simplexClosestToOrigin(oldVertices, newVertex, output, null, null) ? output : null;
+   }
+
+   /**
+    * Finds the smallest simplex that belongs to the simplex defined by the given {@code oldVertices}
+    * and {@code newVertex} and that is the closest to the origin.
+    * <p>
+    * This is the garbage-free equivalent of {@link #simplexClosestToOrigin(GJKVertex3D[], GJKVertex3D)}
+    * for which the result and the intermediate candidates are stored in the given simplices. The given
+    * simplices have to be distinct instances and none of them should own {@code oldVertices}. The
+    * candidate buffers can be {@code null}, in which case they are only created when needed.
+    * </p>
+    *
+    * @param oldVertices           the vertices that may be filtered out. The array should contain at
+    *                              most 3 vertices. Not modified.
+    * @param newVertex             the vertex that should not be filtered out by this method. Not
+    *                              modified.
+    * @param simplexToPack         the simplex used to store the result. Modified.
+    * @param firstCandidateBuffer  simplex used internally to store intermediate results. Can be
+    *                              {@code null}. Modified.
+    * @param secondCandidateBuffer simplex used internally to store intermediate results. Can be
+    *                              {@code null}. Modified.
+    * @return {@code true} if the closest simplex was found, {@code false} if the simplex is
+    *         degenerate.
+    */
+   public static boolean simplexClosestToOrigin(GJKVertex3D[] oldVertices,
+                                                GJKVertex3D newVertex,
+                                                GJKSimplex3D simplexToPack,
+                                                GJKSimplex3D firstCandidateBuffer,
+                                                GJKSimplex3D secondCandidateBuffer)
    {
       if (oldVertices.length == 3)
-         return simplexClosestToOriginFrom3Simplex(newVertex, oldVertices[2], oldVertices[1], oldVertices[0]);
+      {
+         return simplexClosestToOriginFrom3Simplex(newVertex,
+                                                   oldVertices[2],
+                                                   oldVertices[1],
+                                                   oldVertices[0],
+                                                   simplexToPack,
+                                                   firstCandidateBuffer,
+                                                   secondCandidateBuffer);
+      }
       else if (oldVertices.length == 2)
-         return simplexClosestToOriginFrom2Simplex(newVertex, oldVertices[1], oldVertices[0]);
+      {
+         return simplexClosestToOriginFrom2Simplex(newVertex, oldVertices[1], oldVertices[0], simplexToPack, firstCandidateBuffer);
+      }
       else if (oldVertices.length == 1)
-         return simplexClosestToOriginFrom1Simplex(newVertex, oldVertices[0]);
+      {
+         simplexClosestToOriginFrom1Simplex(newVertex, oldVertices[0], simplexToPack);
+         return true;
+      }
       else
-         return new GJKSimplex3D(newVertex);
+      {
+         simplexToPack.set(newVertex);
+         return true;
+      }
    }
 
    /**
@@ -150,6 +198,41 @@ public class GJKTools
     * @return the smallest simplex that is the closest to the origin.
     */
    public static GJKSimplex3D simplexClosestToOriginFrom3Simplex(GJKVertex3D s1, GJKVertex3D s2, GJKVertex3D s3, GJKVertex3D s4)
+   {
+      GJKSimplex3D output = new GJKSimplex3D();
+      return simplexClosestToOriginFrom3Simplex(s1, s2, s3, s4, output, null, null) ? output : null;
+   }
+
+   /**
+    * Finds the smallest simplex that belongs to the tetrahedron, defined by the given vertices, that
+    * is the closest to the origin.
+    * <p>
+    * This is the garbage-free equivalent of
+    * {@link #simplexClosestToOriginFrom3Simplex(GJKVertex3D, GJKVertex3D, GJKVertex3D, GJKVertex3D)}.
+    * The given simplices have to be distinct instances. The candidate buffers can be {@code null}, in
+    * which case they are only created when needed.
+    * </p>
+    *
+    * @param s1                    the first vertex of the tetrahedron. <b>This method assumes that
+    *                              this vertex should not be filtered out</b>. Not modified.
+    * @param s2                    the second vertex of the tetrahedron. Not modified.
+    * @param s3                    the third vertex of the tetrahedron. Not modified.
+    * @param s4                    the fourth vertex of the tetrahedron. Not modified.
+    * @param simplexToPack         the simplex used to store the result. Modified.
+    * @param firstCandidateBuffer  simplex used internally to store intermediate results. Can be
+    *                              {@code null}. Modified.
+    * @param secondCandidateBuffer simplex used internally to store intermediate results. Can be
+    *                              {@code null}. Modified.
+    * @return {@code true} if the closest simplex was found, {@code false} if the tetrahedron is
+    *         degenerate.
+    */
+   public static boolean simplexClosestToOriginFrom3Simplex(GJKVertex3D s1,
+                                                            GJKVertex3D s2,
+                                                            GJKVertex3D s3,
+                                                            GJKVertex3D s4,
+                                                            GJKSimplex3D simplexToPack,
+                                                            GJKSimplex3D firstCandidateBuffer,
+                                                            GJKSimplex3D secondCandidateBuffer)
    {
       double s1x = s1.getX(), s1y = s1.getY(), s1z = s1.getZ();
       double s2x = s2.getX(), s2y = s2.getY(), s2z = s2.getZ();
@@ -164,30 +247,29 @@ public class GJKTools
 
       if (compareSigns(detM, C41) && compareSigns(detM, C42) && compareSigns(detM, C43) && compareSigns(detM, C44))
       {
-         double[] lambdas = {C41 / detM, C42 / detM, C43 / detM, C44 / detM};
-         GJKVertex3D[] supportVertices = {s1, s2, s3, s4};
-         return new GJKSimplex3D(supportVertices, lambdas);
+         simplexToPack.set(s1, s2, s3, s4, C41 / detM, C42 / detM, C43 / detM, C44 / detM);
+         return true;
       }
       else
       {
          double d = Double.POSITIVE_INFINITY;
-         GJKSimplex3D output = null;
+         boolean found = false;
 
          double zeroTestEpsilon = 1.0e-13;
 
          if (compareSigns(detM, -C42))
          {
             if (EuclidCoreTools.isZero(detM, zeroTestEpsilon) && EuclidCoreTools.isZero(C42, zeroTestEpsilon))
-               return null;
+               return false;
 
-            GJKSimplex3D candidateOutput = simplexClosestToOriginFrom2Simplex(s1, s3, s4);
-            if (candidateOutput != null)
+            // The first candidate is directly stored in simplexToPack.
+            if (simplexClosestToOriginFrom2Simplex(s1, s3, s4, simplexToPack, secondCandidateBuffer))
             {
-               double candidateNorm = candidateOutput.getDistanceSquaredToOrigin();
+               double candidateNorm = simplexToPack.getDistanceSquaredToOrigin();
                if (candidateNorm < d)
                {
-                  output = candidateOutput;
                   d = candidateNorm;
+                  found = true;
                }
             }
          }
@@ -195,16 +277,20 @@ public class GJKTools
          if (compareSigns(detM, -C43))
          {
             if (EuclidCoreTools.isZero(detM, zeroTestEpsilon) && EuclidCoreTools.isZero(C43, zeroTestEpsilon))
-               return null;
+               return false;
+
+            if (found && firstCandidateBuffer == null)
+               firstCandidateBuffer = new GJKSimplex3D();
+            GJKSimplex3D candidate = found ? firstCandidateBuffer : simplexToPack;
 
-            GJKSimplex3D candidateOutput = simplexClosestToOriginFrom2Simplex(s1, s2, s4);
-            if (candidateOutput != null)
+            if (simplexClosestToOriginFrom2Simplex(s1, s2, s4, candidate, secondCandidateBuffer))
             {
-               double candidateNorm = candidateOutput.getDistanceSquaredToOrigin();
+               double candidateNorm = candidate.getDistanceSquaredToOrigin();
                if (candidateNorm < d)
                {
-                  output = candidateOutput;
+                  simplexToPack.set(candidate);
                   d = candidateNorm;
+                  found = true;
                }
             }
          }
@@ -212,21 +298,25 @@ public class GJKTools
          if (compareSigns(detM, -C44))
          {
             if (EuclidCoreTools.isZero(detM, zeroTestEpsilon) && EuclidCoreTools.isZero(C44, zeroTestEpsilon))
-               return null;
+               return false;
+
+            if (found && firstCandidateBuffer == null)
+               firstCandidateBuffer = new GJKSimplex3D();
+            GJKSimplex3D candidate = found ? firstCandidateBuffer : simplexToPack;
 
-            GJKSimplex3D candidateOutput = simplexClosestToOriginFrom2Simplex(s1, s2, s3);
-            if (candidateOutput != null)
+            if (simplexClosestToOriginFrom2Simplex(s1, s2, s3, candidate, secondCandidateBuffer))
             {
-               double candidateNorm = candidateOutput.getDistanceSquaredToOrigin();
+               double candidateNorm = candidate.getDistanceSquaredToOrigin();
                if (candidateNorm < d)
                {
-                  output = candidateOutput;
+                  simplexToPack.set(candidate);
                   d = candidateNorm;
+                  found = true;
                }
             }
          }
 
-         return output;
+         return found;
       }
    }
 
@@ -250,6 +340,36 @@ public class GJKTools
     * @return the smallest simplex that is the closest to the origin.
     */
    public static GJKSimplex3D simplexClosestToOriginFrom2Simplex(GJKVertex3D s1, GJKVertex3D s2, GJKVertex3D s3)
+   {
+      GJKSimplex3D output = new GJKSimplex3D();
+      return simplexClosestToOriginFrom2Simplex(s1, s2, s3, output, null) ? output : null;
+   }
+
+   /**
+    * Finds the smallest simplex that belongs to the 3D triangle, defined by the given vertices, that
+    * is the closest to the origin.
+    * <p>
+    * This is the garbage-free equivalent of
+    * {@link #simplexClosestToOriginFrom2Simplex(GJKVertex3D, GJKVertex3D, GJKVertex3D)}. The given
+    * simplices have to be distinct instances. The candidate buffer can be {@code null}, in which case it
+    * is only created when needed.
+    * </p>
+    *
+    * @param s1              the first vertex of the triangle. <b>This method assumes that this vertex
+    *                        should not be filtered out</b>. Not modified.
+    * @param s2              the second vertex of the triangle. Not modified.
+    * @param s3              the third vertex of the triangle. Not modified.
+    * @param simplexToPack   the simplex used to store the result. Modified.
+    * @param candidateBuffer simplex used internally to store intermediate results. Can be
+    *                        {@code null}. Modified.
+    * @return {@code true} if the closest simplex was found, {@code false} if the triangle is
+    *         degenerate.
+    */
+   public static boolean simplexClosestToOriginFrom2Simplex(GJKVertex3D s1,
+                                                            GJKVertex3D s2,
+                                                            GJKVertex3D s3,
+                                                            GJKSimplex3D simplexToPack,
+                                                            GJKSimplex3D candidateBuffer)
    {
       double s1x = s1.getX(), s1y = s1.getY(), s1z = s1.getZ();
       double s2x = s2.getX(), s2y = s2.getY(), s2z = s2.getZ();
@@ -320,37 +440,38 @@ public class GJKTools
       if (compareSigns(muMax, C1) && compareSigns(muMax, C2) && compareSigns(muMax, C3))
       { // The projection p0 is inside the face. Computing the barycentric coordinates.
          if (Math.abs(C1) < 1.0e-16 && Math.abs(C2) < 1.0e-16 && Math.abs(C3) < 1.0e-16)
-            return null;
+            return false;
 
-         double[] lambdas = {C1 / muMax, C2 / muMax, C3 / muMax};
-         GJKVertex3D[] supportingVerices = {s1, s2, s3};
-         return new GJKSimplex3D(supportingVerices, lambdas);
+         simplexToPack.set(s1, s2, s3, C1 / muMax, C2 / muMax, C3 / muMax);
+         return true;
       }
       else
       { // The projection p0 is outside the face, identifying the closest edge knowing that s1 was just added, so it cannot be rejected.
          double d = Double.POSITIVE_INFINITY;
-         GJKSimplex3D output = null;
+         boolean found = false;
 
          if (compareSigns(muMax, -C2))
          {
-            GJKSimplex3D candidateOutput = simplexClosestToOriginFrom1Simplex(s1, s3);
-            double candidateNorm = candidateOutput.getDistanceSquaredToOrigin();
-            output = candidateOutput;
-            d = candidateNorm;
+            simplexClosestToOriginFrom1Simplex(s1, s3, simplexToPack);
+            d = simplexToPack.getDistanceSquaredToOrigin();
+            found = true;
          }
 
          if (compareSigns(muMax, -C3))
          {
-            GJKSimplex3D candidateOutput = simplexClosestToOriginFrom1Simplex(s1, s2);
-            double candidateNorm = candidateOutput.getDistanceSquaredToOrigin();
+            if (candidateBuffer == null)
+               candidateBuffer = new GJKSimplex3D();
+            simplexClosestToOriginFrom1Simplex(s1, s2, candidateBuffer);
+            double candidateNorm = candidateBuffer.getDistanceSquaredToOrigin();
             if (candidateNorm < d)
             {
-               output = candidateOutput;
+               simplexToPack.set(candidateBuffer);
                d = candidateNorm;
+               found = true;
             }
          }
 
-         return output;
+         return found;
       }
    }
 
@@ -373,6 +494,26 @@ public class GJKTools
     * @return the smallest simplex that is the closest to the origin.
     */
    public static GJKSimplex3D simplexClosestToOriginFrom1Simplex(GJKVertex3D s1, GJKVertex3D s2)
+   {
+      GJKSimplex3D output = new GJKSimplex3D();
+      simplexClosestToOriginFrom1Simplex(s1, s2, output);
+      return output;
+   }
+
+   /**
+    * Finds the smallest simplex that belongs to the 3D line segment, defined by the given vertices,
+    * that is the closest to the origin.
+    * <p>
+    * This is the garbage-free equivalent of
+    * {@link #simplexClosestToOriginFrom1Simplex(GJKVertex3D, GJKVertex3D)}.
+    * </p>
+    *
+    * @param s1            the first vertex of the line segment. <b>This method assumes that this
+    *                      vertex should not be filtered out</b>. Not modified.
+    * @param s2            the second vertex of the line segment. Not modified.
+    * @param simplexToPack the simplex used to store the result. Modified.
+    */
+   public static void simplexClosestToOriginFrom1Simplex(GJKVertex3D s1, GJKVertex3D s2, GJKSimplex3D simplexToPack)
    {
       double s1x = s1.getX(), s1y = s1.getY(), s1z = s1.getZ();
       double s2x = s2.getX(), s2y = s2.getY(), s2z = s2.getZ();
@@ -431,18 +572,16 @@ public class GJKTools
 
          if (compareSigns(muMax, C2))
          { // The projection in between the edge endpoints. Computing the barycentric coordinates.
-            double[] lambdas = {C1 / muMax, C2 / muMax};
-            GJKVertex3D[] supportVertices = {s1, s2};
-            return new GJKSimplex3D(supportVertices, lambdas);
+            simplexToPack.set(s1, s2, C1 / muMax, C2 / muMax);
          }
          else
          { // The projection is outside, since s1 is the new vertex we automatically reject s2.
-            return new GJKSimplex3D(s1);
+            simplexToPack.set(s1);
          }
       }
       else
       { // The projection is outside, since s1 is the new vertex we automatically reject s2.
-         return new GJKSimplex3D(s1);
+         simplexToPack.set(s1);
       }
    }
 
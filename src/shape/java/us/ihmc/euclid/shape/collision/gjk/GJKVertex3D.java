@@ -18,11 +18,22 @@ import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 public class GJKVertex3D implements Point3DReadOnly
 {
    /** The coordinates of this vertex. */
-   private final double x, y, z;
+   private double x, y, z;
    /** The supporting vertex from the first shape. */
-   private final Point3DReadOnly vertexOnShapeA;
+   private Point3DReadOnly vertexOnShapeA;
    /** The supporting vertex from the second shape. */
-   private final Point3DReadOnly vertexOnShapeB;
+   private Point3DReadOnly vertexOnShapeB;
+
+   /**
+    * Creates a new vertex with coordinates initialized to zero and no supporting vertices.
+    * <p>
+    * This constructor is meant for pre-allocating vertices that are later initialized via
+    * {@link #set(Point3DReadOnly, Point3DReadOnly)}.
+    * </p>
+    */
+   public GJKVertex3D()
+   {
+   }
 
    /**
     * Creates a new vertex and initializes its coordinates as follows:<br>
@@ -32,6 +43,18 @@ public class GJKVertex3D implements Point3DReadOnly
     * @param vertexOnShapeB the supporting vertex from the second shape. Not modified, reference saved.
     */
    public GJKVertex3D(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
+   {
+      set(vertexOnShapeA, vertexOnShapeB);
+   }
+
+   /**
+    * Sets this vertex's coordinates as follows:<br>
+    * {@code this = vertexOnShapeA - vertexOnShapeB}.
+    *
+    * @param vertexOnShapeA the supporting vertex from the first shape. Not modified, reference saved.
+    * @param vertexOnShapeB the supporting vertex from the second shape. Not modified, reference saved.
+    */
+   public void set(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
    {
       this.vertexOnShapeA = vertexOnShapeA;
       this.vertexOnShapeB = vertexOnShapeB;
@@ -0,0 +1,339 @@
+package us.ihmc.euclid.shape.collision.gjk;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
+import us.ihmc.euclid.shape.convexPolytope.tools.SupportingVertexSeed;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Cache used to warm-start the {@link GilbertJohnsonKeerthiCollisionDetector} when the same pairs of
+ * shapes are evaluated repeatedly, for instance at every tick of a controller.
+ * <p>
+ * For each pair of shapes, the cache stores the outcome of the last evaluation: the terminating
+ * simplex, the support directions that were used to compute its vertices, and the last support
+ * direction. The next evaluation of the same pair starts by re-evaluating the supporting vertices in
+ * these directions to rebuild the simplex. When the shapes have only moved slightly since the last
+ * evaluation, the rebuilt simplex is close to the new terminating simplex which considerably reduces
+ * the number of iterations.
+ * </p>
+ * <p>
+ * The pairs are identified by the references of the two shapes, the order of the shapes matters.
+ * The entries are never removed automatically, when a shape is not used anymore, the associated
+ * entries should be removed via {@link #remove(SupportingVertexHolder, SupportingVertexHolder)} or
+ * {@link #clear()}.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ * @see GilbertJohnsonKeerthiCollisionDetector#setWarmStartCache(GJKWarmStartCache)
+ */
+public class GJKWarmStartCache
+{
+   /** The entries indexed by the first shape of the pair then by the second shape of the pair. */
+   private final Map<SupportingVertexHolder, Map<SupportingVertexHolder, Entry>> entries = new IdentityHashMap<>();
+   private int numberOfEntries = 0;
+
+   /**
+    * Creates a new empty cache.
+    */
+   public GJKWarmStartCache()
+   {
+   }
+
+   /**
+    * Gets the entry associated to the given pair of shapes.
+    *
+    * @param shapeA the first shape of the pair. Not modified.
+    * @param shapeB the second shape of the pair. Not modified.
+    * @return the entry or {@code null} if this cache has no entry for the pair.
+    */
+   public Entry getEntry(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB)
+   {
+      Map<SupportingVertexHolder, Entry> entriesA = entries.get(shapeA);
+      return entriesA == null ? null : entriesA.get(shapeB);
+   }
+
+   /**
+    * Gets the entry associated to the given pair of shapes, a new entry is created if this cache has
+    * none for the pair.
+    * <p>
+    * This method only generates garbage when a new entry is created.
+    * </p>
+    *
+    * @param shapeA the first shape of the pair. Not modified, reference saved.
+    * @param shapeB the second shape of the pair. Not modified, reference saved.
+    * @return the entry.
+    */
+   public Entry getOrCreateEntry(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB)
+   {
+      Map<SupportingVertexHolder, Entry> entriesA = entries.get(shapeA);
+
+      if (entriesA == null)
+      {
+         entriesA = new IdentityHashMap<>();
+         entries.put(shapeA, entriesA);
+      }
+
+      Entry entry = entriesA.get(shapeB);
+
+      if (entry == null)
+      {
+         entry = new Entry();
+         entriesA.put(shapeB, entry);
+         numberOfEntries++;
+      }
+
+      return entry;
+   }
+
+   /**
+    * Removes the entry associated to the given pair of shapes.
+    *
+    * @param shapeA the first shape of the pair. Not modified.
+    * @param shapeB the second shape of the pair. Not modified.
+    * @return {@code true} if an entry was removed, {@code false} if this cache had no entry for the
+    *         pair.
+    */
+   public boolean remove(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB)
+   {
+      Map<SupportingVertexHolder, Entry> entriesA = entries.get(shapeA);
+
+      if (entriesA == null || entriesA.remove(shapeB) == null)
+         return false;
+
+      if (entriesA.isEmpty())
+         entries.remove(shapeA);
+      numberOfEntries--;
+      return true;
+   }
+
+   /**
+    * Removes all the entries of this cache.
+    */
+   public void clear()
+   {
+      entries.clear();
+      numberOfEntries = 0;
+   }
+
+   /**
+    * Gets the number of pairs of shapes this cache holds an entry for.
+    *
+    * @return the number of entries.
+    */
+   public int getNumberOfEntries()
+   {
+      return numberOfEntries;
+   }
+
+   /**
+    * Outcome of the last evaluation of a pair of shapes.
+    * <p>
+    * The simplex and the support direction are expressed in the frame in which the evaluation was
+    * performed, which is the same as for {@link GilbertJohnsonKeerthiCollisionDetector#getSimplex()}
+    * and {@link GilbertJohnsonKeerthiCollisionDetector#getSupportDirection()}.
+    * </p>
+    */
+   public static class Entry
+   {
+      /** Whether this entry holds the outcome of an evaluation. */
+      private boolean isValid = false;
+      /** Whether the shapes were colliding at the last evaluation. */
+      private boolean areShapesColliding = false;
+      /** The number of iterations the last evaluation required. */
+      private int numberOfIterations = 0;
+      /** The last support direction used in the last evaluation. */
+      private final Vector3D supportDirection = new Vector3D();
+      /** Copy of the terminating simplex of the last evaluation. */
+      private final GJKSimplex3D simplex = new GJKSimplex3D();
+      /** The vertices of {@link #simplex}, owned by this entry. */
+      private final GJKVertex3D[] vertices = new GJKVertex3D[4];
+      /** The supporting vertices on the shape A, each element is associated to a vertex. */
+      private final Point3D[] verticesOnShapeA = new Point3D[4];
+      /** The supporting vertices on the shape B, each element is associated to a vertex. */
+      private final Point3D[] verticesOnShapeB = new Point3D[4];
+      /** The support directions used to compute the vertices, each element is associated to a vertex. */
+      private final Vector3D[] vertexSupportDirections = new Vector3D[4];
+      /** The seeds used to search the supporting vertices when the shapes are convex polytopes. */
+      private final SupportingVertexSeed supportingVertexSeedA = new SupportingVertexSeed();
+      private final SupportingVertexSeed supportingVertexSeedB = new SupportingVertexSeed();
+
+      private Entry()
+      {
+         for (int i = 0; i < vertices.length; i++)
+         {
+            vertices[i] = new GJKVertex3D();
+            verticesOnShapeA[i] = new Point3D();
+            verticesOnShapeB[i] = new Point3D();
+            vertexSupportDirections[i] = new Vector3D();
+         }
+      }
+
+      /**
+       * Invalidates this entry such that the next evaluation of the pair is not warm-started.
+       */
+      public void clear()
+      {
+         isValid = false;
+         areShapesColliding = false;
+         numberOfIterations = 0;
+         supportDirection.setToNaN();
+         simplex.clear();
+         supportingVertexSeedA.reset();
+         supportingVertexSeedB.reset();
+      }
+
+      /**
+       * Stores the outcome of an evaluation.
+       *
+       * @param simplex                 the terminating simplex. Not modified.
+       * @param vertexSupportDirections the support directions used to compute the vertices of the
+       *                                simplex, each element is associated to a vertex. Not
+       *                                modified.
+       * @param supportDirection        the last support direction. Not modified.
+       * @param areShapesColliding      whether the shapes are colliding.
+       * @param numberOfIterations      the number of iterations the evaluation required.
+       */
+      void set(GJKSimplex3D simplex,
+               Vector3DReadOnly[] vertexSupportDirections,
+               Vector3DReadOnly supportDirection,
+               boolean areShapesColliding,
+               int numberOfIterations)
+      {
+         if (simplex == null || simplex.getNumberOfVertices() == 0 || supportDirection.containsNaN() || supportDirection.lengthSquared() == 0.0)
+         {
+            clear();
+            return;
+         }
+
+         GJKVertex3D[] otherVertices = simplex.getVertices();
+         double[] lambdas = simplex.getBarycentricCoordinates();
+
+         for (int i = 0; i < otherVertices.length; i++)
+         {
+            verticesOnShapeA[i].set(otherVertices[i].getVertexOnShapeA());
+            verticesOnShapeB[i].set(otherVertices[i].getVertexOnShapeB());
+            vertices[i].set(verticesOnShapeA[i], verticesOnShapeB[i]);
+            this.vertexSupportDirections[i].set(vertexSupportDirections[i]);
+         }
+
+         switch (otherVertices.length)
+         {
+            case 1:
+               this.simplex.set(vertices[0]);
+               break;
+            case 2:
+               this.simplex.set(vertices[0], vertices[1], lambdas[0], lambdas[1]);
+               break;
+            case 3:
+               this.simplex.set(vertices[0], vertices[1], vertices[2], lambdas[0], lambdas[1], lambdas[2]);
+               break;
+            default:
+               this.simplex.set(vertices[0], vertices[1], vertices[2], vertices[3], lambdas[0], lambdas[1], lambdas[2], lambdas[3]);
+               break;
+         }
+
+         this.supportDirection.set(supportDirection);
+         this.areShapesColliding = areShapesColliding;
+         this.numberOfIterations = numberOfIterations;
+         isValid = true;
+      }
+
+      /**
+       * Whether this entry holds the outcome of an evaluation and can be used to warm-start the next
+       * evaluation.
+       *
+       * @return {@code true} if this entry is valid, {@code false} otherwise.
+       */
+      public boolean isValid()
+      {
+         return isValid;
+      }
+
+      /**
+       * Whether the shapes were colliding at the last evaluation.
+       *
+       * @return {@code true} if the shapes were colliding, {@code false} otherwise.
+       */
+      public boolean areShapesColliding()
+      {
+         return areShapesColliding;
+      }
+
+      /**
+       * Gets the number of iterations the last evaluation required.
+       *
+       * @return the number of iterations.
+       */
+      public int getNumberOfIterations()
+      {
+         return numberOfIterations;
+      }
+
+      /**
+       * Gets the last support direction used in the last evaluation, used as initial support direction
+       * for the next evaluation.
+       *
+       * @return the last support direction.
+       */
+      public Vector3DReadOnly getSupportDirection()
+      {
+         return supportDirection;
+      }
+
+      /**
+       * Gets the support direction that was used to compute the i<sup>th</sup> vertex of the last
+       * simplex.
+       * <p>
+       * These directions are used to rebuild the simplex at the beginning of the next evaluation.
+       * </p>
+       *
+       * @param index the index of the vertex in the last simplex.
+       * @return the support direction of the vertex.
+       * @throws IndexOutOfBoundsException if {@code index} is not in [0, number of vertices[.
+       */
+      public Vector3DReadOnly getVertexSupportDirection(int index)
+      {
+         if (index < 0 || index >= simplex.getNumberOfVertices())
+            throw new IndexOutOfBoundsException("Index must be in [0, " + simplex.getNumberOfVertices() + "[, was: " + index);
+         return vertexSupportDirections[index];
+      }
+
+      /**
+       * Gets the seed used to search the supporting vertices of the first shape when it is a convex
+       * polytope, such that the search starts from the last supporting vertex of the previous
+       * evaluation.
+       *
+       * @return the seed for the first shape.
+       */
+      SupportingVertexSeed getSupportingVertexSeedA()
+      {
+         return supportingVertexSeedA;
+      }
+
+      /**
+       * Gets the seed used to search the supporting vertices of the second shape when it is a convex
+       * polytope, such that the search starts from the last supporting vertex of the previous
+       * evaluation.
+       *
+       * @return the seed for the second shape.
+       */
+      SupportingVertexSeed getSupportingVertexSeedB()
+      {
+         return supportingVertexSeedB;
+      }
+
+      /**
+       * Gets the copy of the terminating simplex of the last evaluation.
+       *
+       * @return the last simplex.
+       */
+      public GJKSimplex3D getSimplex()
+      {
+         return simplex;
+      }
+   }
+}
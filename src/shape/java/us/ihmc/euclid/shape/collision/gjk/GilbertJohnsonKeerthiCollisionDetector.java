@@ -2,18 +2,24 @@ package us.ihmc.euclid.shape.collision.gjk;
 
 import static us.ihmc.euclid.shape.collision.gjk.GJKTools.simplexClosestToOrigin;
 
+import java.util.Arrays;
+
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.shape.collision.EuclidShape3DCollisionResult;
 import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
 import us.ihmc.euclid.shape.collision.interfaces.EuclidShape3DCollisionResultBasics;
 import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.ConvexPolytope3DReadOnly;
+import us.ihmc.euclid.shape.convexPolytope.tools.SupportingVertexSeed;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DPoseReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
 import us.ihmc.euclid.tools.EuclidCoreFactories;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tuple3D.Point3D;
 import us.ihmc.euclid.tuple3D.Vector3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 
 /**
@@ -59,6 +65,8 @@ public class GilbertJohnsonKeerthiCollisionDetector
    private int maxIterations = 500;
    /** The number of iterations the last evaluation required. */
    private int numberOfIterations = 0;
+   /** The number of iterations spent rebuilding the simplex from the warm-start cache. */
+   private int numberOfWarmStartIterations = 0;
    /**
     * The simplex that is the closest to the origin or at the origin resulting from the last collision
     * evaluation.
@@ -80,6 +88,53 @@ public class GilbertJohnsonKeerthiCollisionDetector
    /** The last support direction used in the previous iteration. */
    private final Vector3D supportDirectionPrevious = new Vector3D();
 
+   /**
+    * Flag to indicate whether this detector recycles its internal objects instead of allocating new
+    * ones for each evaluation.
+    */
+   private boolean garbageFree = false;
+   /**
+    * Pool of vertices used when {@link #garbageFree} is {@code true}. A simplex that is still being
+    * improved has at most 3 vertices, so 4 vertices are enough to also hold the new candidate.
+    * <p>
+    * The pools are only allocated when the garbage-free mode is enabled for the first time.
+    * </p>
+    */
+   private GJKVertex3D[] vertexPool = null;
+   /** Pool of supporting vertices on the shape A, each element is associated to a vertex in the pool. */
+   private Point3D[] supportingVertexPoolA = null;
+   /** Pool of supporting vertices on the shape B, each element is associated to a vertex in the pool. */
+   private Point3D[] supportingVertexPoolB = null;
+   /**
+    * Pool of simplices used when {@link #garbageFree} is {@code true}: the 2 first are alternatively
+    * used to store the previous and current simplex, the 2 last are used as buffers by the distance
+    * sub-algorithm.
+    */
+   private GJKSimplex3D[] simplexPool = null;
+   /**
+    * The cache used to warm-start the evaluation of pairs of shapes that are evaluated repeatedly,
+    * {@code null} when disabled.
+    */
+   private GJKWarmStartCache warmStartCache = null;
+   /** Whether the support direction used to compute each vertex is being saved for the cache. */
+   private boolean isTrackingVertexSupportDirections = false;
+   /**
+    * The vertices created in the current evaluation for which the support direction has been saved. A
+    * simplex that is still being improved has at most 3 vertices, the last element is a spare.
+    */
+   private final GJKVertex3D[] trackedVertices = new GJKVertex3D[5];
+   /** The support directions used to compute the vertices in {@link #trackedVertices}. */
+   private final Vector3D[] trackedSupportDirections = new Vector3D[5];
+   /** Buffer used to pass the support directions of the terminating simplex to the cache. */
+   private final Vector3DReadOnly[] simplexVertexSupportDirections = new Vector3DReadOnly[4];
+   /**
+    * Seeds used to search the supporting vertices of convex polytopes from the last supporting vertex
+    * found, see {@link SupportingVertexSeed}. When a warm-start cache is used, the seeds of the cache
+    * entry are used instead.
+    */
+   private final SupportingVertexSeed supportingVertexSeedA = new SupportingVertexSeed();
+   private final SupportingVertexSeed supportingVertexSeedB = new SupportingVertexSeed();
+
    /**
     * Enumeration representing the possible terminations of the algorithm. This is exposed for
     * debugging purposes.
@@ -134,6 +189,8 @@ public class GilbertJohnsonKeerthiCollisionDetector
     */
    public GilbertJohnsonKeerthiCollisionDetector()
    {
+      for (int i = 0; i < trackedSupportDirections.length; i++)
+         trackedSupportDirections[i] = new Vector3D();
    }
 
    /**
@@ -170,12 +227,13 @@ public class GilbertJohnsonKeerthiCollisionDetector
     */
    public boolean evaluateCollision(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB, EuclidShape3DCollisionResultBasics resultToPack)
    {
+      GJKWarmStartCache.Entry cacheEntry = warmStartCache == null ? null : warmStartCache.getOrCreateEntry(shapeA, shapeB);
       boolean areColliding;
 
       if (!shapeA.isPrimitive() || !shapeB.isPrimitive())
       { // If any of the 2 shapes is not a primitive, doing any copy or transform would probably be expensive. Using the generic approach.
          guessInitialSupportDirection(shapeA, shapeB);
-         areColliding = evaluateCollision((SupportingVertexHolder) shapeA, (SupportingVertexHolder) shapeB, resultToPack);
+         areColliding = evaluateCollisionInternal(shapeA, shapeB, resultToPack, cacheEntry);
       }
       else if (shapeA.isDefinedByPose())
       { // Transforming shapeB to be in the local frame of shapeA would save transformations.
@@ -185,7 +243,7 @@ public class GilbertJohnsonKeerthiCollisionDetector
          Shape3DBasics localShapeB = shapeB.copy();
          localShapeB.applyInverseTransform(poseA);
          guessInitialSupportDirection(localShapeA, localShapeB);
-         areColliding = evaluateCollision((SupportingVertexHolder) localShapeA, (SupportingVertexHolder) localShapeB, resultToPack);
+         areColliding = evaluateCollisionInternal(localShapeA, localShapeB, resultToPack, cacheEntry);
          resultToPack.applyTransform(poseA);
       }
       else if (shapeB.isDefinedByPose())
@@ -196,13 +254,13 @@ public class GilbertJohnsonKeerthiCollisionDetector
          Shape3DBasics localShapeB = shapeB.copy();
          localShapeB.getPose().setToZero();
          guessInitialSupportDirection(localShapeA, localShapeB);
-         areColliding = evaluateCollision((SupportingVertexHolder) localShapeA, (SupportingVertexHolder) localShapeB, resultToPack);
+         areColliding = evaluateCollisionInternal(localShapeA, localShapeB, resultToPack, cacheEntry);
          resultToPack.applyTransform(poseB);
       }
       else
       { // None of the 2 shapes is defined with a pose, using the generic algorithm.
          guessInitialSupportDirection(shapeA, shapeB);
-         areColliding = evaluateCollision((SupportingVertexHolder) shapeA, (SupportingVertexHolder) shapeB, resultToPack);
+         areColliding = evaluateCollisionInternal(shapeA, shapeB, resultToPack, cacheEntry);
       }
 
       resultToPack.setShapeA(shapeA);
@@ -252,27 +310,110 @@ public class GilbertJohnsonKeerthiCollisionDetector
     */
    public boolean evaluateCollision(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB, EuclidShape3DCollisionResultBasics resultToPack)
    {
-      GJKSimplex3D previousOutput = new GJKSimplex3D();
+      GJKWarmStartCache.Entry cacheEntry = warmStartCache == null ? null : warmStartCache.getOrCreateEntry(shapeA, shapeB);
+      return evaluateCollisionInternal(shapeA, shapeB, resultToPack, cacheEntry);
+   }
 
-      supportDirection.set(initialSupportDirection);
-      Point3DReadOnly vertexA = shapeA.getSupportingVertex(supportDirection);
-      Point3DReadOnly vertexB = shapeB.getSupportingVertex(supportDirectionNegated);
+   private boolean evaluateCollisionInternal(SupportingVertexHolder shapeA,
+                                             SupportingVertexHolder shapeB,
+                                             EuclidShape3DCollisionResultBasics resultToPack,
+                                             GJKWarmStartCache.Entry cacheEntry)
+   {
+      // The support directions of successive iterations are close, the seeds exploit this coherence to speed up the search on polytopes.
+      if (shapeA instanceof ConvexPolytope3DReadOnly)
+      {
+         SupportingVertexSeed seedA = cacheEntry != null ? cacheEntry.getSupportingVertexSeedA() : supportingVertexSeedA;
+         seedA.setPolytope((ConvexPolytope3DReadOnly) shapeA);
+         shapeA = seedA;
+      }
+      if (shapeB instanceof ConvexPolytope3DReadOnly)
+      {
+         SupportingVertexSeed seedB = cacheEntry != null ? cacheEntry.getSupportingVertexSeedB() : supportingVertexSeedB;
+         seedB.setPolytope((ConvexPolytope3DReadOnly) shapeB);
+         shapeB = seedB;
+      }
+
+      GJKSimplex3D previousOutput;
+
+      if (garbageFree)
+      {
+         previousOutput = simplexPool[0];
+         previousOutput.clear();
+      }
+      else
+      {
+         previousOutput = new GJKSimplex3D();
+      }
+
+      isTrackingVertexSupportDirections = cacheEntry != null;
+      Arrays.fill(trackedVertices, null);
+      numberOfWarmStartIterations = 0;
+
+      if (cacheEntry != null && cacheEntry.isValid() && !cacheEntry.areShapesColliding() && !isInitialSupportDirectionProvided)
+      { // When colliding, the simplex enclosing the origin is built in very few iterations anyway.
+         initialSupportDirection.set(cacheEntry.getSupportDirection());
+         previousOutput = warmStartSimplex(shapeA, shapeB, cacheEntry, previousOutput);
+      }
+
+      double closestPointNormSquared = 1.0;
+      boolean isWarmStartSimplexColliding = false;
+
+      if (previousOutput.getNumberOfVertices() == 0)
+      {
+         supportDirection.set(initialSupportDirection);
+      }
+      else
+      {
+         closestPointNormSquared = previousOutput.getDistanceSquaredToOrigin();
+         isWarmStartSimplexColliding = previousOutput.getNumberOfVertices() == 4
+               || closestPointNormSquared <= epsilon * previousOutput.getMaxDistanceSquaredToOrigin();
+         supportDirection.setAndNegate(previousOutput.getClosestPointToOrigin());
+         avoidZeroComponent(supportDirection);
+      }
+
+      int vertexPoolIndex = -1;
+      Point3DReadOnly vertexA = null;
+      Point3DReadOnly vertexB = null;
+
+      if (!isWarmStartSimplexColliding)
+      {
+         vertexPoolIndex = nextAvailableVertexPoolIndex(previousOutput);
+         vertexA = computeSupportingVertex(shapeA, supportDirection, supportingVertexPoolA, vertexPoolIndex);
+         vertexB = computeSupportingVertex(shapeB, supportDirectionNegated, supportingVertexPoolB, vertexPoolIndex);
+      }
 
       boolean areColliding = false;
 
-      if (vertexA == null || vertexB == null)
+      if (isWarmStartSimplexColliding)
+      {
+         numberOfIterations = numberOfWarmStartIterations - 1;
+         simplex = previousOutput;
+         areColliding = true;
+         lastTerminationType = TerminationType.COLLISION_DETECTED;
+         if (VERBOSE)
+            System.out.println(lastTerminationType.getDescription() + " Terminating.");
+      }
+      else if (vertexA == null || vertexB == null)
       {
          simplex = null;
          areColliding = false;
       }
       else
       {
-         double closestPointNormSquared = 1.0;
-
          for (int i = 0; i < maxIterations; i++)
          {
-            numberOfIterations = i;
-            GJKVertex3D newVertex = new GJKVertex3D(vertexA, vertexB);
+            numberOfIterations = numberOfWarmStartIterations + i;
+            GJKVertex3D newVertex;
+
+            if (garbageFree)
+            {
+               newVertex = vertexPool[vertexPoolIndex];
+               newVertex.set(vertexA, vertexB);
+            }
+            else
+            {
+               newVertex = new GJKVertex3D(vertexA, vertexB);
+            }
 
             if (previousOutput.contains(newVertex))
             {
@@ -296,8 +437,8 @@ public class GilbertJohnsonKeerthiCollisionDetector
 
                if (retry)
                {
-                  vertexA = shapeA.getSupportingVertex(supportDirection);
-                  vertexB = shapeB.getSupportingVertex(supportDirectionNegated);
+                  vertexA = computeSupportingVertex(shapeA, supportDirection, supportingVertexPoolA, vertexPoolIndex);
+                  vertexB = computeSupportingVertex(shapeB, supportDirectionNegated, supportingVertexPoolB, vertexPoolIndex);
                   continue;
                }
 
@@ -322,7 +463,18 @@ public class GilbertJohnsonKeerthiCollisionDetector
                break;
             }
 
-            GJKSimplex3D output = simplexClosestToOrigin(previousOutput.getVertices(), newVertex);
+            GJKSimplex3D output;
+
+            if (garbageFree)
+            {
+               output = previousOutput == simplexPool[0] ? simplexPool[1] : simplexPool[0];
+               if (!simplexClosestToOrigin(previousOutput.getVertices(), newVertex, output, simplexPool[2], simplexPool[3]))
+                  output = null;
+            }
+            else
+            {
+               output = simplexClosestToOrigin(previousOutput.getVertices(), newVertex);
+            }
 
             if (output == null)
             { // End of process
@@ -335,6 +487,8 @@ public class GilbertJohnsonKeerthiCollisionDetector
                break;
             }
 
+            trackVertexSupportDirection(newVertex, supportDirection, previousOutput);
+
             if (VERBOSE)
             {
                String verticesAsString = EuclidCoreIOTools.getArrayString("[", "]", ", ", output.getVertices(), EuclidCoreIOTools::getTuple3DString);
@@ -368,19 +522,15 @@ public class GilbertJohnsonKeerthiCollisionDetector
             supportDirectionPrevious.set(supportDirection);
 
             if (closestPointNormSquared < epsilonTriangleNormalSwitch && output.getNumberOfVertices() == 3)
-               supportDirection.set(output.getTriangleNormal());
+               output.getTriangleNormal(supportDirection);
             else
                supportDirection.setAndNegate(output.getClosestPointToOrigin());
 
-            if (Math.abs(supportDirection.getX()) == 0.0)
-               supportDirection.setX(SUPPORT_DIRECTION_ZERO_COMPONENT);
-            else if (Math.abs(supportDirection.getY()) == 0.0)
-               supportDirection.setY(SUPPORT_DIRECTION_ZERO_COMPONENT);
-            else if (Math.abs(supportDirection.getZ()) == 0.0)
-               supportDirection.setZ(SUPPORT_DIRECTION_ZERO_COMPONENT);
+            avoidZeroComponent(supportDirection);
 
-            vertexA = shapeA.getSupportingVertex(supportDirection);
-            vertexB = shapeB.getSupportingVertex(supportDirectionNegated);
+            vertexPoolIndex = nextAvailableVertexPoolIndex(output);
+            vertexA = computeSupportingVertex(shapeA, supportDirection, supportingVertexPoolA, vertexPoolIndex);
+            vertexB = computeSupportingVertex(shapeB, supportDirectionNegated, supportingVertexPoolB, vertexPoolIndex);
 
             previousOutput = output;
          }
@@ -403,6 +553,9 @@ public class GilbertJohnsonKeerthiCollisionDetector
 
       resultToPack.setShapesAreColliding(areColliding);
 
+      if (cacheEntry != null)
+         updateWarmStartCacheEntry(cacheEntry, areColliding);
+
       if (VERBOSE)
          System.out.println("Number of iterations: " + numberOfIterations);
 
@@ -412,6 +565,224 @@ public class GilbertJohnsonKeerthiCollisionDetector
       return areColliding;
    }
 
+   /**
+    * Rebuilds the terminating simplex of the last evaluation stored in the cache entry.
+    * <p>
+    * The supporting vertices are re-evaluated using the support directions that were used to compute
+    * the vertices of the cached simplex. When the shapes have only moved slightly since the last
+    * evaluation, the resulting simplex is close to the new terminating simplex.
+    * </p>
+    *
+    * @param shapeA       the first shape to evaluate. Not modified.
+    * @param shapeB       the second shape to evaluate. Not modified.
+    * @param cacheEntry   the cache entry of the pair of shapes. Not modified.
+    * @param emptySimplex the empty simplex to start from. Modified.
+    * @return the rebuilt simplex, may be empty.
+    */
+   private GJKSimplex3D warmStartSimplex(SupportingVertexHolder shapeA,
+                                         SupportingVertexHolder shapeB,
+                                         GJKWarmStartCache.Entry cacheEntry,
+                                         GJKSimplex3D emptySimplex)
+   {
+      GJKSimplex3D previousOutput = emptySimplex;
+      int numberOfVertices = cacheEntry.getSimplex().getNumberOfVertices();
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         numberOfWarmStartIterations++;
+         supportDirection.set(cacheEntry.getVertexSupportDirection(i));
+         int vertexPoolIndex = nextAvailableVertexPoolIndex(previousOutput);
+         Point3DReadOnly vertexA = computeSupportingVertex(shapeA, supportDirection, supportingVertexPoolA, vertexPoolIndex);
+         Point3DReadOnly vertexB = computeSupportingVertex(shapeB, supportDirectionNegated, supportingVertexPoolB, vertexPoolIndex);
+
+         if (vertexA == null || vertexB == null)
+            break;
+
+         GJKVertex3D newVertex;
+
+         if (garbageFree)
+         {
+            newVertex = vertexPool[vertexPoolIndex];
+            newVertex.set(vertexA, vertexB);
+         }
+         else
+         {
+            newVertex = new GJKVertex3D(vertexA, vertexB);
+         }
+
+         if (previousOutput.contains(newVertex))
+            continue;
+
+         GJKSimplex3D output;
+
+         if (garbageFree)
+         {
+            output = previousOutput == simplexPool[0] ? simplexPool[1] : simplexPool[0];
+            if (!simplexClosestToOrigin(previousOutput.getVertices(), newVertex, output, simplexPool[2], simplexPool[3]))
+               output = null;
+         }
+         else
+         {
+            output = simplexClosestToOrigin(previousOutput.getVertices(), newVertex);
+         }
+
+         if (output == null)
+            break;
+
+         trackVertexSupportDirection(newVertex, supportDirection, previousOutput);
+         supportDirectionPrevious.set(supportDirection);
+         previousOutput = output;
+
+         if (output.getNumberOfVertices() == 4 || output.getDistanceSquaredToOrigin() <= epsilon * output.getMaxDistanceSquaredToOrigin())
+            break;
+      }
+
+      return previousOutput;
+   }
+
+   /**
+    * Stores the outcome of the last evaluation in the given cache entry.
+    *
+    * @param cacheEntry   the entry to update. Modified.
+    * @param areColliding whether the shapes are colliding.
+    */
+   private void updateWarmStartCacheEntry(GJKWarmStartCache.Entry cacheEntry, boolean areColliding)
+   {
+      if (simplex == null)
+      {
+         cacheEntry.clear();
+         return;
+      }
+
+      GJKVertex3D[] vertices = simplex.getVertices();
+
+      for (int i = 0; i < vertices.length; i++)
+      {
+         simplexVertexSupportDirections[i] = findVertexSupportDirection(vertices[i]);
+
+         if (simplexVertexSupportDirections[i] == null)
+         {
+            cacheEntry.clear();
+            return;
+         }
+      }
+
+      cacheEntry.set(simplex, simplexVertexSupportDirections, supportDirection, areColliding, numberOfIterations);
+   }
+
+   /**
+    * Saves the support direction used to compute the given vertex such that it can be stored in the
+    * warm-start cache.
+    *
+    * @param vertex           the new vertex. Not modified, reference saved.
+    * @param supportDirection the support direction used to compute the vertex. Not modified.
+    * @param simplexInUse     the simplex which vertices' support directions are still needed. Not
+    *                         modified.
+    */
+   private void trackVertexSupportDirection(GJKVertex3D vertex, Vector3DReadOnly supportDirection, GJKSimplex3D simplexInUse)
+   {
+      if (!isTrackingVertexSupportDirections)
+         return;
+
+      for (int trackedIndex = 0; trackedIndex < trackedVertices.length; trackedIndex++)
+      { // In garbage-free mode, the vertices are recycled and may already be tracked.
+         if (trackedVertices[trackedIndex] == vertex)
+         {
+            trackedSupportDirections[trackedIndex].set(supportDirection);
+            return;
+         }
+      }
+
+      GJKVertex3D[] verticesInUse = simplexInUse.getVertices();
+
+      for (int trackedIndex = 0; trackedIndex < trackedVertices.length; trackedIndex++)
+      {
+         boolean isInUse = false;
+
+         for (int i = 0; i < verticesInUse.length; i++)
+         {
+            if (verticesInUse[i] == trackedVertices[trackedIndex])
+            {
+               isInUse = true;
+               break;
+            }
+         }
+
+         if (!isInUse)
+         {
+            trackedVertices[trackedIndex] = vertex;
+            trackedSupportDirections[trackedIndex].set(supportDirection);
+            return;
+         }
+      }
+   }
+
+   private Vector3DReadOnly findVertexSupportDirection(GJKVertex3D vertex)
+   {
+      for (int i = 0; i < trackedVertices.length; i++)
+      {
+         if (trackedVertices[i] == vertex)
+            return trackedSupportDirections[i];
+      }
+      return null;
+   }
+
+   private static void avoidZeroComponent(Vector3DBasics supportDirection)
+   {
+      if (Math.abs(supportDirection.getX()) == 0.0)
+         supportDirection.setX(SUPPORT_DIRECTION_ZERO_COMPONENT);
+      else if (Math.abs(supportDirection.getY()) == 0.0)
+         supportDirection.setY(SUPPORT_DIRECTION_ZERO_COMPONENT);
+      else if (Math.abs(supportDirection.getZ()) == 0.0)
+         supportDirection.setZ(SUPPORT_DIRECTION_ZERO_COMPONENT);
+   }
+
+   /**
+    * Finds the index of a vertex in {@link #vertexPool} that is not used by the given simplex.
+    *
+    * @param simplexInUse the simplex which vertices are still in use. Not modified.
+    * @return the index of the available vertex, or {@code -1} if this detector is not in garbage-free
+    *         mode.
+    */
+   private int nextAvailableVertexPoolIndex(GJKSimplex3D simplexInUse)
+   {
+      if (!garbageFree)
+         return -1;
+
+      GJKVertex3D[] verticesInUse = simplexInUse.getVertices();
+
+      for (int poolIndex = 0; poolIndex < vertexPool.length; poolIndex++)
+      {
+         boolean isInUse = false;
+
+         for (int i = 0; i < verticesInUse.length; i++)
+         {
+            if (verticesInUse[i] == vertexPool[poolIndex])
+            {
+               isInUse = true;
+               break;
+            }
+         }
+
+         if (!isInUse)
+            return poolIndex;
+      }
+
+      throw new IllegalStateException("Unable to find an available vertex, the simplex has too many vertices: " + verticesInUse.length);
+   }
+
+   private static Point3DReadOnly computeSupportingVertex(SupportingVertexHolder shape, Vector3DReadOnly supportDirection, Point3D[] pool, int poolIndex)
+   {
+      if (poolIndex < 0)
+         return shape.getSupportingVertex(supportDirection);
+
+      Point3D supportingVertex = pool[poolIndex];
+      if (shape.getSupportingVertex(supportDirection, supportingVertex))
+         return supportingVertex;
+      else
+         return null;
+   }
+
    /**
     * Sets the support direction to use for the first iteration of future evaluations.
     * <p>
@@ -428,6 +799,69 @@ public class GilbertJohnsonKeerthiCollisionDetector
       this.initialSupportDirection.set(initialSupportDirection);
    }
 
+   /**
+    * Sets the cache used to warm-start the evaluation of pairs of shapes that are evaluated
+    * repeatedly.
+    * <p>
+    * When a cache is provided, the outcome of each evaluation is stored in the cache entry associated
+    * to the pair of shapes being evaluated. When the shapes were not colliding, the next evaluation of
+    * the same pair starts by rebuilding the last simplex from the support directions that were used
+    * to compute its vertices. For shapes that have only moved slightly between two evaluations, this
+    * reduces the number of iterations, especially for shapes with flat faces such as boxes and convex
+    * polytopes. A support direction provided via {@link #setInitialSupportDirection(Vector3DReadOnly)}
+    * has precedence over the cache.
+    * </p>
+    * <p>
+    * The pairs are identified by the references of the shapes passed to this detector. The cache
+    * can be shared among several detectors as long as they are used from the same thread.
+    * </p>
+    *
+    * @param warmStartCache the cache to use, or {@code null} to disable warm-starting. Default value
+    *                       is {@code null}. Reference saved.
+    */
+   public void setWarmStartCache(GJKWarmStartCache warmStartCache)
+   {
+      this.warmStartCache = warmStartCache;
+   }
+
+   /**
+    * Enables or disables the garbage-free mode of this detector.
+    * <p>
+    * When enabled, the evaluation of the collision between two {@link SupportingVertexHolder}s does
+    * not generate garbage once this detector has been warmed up. The vertices and simplices used
+    * during the evaluation are owned by this detector and recycled across evaluations, such that the
+    * simplex returned by {@link #getSimplex()} and its vertices are only valid until the next
+    * evaluation.
+    * </p>
+    * <p>
+    * Note that the evaluation of the collision between two {@link Shape3DReadOnly}s may still
+    * generate garbage when the shapes are primitives.
+    * </p>
+    *
+    * @param garbageFree {@code true} to recycle the internal objects across evaluations, {@code false}
+    *                    to allocate new ones for each evaluation. Default value is {@code false}.
+    */
+   public void setGarbageFree(boolean garbageFree)
+   {
+      this.garbageFree = garbageFree;
+
+      if (garbageFree && vertexPool == null)
+      {
+         vertexPool = new GJKVertex3D[4];
+         supportingVertexPoolA = new Point3D[4];
+         supportingVertexPoolB = new Point3D[4];
+         simplexPool = new GJKSimplex3D[4];
+
+         for (int i = 0; i < vertexPool.length; i++)
+         {
+            vertexPool[i] = new GJKVertex3D();
+            supportingVertexPoolA[i] = new Point3D();
+            supportingVertexPoolB[i] = new Point3D();
+            simplexPool[i] = new GJKSimplex3D();
+         }
+      }
+   }
+
    /**
     * Sets the limit to the number of iterations in case the algorithm does not succeed to converge.
     *
@@ -489,6 +923,29 @@ public class GilbertJohnsonKeerthiCollisionDetector
       return epsilonTriangleNormalSwitch;
    }
 
+   /**
+    * Whether this detector is in garbage-free mode.
+    *
+    * @return {@code true} if the internal objects are recycled across evaluations, {@code false}
+    *         otherwise.
+    * @see #setGarbageFree(boolean)
+    */
+   public boolean isGarbageFree()
+   {
+      return garbageFree;
+   }
+
+   /**
+    * Gets the cache used to warm-start the evaluation of pairs of shapes.
+    *
+    * @return the warm-start cache, or {@code null} if warm-starting is disabled.
+    * @see #setWarmStartCache(GJKWarmStartCache)
+    */
+   public GJKWarmStartCache getWarmStartCache()
+   {
+      return warmStartCache;
+   }
+
    /**
     * Gets the number of iterations needed for the last evaluation.
     *
@@ -23,6 +23,8 @@ import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DFactory;
 import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DReadOnly;
 import us.ihmc.euclid.shape.convexPolytope.tools.EuclidPolytopeConstructionTools;
 import us.ihmc.euclid.shape.convexPolytope.tools.EuclidPolytopeTools;
+import us.ihmc.euclid.shape.convexPolytope.tools.SupportingVertexHierarchy;
+import us.ihmc.euclid.shape.convexPolytope.tools.SupportingVertexSeed;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DPoseBasics;
 import us.ihmc.euclid.shape.tools.EuclidShapeIOTools;
@@ -47,6 +49,12 @@ import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 public abstract class AbstractConvexPolytope3D<Vertex extends AbstractVertex3D<Vertex, Edge, Face>, Edge extends AbstractHalfEdge3D<Vertex, Edge, Face>, Face extends AbstractFace3D<Vertex, Edge, Face>>
       implements ConvexPolytope3DReadOnly, Shape3DBasics, Transformable, Clearable
 {
+   /**
+    * The minimum number of vertices a polytope should have for
+    * {@link #getSupportingVertex(Vector3DReadOnly)} to use a {@link SupportingVertexHierarchy}.
+    */
+   public static final int SUPPORTING_VERTEX_HIERARCHY_THRESHOLD = 256;
+
    /** The list of the vertices composing this convex polytope. */
    private final List<Vertex> vertices = new ArrayList<>();
    /** The list of the half-edges composing this convex polytope. */
@@ -66,11 +74,20 @@ public abstract class AbstractConvexPolytope3D<Vertex extends AbstractVertex3D<V
    private HalfEdge3DFactory<Vertex, Edge> edgeFactory;
    /** Factory used to create faces of the proper type. */
    private Face3DFactory<Face> faceFactory;
+   /**
+    * Hierarchy used to accelerate {@link #getSupportingVertex(Vector3DReadOnly)} for large polytopes,
+    * lazily built on the first query and discarded when the vertices of this polytope change.
+    */
+   private volatile SupportingVertexHierarchy supportingVertexHierarchy = null;
+   /** Lock used to build {@link #supportingVertexHierarchy} only once when queried concurrently. */
+   private final Object supportingVertexHierarchyLock = new Object();
    /**
     * Last result from {@link #getSupportingVertex(Vertex3DReadOnly, Vector3DReadOnly)} that is
     * automatically reused for the next call to provide a slight speedup.
     */
    private Vertex3DReadOnly lastSupportingVertex = null;
+   /** The number of times the vertices of this polytope have changed. */
+   private int modificationCount = 0;
 
    /**
     * Creates a new empty convex polytope.
@@ -159,7 +176,7 @@ public abstract class AbstractConvexPolytope3D<Vertex extends AbstractVertex3D<V
     */
    public void clear()
    {
-      lastSupportingVertex = null;
+      onVerticesChanged();
       vertices.clear();
       halfEdges.clear();
       faces.clear();
@@ -185,7 +202,7 @@ public abstract class AbstractConvexPolytope3D<Vertex extends AbstractVertex3D<V
    @Override
    public void setToZero()
    {
-      lastSupportingVertex = null;
+      onVerticesChanged();
       vertices.clear();
       halfEdges.clear();
       faces.clear();
@@ -449,9 +466,16 @@ public abstract class AbstractConvexPolytope3D<Vertex extends AbstractVertex3D<V
       return false;
    }
 
-   private void updateVertices()
+   private void onVerticesChanged()
    {
       lastSupportingVertex = null;
+      supportingVertexHierarchy = null;
+      modificationCount++;
+   }
+
+   private void updateVertices()
+   {
+      onVerticesChanged();
       vertices.clear();
       faces.stream().flatMap(face -> face.getVertices().stream()).distinct().forEach(vertices::add);
    }
@@ -582,13 +606,78 @@ public abstract class AbstractConvexPolytope3D<Vertex extends AbstractVertex3D<V
       return volume;
    }
 
+   /**
+    * {@inheritDoc}
+    * <p>
+    * For polytopes with at least {@value #SUPPORTING_VERTEX_HIERARCHY_THRESHOLD} vertices, the search
+    * uses a {@link SupportingVertexHierarchy} which is built on the first call and this method can be
+    * called from several threads at once. Otherwise, the search walks the edges of this polytope
+    * starting from the result of the previous call, which is not safe when querying this polytope from
+    * several threads. Use a {@link SupportingVertexSeed} per thread to exploit coherence between
+    * successive queries in that case.
+    * </p>
+    */
    @Override
    public Vertex3DReadOnly getSupportingVertex(Vector3DReadOnly supportDirection)
    {
+      SupportingVertexHierarchy hierarchy = getSupportingVertexHierarchy();
+
+      if (hierarchy != null)
+         return hierarchy.getSupportingVertex(supportDirection);
+
       lastSupportingVertex = getSupportingVertex(lastSupportingVertex, supportDirection);
       return lastSupportingVertex;
    }
 
+   /**
+    * Gets the number of times the vertices of this polytope have changed, for instance when adding
+    * vertices or clearing this polytope.
+    * <p>
+    * Transforming this polytope does not change the modification count. This can be used to detect
+    * that references to the vertices of this polytope have become stale.
+    * </p>
+    *
+    * @return the modification count.
+    */
+   public int getModificationCount()
+   {
+      return modificationCount;
+   }
+
+   /**
+    * Gets the hierarchy used to accelerate the search of supporting vertices, building it if needed.
+    * <p>
+    * WARNING: This method generates garbage the first time it is called after the vertices of this
+    * polytope have changed.
+    * </p>
+    *
+    * @return the hierarchy, or {@code null} if this polytope has less than
+    *         {@value #SUPPORTING_VERTEX_HIERARCHY_THRESHOLD} vertices or is flat.
+    */
+   public SupportingVertexHierarchy getSupportingVertexHierarchy()
+   {
+      if (getNumberOfVertices() < SUPPORTING_VERTEX_HIERARCHY_THRESHOLD || getNumberOfFaces() < 4)
+         return null;
+
+      SupportingVertexHierarchy hierarchy = supportingVertexHierarchy;
+
+      if (hierarchy == null)
+      {
+         synchronized (supportingVertexHierarchyLock)
+         {
+            hierarchy = supportingVertexHierarchy;
+
+            if (hierarchy == null)
+            {
+               hierarchy = new SupportingVertexHierarchy(this);
+               supportingVertexHierarchy = hierarchy;
+            }
+         }
+      }
+
+      return hierarchy;
+   }
+
    @Override
    public Shape3DPoseBasics getPose()
    {
@@ -439,9 +439,9 @@ public interface ConvexPolytope3DReadOnly extends Shape3DReadOnly
 
       while (true)
       {
-         for (HalfEdge3DReadOnly currentEdge : bestVertex.getAssociatedEdges())
+         for (int edgeIndex = 0; edgeIndex < bestVertex.getNumberOfAssociatedEdges(); edgeIndex++)
          {
-            Vertex3DReadOnly candidate = currentEdge.getDestination();
+            Vertex3DReadOnly candidate = bestVertex.getAssociatedEdge(edgeIndex).getDestination();
 
             double dotProduct = candidate.dot(supportDirection);
 
@@ -0,0 +1,449 @@
+package us.ihmc.euclid.shape.convexPolytope.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import us.ihmc.euclid.shape.convexPolytope.interfaces.ConvexPolytope3DReadOnly;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Dobkin-Kirkpatrick hierarchy used to accelerate the search of the supporting vertex of a large
+ * convex polytope.
+ * <p>
+ * The hierarchy is a sequence of nested convex polytopes: the first level is the original polytope,
+ * and each following level is the convex hull of the vertices of the previous level minus an
+ * independent set of vertices of low degree. The last level only has a handful of vertices. A
+ * supporting vertex is found by exhaustively searching the last level, and then by refining the
+ * result level after level with a local search that starts from the supporting vertex of the
+ * coarser level. As the vertices removed at each level are independent and of low degree, each
+ * refinement only takes a few steps and a query visits {@code O(log(n))} vertices for a polytope
+ * with {@code n} vertices.
+ * </p>
+ * <p>
+ * The hierarchy only holds onto the references of the original vertices and the connectivity of
+ * each level, such that it remains valid when the polytope is transformed but has to be re-built
+ * when vertices are added to the polytope. Once built, the hierarchy is immutable and can be queried
+ * from several threads at once.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class SupportingVertexHierarchy
+{
+   /** The maximum number of vertices of the last level of the hierarchy. */
+   private static final int MAX_TOP_LEVEL_SIZE = 16;
+   /** Only vertices with this degree or less are removed when building the next level. */
+   private static final int MAX_REMOVED_VERTEX_DEGREE = 10;
+
+   /** For each level, the vertices of the original polytope that belong to the level. */
+   private final Vertex3DReadOnly[][] levelVertices;
+   /**
+    * For each level, the start index of each vertex's neighbors in the adjacency array. The neighbors
+    * of the i<sup>th</sup> vertex are stored in {@code [levelAdjacencyOffsets[i], levelAdjacencyOffsets[i + 1][}.
+    */
+   private final int[][] levelAdjacencyOffsets;
+   /** For each level, the indices of the neighbors of each vertex. */
+   private final int[][] levelAdjacencies;
+   /**
+    * For each level but the first, the index of each vertex in the previous, i.e. finer, level.
+    */
+   private final int[][] levelToFinerIndices;
+
+   /**
+    * Builds the hierarchy for the given polytope.
+    * <p>
+    * WARNING: This constructor generates garbage.
+    * </p>
+    *
+    * @param polytope the polytope to build the hierarchy of. Not modified, references to its vertices
+    *                 are saved.
+    * @throws IllegalArgumentException if the polytope has less than 4 faces, i.e. it is empty or flat.
+    */
+   public SupportingVertexHierarchy(ConvexPolytope3DReadOnly polytope)
+   {
+      if (polytope.getNumberOfFaces() < 4)
+         throw new IllegalArgumentException("The polytope must have at least 4 faces, had: " + polytope.getNumberOfFaces());
+
+      List<Vertex3DReadOnly[]> verticesList = new ArrayList<>();
+      List<int[]> offsetsList = new ArrayList<>();
+      List<int[]> adjacenciesList = new ArrayList<>();
+      List<int[]> toFinerIndicesList = new ArrayList<>();
+
+      // First level: the original polytope.
+      int numberOfVertices = polytope.getNumberOfVertices();
+      Vertex3DReadOnly[] vertices = new Vertex3DReadOnly[numberOfVertices];
+      Map<Vertex3DReadOnly, Integer> indexMap = new IdentityHashMap<>();
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         vertices[i] = polytope.getVertex(i);
+         indexMap.put(vertices[i], i);
+      }
+
+      AdjacencyBuilder adjacencyBuilder = new AdjacencyBuilder(numberOfVertices);
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         Vertex3DReadOnly vertex = vertices[i];
+
+         for (int edgeIndex = 0; edgeIndex < vertex.getNumberOfAssociatedEdges(); edgeIndex++)
+            adjacencyBuilder.addEdge(i, indexMap.get(vertex.getAssociatedEdge(edgeIndex).getDestination()));
+      }
+
+      int[] offsets = adjacencyBuilder.packOffsets();
+      int[] adjacencies = adjacencyBuilder.packAdjacencies(offsets);
+
+      verticesList.add(vertices);
+      offsetsList.add(offsets);
+      adjacenciesList.add(adjacencies);
+      toFinerIndicesList.add(null);
+
+      double epsilon = polytope.getConstructionEpsilon();
+
+      // Coarser levels.
+      while (vertices.length > MAX_TOP_LEVEL_SIZE)
+      {
+         boolean[] isRemoved = selectVerticesToRemove(offsets, adjacencies);
+         int[] toCoarserIndices = new int[vertices.length];
+         int numberOfCoarseVertices = 0;
+
+         for (int i = 0; i < vertices.length; i++)
+            toCoarserIndices[i] = isRemoved[i] ? -1 : numberOfCoarseVertices++;
+
+         // Not worth adding a level that barely reduces the number of vertices.
+         if (numberOfCoarseVertices > vertices.length - Math.max(2, vertices.length / 32))
+            break;
+
+         Vertex3DReadOnly[] coarseVertices = new Vertex3DReadOnly[numberOfCoarseVertices];
+         int[] toFinerIndices = new int[numberOfCoarseVertices];
+         adjacencyBuilder = new AdjacencyBuilder(numberOfCoarseVertices);
+
+         for (int i = 0; i < vertices.length; i++)
+         {
+            if (isRemoved[i])
+            {
+               retriangulateHole(i, vertices, offsets, adjacencies, toCoarserIndices, epsilon, adjacencyBuilder);
+               continue;
+            }
+
+            int coarseIndex = toCoarserIndices[i];
+            coarseVertices[coarseIndex] = vertices[i];
+            toFinerIndices[coarseIndex] = i;
+
+            // The edges between remaining vertices remain edges of the coarser polytope.
+            for (int k = offsets[i]; k < offsets[i + 1]; k++)
+            {
+               int neighborIndex = toCoarserIndices[adjacencies[k]];
+               if (neighborIndex != -1)
+                  adjacencyBuilder.addEdge(coarseIndex, neighborIndex);
+            }
+         }
+
+         vertices = coarseVertices;
+         offsets = adjacencyBuilder.packOffsets();
+         adjacencies = adjacencyBuilder.packAdjacencies(offsets);
+         verticesList.add(vertices);
+         offsetsList.add(offsets);
+         adjacenciesList.add(adjacencies);
+         toFinerIndicesList.add(toFinerIndices);
+      }
+
+      levelVertices = verticesList.toArray(new Vertex3DReadOnly[verticesList.size()][]);
+      levelAdjacencyOffsets = offsetsList.toArray(new int[offsetsList.size()][]);
+      levelAdjacencies = adjacenciesList.toArray(new int[adjacenciesList.size()][]);
+      levelToFinerIndices = toFinerIndicesList.toArray(new int[toFinerIndicesList.size()][]);
+   }
+
+   /**
+    * Connects the neighbors of a removed vertex such that the connectivity of the coarser level
+    * matches the convex hull of the remaining vertices.
+    * <p>
+    * Removing a vertex from a convex polytope only affects the region covered by the vertex and its
+    * neighbors: the hole is closed by the faces of the convex hull of the neighbors that are visible
+    * from the removed vertex. These faces are found by testing every triangle formed by the neighbors,
+    * which is affordable as only vertices with a low degree are removed. Coplanar neighbors may result
+    * in additional edges crossing a face, these are harmless for the search of supporting vertices.
+    * </p>
+    */
+   private static void retriangulateHole(int removedIndex,
+                                         Vertex3DReadOnly[] vertices,
+                                         int[] offsets,
+                                         int[] adjacencies,
+                                         int[] toCoarserIndices,
+                                         double epsilon,
+                                         AdjacencyBuilder coarseAdjacencyBuilder)
+   {
+      Vertex3DReadOnly removedVertex = vertices[removedIndex];
+      int start = offsets[removedIndex];
+      int degree = offsets[removedIndex + 1] - start;
+
+      for (int i = 0; i < degree; i++)
+      {
+         Vertex3DReadOnly a = vertices[adjacencies[start + i]];
+
+         for (int j = i + 1; j < degree; j++)
+         {
+            Vertex3DReadOnly b = vertices[adjacencies[start + j]];
+            double abx = b.getX() - a.getX();
+            double aby = b.getY() - a.getY();
+            double abz = b.getZ() - a.getZ();
+
+            for (int k = j + 1; k < degree; k++)
+            {
+               Vertex3DReadOnly c = vertices[adjacencies[start + k]];
+               double acx = c.getX() - a.getX();
+               double acy = c.getY() - a.getY();
+               double acz = c.getZ() - a.getZ();
+               double nx = aby * acz - abz * acy;
+               double ny = abz * acx - abx * acz;
+               double nz = abx * acy - aby * acx;
+               double normalLength = Math.sqrt(nx * nx + ny * ny + nz * nz);
+
+               if (normalLength < epsilon * epsilon)
+                  continue; // Degenerate triangle.
+
+               nx /= normalLength;
+               ny /= normalLength;
+               nz /= normalLength;
+
+               // Orienting the plane such that the removed vertex is on the positive side.
+               double sign = signedDistance(removedVertex, a, nx, ny, nz) >= 0.0 ? 1.0 : -1.0;
+               boolean isHullFace = true;
+
+               for (int l = 0; l < degree; l++)
+               {
+                  if (l == i || l == j || l == k)
+                     continue;
+
+                  if (sign * signedDistance(vertices[adjacencies[start + l]], a, nx, ny, nz) > epsilon)
+                  {
+                     isHullFace = false;
+                     break;
+                  }
+               }
+
+               if (isHullFace)
+               {
+                  int aIndex = toCoarserIndices[adjacencies[start + i]];
+                  int bIndex = toCoarserIndices[adjacencies[start + j]];
+                  int cIndex = toCoarserIndices[adjacencies[start + k]];
+                  coarseAdjacencyBuilder.addEdge(aIndex, bIndex);
+                  coarseAdjacencyBuilder.addEdge(bIndex, aIndex);
+                  coarseAdjacencyBuilder.addEdge(aIndex, cIndex);
+                  coarseAdjacencyBuilder.addEdge(cIndex, aIndex);
+                  coarseAdjacencyBuilder.addEdge(bIndex, cIndex);
+                  coarseAdjacencyBuilder.addEdge(cIndex, bIndex);
+               }
+            }
+         }
+      }
+   }
+
+   private static double signedDistance(Vertex3DReadOnly query, Vertex3DReadOnly pointOnPlane, double nx, double ny, double nz)
+   {
+      return nx * (query.getX() - pointOnPlane.getX()) + ny * (query.getY() - pointOnPlane.getY()) + nz * (query.getZ() - pointOnPlane.getZ());
+   }
+
+   /**
+    * Greedily selects an independent set of vertices of low degree, i.e. no two selected vertices are
+    * neighbors.
+    */
+   private static boolean[] selectVerticesToRemove(int[] offsets, int[] adjacencies)
+   {
+      int numberOfVertices = offsets.length - 1;
+      boolean[] isRemoved = new boolean[numberOfVertices];
+      boolean[] isBlocked = new boolean[numberOfVertices];
+
+      // Visiting the vertices by increasing degree favors the removal of many vertices.
+      for (int degree = 0; degree <= MAX_REMOVED_VERTEX_DEGREE; degree++)
+      {
+         for (int i = 0; i < numberOfVertices; i++)
+         {
+            if (isBlocked[i] || offsets[i + 1] - offsets[i] != degree)
+               continue;
+
+            isRemoved[i] = true;
+            isBlocked[i] = true;
+
+            for (int k = offsets[i]; k < offsets[i + 1]; k++)
+               isBlocked[adjacencies[k]] = true;
+         }
+      }
+
+      return isRemoved;
+   }
+
+   /**
+    * Finds the supporting vertex of the polytope in the given direction.
+    * <p>
+    * The supporting vertex is the vertex of the polytope that is the farthest along a given direction.
+    * </p>
+    * <p>
+    * This method does not modify this hierarchy and can be called from several threads at once.
+    * </p>
+    *
+    * @param supportDirection the direction to search for the farthest vertex. Not modified.
+    * @return the supporting vertex.
+    */
+   public Vertex3DReadOnly getSupportingVertex(Vector3DReadOnly supportDirection)
+   {
+      int topLevel = levelVertices.length - 1;
+      Vertex3DReadOnly[] topVertices = levelVertices[topLevel];
+      int bestIndex = 0;
+      double maxDotProduct = topVertices[0].dot(supportDirection);
+
+      for (int i = 1; i < topVertices.length; i++)
+      {
+         double dotProduct = topVertices[i].dot(supportDirection);
+
+         if (dotProduct > maxDotProduct)
+         {
+            bestIndex = i;
+            maxDotProduct = dotProduct;
+         }
+      }
+
+      for (int level = topLevel - 1; level >= 0; level--)
+      {
+         bestIndex = levelToFinerIndices[level + 1][bestIndex];
+         bestIndex = climb(level, bestIndex, supportDirection);
+      }
+
+      return levelVertices[0][bestIndex];
+   }
+
+   /**
+    * Walks along the edges of the given level from the start vertex towards the vertex that is the
+    * farthest along the direction. As each level is a convex polytope, the local search terminates on
+    * the supporting vertex of the level.
+    */
+   private int climb(int level, int startIndex, Vector3DReadOnly supportDirection)
+   {
+      Vertex3DReadOnly[] vertices = levelVertices[level];
+      int[] offsets = levelAdjacencyOffsets[level];
+      int[] adjacencies = levelAdjacencies[level];
+
+      int bestIndex = startIndex;
+      double maxDotProduct = vertices[bestIndex].dot(supportDirection);
+
+      while (true)
+      {
+         int candidateIndex = bestIndex;
+
+         for (int k = offsets[bestIndex]; k < offsets[bestIndex + 1]; k++)
+         {
+            int neighborIndex = adjacencies[k];
+            double dotProduct = vertices[neighborIndex].dot(supportDirection);
+
+            if (dotProduct > maxDotProduct)
+            {
+               candidateIndex = neighborIndex;
+               maxDotProduct = dotProduct;
+            }
+         }
+
+         if (candidateIndex == bestIndex)
+            return bestIndex;
+         bestIndex = candidateIndex;
+      }
+   }
+
+   /**
+    * Gets the number of levels in this hierarchy, including the original polytope.
+    *
+    * @return the number of levels.
+    */
+   public int getNumberOfLevels()
+   {
+      return levelVertices.length;
+   }
+
+   /**
+    * Gets the number of vertices of the given level.
+    *
+    * @param level the level index, 0 being the original polytope.
+    * @return the number of vertices of the level.
+    */
+   public int getNumberOfVertices(int level)
+   {
+      return levelVertices[level].length;
+   }
+
+   /**
+    * Gets the vertices of the original polytope that belong to the given level.
+    *
+    * @param level the level index, 0 being the original polytope.
+    * @return the unmodifiable list of the level's vertices.
+    */
+   public List<Vertex3DReadOnly> getVertices(int level)
+   {
+      return Collections.unmodifiableList(Arrays.asList(levelVertices[level]));
+   }
+
+   /** Helper used to build the connectivity of a level without duplicate edges. */
+   private static class AdjacencyBuilder
+   {
+      private final int[][] neighbors;
+      private final int[] degrees;
+
+      AdjacencyBuilder(int numberOfVertices)
+      {
+         neighbors = new int[numberOfVertices][];
+         degrees = new int[numberOfVertices];
+      }
+
+      void addEdge(int origin, int destination)
+      {
+         if (origin == destination)
+            return;
+
+         int[] originNeighbors = neighbors[origin];
+         int degree = degrees[origin];
+
+         if (originNeighbors == null)
+         {
+            originNeighbors = new int[8];
+            neighbors[origin] = originNeighbors;
+         }
+
+         for (int i = 0; i < degree; i++)
+         {
+            if (originNeighbors[i] == destination)
+               return;
+         }
+
+         if (degree == originNeighbors.length)
+         {
+            originNeighbors = Arrays.copyOf(originNeighbors, 2 * degree);
+            neighbors[origin] = originNeighbors;
+         }
+
+         originNeighbors[degree] = destination;
+         degrees[origin]++;
+      }
+
+      int[] packOffsets()
+      {
+         int[] offsets = new int[degrees.length + 1];
+         for (int i = 0; i < degrees.length; i++)
+            offsets[i + 1] = offsets[i] + degrees[i];
+         return offsets;
+      }
+
+      int[] packAdjacencies(int[] offsets)
+      {
+         int[] adjacencies = new int[offsets[degrees.length]];
+         for (int i = 0; i < degrees.length; i++)
+         {
+            if (degrees[i] > 0)
+               System.arraycopy(neighbors[i], 0, adjacencies, offsets[i], degrees[i]);
+         }
+         return adjacencies;
+      }
+   }
+}
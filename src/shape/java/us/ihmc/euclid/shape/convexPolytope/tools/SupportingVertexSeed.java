@@ -0,0 +1,197 @@
+package us.ihmc.euclid.shape.convexPolytope.tools;
+
+import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
+import us.ihmc.euclid.shape.convexPolytope.impl.AbstractConvexPolytope3D;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.ConvexPolytope3DReadOnly;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Search context for the supporting vertex of a convex polytope that exploits the coherence between
+ * successive queries.
+ * <p>
+ * The seed remembers the last supporting vertex it found and starts the next search from it. When
+ * the support direction only changes slightly between queries, as it is the case during the
+ * iterations of the GJK algorithm or when tracking a moving shape, the new supporting vertex is
+ * found within a few steps. When the walk from the last supporting vertex takes too many steps, the
+ * search falls back to {@link ConvexPolytope3DReadOnly#getSupportingVertex(Vector3DReadOnly)} which
+ * uses the {@link SupportingVertexHierarchy} for large polytopes.
+ * </p>
+ * <p>
+ * A seed is owned by its caller and is not thread-safe, however several seeds can be used at once
+ * on the same polytope from different threads. This class implements {@link SupportingVertexHolder}
+ * such that a seed can be passed directly to the collision detectors in place of the polytope.
+ * </p>
+ * <p>
+ * When the polytope extends {@link AbstractConvexPolytope3D}, the seed is automatically reset when
+ * the vertices of the polytope change. For other implementations, the seed has to be reset via
+ * {@link #reset()} whenever the vertices of the polytope change, for instance after adding vertices
+ * or clearing the polytope. Transforming the polytope does not require to reset the seed.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class SupportingVertexSeed implements SupportingVertexHolder
+{
+   /** The maximum number of steps of the seeded walk before falling back to the default search. */
+   private static final int MAX_NUMBER_OF_STEPS = 8;
+
+   private ConvexPolytope3DReadOnly polytope;
+   /** Same as {@link #polytope} when it can report its modifications, {@code null} otherwise. */
+   private AbstractConvexPolytope3D<?, ?, ?> trackedPolytope;
+   /** The modification count of the polytope when {@link #seed} was found. */
+   private int modificationCount;
+   /** The last supporting vertex found, used to start the next search. */
+   private Vertex3DReadOnly seed = null;
+
+   /**
+    * Creates a new seed which polytope has to be set via
+    * {@link #setPolytope(ConvexPolytope3DReadOnly)} before searching supporting vertices.
+    */
+   public SupportingVertexSeed()
+   {
+   }
+
+   /**
+    * Creates a new seed for the given polytope.
+    *
+    * @param polytope the polytope to search the supporting vertices of. Not modified, reference saved.
+    */
+   public SupportingVertexSeed(ConvexPolytope3DReadOnly polytope)
+   {
+      setPolytope(polytope);
+   }
+
+   /**
+    * Sets the polytope to search the supporting vertices of.
+    * <p>
+    * This seed is reset unless the polytope is the same as the current one and extends
+    * {@link AbstractConvexPolytope3D}, in which case the last supporting vertex remains valid as long
+    * as the vertices of the polytope have not changed.
+    * </p>
+    *
+    * @param polytope the polytope to search the supporting vertices of. Not modified, reference saved.
+    */
+   public void setPolytope(ConvexPolytope3DReadOnly polytope)
+   {
+      if (polytope == this.polytope && trackedPolytope != null)
+         return;
+
+      this.polytope = polytope;
+      trackedPolytope = polytope instanceof AbstractConvexPolytope3D ? (AbstractConvexPolytope3D<?, ?, ?>) polytope : null;
+      seed = null;
+   }
+
+   /**
+    * Forgets the last supporting vertex such that the next search is not seeded.
+    * <p>
+    * This method has to be called whenever the vertices of the polytope change, unless the polytope
+    * extends {@link AbstractConvexPolytope3D}.
+    * </p>
+    */
+   public void reset()
+   {
+      seed = null;
+   }
+
+   /**
+    * Finds the supporting vertex in the given direction starting the search from the last supporting
+    * vertex found.
+    * <p>
+    * The supporting vertex is the vertex of the polytope that is the farthest along a given
+    * direction.
+    * </p>
+    *
+    * @param supportDirection the direction to search for the farthest vertex. Not modified.
+    * @return the supporting vertex or {@code null} if the polytope is empty.
+    */
+   public Vertex3DReadOnly getSupportingVertex(Vector3DReadOnly supportDirection)
+   {
+      if (trackedPolytope != null && trackedPolytope.getModificationCount() != modificationCount)
+      {
+         seed = null;
+         modificationCount = trackedPolytope.getModificationCount();
+      }
+
+      if (polytope.isEmpty())
+      {
+         seed = null;
+         return null;
+      }
+
+      if (seed == null || polytope.getNumberOfFaces() == 1)
+      {
+         seed = polytope.getSupportingVertex(supportDirection);
+         return seed;
+      }
+
+      Vertex3DReadOnly bestVertex = seed;
+      double maxDotProduct = bestVertex.dot(supportDirection);
+
+      for (int step = 0; step < MAX_NUMBER_OF_STEPS; step++)
+      {
+         Vertex3DReadOnly vertexCandidate = bestVertex;
+
+         for (int edgeIndex = 0; edgeIndex < bestVertex.getNumberOfAssociatedEdges(); edgeIndex++)
+         {
+            Vertex3DReadOnly candidate = bestVertex.getAssociatedEdge(edgeIndex).getDestination();
+            double dotProduct = candidate.dot(supportDirection);
+
+            if (dotProduct > maxDotProduct)
+            {
+               vertexCandidate = candidate;
+               maxDotProduct = dotProduct;
+            }
+         }
+
+         if (vertexCandidate == bestVertex)
+         {
+            seed = bestVertex;
+            return seed;
+         }
+
+         bestVertex = vertexCandidate;
+      }
+
+      // The seed was far from the supporting vertex, falling back to the default search.
+      if (trackedPolytope != null && trackedPolytope.getSupportingVertexHierarchy() != null)
+         seed = polytope.getSupportingVertex(supportDirection);
+      else
+         seed = polytope.getSupportingVertex(bestVertex, supportDirection);
+      return seed;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public boolean getSupportingVertex(Vector3DReadOnly supportDirection, Point3DBasics supportingVertexToPack)
+   {
+      Vertex3DReadOnly supportingVertex = getSupportingVertex(supportDirection);
+
+      if (supportingVertex == null)
+         return false;
+
+      supportingVertexToPack.set(supportingVertex);
+      return true;
+   }
+
+   /**
+    * Gets the polytope this seed is searching the supporting vertices of.
+    *
+    * @return the polytope.
+    */
+   public ConvexPolytope3DReadOnly getPolytope()
+   {
+      return polytope;
+   }
+
+   /**
+    * Gets the last supporting vertex found, used to start the next search.
+    *
+    * @return the last supporting vertex or {@code null} if there is none.
+    */
+   public Vertex3DReadOnly getSeed()
+   {
+      return seed;
+   }
+}
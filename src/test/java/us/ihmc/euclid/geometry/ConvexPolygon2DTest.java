@@ -2,16 +2,19 @@ package us.ihmc.euclid.geometry;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryTestTools;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tuple2D.Point2D;
 
@@ -131,4 +134,109 @@ public class ConvexPolygon2DTest extends ConvexPolygon2DBasicsTest<ConvexPolygon
       assertEquals(4.0, polygonPolygon.getNumberOfVertices(), EPSILON, "Number of vertices should be four");
       assertTrue(polygonPolygon.isUpToDate());
    }
+
+   @Test
+   public void testConvexHullAlgorithm()
+   {
+      Random random = new Random(34903);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point2D> pointCloud = EuclidGeometryRandomTools.nextPointCloud2D(random, 10.0, 10.0, random.nextInt(300) + 1);
+         ConvexPolygon2D expected = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(pointCloud));
+         assertEquals(ConvexHull2DAlgorithm.GIFT_WRAP, expected.getConvexHullAlgorithm());
+
+         for (ConvexHull2DAlgorithm algorithm : ConvexHull2DAlgorithm.values)
+         {
+            ConvexPolygon2D actual = new ConvexPolygon2D();
+            actual.setConvexHullAlgorithm(algorithm);
+            actual.set(Vertex2DSupplier.asVertex2DSupplier(pointCloud));
+            assertEquals(algorithm, actual.getConvexHullAlgorithm());
+            assertTrue(expected.equals(actual), "Algorithm: " + algorithm);
+         }
+      }
+   }
+
+   @Test
+   public void testAddVertexAndUpdate()
+   {
+      Random random = new Random(34904);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point2D> pointCloud = EuclidGeometryRandomTools.nextPointCloud2D(random, 10.0, 10.0, random.nextInt(100) + 1);
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         actual.update();
+         ConvexPolygon2D expected = new ConvexPolygon2D();
+
+         for (Point2D point : pointCloud)
+         {
+            expected.addVertex(point);
+            expected.update();
+            int numberOfVerticesBefore = actual.getNumberOfVertices();
+            boolean isAdded = actual.addVertexAndUpdate(point);
+
+            assertTrue(actual.isUpToDate());
+            assertTrue(expected.equals(actual));
+            assertEquals(expected.getArea(), actual.getArea(), 1.0e-10);
+            assertTrue(expected.getCentroid().epsilonEquals(actual.getCentroid(), 1.0e-10));
+            assertTrue(expected.getBoundingBox().epsilonEquals(actual.getBoundingBox(), 1.0e-12));
+            if (!isAdded)
+               assertEquals(numberOfVerticesBefore, actual.getNumberOfVertices());
+            else
+               assertTrue(actual.getVertexBufferView().subList(0, actual.getNumberOfVertices()).contains(point));
+         }
+      }
+
+      // Vertices aligned with an edge are not kept.
+      ConvexPolygon2D polygon = new ConvexPolygon2D();
+      polygon.addVertex(0.0, 0.0);
+      polygon.addVertex(1.0, 0.0);
+      polygon.addVertex(0.0, 1.0);
+      polygon.update();
+      assertFalse(polygon.addVertexAndUpdate(0.25, 0.25));
+      assertTrue(polygon.addVertexAndUpdate(2.0, 0.0));
+      assertEquals(3, polygon.getNumberOfVertices());
+      assertFalse(polygon.addVertexAndUpdate(1.0, 0.0));
+      assertEquals(1.0, polygon.getArea(), 1.0e-12);
+   }
+
+   @Test
+   public void testPolygonOperations()
+   {
+      Random random = new Random(34905);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D first = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         ConvexPolygon2D second = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         ConvexPolygon2D result = new ConvexPolygon2D();
+
+         first.unionHullWith(second, result);
+         ConvexPolygon2D expected = new ConvexPolygon2D(first, second);
+         assertTrue(expected.epsilonEquals(result, 1.0e-12));
+
+         // The operations are symmetric.
+         ConvexPolygon2D other = new ConvexPolygon2D();
+         assertEquals(first.intersectionWith(second, result), second.intersectionWith(first, other));
+         if (!result.isEmpty())
+            EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(result, other, 1.0e-10);
+
+         first.minkowskiSum(second, result);
+         second.minkowskiSum(first, other);
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(result, other, 1.0e-10);
+
+         if (first.getNumberOfVertices() >= 3 && second.getNumberOfVertices() >= 3)
+            assertTrue(result.getArea() >= Math.max(first.getArea(), second.getArea()));
+
+         // Minkowski difference with itself is symmetric about the origin.
+         first.minkowskiDifference(first.translateCopy(new Point2D()), result);
+         other.set(result);
+         other.scale(new Point2D(), -1.0);
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(result, other, 1.0e-10);
+
+         assertThrows(IllegalArgumentException.class, () -> first.intersectionWith(second, first));
+         assertThrows(IllegalArgumentException.class, () -> first.minkowskiSum(second, second));
+      }
+   }
 }
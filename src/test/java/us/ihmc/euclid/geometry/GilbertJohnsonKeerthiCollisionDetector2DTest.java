@@ -0,0 +1,111 @@
+package us.ihmc.euclid.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+
+public class GilbertJohnsonKeerthiCollisionDetector2DTest
+{
+   private static final double EPSILON = 1.0e-10;
+
+   @Test
+   public void testEvaluateCollision()
+   {
+      Random random = new Random(34901);
+      GilbertJohnsonKeerthiCollisionDetector2D detector = new GilbertJohnsonKeerthiCollisionDetector2D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Compared against the distance from the origin to the Minkowski difference of the two polygons
+         ConvexPolygon2D polygonA = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         ConvexPolygon2D polygonB = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         ConvexPolygon2D difference = new ConvexPolygon2D();
+         polygonA.minkowskiDifference(polygonB, difference);
+         double signedDistance = difference.signedDistance(new Point2D());
+
+         if (Math.abs(signedDistance) < 1.0e-7)
+            continue;
+
+         boolean colliding = detector.evaluateCollision(polygonA, polygonB);
+         assertEquals(signedDistance < 0.0, colliding, "Iteration " + i);
+         assertEquals(colliding, polygonA.isIntersecting(polygonB), "Iteration " + i);
+
+         if (colliding)
+         {
+            assertEquals(0.0, detector.getDistance());
+            EuclidCoreTestTools.assertTuple2DContainsOnlyNaN(detector.getPointOnA());
+            EuclidCoreTestTools.assertTuple2DContainsOnlyNaN(detector.getPointOnB());
+         }
+         else
+         {
+            assertEquals(signedDistance, detector.getDistance(), EPSILON, "Iteration " + i);
+            assertEquals(detector.getDistance(), detector.getPointOnA().distance(detector.getPointOnB()), EPSILON);
+            assertTrue(polygonA.signedDistance(detector.getPointOnA()) < EPSILON);
+            assertTrue(polygonB.signedDistance(detector.getPointOnB()) < EPSILON);
+            assertEquals(detector.getDistance(), polygonA.distance(detector.getPointOnB()), EPSILON);
+            assertEquals(detector.getDistance(), polygonB.distance(detector.getPointOnA()), EPSILON);
+         }
+
+         // The result does not depend on the order of the polygons.
+         assertEquals(colliding, detector.evaluateCollision(polygonB, polygonA));
+         if (!colliding)
+            assertEquals(signedDistance, detector.getDistance(), EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Translating a polygon away from another one along the normal of one of its edges
+         ConvexPolygon2D polygonA = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 3);
+         int edgeIndex = random.nextInt(polygonA.getNumberOfVertices());
+         Point2D edgeStart = new Point2D(polygonA.getVertex(edgeIndex));
+         Point2D edgeEnd = new Point2D(polygonA.getNextVertex(edgeIndex));
+         Point2D pointOnEdge = new Point2D();
+         pointOnEdge.interpolate(edgeStart, edgeEnd, EuclidCoreRandomTools.nextDouble(random, 0.1, 0.9));
+         double distance = EuclidCoreRandomTools.nextDouble(random, 0.0, 5.0);
+         // The polygon is clockwise ordered such that the outward normal is on the left side of the edge.
+         double edgeLength = edgeStart.distance(edgeEnd);
+         double normalX = -(edgeEnd.getY() - edgeStart.getY()) / edgeLength;
+         double normalY = (edgeEnd.getX() - edgeStart.getX()) / edgeLength;
+         Point2D pointOnB = new Point2D(pointOnEdge.getX() + distance * normalX, pointOnEdge.getY() + distance * normalY);
+         ConvexPolygon2D polygonB = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(pointOnB,
+                                                                                             new Point2D(pointOnB.getX() + normalX - normalY,
+                                                                                                         pointOnB.getY() + normalY + normalX),
+                                                                                             new Point2D(pointOnB.getX() + normalX + normalY,
+                                                                                                         pointOnB.getY() + normalY - normalX)));
+
+         if (distance < 1.0e-7)
+            continue;
+
+         assertFalse(detector.evaluateCollision(polygonA, polygonB));
+         assertEquals(distance, detector.getDistance(), EPSILON);
+         EuclidCoreTestTools.assertTuple2DEquals(pointOnEdge, detector.getPointOnA(), EPSILON);
+         EuclidCoreTestTools.assertTuple2DEquals(pointOnB, detector.getPointOnB(), EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // One polygon inside the other
+         ConvexPolygon2D outer = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 3);
+         ConvexPolygon2D inner = new ConvexPolygon2D(outer);
+         inner.scale(EuclidCoreRandomTools.nextDouble(random, 0.01, 0.99));
+         assertTrue(detector.evaluateCollision(outer, inner));
+         assertTrue(detector.evaluateCollision(inner, outer));
+         assertEquals(0.0, detector.distance(outer, inner));
+      }
+
+      { // Empty polygons
+         ConvexPolygon2D polygon = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, 10);
+         assertFalse(detector.evaluateCollision(polygon, new ConvexPolygon2D()));
+         assertTrue(Double.isNaN(detector.getDistance()));
+         assertTrue(Double.isNaN(detector.distance(Vertex2DSupplier.emptyVertex2DSupplier(), polygon)));
+      }
+   }
+}
@@ -0,0 +1,39 @@
+package us.ihmc.euclid.geometry;
+
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryTestTools;
+
+public class Pose3DInterpolatorTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testInterpolate() throws Exception
+   {
+      Random random = new Random(3466);
+      Pose3DInterpolator interpolator = new Pose3DInterpolator();
+      Pose3D expected = new Pose3D();
+      Pose3D actual = new Pose3D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Pose3D pose0 = EuclidGeometryRandomTools.nextPose3D(random);
+         Pose3D posef = EuclidGeometryRandomTools.nextPose3D(random);
+         interpolator.set(pose0, posef);
+
+         for (int j = 0; j < 10; j++)
+         {
+            double alpha = random.nextDouble();
+            expected.interpolate(pose0, posef, alpha);
+            interpolator.interpolate(alpha, actual);
+            EuclidGeometryTestTools.assertPose3DEquals(expected, actual, EPSILON);
+         }
+      }
+   }
+}
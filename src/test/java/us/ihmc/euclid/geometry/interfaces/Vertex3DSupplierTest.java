@@ -2,6 +2,7 @@ package us.ihmc.euclid.geometry.interfaces;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
 import static us.ihmc.euclid.tools.EuclidCoreRandomTools.nextDouble;
@@ -16,6 +17,9 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
 import us.ihmc.euclid.tuple3D.Point3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 
@@ -210,4 +214,54 @@ public class Vertex3DSupplierTest
          assertFalse(Vertex3DSupplier.asVertex3DSupplier(listA).epsilonEquals(Vertex3DSupplier.asVertex3DSupplier(listB), epsilon), "Iteration: " + i);
       }
    }
+
+   @Test
+   public void testTransformVertices() throws Exception
+   {
+      Random random = new Random(3457);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfVertices = random.nextInt(100);
+         int startIndex = random.nextInt(10);
+         List<Point3D> vertices = IntStream.range(0, numberOfVertices).mapToObj(v -> EuclidCoreRandomTools.nextPoint3D(random, 10.0))
+                                           .collect(Collectors.toList());
+         Vertex3DSupplier supplier = Vertex3DSupplier.asVertex3DSupplier(vertices);
+         RigidBodyTransform rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         AffineTransform affineTransform = EuclidCoreRandomTools.nextAffineTransform(random);
+
+         double[] packed = new double[startIndex + 3 * numberOfVertices];
+         supplier.getVertices(packed, startIndex);
+         for (int v = 0; v < numberOfVertices; v++)
+            EuclidCoreTestTools.assertTuple3DEquals(vertices.get(v), unpack(startIndex + 3 * v, packed), EPSILON);
+
+         supplier.transformVertices(rigidBodyTransform, packed, startIndex);
+         for (int v = 0; v < numberOfVertices; v++)
+         {
+            Point3D expected = new Point3D(vertices.get(v));
+            rigidBodyTransform.transform(expected);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, unpack(startIndex + 3 * v, packed), EPSILON);
+         }
+
+         supplier.transformVertices(affineTransform, packed, startIndex);
+         for (int v = 0; v < numberOfVertices; v++)
+         {
+            Point3D expected = new Point3D(vertices.get(v));
+            affineTransform.transform(expected);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, unpack(startIndex + 3 * v, packed), EPSILON);
+         }
+
+         if (numberOfVertices > 0)
+         {
+            assertThrows(IllegalArgumentException.class, () -> supplier.getVertices(new double[3 * numberOfVertices - 1], 0));
+         }
+      }
+   }
+
+   private static Point3D unpack(int startIndex, double[] array)
+   {
+      Point3D point = new Point3D();
+      point.set(startIndex, array);
+      return point;
+   }
 }
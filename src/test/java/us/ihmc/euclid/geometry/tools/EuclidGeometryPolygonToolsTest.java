@@ -15,17 +15,24 @@ import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestVe
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestVertexIndexToPoint2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestVertexIndexToRay2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.computeConvexPolygon2DArea;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.doConvexPolygon2DsIntersect;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.edgeNormal;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.findEdgeIndexVisibleFromPoint2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.grahamScanAngleCompare;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceAklToussaintConvexHull2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceGiftWrapConvexHull2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceGrahamScanConvexHull2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceMonotoneChainConvexHull2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenLine2DAndConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenTwoConvexPolygon2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenLineSegment2DAndConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenRay2DAndConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.isPoint2DInsideConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.isPolygon2DConvexAtVertex;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.lineOfSightEndIndex;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.lineOfSightStartIndex;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.minkowskiDifferenceOfTwoConvexPolygon2Ds;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.minkowskiSumOfTwoConvexPolygon2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.next;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.nextEdgeIndexIntersectingWithLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.orthogonalProjectionOnConvexPolygon2D;
@@ -61,6 +68,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import us.ihmc.euclid.geometry.Bound;
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
@@ -300,6 +308,65 @@ public class EuclidGeometryPolygonToolsTest
       }
    }
 
+   @Test
+   public void testInPlaceMonotoneChainConvexHull2D() throws Exception
+   {
+      Random random = new Random(8964136L);
+      testConvexHullAlgorithm(random, (vertices, numberOfVertices) -> inPlaceMonotoneChainConvexHull2D(vertices, numberOfVertices));
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfVertices = 100;
+         List<? extends Point2DReadOnly> points = nextPointCloud2D(random, 10.0, 10.0, numberOfVertices);
+         List<? extends Point2DReadOnly> pointsCopy = new ArrayList<>(points);
+
+         int actualHullSize = inPlaceMonotoneChainConvexHull2D(points);
+         int expectedHullSize = inPlaceMonotoneChainConvexHull2D(pointsCopy, numberOfVertices);
+         assertEquals(expectedHullSize, actualHullSize);
+         assertEquals(points, pointsCopy);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test with collinear points, only the two ends are part of the hull. The coordinates are exactly representable to avoid rounding errors.
+         double slope = random.nextInt(9) - 4;
+         double intercept = random.nextInt(21) - 10;
+         Point2D start = new Point2D(-5.0, -5.0 * slope + intercept);
+         Point2D end = new Point2D(5.0, 5.0 * slope + intercept);
+         List<Point2D> points = new ArrayList<>();
+         points.add(start);
+         points.add(end);
+         for (int j = 0; j < 20; j++)
+         {
+            double x = 0.25 * (random.nextInt(39) - 19);
+            points.add(new Point2D(x, x * slope + intercept));
+         }
+         Collections.shuffle(points, random);
+
+         assertEquals(2, inPlaceMonotoneChainConvexHull2D(points));
+         assertTrue(points.get(0).equals(start) || points.get(0).equals(end));
+         assertTrue(points.get(1).equals(start) || points.get(1).equals(end));
+      }
+   }
+
+   @Test
+   public void testInPlaceAklToussaintConvexHull2D() throws Exception
+   {
+      Random random = new Random(8964137L);
+      testConvexHullAlgorithm(random, (vertices, numberOfVertices) -> inPlaceAklToussaintConvexHull2D(vertices, numberOfVertices));
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfVertices = 100;
+         List<? extends Point2DReadOnly> points = nextPointCloud2D(random, 10.0, 10.0, numberOfVertices);
+         List<? extends Point2DReadOnly> pointsCopy = new ArrayList<>(points);
+
+         int actualHullSize = inPlaceAklToussaintConvexHull2D(points);
+         int expectedHullSize = inPlaceAklToussaintConvexHull2D(pointsCopy, numberOfVertices);
+         assertEquals(expectedHullSize, actualHullSize);
+         assertEquals(points, pointsCopy);
+      }
+   }
+
    @Test
    public void testCompareConvexHullAlgorithms() throws Exception
    {
@@ -308,6 +375,8 @@ public class EuclidGeometryPolygonToolsTest
       List<ConvexHullAlgorithm> algorithmsToTest = new ArrayList<>();
       algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceGiftWrapConvexHull2D(vertices, numberOfVertices));
       algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceGrahamScanConvexHull2D(vertices, numberOfVertices));
+      algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceMonotoneChainConvexHull2D(vertices, numberOfVertices));
+      algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceAklToussaintConvexHull2D(vertices, numberOfVertices));
 
       for (int i = 0; i < ITERATIONS; i++)
       {
@@ -332,6 +401,76 @@ public class EuclidGeometryPolygonToolsTest
       }
    }
 
+   @Test
+   public void testCompareConvexHullAlgorithmsWithVariousInputs() throws Exception
+   {
+      Random random = new Random(23455L);
+
+      List<ConvexHullAlgorithm> algorithmsToTest = new ArrayList<>();
+      algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceGiftWrapConvexHull2D(vertices, numberOfVertices));
+      algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceGrahamScanConvexHull2D(vertices, numberOfVertices));
+      algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceMonotoneChainConvexHull2D(vertices, numberOfVertices));
+      algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceAklToussaintConvexHull2D(vertices, numberOfVertices));
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfVertices = random.nextInt(500) + 1;
+         List<Point2D> points = nextPointCloud2D(random, 10.0, 10.0, numberOfVertices);
+
+         switch (i % 4)
+         {
+            case 1: // Many copies of a few points
+               List<Point2D> originals = nextPointCloud2D(random, 10.0, 10.0, 5);
+               for (int j = 0; j < numberOfVertices; j++)
+                  points.set(j, new Point2D(originals.get(random.nextInt(originals.size()))));
+               break;
+            case 2: // Already sorted
+               points.sort((a, b) -> a.getX() != b.getX() ? Double.compare(a.getX(), b.getX()) : Double.compare(b.getY(), a.getY()));
+               break;
+            case 3: // Sorted in reverse order
+               points.sort((a, b) -> a.getX() != b.getX() ? Double.compare(b.getX(), a.getX()) : Double.compare(a.getY(), b.getY()));
+               break;
+            default:
+               break;
+         }
+
+         List<List<Point2D>> pointsForEachAlgo = new ArrayList<>();
+         while (pointsForEachAlgo.size() < algorithmsToTest.size())
+            pointsForEachAlgo.add(new ArrayList<>(points));
+
+         List<Integer> hullSizes = new ArrayList<>();
+
+         for (int index = 0; index < algorithmsToTest.size(); index++)
+            hullSizes.add(algorithmsToTest.get(index).process(pointsForEachAlgo.get(index), numberOfVertices));
+
+         // Compare the different algorithms against the first one, duplicate vertices are interchangeable and may change the first vertex.
+         int hullSize = hullSizes.get(0);
+         List<Point2D> expectedHull = pointsForEachAlgo.get(0);
+
+         for (int algoIndex = 1; algoIndex < algorithmsToTest.size(); algoIndex++)
+         {
+            if (i % 4 == 1 && algoIndex == 1)
+               continue; // The Graham scan does not handle duplicate vertices.
+
+            assertEquals(hullSize, hullSizes.get(algoIndex).intValue());
+            List<Point2D> actualHull = pointsForEachAlgo.get(algoIndex);
+            int offset = actualHull.subList(0, hullSize).indexOf(expectedHull.get(0));
+            assertTrue(offset >= 0);
+            for (int vertexIndex = 0; vertexIndex < hullSize; vertexIndex++)
+               assertEquals(expectedHull.get(vertexIndex), actualHull.get((vertexIndex + offset) % hullSize));
+         }
+      }
+
+      { // Large input of identical points
+         List<Point2D> points = new ArrayList<>();
+         Point2D point = EuclidCoreRandomTools.nextPoint2D(random, 10.0);
+         for (int j = 0; j < 100000; j++)
+            points.add(new Point2D(point));
+         assertEquals(1, inPlaceMonotoneChainConvexHull2D(points));
+         assertEquals(point, points.get(0));
+      }
+   }
+
    private static void testConvexHullAlgorithm(Random random, ConvexHullAlgorithm algorithmToTest) throws Exception
    {
       { // Test the exceptions
@@ -761,6 +900,392 @@ public class EuclidGeometryPolygonToolsTest
       }
    }
 
+   @Test
+   public void testConvexPolygon2DQueriesWithBinarySearch() throws Exception
+   {
+      Random random = new Random(3246);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfVertices = random.nextInt(200) + EuclidGeometryPolygonTools.BINARY_SEARCH_VERTEX_THRESHOLD;
+         List<Point2D> convexPolygon2D;
+         if (random.nextBoolean())
+            convexPolygon2D = nextCircleBasedConvexPolygon2D(random, 10.0, 10.0, numberOfVertices);
+         else
+            convexPolygon2D = nextPointCloud2D(random, 10.0, 10.0, 10 * numberOfVertices);
+         numberOfVertices = inPlaceGiftWrapConvexHull2D(convexPolygon2D);
+         if (numberOfVertices < EuclidGeometryPolygonTools.BINARY_SEARCH_VERTEX_THRESHOLD)
+            continue;
+         boolean clockwiseOrdered = random.nextBoolean();
+         if (!clockwiseOrdered)
+            Collections.reverse(convexPolygon2D.subList(0, numberOfVertices));
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point2D query = EuclidCoreRandomTools.nextPoint2D(random, random.nextBoolean() ? 12.0 : 100.0);
+
+            // Brute force
+            boolean expectedInside = true;
+            double expectedDistance = Double.POSITIVE_INFINITY;
+            double expectedOutsideDistance = Double.POSITIVE_INFINITY;
+
+            for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+            {
+               Point2D edgeStart = convexPolygon2D.get(edgeIndex);
+               Point2D edgeEnd = convexPolygon2D.get(next(edgeIndex, numberOfVertices));
+               double distance = distanceFromPoint2DToLineSegment2D(query, edgeStart, edgeEnd);
+               expectedDistance = Math.min(expectedDistance, distance);
+
+               if (EuclidGeometryTools.isPoint2DOnSideOfLine2D(query, edgeStart, edgeEnd, clockwiseOrdered))
+               {
+                  expectedInside = false;
+                  expectedOutsideDistance = Math.min(expectedOutsideDistance, distance);
+               }
+            }
+
+            assertEquals(expectedInside, isPoint2DInsideConvexPolygon2D(query, convexPolygon2D, numberOfVertices, clockwiseOrdered));
+            assertEquals(expectedInside ? -expectedDistance : expectedDistance,
+                         signedDistanceFromPoint2DToConvexPolygon2D(query, convexPolygon2D, numberOfVertices, clockwiseOrdered),
+                         EPSILON);
+            double epsilon = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+            assertEquals(expectedInside || expectedDistance <= epsilon,
+                         isPoint2DInsideConvexPolygon2D(query, convexPolygon2D, numberOfVertices, clockwiseOrdered, epsilon));
+
+            int closestEdgeIndex = closestEdgeIndexToPoint2D(query, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+            Point2D edgeStart = convexPolygon2D.get(closestEdgeIndex);
+            Point2D edgeEnd = convexPolygon2D.get(next(closestEdgeIndex, numberOfVertices));
+            assertEquals(expectedDistance, distanceFromPoint2DToLineSegment2D(query, edgeStart, edgeEnd), EPSILON);
+            Point2D projection = orthogonalProjectionOnConvexPolygon2D(query, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+
+            if (expectedInside)
+            {
+               assertTrue(projection == null);
+            }
+            else
+            {
+               assertTrue(EuclidGeometryTools.isPoint2DOnSideOfLine2D(query, edgeStart, edgeEnd, clockwiseOrdered));
+               assertEquals(expectedOutsideDistance, query.distance(projection), EPSILON);
+               assertEquals(0.0, distanceFromPoint2DToLineSegment2D(projection, edgeStart, edgeEnd), EPSILON);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testConvexPolygon2DQueriesWithBinarySearchAndCollinearVertices() throws Exception
+   {
+      Random random = new Random(3247);
+
+      // Square with a vertex at every unit along its sides, such that consecutive edges are exactly collinear.
+      int sideLength = 8;
+      List<Point2D> convexPolygon2D = new ArrayList<>();
+      for (int i = 0; i < sideLength; i++)
+         convexPolygon2D.add(new Point2D(0.0, i));
+      for (int i = 0; i < sideLength; i++)
+         convexPolygon2D.add(new Point2D(i, sideLength));
+      for (int i = 0; i < sideLength; i++)
+         convexPolygon2D.add(new Point2D(sideLength, sideLength - i));
+      for (int i = 0; i < sideLength; i++)
+         convexPolygon2D.add(new Point2D(sideLength - i, 0.0));
+      int numberOfVertices = convexPolygon2D.size();
+      assertTrue(numberOfVertices > EuclidGeometryPolygonTools.BINARY_SEARCH_VERTEX_THRESHOLD);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         boolean clockwiseOrdered = random.nextBoolean();
+         List<Point2D> orderedPolygon = new ArrayList<>(convexPolygon2D);
+         if (!clockwiseOrdered)
+            Collections.reverse(orderedPolygon);
+         Collections.rotate(orderedPolygon, random.nextInt(numberOfVertices));
+
+         Point2D query;
+         if (random.nextBoolean())
+            query = EuclidCoreRandomTools.nextPoint2D(random, -10.0, 18.0);
+         else // Query in front of a vertex
+            query = new Point2D(random.nextInt(sideLength + 1), random.nextBoolean() ? -random.nextInt(5) - 1.0 : sideLength + random.nextInt(5) + 1.0);
+
+         double expectedDistance = Double.POSITIVE_INFINITY;
+         boolean expectedInside = true;
+
+         for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+         {
+            Point2D edgeStart = orderedPolygon.get(edgeIndex);
+            Point2D edgeEnd = orderedPolygon.get(next(edgeIndex, numberOfVertices));
+            expectedDistance = Math.min(expectedDistance, distanceFromPoint2DToLineSegment2D(query, edgeStart, edgeEnd));
+            if (EuclidGeometryTools.isPoint2DOnSideOfLine2D(query, edgeStart, edgeEnd, clockwiseOrdered))
+               expectedInside = false;
+         }
+
+         int closestEdgeIndex = closestEdgeIndexToPoint2D(query, orderedPolygon, numberOfVertices, clockwiseOrdered);
+         Point2D edgeStart = orderedPolygon.get(closestEdgeIndex);
+         Point2D edgeEnd = orderedPolygon.get(next(closestEdgeIndex, numberOfVertices));
+         assertEquals(expectedDistance, distanceFromPoint2DToLineSegment2D(query, edgeStart, edgeEnd), EPSILON, "Iteration " + i);
+         assertEquals(expectedInside ? -expectedDistance : expectedDistance,
+                      signedDistanceFromPoint2DToConvexPolygon2D(query, orderedPolygon, numberOfVertices, clockwiseOrdered),
+                      EPSILON);
+
+         if (!expectedInside)
+         {
+            Point2D projection = orthogonalProjectionOnConvexPolygon2D(query, orderedPolygon, numberOfVertices, clockwiseOrdered);
+            assertEquals(expectedDistance, query.distance(projection), EPSILON);
+         }
+      }
+   }
+
+   @Test
+   public void testIntersectionBetweenTwoConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(3247);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D first = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         ConvexPolygon2D second = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         ConvexPolygon2D intersection = new ConvexPolygon2D();
+         boolean intersect = intersectionBetweenTwoConvexPolygon2Ds(first.getVertexBufferView(),
+                                                                    first.getNumberOfVertices(),
+                                                                    second.getVertexBufferView(),
+                                                                    second.getNumberOfVertices(),
+                                                                    true,
+                                                                    intersection);
+         assertEquals(intersect, !intersection.isEmpty());
+         assertTrue(intersection.isUpToDate());
+
+         for (int j = 0; j < 100; j++)
+         {
+            Point2D query = EuclidCoreRandomTools.nextPoint2D(random, 6.0);
+            double firstDistance = first.signedDistance(query);
+            double secondDistance = second.signedDistance(query);
+
+            if (Math.abs(firstDistance) < 1.0e-7 || Math.abs(secondDistance) < 1.0e-7)
+               continue;
+
+            boolean expected = firstDistance < 0.0 && secondDistance < 0.0;
+            assertEquals(expected, intersection.signedDistance(query) < 1.0e-7, "Iteration " + i);
+         }
+
+         for (int j = 0; j < intersection.getNumberOfVertices(); j++)
+         {
+            assertTrue(first.signedDistance(intersection.getVertex(j)) < 1.0e-7);
+            assertTrue(second.signedDistance(intersection.getVertex(j)) < 1.0e-7);
+         }
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // One polygon contains the other, the intersection is the inner polygon.
+         ConvexPolygon2D outer = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 3);
+         ConvexPolygon2D inner = new ConvexPolygon2D(outer);
+         inner.scale(random.nextDouble());
+         ConvexPolygon2D intersection = new ConvexPolygon2D();
+         assertTrue(intersectionBetweenTwoConvexPolygon2Ds(outer.getVertexBufferView(),
+                                                           outer.getNumberOfVertices(),
+                                                           inner.getVertexBufferView(),
+                                                           inner.getNumberOfVertices(),
+                                                           true,
+                                                           intersection));
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(inner, intersection, EPSILON);
+
+         // The same polygon
+         assertTrue(intersectionBetweenTwoConvexPolygon2Ds(outer.getVertexBufferView(),
+                                                           outer.getNumberOfVertices(),
+                                                           outer.getVertexBufferView(),
+                                                           outer.getNumberOfVertices(),
+                                                           true,
+                                                           intersection));
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(outer, intersection, EPSILON);
+      }
+
+      { // Two squares sharing an edge
+         ConvexPolygon2D first = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.0, 0.0),
+                                                                                          new Point2D(1.0, 0.0),
+                                                                                          new Point2D(1.0, 1.0),
+                                                                                          new Point2D(0.0, 1.0)));
+         ConvexPolygon2D second = new ConvexPolygon2D(first);
+         second.translate(1.0, 0.5);
+         ConvexPolygon2D intersection = new ConvexPolygon2D();
+         assertTrue(intersectionBetweenTwoConvexPolygon2Ds(first.getVertexBufferView(),
+                                                           first.getNumberOfVertices(),
+                                                           second.getVertexBufferView(),
+                                                           second.getNumberOfVertices(),
+                                                           true,
+                                                           intersection));
+         assertEquals(2, intersection.getNumberOfVertices());
+         assertTrue(intersection.pointIsOnPerimeter(new Point2D(1.0, 0.5)));
+         assertTrue(intersection.pointIsOnPerimeter(new Point2D(1.0, 1.0)));
+
+         second.translate(0.5, 0.0);
+         assertFalse(intersectionBetweenTwoConvexPolygon2Ds(first.getVertexBufferView(),
+                                                            first.getNumberOfVertices(),
+                                                            second.getVertexBufferView(),
+                                                            second.getNumberOfVertices(),
+                                                            true,
+                                                            intersection));
+         assertTrue(intersection.isEmpty());
+      }
+   }
+
+   @Test
+   public void testDoConvexPolygon2DsIntersect() throws Exception
+   {
+      Random random = new Random(9823);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Compared against the intersection of the two polygons
+         ConvexPolygon2D first = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         ConvexPolygon2D second = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         ConvexPolygon2D difference = new ConvexPolygon2D();
+         minkowskiDifferenceOfTwoConvexPolygon2Ds(first.getVertexBufferView(),
+                                                  first.getNumberOfVertices(),
+                                                  second.getVertexBufferView(),
+                                                  second.getNumberOfVertices(),
+                                                  true,
+                                                  difference);
+         double signedDistance = difference.signedDistance(new Point2D());
+
+         if (Math.abs(signedDistance) < 1.0e-7)
+            continue;
+
+         boolean expected = signedDistance < 0.0;
+         assertEquals(expected,
+                      doConvexPolygon2DsIntersect(first.getVertexBufferView(),
+                                                  first.getNumberOfVertices(),
+                                                  second.getVertexBufferView(),
+                                                  second.getNumberOfVertices(),
+                                                  true),
+                      "Iteration " + i);
+         assertEquals(expected,
+                      doConvexPolygon2DsIntersect(second.getVertexBufferView(),
+                                                  second.getNumberOfVertices(),
+                                                  first.getVertexBufferView(),
+                                                  first.getNumberOfVertices(),
+                                                  true),
+                      "Iteration " + i);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Counter-clockwise polygons
+         ConvexPolygon2D firstPolygon = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         ConvexPolygon2D secondPolygon = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         boolean expected = doConvexPolygon2DsIntersect(firstPolygon.getVertexBufferView(),
+                                                        firstPolygon.getNumberOfVertices(),
+                                                        secondPolygon.getVertexBufferView(),
+                                                        secondPolygon.getNumberOfVertices(),
+                                                        true);
+         List<Point2DReadOnly> first = new ArrayList<>(firstPolygon.getPolygonVerticesView());
+         List<Point2DReadOnly> second = new ArrayList<>(secondPolygon.getPolygonVerticesView());
+         Collections.reverse(first);
+         Collections.reverse(second);
+         assertEquals(expected, doConvexPolygon2DsIntersect(first, first.size(), second, second.size(), false));
+      }
+
+      { // Two squares sharing an edge, then moved apart
+         List<Point2D> first = Arrays.asList(new Point2D(0.0, 0.0), new Point2D(0.0, 1.0), new Point2D(1.0, 1.0), new Point2D(1.0, 0.0));
+         List<Point2D> second = Arrays.asList(new Point2D(1.0, 0.5), new Point2D(1.0, 1.5), new Point2D(2.0, 1.5), new Point2D(2.0, 0.5));
+         assertTrue(doConvexPolygon2DsIntersect(first, 4, second, 4, true));
+         second.forEach(vertex -> vertex.addX(1.0e-12));
+         assertFalse(doConvexPolygon2DsIntersect(first, 4, second, 4, true));
+      }
+
+      { // Degenerate polygons
+         List<Point2D> square = Arrays.asList(new Point2D(0.0, 0.0), new Point2D(0.0, 1.0), new Point2D(1.0, 1.0), new Point2D(1.0, 0.0));
+         List<Point2D> points = Arrays.asList(new Point2D(0.5, 0.5), new Point2D(2.0, 0.5));
+         assertTrue(doConvexPolygon2DsIntersect(square, 4, points, 1, true));
+         assertTrue(doConvexPolygon2DsIntersect(points, 1, square, 4, true));
+         assertTrue(doConvexPolygon2DsIntersect(square, 4, points, 2, true));
+         assertFalse(doConvexPolygon2DsIntersect(square, 4, points.subList(1, 2), 1, true));
+         assertTrue(doConvexPolygon2DsIntersect(points, 2, points.subList(1, 2), 1, true));
+         assertFalse(doConvexPolygon2DsIntersect(points, 1, points.subList(1, 2), 1, true));
+         assertTrue(doConvexPolygon2DsIntersect(points, 1, points, 1, true));
+         assertFalse(doConvexPolygon2DsIntersect(square, 4, points, 0, true));
+         assertFalse(doConvexPolygon2DsIntersect(square, 0, points, 2, true));
+      }
+   }
+
+   @Test
+   public void testMinkowskiSumAndDifferenceOfTwoConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(3248);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D first = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+         ConvexPolygon2D second = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+
+         ConvexPolygon2D expectedSum = new ConvexPolygon2D();
+         ConvexPolygon2D expectedDifference = new ConvexPolygon2D();
+
+         for (int j = 0; j < first.getNumberOfVertices(); j++)
+         {
+            for (int k = 0; k < second.getNumberOfVertices(); k++)
+            {
+               Point2D sum = new Point2D();
+               sum.add(first.getVertex(j), second.getVertex(k));
+               expectedSum.addVertex(sum);
+               Point2D difference = new Point2D();
+               difference.sub(first.getVertex(j), second.getVertex(k));
+               expectedDifference.addVertex(difference);
+            }
+         }
+         expectedSum.update();
+         expectedDifference.update();
+
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         minkowskiSumOfTwoConvexPolygon2Ds(first.getVertexBufferView(),
+                                           first.getNumberOfVertices(),
+                                           second.getVertexBufferView(),
+                                           second.getNumberOfVertices(),
+                                           true,
+                                           actual);
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expectedSum, actual, EPSILON);
+         minkowskiDifferenceOfTwoConvexPolygon2Ds(first.getVertexBufferView(),
+                                                  first.getNumberOfVertices(),
+                                                  second.getVertexBufferView(),
+                                                  second.getNumberOfVertices(),
+                                                  true,
+                                                  actual);
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expectedDifference, actual, EPSILON);
+
+         // The Minkowski difference contains the origin if and only if the polygons intersect.
+         ConvexPolygon2D intersection = new ConvexPolygon2D();
+         boolean intersect = first.intersectionWith(second, intersection);
+         double distanceToOrigin = actual.signedDistance(new Point2D());
+         if (Math.abs(distanceToOrigin) > 1.0e-7)
+            assertEquals(intersect, distanceToOrigin < 0.0);
+      }
+   }
+
+   @Test
+   public void testFindEdgeIndexVisibleFromPoint2D() throws Exception
+   {
+      Random random = new Random(3245);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfVertices = random.nextInt(100) + 3;
+         List<Point2D> convexPolygon2D = nextCircleBasedConvexPolygon2D(random, 10.0, 10.0, numberOfVertices);
+         numberOfVertices = inPlaceGiftWrapConvexHull2D(convexPolygon2D);
+         if (numberOfVertices < 3)
+            continue;
+         boolean clockwiseOrdered = random.nextBoolean();
+         if (!clockwiseOrdered)
+            Collections.reverse(convexPolygon2D.subList(0, numberOfVertices));
+
+         Point2D query = EuclidCoreRandomTools.nextPoint2D(random, 20.0);
+         int edgeIndex = findEdgeIndexVisibleFromPoint2D(query, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+
+         if (isPoint2DInsideConvexPolygon2D(query, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+         {
+            assertEquals(-1, edgeIndex);
+         }
+         else
+         {
+            Point2D edgeStart = convexPolygon2D.get(edgeIndex);
+            Point2D edgeEnd = convexPolygon2D.get(next(edgeIndex, numberOfVertices));
+            assertTrue(EuclidGeometryTools.isPoint2DOnSideOfLine2D(query, edgeStart, edgeEnd, clockwiseOrdered));
+         }
+      }
+   }
+
    @Test
    public void testIsPoint2DInsideConvexPolygon2D() throws Exception
    {
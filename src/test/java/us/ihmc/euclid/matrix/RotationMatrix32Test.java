@@ -0,0 +1,214 @@
+package us.ihmc.euclid.matrix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.exceptions.NotARotationMatrixException;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tools.RotationMatrixTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class RotationMatrix32Test
+{
+   private static final double EPS = 1.0e-6;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(613615L);
+
+      RotationMatrix32 matrix = new RotationMatrix32();
+      assertTrue(matrix.isIdentity());
+      assertFalse(matrix.isDirty());
+      EuclidCoreTestTools.assertIdentity(matrix, 0.0);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RotationMatrix expected = EuclidCoreRandomTools.nextRotationMatrix(random);
+
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, new RotationMatrix32(expected), EPS);
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, new RotationMatrix32(new Quaternion(expected)), EPS);
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, new RotationMatrix32(expected.getYaw(), expected.getPitch(), expected.getRoll()), EPS);
+         Vector3D rotationVector = new Vector3D();
+         expected.getRotationVector(rotationVector);
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, new RotationMatrix32(rotationVector), EPS);
+
+         float[] array = new float[9];
+         new RotationMatrix32(expected).get(array);
+         RotationMatrix32 fromArray = new RotationMatrix32(array);
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, fromArray, EPS);
+         assertTrue(fromArray.equals(new RotationMatrix32(expected)));
+         assertEquals(fromArray.hashCode(), new RotationMatrix32(expected).hashCode());
+         // The coefficients are rounded to single precision.
+         assertEquals((float) expected.getM12(), (float) fromArray.getM12());
+      }
+
+      assertThrows(NotARotationMatrixException.class, () -> new RotationMatrix32(new float[] {1.0f, 0.1f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 0.0f, 1.0f}));
+   }
+
+   @Test
+   public void testOperations() throws Exception
+   {
+      Random random = new Random(3466L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RotationMatrix a = EuclidCoreRandomTools.nextRotationMatrix(random);
+         RotationMatrix b = EuclidCoreRandomTools.nextRotationMatrix(random);
+         RotationMatrix expected = new RotationMatrix(a);
+         RotationMatrix32 actual = new RotationMatrix32(a);
+
+         expected.multiply(b);
+         actual.multiply(b);
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, actual, EPS);
+         assertTrue(actual.isRotationMatrix());
+
+         expected.transpose();
+         actual.transpose();
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, actual, EPS);
+
+         expected.prependYawRotation(1.0);
+         actual.prependYawRotation(1.0);
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, actual, EPS);
+
+         Vector3D vector = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D expectedVector = new Vector3D();
+         Vector3D actualVector = new Vector3D();
+         expected.transform(vector, expectedVector);
+         actual.transform(vector, actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+         expected.inverseTransform(vector, expectedVector);
+         actual.inverseTransform(vector, actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+
+         // Repeated operations accumulate rounding errors which normalize() removes.
+         for (int j = 0; j < 10; j++)
+            actual.append(new RotationMatrix32(b));
+         actual.normalize();
+         assertTrue(actual.isRotationMatrix());
+      }
+
+      RotationMatrix32 matrix = new RotationMatrix32(EuclidCoreRandomTools.nextRotationMatrix(random));
+      assertFalse(matrix.isIdentity());
+      matrix.setIdentity();
+      assertTrue(matrix.isIdentity());
+      matrix.setToNaN();
+      assertTrue(matrix.containsNaN());
+   }
+
+   @Test
+   public void testState() throws Exception
+   {
+      Random random = new Random(34656L);
+
+      RotationMatrix32 matrix = new RotationMatrix32();
+      assertTrue(matrix.isIdentity());
+      assertTrue(matrix.isOrientation2D());
+      assertTrue(matrix.isYawRotation());
+      assertFalse(matrix.isDirty());
+
+      matrix.setToNaN();
+      assertFalse(matrix.isIdentity());
+      assertFalse(matrix.isOrientation2D());
+      assertFalse(matrix.isYawRotation());
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test the state is updated whenever the matrix is modified
+         matrix.setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         assertTrue(matrix.isDirty());
+         assertFalse(matrix.isIdentity());
+         assertTrue(matrix.isOrientation2D());
+         assertTrue(matrix.isYawRotation());
+         assertFalse(matrix.isDirty());
+
+         // Small tilt: 2D within the tolerance but not exactly a yaw rotation.
+         matrix.appendPitchRotation(1.0e-5);
+         assertFalse(matrix.isYawRotation());
+
+         matrix.set(EuclidCoreRandomTools.nextRotationMatrix(random));
+         assertFalse(matrix.isOrientation2D());
+         assertFalse(matrix.isYawRotation());
+
+         RotationMatrix32 other = new RotationMatrix32();
+         other.setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         other.isYawRotation();
+         matrix.set(other);
+         assertFalse(matrix.isDirty());
+         assertTrue(matrix.isYawRotation());
+
+         matrix.setIdentity();
+         assertTrue(matrix.isIdentity());
+         assertTrue(matrix.isYawRotation());
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test the yaw rotation kernels against the general implementations
+         RotationMatrix32 yawMatrix = new RotationMatrix32();
+         yawMatrix.setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         RotationMatrix32 otherYawMatrix = new RotationMatrix32();
+         otherYawMatrix.setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         Vector3D tuple = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D expectedTuple = new Vector3D();
+         Vector3D actualTuple = new Vector3D();
+
+         Matrix3DTools.transform(yawMatrix, tuple, expectedTuple);
+         yawMatrix.transform(tuple, actualTuple);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTuple, actualTuple, EPS);
+
+         Matrix3DTools.inverseTransform(yawMatrix, tuple, expectedTuple);
+         yawMatrix.inverseTransform(tuple, actualTuple);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTuple, actualTuple, EPS);
+
+         expectedTuple.set(tuple);
+         actualTuple.set(tuple);
+         Matrix3DTools.addTransform(yawMatrix, tuple, expectedTuple);
+         yawMatrix.addTransform(tuple, actualTuple);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTuple, actualTuple, EPS);
+
+         Matrix3DTools.subTransform(yawMatrix, tuple, expectedTuple);
+         yawMatrix.subTransform(tuple, actualTuple);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTuple, actualTuple, EPS);
+
+         // The product of single precision matrices is not a rotation matrix in double precision.
+         Matrix3D expectedMatrix = new Matrix3D();
+         RotationMatrix32 actualMatrix = new RotationMatrix32();
+
+         RotationMatrixTools.multiply(yawMatrix, otherYawMatrix, expectedMatrix);
+         actualMatrix.set(yawMatrix);
+         actualMatrix.append(otherYawMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+         assertTrue(actualMatrix.isYawRotation());
+
+         RotationMatrixTools.multiplyTransposeRight(yawMatrix, otherYawMatrix, expectedMatrix);
+         actualMatrix.set(yawMatrix);
+         actualMatrix.appendInvertOther(otherYawMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+
+         RotationMatrixTools.multiply(otherYawMatrix, yawMatrix, expectedMatrix);
+         actualMatrix.set(yawMatrix);
+         actualMatrix.prepend(otherYawMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+
+         RotationMatrixTools.multiplyTransposeLeft(otherYawMatrix, yawMatrix, expectedMatrix);
+         actualMatrix.set(yawMatrix);
+         actualMatrix.prependInvertOther(otherYawMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+
+         // The result does not depend on the matrix being the argument.
+         RotationMatrixTools.multiply(yawMatrix, yawMatrix, expectedMatrix);
+         actualMatrix.set(yawMatrix);
+         actualMatrix.append(actualMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+      }
+   }
+}
@@ -2089,6 +2089,114 @@ public class RotationMatrixTest extends CommonMatrix3DBasicsTest<RotationMatrix>
       }
    }
 
+   @Test
+   public void testYawRotationState() throws Exception
+   {
+      Random random = new Random(34656L);
+
+      RotationMatrix rotationMatrix = new RotationMatrix();
+      assertTrue(rotationMatrix.isIdentity());
+      assertTrue(rotationMatrix.isOrientation2D());
+      assertTrue(rotationMatrix.isYawRotation());
+
+      rotationMatrix.setToNaN();
+      assertFalse(rotationMatrix.isIdentity());
+      assertFalse(rotationMatrix.isOrientation2D());
+      assertFalse(rotationMatrix.isYawRotation());
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test the state is updated whenever the matrix is modified
+         rotationMatrix.setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         assertFalse(rotationMatrix.isIdentity());
+         assertTrue(rotationMatrix.isOrientation2D());
+         assertTrue(rotationMatrix.isYawRotation());
+         assertFalse(rotationMatrix.isDirty());
+
+         // Small tilt: 2D within the tolerance but not exactly a yaw rotation.
+         rotationMatrix.appendPitchRotation(1.0e-10);
+         assertTrue(rotationMatrix.isOrientation2D());
+         assertFalse(rotationMatrix.isYawRotation());
+
+         rotationMatrix.set(createRandomMatrix(random));
+         assertFalse(rotationMatrix.isOrientation2D());
+         assertFalse(rotationMatrix.isYawRotation());
+
+         RotationMatrix other = new RotationMatrix();
+         other.setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         other.isYawRotation();
+         rotationMatrix.set(other);
+         assertFalse(rotationMatrix.isDirty());
+         assertTrue(rotationMatrix.isYawRotation());
+
+         rotationMatrix.transpose();
+         assertTrue(rotationMatrix.isYawRotation());
+         EuclidCoreTestTools.assertMatrix3DEquals(new RotationMatrix(-other.getYaw(), 0.0, 0.0), rotationMatrix, EPS);
+
+         rotationMatrix.setIdentity();
+         assertTrue(rotationMatrix.isIdentity());
+         assertTrue(rotationMatrix.isYawRotation());
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test the yaw rotation kernels against the general implementations
+         RotationMatrix yawMatrix = new RotationMatrix();
+         yawMatrix.setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         RotationMatrix otherYawMatrix = new RotationMatrix();
+         otherYawMatrix.setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         Vector3D tuple = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D expectedTuple = new Vector3D();
+         Vector3D actualTuple = new Vector3D();
+
+         Matrix3DTools.transform(yawMatrix, tuple, expectedTuple);
+         yawMatrix.transform(tuple, actualTuple);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTuple, actualTuple, EPS);
+
+         Matrix3DTools.inverseTransform(yawMatrix, tuple, expectedTuple);
+         yawMatrix.inverseTransform(tuple, actualTuple);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTuple, actualTuple, EPS);
+
+         expectedTuple.set(tuple);
+         actualTuple.set(tuple);
+         Matrix3DTools.addTransform(yawMatrix, tuple, expectedTuple);
+         yawMatrix.addTransform(tuple, actualTuple);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTuple, actualTuple, EPS);
+
+         Matrix3DTools.subTransform(yawMatrix, tuple, expectedTuple);
+         yawMatrix.subTransform(tuple, actualTuple);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTuple, actualTuple, EPS);
+
+         RotationMatrix expectedMatrix = new RotationMatrix();
+         RotationMatrix actualMatrix = new RotationMatrix();
+
+         RotationMatrixTools.multiply(yawMatrix, otherYawMatrix, expectedMatrix);
+         actualMatrix.set(yawMatrix);
+         actualMatrix.append(otherYawMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+         assertTrue(actualMatrix.isYawRotation());
+
+         RotationMatrixTools.multiplyTransposeRight(yawMatrix, otherYawMatrix, expectedMatrix);
+         actualMatrix.set(yawMatrix);
+         actualMatrix.appendInvertOther(otherYawMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+
+         RotationMatrixTools.multiply(otherYawMatrix, yawMatrix, expectedMatrix);
+         actualMatrix.set(yawMatrix);
+         actualMatrix.prepend(otherYawMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+
+         RotationMatrixTools.multiplyTransposeLeft(otherYawMatrix, yawMatrix, expectedMatrix);
+         actualMatrix.set(yawMatrix);
+         actualMatrix.prependInvertOther(otherYawMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+
+         // The result does not depend on the matrix being the argument.
+         RotationMatrixTools.multiply(yawMatrix, yawMatrix, expectedMatrix);
+         actualMatrix.set(yawMatrix);
+         actualMatrix.append(actualMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+      }
+   }
+
    @Test
    public void testOrientation3DBasicsFeatures() throws Throwable
    {
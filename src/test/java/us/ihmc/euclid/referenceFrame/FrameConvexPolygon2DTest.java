@@ -2,6 +2,7 @@ package us.ihmc.euclid.referenceFrame;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
 
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import us.ihmc.euclid.EuclidTestConstants;
 import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.exceptions.OutdatedPolygonException;
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.referenceFrame.api.EuclidFrameAPIDefaultConfiguration;
 import us.ihmc.euclid.referenceFrame.api.EuclidFrameAPITester;
@@ -23,6 +25,7 @@ import us.ihmc.euclid.referenceFrame.interfaces.FixedFrameConvexPolygon2DBasics;
 import us.ihmc.euclid.referenceFrame.interfaces.FrameConvexPolygon2DReadOnly;
 import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
 import us.ihmc.euclid.referenceFrame.tools.EuclidFrameTestTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 
 public class FrameConvexPolygon2DTest extends FrameConvexPolygon2DBasicsTest<FrameConvexPolygon2D>
 {
@@ -227,4 +230,25 @@ public class FrameConvexPolygon2DTest extends FrameConvexPolygon2DBasicsTest<Fra
       tester.assertSetIncludingFramePreserveFunctionality(EuclidFrameRandomTools::nextFrameConvexPolygon2D,
                                                           EuclidTestConstants.API_FUNCTIONALITY_TEST_ITERATIONS);
    }
+   @Test
+   public void testPolygonOperationsKeepFrameOnFailure()
+   {
+      Random random = new Random(4390);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // The result is not moved to another frame when the arguments are rejected
+         ReferenceFrame frameA = EuclidFrameRandomTools.nextReferenceFrame(random);
+         ReferenceFrame frameB = EuclidFrameRandomTools.nextReferenceFrame(random);
+         FrameConvexPolygon2D polygon = EuclidFrameRandomTools.nextFrameConvexPolygon2D(random, frameA, 5.0, 10);
+         FrameConvexPolygon2D other = EuclidFrameRandomTools.nextFrameConvexPolygon2D(random, frameA, 5.0, 10);
+         FrameConvexPolygon2D result = EuclidFrameRandomTools.nextFrameConvexPolygon2D(random, frameB, 5.0, 10);
+
+         other.addVertex(EuclidCoreRandomTools.nextPoint2D(random, 5.0)); // other is now outdated
+         assertThrows(OutdatedPolygonException.class, () -> polygon.intersectionWith(other, result));
+         assertThrows(OutdatedPolygonException.class, () -> polygon.unionHullWith(other, result));
+         assertThrows(OutdatedPolygonException.class, () -> polygon.minkowskiSum(other, result));
+         assertThrows(OutdatedPolygonException.class, () -> polygon.minkowskiDifference(other, result));
+         assertEquals(frameB, result.getReferenceFrame());
+      }
+   }
 }
@@ -14,6 +14,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Disabled;
@@ -589,9 +591,13 @@ public class ReferenceFrameTest
          for (int paramIdx = 0; paramIdx < numberOfParameters; paramIdx++)
          {
             Class<?> parameterClass = method.getParameterTypes()[paramIdx];
-            if (parameterClass.isPrimitive())
+            if (parameterClass == boolean.class)
             {
-               // Only works for some primitive types. If we add a public method that takes a boolean for example we will need to update this.
+               parameters[paramIdx] = false;
+            }
+            else if (parameterClass.isPrimitive())
+            {
+               // Only works for some primitive types. If we add a public method that takes a char for example we will need to update this.
                parameters[paramIdx] = 0;
             }
          }
@@ -634,6 +640,262 @@ public class ReferenceFrameTest
       });
    }
 
+   @Test
+   public void testConcurrentTreeMode()
+   {
+      Random random = new Random(5674);
+      int numberOfFrames = 50;
+
+      ReferenceFrame concurrentRoot = ReferenceFrameTools.constructARootFrame("concurrentRoot");
+      ReferenceFrame sequentialRoot = ReferenceFrameTools.constructARootFrame("sequentialRoot");
+      RigidBodyTransform[] concurrentTransforms = new RigidBodyTransform[numberOfFrames];
+      RigidBodyTransform[] sequentialTransforms = new RigidBodyTransform[numberOfFrames];
+      ReferenceFrame[] concurrentFrames = nextChangingFrameTree(random, concurrentRoot, concurrentTransforms);
+      ReferenceFrame[] sequentialFrames = nextChangingFrameTree(new Random(5674), sequentialRoot, sequentialTransforms);
+
+      assertFalse(concurrentRoot.isConcurrentTreeEnabled());
+      concurrentFrames[numberOfFrames - 1].setConcurrentTreeEnabled(true);
+      assertTrue(concurrentRoot.isConcurrentTreeEnabled());
+      assertTrue(concurrentFrames[random.nextInt(numberOfFrames)].isConcurrentTreeEnabled());
+      assertFalse(sequentialRoot.isConcurrentTreeEnabled());
+
+      RigidBodyTransform expected = new RigidBodyTransform();
+      RigidBodyTransform actual = new RigidBodyTransform();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         // Updating a random subset of the frames.
+         for (int j = 0; j < 5; j++)
+         {
+            int index = random.nextInt(numberOfFrames);
+            RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            concurrentTransforms[index].set(transform);
+            sequentialTransforms[index].set(transform);
+            concurrentFrames[index].update();
+            sequentialFrames[index].update();
+         }
+
+         int index = random.nextInt(numberOfFrames + 1);
+         int desiredIndex = random.nextInt(numberOfFrames + 1);
+         ReferenceFrame concurrentFrame = index == numberOfFrames ? concurrentRoot : concurrentFrames[index];
+         ReferenceFrame sequentialFrame = index == numberOfFrames ? sequentialRoot : sequentialFrames[index];
+         ReferenceFrame concurrentDesiredFrame = desiredIndex == numberOfFrames ? concurrentRoot : concurrentFrames[desiredIndex];
+         ReferenceFrame sequentialDesiredFrame = desiredIndex == numberOfFrames ? sequentialRoot : sequentialFrames[desiredIndex];
+
+         sequentialFrame.getTransformToDesiredFrame(expected, sequentialDesiredFrame);
+         concurrentFrame.getTransformToDesiredFrame(actual, concurrentDesiredFrame);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+
+         if (index != numberOfFrames)
+         {
+            sequentialFrame.getTransformToParent(expected);
+            concurrentFrame.getTransformToParent(actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(sequentialFrame.getTransformToRoot(), concurrentFrame.getTransformToRoot(), EPSILON);
+         }
+
+         Point3D expectedPoint = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D actualPoint = new Point3D(expectedPoint);
+         sequentialFrame.transformFromThisToDesiredFrame(sequentialDesiredFrame, expectedPoint);
+         concurrentFrame.transformFromThisToDesiredFrame(concurrentDesiredFrame, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPSILON);
+      }
+
+      // The snapshot is reused until the frame or one of its ancestors is updated.
+      ReferenceFrame leaf = concurrentFrames[numberOfFrames - 1];
+      RigidBodyTransform snapshot = leaf.getTransformToRoot();
+      assertTrue(snapshot == leaf.getTransformToRoot());
+      leaf.getParent().update();
+      assertFalse(snapshot == leaf.getTransformToRoot());
+
+      // Frames added to a concurrent tree are published right away.
+      ReferenceFrame newFrame = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("newFrame", leaf, concurrentTransforms[0]);
+      newFrame.getTransformToParent(actual);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(concurrentTransforms[0], actual, EPSILON);
+
+      concurrentRoot.setConcurrentTreeEnabled(false);
+      assertFalse(leaf.isConcurrentTreeEnabled());
+
+      for (int i = 0; i < numberOfFrames; i++)
+      {
+         concurrentFrames[i].getTransformToDesiredFrame(actual, concurrentRoot);
+         sequentialFrames[i].getTransformToDesiredFrame(expected, sequentialRoot);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+      }
+   }
+
+   @Test
+   public void testConcurrentTreeModeMultiThreaded() throws InterruptedException
+   {
+      Random random = new Random(2356);
+      int numberOfFrames = 100;
+      int numberOfReaders = 4;
+
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      RigidBodyTransform[] transforms = new RigidBodyTransform[numberOfFrames];
+      ReferenceFrame[] frames = nextChangingFrameTree(random, root, transforms);
+      root.setConcurrentTreeEnabled(true);
+
+      AtomicBoolean isWriting = new AtomicBoolean(true);
+      AtomicReference<Throwable> failure = new AtomicReference<>();
+      List<Thread> readers = new ArrayList<>();
+
+      for (int readerIndex = 0; readerIndex < numberOfReaders; readerIndex++)
+      {
+         long seed = random.nextLong();
+         readers.add(new Thread(() ->
+         {
+            Random readerRandom = new Random(seed);
+            RigidBodyTransform transform = new RigidBodyTransform();
+
+            try
+            {
+               while (isWriting.get())
+               {
+                  ReferenceFrame frame = frames[readerRandom.nextInt(numberOfFrames)];
+                  ReferenceFrame desiredFrame = frames[readerRandom.nextInt(numberOfFrames)];
+                  frame.getTransformToDesiredFrame(transform, desiredFrame);
+                  // Torn transforms would not have a proper rotation matrix.
+                  assertTrue(transform.getRotation().isRotationMatrix(1.0e-7));
+                  assertTrue(frame.getTransformToRoot().getRotation().isRotationMatrix(1.0e-7));
+               }
+            }
+            catch (Throwable e)
+            {
+               failure.compareAndSet(null, e);
+            }
+         }));
+      }
+
+      readers.forEach(Thread::start);
+
+      for (int i = 0; i < 100 * ITERATIONS; i++)
+      {
+         int index = random.nextInt(numberOfFrames);
+         transforms[index].set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         frames[index].update();
+      }
+
+      isWriting.set(false);
+      for (Thread reader : readers)
+         reader.join();
+
+      if (failure.get() != null)
+         throw new AssertionError(failure.get());
+   }
+
+   @Test
+   public void testGetTransformToDesiredFrameThroughCommonAncestor()
+   {
+      Random random = new Random(9254);
+      int numberOfFrames = 60;
+
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      RigidBodyTransform[] transforms = new RigidBodyTransform[numberOfFrames];
+      ReferenceFrame[] frames = nextChangingFrameTree(random, root, transforms);
+
+      RigidBodyTransform actual = new RigidBodyTransform();
+      int numberOfPairsTested = 0;
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         for (int j = 0; j < 3; j++)
+         {
+            int index = random.nextInt(numberOfFrames);
+            transforms[index].set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+            frames[index].update();
+         }
+
+         if (random.nextInt(4) == 0)
+            ReferenceFrameTools.updateFrameTree(root);
+
+         ReferenceFrame frame = frames[random.nextInt(numberOfFrames)];
+         ReferenceFrame desiredFrame = frames[random.nextInt(numberOfFrames)];
+         ReferenceFrame[] path = frame.getFramesStartingWithRootEndingWithThis();
+         ReferenceFrame[] desiredPath = desiredFrame.getFramesStartingWithRootEndingWithThis();
+
+         if (path.length < 2 || desiredPath.length < 2 || path[1] != desiredPath[1])
+            continue; // The least common ancestor is the root frame.
+
+         numberOfPairsTested++;
+
+         // Querying several times, the following queries use the cache.
+         for (int j = 0; j < 3; j++)
+         {
+            frame.getTransformToDesiredFrame(actual, desiredFrame);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(computeTransformToDesiredFrame(frame, desiredFrame), actual, 1.0e-10);
+         }
+
+         Point3D expectedPoint = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D actualPoint = new Point3D(expectedPoint);
+         computeTransformToDesiredFrame(frame, desiredFrame).transform(expectedPoint);
+         frame.transformFromThisToDesiredFrame(desiredFrame, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, 1.0e-10);
+
+         // Updating a frame below the common ancestor invalidates the cache.
+         int commonAncestorIndex = 0;
+         while (commonAncestorIndex + 1 < Math.min(path.length, desiredPath.length) && path[commonAncestorIndex + 1] == desiredPath[commonAncestorIndex + 1])
+            commonAncestorIndex++;
+
+         ReferenceFrame frameBelowAncestor = random.nextBoolean() ? frame : desiredFrame;
+         if (frameBelowAncestor.getFramesStartingWithRootEndingWithThis().length - 1 > commonAncestorIndex)
+         {
+            transforms[Integer.parseInt(frameBelowAncestor.getName().substring(5))].set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+            frameBelowAncestor.update();
+            frame.getTransformToDesiredFrame(actual, desiredFrame);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(computeTransformToDesiredFrame(frame, desiredFrame), actual, 1.0e-10);
+         }
+
+         // Updating the common ancestor does not change the transform.
+         RigidBodyTransform expected = new RigidBodyTransform(actual);
+         ReferenceFrame commonAncestor = path[commonAncestorIndex];
+         transforms[Integer.parseInt(commonAncestor.getName().substring(5))].set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         commonAncestor.update();
+         frame.getTransformToDesiredFrame(actual, desiredFrame);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, 1.0e-10);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(computeTransformToDesiredFrame(frame, desiredFrame), actual, 1.0e-10);
+      }
+
+      assertTrue(numberOfPairsTested > ITERATIONS / 10);
+   }
+
+   private static RigidBodyTransform computeTransformToDesiredFrame(ReferenceFrame frame, ReferenceFrame desiredFrame)
+   {
+      RigidBodyTransform transformToDesiredFrame = new RigidBodyTransform();
+      ReferenceFrame[] desiredPath = desiredFrame.getFramesStartingWithRootEndingWithThis();
+      for (int i = 1; i < desiredPath.length; i++)
+         transformToDesiredFrame.multiply(desiredPath[i].getTransformToParent());
+      transformToDesiredFrame.invert();
+
+      ReferenceFrame[] path = frame.getFramesStartingWithRootEndingWithThis();
+      for (int i = 1; i < path.length; i++)
+         transformToDesiredFrame.multiply(path[i].getTransformToParent());
+      return transformToDesiredFrame;
+   }
+
+   private static ReferenceFrame[] nextChangingFrameTree(Random random, ReferenceFrame root, RigidBodyTransform[] transformsToParent)
+   {
+      ReferenceFrame[] frames = new ReferenceFrame[transformsToParent.length];
+
+      for (int i = 0; i < frames.length; i++)
+      {
+         ReferenceFrame parent = i == 0 ? root : frames[random.nextInt(i)];
+         RigidBodyTransform transformToParent = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         transformsToParent[i] = transformToParent;
+         frames[i] = new ReferenceFrame("frame" + i, parent)
+         {
+            @Override
+            protected void updateTransformToParent(RigidBodyTransform transformToParent)
+            {
+               transformToParent.set(transformsToParent[Integer.parseInt(getName().substring(5))]);
+            }
+         };
+         frames[i].update();
+      }
+
+      return frames;
+   }
+
    public static void main(String[] args)
    {
       String targetTests = EuclidTestConstants.class.getName();
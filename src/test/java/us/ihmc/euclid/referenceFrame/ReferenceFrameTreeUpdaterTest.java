@@ -0,0 +1,262 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+public class ReferenceFrameTreeUpdaterTest
+{
+   private static final double EPSILON = 1.0e-12;
+   private static final int NUMBER_OF_FRAMES = 50;
+
+   @Test
+   public void testUpdate()
+   {
+      Random random = new Random(34656);
+
+      ReferenceFrame updaterRoot = ReferenceFrameTools.constructARootFrame("updaterRoot");
+      ReferenceFrame lazyRoot = ReferenceFrameTools.constructARootFrame("lazyRoot");
+      RigidBodyTransform[] updaterTransforms = new RigidBodyTransform[NUMBER_OF_FRAMES];
+      RigidBodyTransform[] lazyTransforms = new RigidBodyTransform[NUMBER_OF_FRAMES];
+      ReferenceFrame[] updaterFrames = nextChangingFrameTree(new Random(4536), updaterRoot, updaterTransforms);
+      ReferenceFrame[] lazyFrames = nextChangingFrameTree(new Random(4536), lazyRoot, lazyTransforms);
+
+      ReferenceFrameTreeUpdater updater = new ReferenceFrameTreeUpdater(updaterFrames[NUMBER_OF_FRAMES - 1]);
+      assertEquals(updaterRoot, updater.getRootFrame());
+
+      updater.update();
+      assertEquals(NUMBER_OF_FRAMES + 1, updater.getNumberOfFrames());
+      assertEquals(NUMBER_OF_FRAMES, updater.getNumberOfTransformsToRootChanged());
+
+      // Nothing changed, nothing to recompute.
+      updater.update();
+      assertEquals(0, updater.getNumberOfTransformsToRootChanged());
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int index = random.nextInt(NUMBER_OF_FRAMES);
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         updaterTransforms[index].set(transform);
+         lazyTransforms[index].set(transform);
+
+         updater.update();
+         long transformToRootID = ReferenceFrame.nextTransformToRootID;
+         for (ReferenceFrame lazyFrame : lazyFrames)
+            lazyFrame.update();
+
+         // Only the subtree of the modified frame is affected.
+         assertEquals(ReferenceFrameTools.collectFramesInSubtree(updaterFrames[index]).size(), updater.getNumberOfTransformsToRootChanged());
+
+         // The transforms to root are all up-to-date, querying them does not require any computation.
+
+         for (int j = 0; j < NUMBER_OF_FRAMES; j++)
+         {
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(lazyFrames[j].getTransformToRoot(), updaterFrames[j].getTransformToRoot(), EPSILON);
+         }
+
+         int desiredIndex = random.nextInt(NUMBER_OF_FRAMES);
+         RigidBodyTransform expected = lazyFrames[index].getTransformToDesiredFrame(lazyFrames[desiredIndex]);
+         RigidBodyTransform actual = updaterFrames[index].getTransformToDesiredFrame(updaterFrames[desiredIndex]);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+
+         for (int j = 0; j < NUMBER_OF_FRAMES; j++)
+         {
+            assertTrue(updaterFrames[j].transformToRootID > 0 && updaterFrames[j].transformToRootID <= transformToRootID);
+         }
+         assertEquals(transformToRootID, updaterFrames[index].transformToRootID);
+      }
+   }
+
+   @Test
+   public void testUpdateWithChangingTree()
+   {
+      Random random = new Random(6534);
+
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      RigidBodyTransform[] transforms = new RigidBodyTransform[NUMBER_OF_FRAMES];
+      ReferenceFrame[] frames = nextChangingFrameTree(random, root, transforms);
+      ReferenceFrameTreeUpdater updater = new ReferenceFrameTreeUpdater(root);
+      updater.update();
+
+      // Frames added after the last update are updated at the next update.
+      RigidBodyTransform transformToParent = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      ReferenceFrame newFrame = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("newFrame", frames[10], transformToParent);
+      updater.update();
+      assertEquals(NUMBER_OF_FRAMES + 2, updater.getNumberOfFrames());
+      assertEquals(1, updater.getNumberOfTransformsToRootChanged());
+      RigidBodyTransform expected = new RigidBodyTransform(frames[10].getTransformToRoot());
+      expected.multiply(transformToParent);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, newFrame.getTransformToRoot(), EPSILON);
+
+      // Frames updated individually are recomputed at the next update.
+      transforms[20].set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      frames[20].update();
+      updater.update();
+      assertEquals(ReferenceFrameTools.collectFramesInSubtree(frames[20]).size(), updater.getNumberOfTransformsToRootChanged());
+
+      // Removed frames are not updated anymore.
+      int numberOfRemovedFrames = ReferenceFrameTools.collectFramesInSubtree(frames[5]).size();
+      frames[5].remove();
+      updater.update();
+      assertEquals(NUMBER_OF_FRAMES + 2 - numberOfRemovedFrames, updater.getNumberOfFrames());
+
+      // The static version gives the same result.
+      transforms[0].set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      ReferenceFrameTools.updateFrameTree(newFrame);
+      expected.set(transforms[0]);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, frames[0].getTransformToRoot(), EPSILON);
+   }
+
+   @Test
+   public void testUpdateConcurrentTree()
+   {
+      Random random = new Random(9836);
+
+      ReferenceFrame concurrentRoot = ReferenceFrameTools.constructARootFrame("concurrentRoot");
+      ReferenceFrame lazyRoot = ReferenceFrameTools.constructARootFrame("lazyRoot");
+      RigidBodyTransform[] concurrentTransforms = new RigidBodyTransform[NUMBER_OF_FRAMES];
+      RigidBodyTransform[] lazyTransforms = new RigidBodyTransform[NUMBER_OF_FRAMES];
+      ReferenceFrame[] concurrentFrames = nextChangingFrameTree(new Random(2345), concurrentRoot, concurrentTransforms);
+      ReferenceFrame[] lazyFrames = nextChangingFrameTree(new Random(2345), lazyRoot, lazyTransforms);
+      concurrentRoot.setConcurrentTreeEnabled(true);
+
+      ReferenceFrameTreeUpdater updater = new ReferenceFrameTreeUpdater(concurrentRoot);
+      updater.update();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int index = random.nextInt(NUMBER_OF_FRAMES);
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         concurrentTransforms[index].set(transform);
+         lazyTransforms[index].set(transform);
+         lazyFrames[index].update();
+
+         ReferenceFrame queriedFrame = concurrentFrames[random.nextInt(NUMBER_OF_FRAMES)];
+         boolean isAffected = ReferenceFrameTools.collectFramesInSubtree(concurrentFrames[index]).contains(queriedFrame);
+         RigidBodyTransform snapshot = queriedFrame.getTransformToRoot();
+         updater.update();
+
+         // The snapshots are only replaced for the frames affected by the update.
+         if (isAffected)
+            assertNotSame(snapshot, queriedFrame.getTransformToRoot());
+         else
+            assertSame(snapshot, queriedFrame.getTransformToRoot());
+
+         for (int j = 0; j < NUMBER_OF_FRAMES; j++)
+         {
+            RigidBodyTransform transformToRoot = concurrentFrames[j].getTransformToRoot();
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(lazyFrames[j].getTransformToRoot(), transformToRoot, EPSILON);
+            // The snapshots were published by the updater, the readers do not need to compute them.
+            assertSame(transformToRoot, concurrentFrames[j].getTransformToRoot());
+         }
+      }
+   }
+
+   @Test
+   public void testParallelUpdate()
+   {
+      Random random = new Random(2376);
+      int numberOfFrames = 200;
+
+      ReferenceFrame serialRoot = ReferenceFrameTools.constructARootFrame("serialRoot");
+      ReferenceFrame parallelRoot = ReferenceFrameTools.constructARootFrame("parallelRoot");
+      RigidBodyTransform[] serialTransforms = new RigidBodyTransform[numberOfFrames];
+      RigidBodyTransform[] parallelTransforms = new RigidBodyTransform[numberOfFrames];
+      ReferenceFrame[] serialFrames = nextChangingFrameTree(new Random(8734), serialRoot, serialTransforms);
+      ReferenceFrame[] parallelFrames = nextChangingFrameTree(new Random(8734), parallelRoot, parallelTransforms);
+
+      ReferenceFrameTreeUpdater serialUpdater = new ReferenceFrameTreeUpdater(serialRoot);
+      ReferenceFrameTreeUpdater parallelUpdater = new ReferenceFrameTreeUpdater(parallelRoot);
+      ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+      parallelUpdater.setForkJoinPool(forkJoinPool);
+
+      // Splitting the tree at the grandchildren of the root frame.
+      for (int i = 0; i < parallelRoot.getNumberOfChildren(); i++)
+      {
+         ReferenceFrame child = parallelRoot.getChild(i);
+         for (int j = 0; j < child.getNumberOfChildren(); j++)
+            parallelUpdater.addParallelSubtree(child.getChild(j));
+      }
+      assertTrue(parallelUpdater.getNumberOfParallelSubtrees() > 1);
+
+      assertThrows(IllegalArgumentException.class, () -> parallelUpdater.addParallelSubtree(parallelRoot));
+      assertThrows(IllegalArgumentException.class, () -> parallelUpdater.addParallelSubtree(serialFrames[10]));
+      ReferenceFrame nestedFrame = parallelFrames[numberOfFrames - 1];
+      while (nestedFrame.getFramesStartingWithRootEndingWithThis().length < 4)
+         nestedFrame = parallelFrames[random.nextInt(numberOfFrames)];
+      ReferenceFrame nestedSubtreeRoot = nestedFrame;
+      assertThrows(IllegalArgumentException.class, () -> parallelUpdater.addParallelSubtree(nestedSubtreeRoot));
+      assertThrows(IllegalArgumentException.class, () -> parallelUpdater.addParallelSubtree(parallelFrames[0]));
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         for (int j = 0; j < 10; j++)
+         {
+            int index = random.nextInt(numberOfFrames);
+            RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            serialTransforms[index].set(transform);
+            parallelTransforms[index].set(transform);
+         }
+
+         serialUpdater.update();
+         parallelUpdater.update();
+
+         assertEquals(serialUpdater.getNumberOfFrames(), parallelUpdater.getNumberOfFrames());
+         assertEquals(serialUpdater.getNumberOfTransformsToRootChanged(), parallelUpdater.getNumberOfTransformsToRootChanged());
+
+         // The parallel update is deterministic and identical to the serial update.
+         for (int j = 0; j < numberOfFrames; j++)
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(serialFrames[j].getTransformToRoot(), parallelFrames[j].getTransformToRoot(), 0.0);
+      }
+
+      // Removed subtrees are skipped.
+      ReferenceFrame removedFrame = parallelRoot.getChild(0).getChild(0);
+      int numberOfRemovedFrames = ReferenceFrameTools.collectFramesInSubtree(removedFrame).size();
+      removedFrame.remove();
+      parallelUpdater.update();
+      assertEquals(numberOfFrames + 1 - numberOfRemovedFrames, parallelUpdater.getNumberOfFrames());
+
+      parallelUpdater.clearParallelSubtrees();
+      assertEquals(0, parallelUpdater.getNumberOfParallelSubtrees());
+      parallelUpdater.update();
+      assertEquals(numberOfFrames + 1 - numberOfRemovedFrames, parallelUpdater.getNumberOfFrames());
+
+      forkJoinPool.shutdown();
+   }
+
+   static ReferenceFrame[] nextChangingFrameTree(Random random, ReferenceFrame root, RigidBodyTransform[] transformsToParent)
+   {
+      ReferenceFrame[] frames = new ReferenceFrame[transformsToParent.length];
+
+      for (int i = 0; i < frames.length; i++)
+      {
+         ReferenceFrame parent = i == 0 ? root : frames[random.nextInt(i)];
+         RigidBodyTransform transformToParent = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         transformsToParent[i] = transformToParent;
+         frames[i] = new ReferenceFrame("frame" + i, parent)
+         {
+            @Override
+            protected void updateTransformToParent(RigidBodyTransform transformToParent)
+            {
+               transformToParent.set(transformsToParent[Integer.parseInt(getName().substring(5))]);
+            }
+         };
+         frames[i].update();
+      }
+
+      return frames;
+   }
+}
@@ -1,6 +1,7 @@
 package us.ihmc.euclid.rotationConversion;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
 
@@ -479,4 +480,37 @@ public class QuaternionConversionTest
          EuclidCoreTestTools.assertQuaternionIsUnitary(actualQuaternion, EPSILON);
       }
    }
+
+   @Test
+   public void testYawPitchRollsToQuaternions() throws Exception
+   {
+      Random random = new Random(4573L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfOrientations = random.nextInt(20);
+         int yprStartIndex = random.nextInt(5);
+         int quaternionStartIndex = random.nextInt(5);
+         double[] yawPitchRolls = new double[yprStartIndex + 3 * numberOfOrientations];
+         double[] quaternions = new double[quaternionStartIndex + 4 * numberOfOrientations];
+
+         for (int j = 0; j < yawPitchRolls.length; j++)
+            yawPitchRolls[j] = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+
+         QuaternionConversion.convertYawPitchRollsToQuaternions(yawPitchRolls, yprStartIndex, quaternions, quaternionStartIndex, numberOfOrientations);
+
+         for (int j = 0; j < numberOfOrientations; j++)
+         {
+            int yprIndex = yprStartIndex + 3 * j;
+            Quaternion expected = new Quaternion();
+            QuaternionConversion.convertYawPitchRollToQuaternion(yawPitchRolls[yprIndex], yawPitchRolls[yprIndex + 1], yawPitchRolls[yprIndex + 2], expected);
+            Quaternion actual = new Quaternion();
+            actual.set(quaternionStartIndex + 4 * j, quaternions);
+            EuclidCoreTestTools.assertTuple4DEquals(expected, actual, EPSILON);
+         }
+
+         assertThrows(IllegalArgumentException.class,
+                      () -> QuaternionConversion.convertYawPitchRollsToQuaternions(yawPitchRolls, yprStartIndex, quaternions, quaternionStartIndex + 1, numberOfOrientations + 1));
+      }
+   }
 }
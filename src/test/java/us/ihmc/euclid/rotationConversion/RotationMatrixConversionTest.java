@@ -313,4 +313,50 @@ public class RotationMatrixConversionTest
          assertTrue(rotationVector.equals(rotationVectorCopy));
       }
    }
+
+   @Test
+   public void testYawPitchRollsToMatrices() throws Exception
+   {
+      Random random = new Random(4573L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfOrientations = random.nextInt(20) + 2;
+         int yprStartIndex = random.nextInt(5);
+         int matrixStartIndex = random.nextInt(5);
+         double[] yawPitchRolls = new double[yprStartIndex + 3 * numberOfOrientations];
+         double[] matrices = new double[matrixStartIndex + 9 * numberOfOrientations];
+
+         for (int j = 0; j < yawPitchRolls.length; j++)
+            yawPitchRolls[j] = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+         // Edge cases
+         yawPitchRolls[yprStartIndex] = Double.NaN;
+         yawPitchRolls[yprStartIndex + 3] = 0.0;
+         yawPitchRolls[yprStartIndex + 4] = 0.0;
+         yawPitchRolls[yprStartIndex + 5] = 0.0;
+
+         RotationMatrixConversion.convertYawPitchRollsToMatrices(yawPitchRolls, yprStartIndex, matrices, matrixStartIndex, numberOfOrientations);
+
+         for (int j = 0; j < numberOfOrientations; j++)
+         {
+            int yprIndex = yprStartIndex + 3 * j;
+            RotationMatrix expected = new RotationMatrix();
+            RotationMatrixConversion.convertYawPitchRollToMatrix(yawPitchRolls[yprIndex], yawPitchRolls[yprIndex + 1], yawPitchRolls[yprIndex + 2], expected);
+            RotationMatrix actual = new RotationMatrix();
+            actual.setUnsafe(matrices[matrixStartIndex + 9 * j],
+                             matrices[matrixStartIndex + 9 * j + 1],
+                             matrices[matrixStartIndex + 9 * j + 2],
+                             matrices[matrixStartIndex + 9 * j + 3],
+                             matrices[matrixStartIndex + 9 * j + 4],
+                             matrices[matrixStartIndex + 9 * j + 5],
+                             matrices[matrixStartIndex + 9 * j + 6],
+                             matrices[matrixStartIndex + 9 * j + 7],
+                             matrices[matrixStartIndex + 9 * j + 8]);
+            if (j == 0)
+               EuclidCoreTestTools.assertMatrix3DContainsOnlyNaN(actual);
+            else
+               EuclidCoreTestTools.assertMatrix3DEquals(expected, actual, EPSILON);
+         }
+      }
+   }
 }
@@ -3,18 +3,26 @@ package us.ihmc.euclid.shape.collision;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
 
 import java.util.Arrays;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import com.sun.management.ThreadMXBean;
+
 import us.ihmc.euclid.geometry.LineSegment3D;
 import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
 import us.ihmc.euclid.shape.collision.GilbertJohnsonKeerthiCollisionDetectorTest.AnalyticalShapeCollisionDetection;
 import us.ihmc.euclid.shape.collision.GilbertJohnsonKeerthiCollisionDetectorTest.Pair;
+import us.ihmc.euclid.shape.collision.epa.EPAFace3D;
+import us.ihmc.euclid.shape.collision.epa.EPAMemoryPool;
 import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.collision.gjk.GJKVertex3D;
 import us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector;
 import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
 import us.ihmc.euclid.shape.convexPolytope.ConvexPolytope3D;
@@ -938,6 +946,122 @@ class ExpandingPolytopeAlgorithmTest
       }
    }
 
+   @Test
+   void testGarbageFreeMode()
+   { // Comparing the garbage-free mode against the default mode, the results should be exactly the same.
+      Random random = new Random(8734);
+      ExpandingPolytopeAlgorithm expectedDetector = new ExpandingPolytopeAlgorithm();
+      ExpandingPolytopeAlgorithm actualDetector = new ExpandingPolytopeAlgorithm();
+      actualDetector.setGarbageFree(true);
+      assertTrue(actualDetector.isGarbageFree());
+      assertTrue(actualDetector.getGJKCollisionDetector().isGarbageFree());
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Shape3DBasics shapeA = EuclidShapeRandomTools.nextConvexShape3D(random);
+         // Placing the second shape close to the first one so most pairs are colliding.
+         Shape3DBasics shapeB = EuclidShapeRandomTools.nextConvexShape3D(random, shapeA.getCentroid());
+
+         EuclidShape3DCollisionResult expectedResult = expectedDetector.evaluateCollision((SupportingVertexHolder) shapeA, (SupportingVertexHolder) shapeB);
+         EuclidShape3DCollisionResult actualResult = actualDetector.evaluateCollision((SupportingVertexHolder) shapeA, (SupportingVertexHolder) shapeB);
+
+         EuclidShapeTestTools.assertEuclidShape3DCollisionResultEquals("Iteration " + i, expectedResult, actualResult, 0.0);
+         assertEquals(expectedDetector.getNumberOfIterations(), actualDetector.getNumberOfIterations());
+      }
+   }
+
+   @Test
+   void testGarbageFreeModeAllocations()
+   {
+      ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+      assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+      threadMXBean.setThreadAllocatedMemoryEnabled(true);
+      long threadId = Thread.currentThread().getId();
+
+      Random random = new Random(2341);
+      int numberOfPairs = 100;
+      SupportingVertexHolder[] shapesA = new SupportingVertexHolder[numberOfPairs];
+      SupportingVertexHolder[] shapesB = new SupportingVertexHolder[numberOfPairs];
+
+      for (int i = 0; i < numberOfPairs; i++)
+      {
+         Shape3DBasics shapeA = EuclidShapeRandomTools.nextConvexShape3D(random);
+         Shape3DBasics shapeB = EuclidShapeRandomTools.nextConvexShape3D(random, shapeA.getCentroid());
+         shapesA[i] = GilbertJohnsonKeerthiCollisionDetectorTest.useGarbageFreeIntermediateVariables(shapeA);
+         shapesB[i] = GilbertJohnsonKeerthiCollisionDetectorTest.useGarbageFreeIntermediateVariables(shapeB);
+      }
+
+      ExpandingPolytopeAlgorithm detector = new ExpandingPolytopeAlgorithm();
+      detector.setGarbageFree(true);
+      EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+
+      for (int i = 0; i < 100; i++)
+      { // Warmup
+         for (int j = 0; j < numberOfPairs; j++)
+            detector.evaluateCollision(shapesA[j], shapesB[j], result);
+      }
+
+      long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+
+      for (int i = 0; i < 10; i++)
+      {
+         for (int j = 0; j < numberOfPairs; j++)
+            detector.evaluateCollision(shapesA[j], shapesB[j], result);
+      }
+
+      long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+      assertEquals(0L, allocatedBytes, "The garbage-free mode allocated " + allocatedBytes + " bytes.");
+   }
+
+   @Test
+   void testDefaultModeAllocations()
+   {
+      ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+      assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+      threadMXBean.setThreadAllocatedMemoryEnabled(true);
+      long threadId = Thread.currentThread().getId();
+
+      // The Minkowski difference is the tetrahedron itself, the algorithm terminates after the first iteration.
+      ConvexPolytope3D tetrahedron = new ConvexPolytope3D(Vertex3DSupplier.asVertex3DSupplier(new Point3D(1.0, 0.0, -0.5),
+                                                                                              new Point3D(-0.5, 0.9, -0.5),
+                                                                                              new Point3D(-0.5, -0.9, -0.5),
+                                                                                              new Point3D(0.0, 0.0, 1.0)));
+      PointShape3D point = new PointShape3D();
+      GilbertJohnsonKeerthiCollisionDetector gjkDetector = new GilbertJohnsonKeerthiCollisionDetector();
+      assertTrue(gjkDetector.evaluateCollision(tetrahedron, point).areShapesColliding());
+      GJKVertex3D[] simplex = gjkDetector.getSimplex().getVertices();
+
+      ExpandingPolytopeAlgorithm detector = new ExpandingPolytopeAlgorithm();
+      EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+      EPAMemoryPool[] pools = new EPAMemoryPool[100];
+
+      for (int i = 0; i < 1000; i++)
+      { // Warmup
+         detector.evaluateCollision(tetrahedron, point, simplex, result);
+         pools[i % pools.length] = new EPAMemoryPool();
+      }
+
+      long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+      for (int i = 0; i < pools.length; i++)
+         pools[i] = new EPAMemoryPool();
+      long poolBytes = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore) / pools.length;
+
+      EPAFace3D closestFace = detector.getClosestFace();
+      double distanceToOrigin = closestFace.getDistanceToOrigin();
+
+      allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+      for (int i = 0; i < pools.length; i++)
+         detector.evaluateCollision(tetrahedron, point, simplex, result);
+      long evaluationBytes = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore) / pools.length;
+
+      // Only the vertices and faces actually needed are created, not a new memory pool.
+      assertTrue(evaluationBytes < poolBytes, "An evaluation allocated " + evaluationBytes + " bytes, a memory pool " + poolBytes + " bytes.");
+      // The faces are not recycled in the default mode.
+      assertTrue(closestFace != detector.getClosestFace());
+      assertEquals(distanceToOrigin, closestFace.getDistanceToOrigin());
+      assertEquals(distanceToOrigin, detector.getClosestFace().getDistanceToOrigin());
+   }
+
    private static <A extends Shape3DReadOnly, B extends Shape3DReadOnly> void assertAgainstAnalyticalFunction(AnalyticalShapeCollisionDetection<A, B> function,
                                                                                                               double distanceMaxEpsilon,
                                                                                                               double positionMaxEpsilon,
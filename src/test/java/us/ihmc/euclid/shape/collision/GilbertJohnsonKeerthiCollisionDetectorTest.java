@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -16,11 +18,17 @@ import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
+import com.sun.management.ThreadMXBean;
+
 import us.ihmc.euclid.axisAngle.AxisAngle;
 import us.ihmc.euclid.geometry.LineSegment3D;
 import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.collision.gjk.GJKSimplex3D;
+import us.ihmc.euclid.shape.collision.gjk.GJKVertex3D;
+import us.ihmc.euclid.shape.collision.gjk.GJKWarmStartCache;
 import us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector;
 import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
 import us.ihmc.euclid.shape.convexPolytope.ConvexPolytope3D;
@@ -36,7 +44,11 @@ import us.ihmc.euclid.shape.primitives.Ellipsoid3D;
 import us.ihmc.euclid.shape.primitives.PointShape3D;
 import us.ihmc.euclid.shape.primitives.Ramp3D;
 import us.ihmc.euclid.shape.primitives.Sphere3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Box3DBasics;
+import us.ihmc.euclid.shape.primitives.interfaces.Ellipsoid3DBasics;
+import us.ihmc.euclid.shape.primitives.interfaces.IntermediateVariableSupplier;
 import us.ihmc.euclid.shape.primitives.interfaces.PointShape3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Ramp3DBasics;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
 import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
@@ -155,6 +167,83 @@ class GilbertJohnsonKeerthiCollisionDetectorTest
       }
    }
 
+   /**
+    * Tests that warm-starting the detector with a {@link GJKWarmStartCache} decreases the number of
+    * iterations when the same pairs of shapes are evaluated repeatedly while moving slowly, while the
+    * result remains the same.
+    */
+   @Test
+   void testWarmStartCache()
+   {
+      Random random = new Random(2356);
+      GilbertJohnsonKeerthiCollisionDetector expectedDetector = new GilbertJohnsonKeerthiCollisionDetector();
+      GilbertJohnsonKeerthiCollisionDetector actualDetector = new GilbertJohnsonKeerthiCollisionDetector();
+      GJKWarmStartCache cache = new GJKWarmStartCache();
+      actualDetector.setWarmStartCache(cache);
+      assertTrue(actualDetector.getWarmStartCache() == cache);
+      double distanceEpsilon = 1.0e-4;
+      double pointTangentialEpsilon = 1.0e-2;
+      int numberOfPairs = 500;
+      int numberOfSteps = 20;
+
+      int totalIterationsWithoutCache = 0;
+      int totalIterationsWithCache = 0;
+
+      for (int i = 0; i < numberOfPairs; i++)
+      {
+         Shape3DBasics shapeA = random.nextBoolean() ? EuclidShapeRandomTools.nextConvexShape3D(random) : EuclidShapeRandomTools.nextConvexPolytope3D(random);
+         Shape3DBasics shapeB = random.nextBoolean() ? EuclidShapeRandomTools.nextConvexShape3D(random) : EuclidShapeRandomTools.nextConvexPolytope3D(random);
+
+         for (int step = 0; step < numberOfSteps; step++)
+         {
+            EuclidShape3DCollisionResult expectedResult = expectedDetector.evaluateCollision(shapeA, shapeB);
+            EuclidShape3DCollisionResult actualResult = actualDetector.evaluateCollision(shapeA, shapeB);
+
+            EuclidShapeTestTools.assertEuclidShape3DCollisionResultGeometricallyEquals("Iteration " + i + ", step " + step,
+                                                                                      expectedResult,
+                                                                                      actualResult,
+                                                                                      distanceEpsilon,
+                                                                                      pointTangentialEpsilon,
+                                                                                      0.0);
+
+            GJKWarmStartCache.Entry entry = cache.getEntry(shapeA, shapeB);
+            assertNotNull(entry);
+            assertTrue(entry.isValid());
+            assertEquals(actualResult.areShapesColliding(), entry.areShapesColliding());
+            assertEquals(actualDetector.getNumberOfIterations(), entry.getNumberOfIterations());
+            EuclidCoreTestTools.assertTuple3DEquals(actualDetector.getSupportDirection(), entry.getSupportDirection(), 0.0);
+            assertEquals(actualDetector.getSimplex().getDistanceToOrigin(), entry.getSimplex().getDistanceToOrigin(), EPSILON);
+
+            if (step > 0)
+            { // The first step cannot be warm-started.
+               totalIterationsWithoutCache += expectedDetector.getNumberOfIterations();
+               totalIterationsWithCache += actualDetector.getNumberOfIterations();
+            }
+
+            RigidBodyTransform displacement = new RigidBodyTransform(EuclidCoreRandomTools.nextAxisAngle(random, 0.01),
+                                                                     EuclidCoreRandomTools.nextVector3D(random, 0.01));
+            (random.nextBoolean() ? shapeA : shapeB).applyTransform(displacement);
+         }
+      }
+
+      System.out.println("Total iterations w/o cache: " + totalIterationsWithoutCache + ", with cache: " + totalIterationsWithCache);
+      assertTrue(totalIterationsWithCache < totalIterationsWithoutCache);
+
+      assertEquals(numberOfPairs, cache.getNumberOfEntries());
+
+      Sphere3D sphereA = new Sphere3D(1.0);
+      Sphere3D sphereB = new Sphere3D(new Point3D(3.0, 0.0, 0.0), 1.0);
+      actualDetector.evaluateCollision(sphereA, sphereB);
+      assertEquals(numberOfPairs + 1, cache.getNumberOfEntries());
+      assertNull(cache.getEntry(sphereB, sphereA));
+      assertFalse(cache.remove(sphereB, sphereA));
+      assertTrue(cache.remove(sphereA, sphereB));
+      assertNull(cache.getEntry(sphereA, sphereB));
+      assertEquals(numberOfPairs, cache.getNumberOfEntries());
+      cache.clear();
+      assertEquals(0, cache.getNumberOfEntries());
+   }
+
    @Test
    void testSimpleCollisionWithNonCollidingCubeAndTetrahedron()
    {
@@ -1051,6 +1140,172 @@ class GilbertJohnsonKeerthiCollisionDetectorTest
       }
    }
 
+   @Test
+   void testGarbageFreeMode()
+   { // Comparing the garbage-free mode against the default mode, the results should be exactly the same.
+      Random random = new Random(23490);
+      GilbertJohnsonKeerthiCollisionDetector expectedDetector = new GilbertJohnsonKeerthiCollisionDetector();
+      GilbertJohnsonKeerthiCollisionDetector actualDetector = new GilbertJohnsonKeerthiCollisionDetector();
+      actualDetector.setGarbageFree(true);
+      assertTrue(actualDetector.isGarbageFree());
+
+      ExpandingPolytopeAlgorithm epa = new ExpandingPolytopeAlgorithm();
+      int numberOfCollidingPairs = 0;
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Shape3DBasics shapeA = EuclidShapeRandomTools.nextConvexShape3D(random);
+         Shape3DBasics shapeB = EuclidShapeRandomTools.nextConvexShape3D(random);
+
+         if (i % 2 == 0)
+         { // Moving shapeB onto shapeA to also cover the colliding case.
+            Vector3D centroidSeparation = new Vector3D();
+            centroidSeparation.sub(shapeA.getCentroid(), shapeB.getCentroid());
+            shapeB.applyTransform(new RigidBodyTransform(new Quaternion(), centroidSeparation));
+         }
+
+         EuclidShape3DCollisionResult expectedResult = expectedDetector.evaluateCollision((SupportingVertexHolder) shapeA, (SupportingVertexHolder) shapeB);
+         EuclidShape3DCollisionResult actualResult = actualDetector.evaluateCollision((SupportingVertexHolder) shapeA, (SupportingVertexHolder) shapeB);
+
+         assertEquals(expectedResult.areShapesColliding(), actualResult.areShapesColliding());
+
+         if (expectedResult.areShapesColliding())
+         { // The GJK only reports the collision, comparing the penetrations that the EPA evaluates from each simplex.
+            numberOfCollidingPairs++;
+            EuclidShape3DCollisionResult expectedPenetration = new EuclidShape3DCollisionResult();
+            EuclidShape3DCollisionResult actualPenetration = new EuclidShape3DCollisionResult();
+            epa.evaluateCollision((SupportingVertexHolder) shapeA, (SupportingVertexHolder) shapeB, expectedDetector.getSimplex().getVertices(), expectedPenetration);
+            epa.evaluateCollision((SupportingVertexHolder) shapeA, (SupportingVertexHolder) shapeB, actualDetector.getSimplex().getVertices(), actualPenetration);
+            EuclidShapeTestTools.assertEuclidShape3DCollisionResultEquals("Iteration " + i, expectedPenetration, actualPenetration, 0.0);
+         }
+         else
+         {
+            EuclidShapeTestTools.assertEuclidShape3DCollisionResultEquals("Iteration " + i, expectedResult, actualResult, 0.0);
+         }
+         assertSimplexEquals("Iteration " + i, expectedDetector.getSimplex(), actualDetector.getSimplex());
+         assertEquals(expectedDetector.getNumberOfIterations(), actualDetector.getNumberOfIterations());
+         assertEquals(expectedDetector.getLastTerminationType(), actualDetector.getLastTerminationType());
+      }
+
+      assertTrue(numberOfCollidingPairs > ITERATIONS / 4, "Only " + numberOfCollidingPairs + " colliding pairs were tested.");
+   }
+
+   private static void assertSimplexEquals(String messagePrefix, GJKSimplex3D expected, GJKSimplex3D actual)
+   {
+      if (expected == null)
+      {
+         assertNull(actual, messagePrefix);
+         return;
+      }
+
+      assertEquals(expected.getNumberOfVertices(), actual.getNumberOfVertices(), messagePrefix);
+
+      for (int i = 0; i < expected.getNumberOfVertices(); i++)
+      {
+         GJKVertex3D expectedVertex = expected.getVertices()[i];
+         GJKVertex3D actualVertex = actual.getVertices()[i];
+         EuclidCoreTestTools.assertTuple3DEquals(messagePrefix, expectedVertex, actualVertex, 0.0);
+         EuclidCoreTestTools.assertTuple3DEquals(messagePrefix, expectedVertex.getVertexOnShapeA(), actualVertex.getVertexOnShapeA(), 0.0);
+         EuclidCoreTestTools.assertTuple3DEquals(messagePrefix, expectedVertex.getVertexOnShapeB(), actualVertex.getVertexOnShapeB(), 0.0);
+         assertEquals(expected.getBarycentricCoordinates()[i], actual.getBarycentricCoordinates()[i], messagePrefix);
+      }
+   }
+
+   @Test
+   void testGarbageFreeModeAllocations()
+   {
+      ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+      assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+      threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+      Random random = new Random(6723);
+      int numberOfPairs = 100;
+      SupportingVertexHolder[] shapesA = new SupportingVertexHolder[numberOfPairs];
+      SupportingVertexHolder[] shapesB = new SupportingVertexHolder[numberOfPairs];
+
+      for (int i = 0; i < numberOfPairs; i++)
+      {
+         shapesA[i] = nextGarbageFreeConvexShape3D(random);
+         shapesB[i] = nextGarbageFreeConvexShape3D(random);
+      }
+
+      GilbertJohnsonKeerthiCollisionDetector detector = new GilbertJohnsonKeerthiCollisionDetector();
+      detector.setGarbageFree(true);
+      EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+
+      // Warmup
+      evaluateCollisions(detector, shapesA, shapesB, result, 100);
+
+      long allocatedBytes = measureAllocatedBytes(threadMXBean, detector, shapesA, shapesB, result);
+      assertEquals(0L, allocatedBytes, "The garbage-free mode allocated " + allocatedBytes + " bytes.");
+
+      detector.setWarmStartCache(new GJKWarmStartCache());
+
+      // Warmup, creates the cache entries
+      evaluateCollisions(detector, shapesA, shapesB, result, 100);
+
+      allocatedBytes = measureAllocatedBytes(threadMXBean, detector, shapesA, shapesB, result);
+      assertEquals(0L, allocatedBytes, "The garbage-free mode with warm-start allocated " + allocatedBytes + " bytes.");
+   }
+
+   /**
+    * Measures the bytes allocated by the evaluation of the given pairs over a few windows and returns
+    * the smallest measurement.
+    * <p>
+    * The JVM allocates a few bytes when it links a call site that is first reached after a
+    * deoptimization. These one-off allocations only pollute a single window, while garbage generated
+    * by the detector shows up in every window.
+    * </p>
+    */
+   private static long measureAllocatedBytes(ThreadMXBean threadMXBean,
+                                             GilbertJohnsonKeerthiCollisionDetector detector,
+                                             SupportingVertexHolder[] shapesA,
+                                             SupportingVertexHolder[] shapesB,
+                                             EuclidShape3DCollisionResult result)
+   {
+      long threadId = Thread.currentThread().getId();
+      long minAllocatedBytes = Long.MAX_VALUE;
+
+      for (int i = 0; i < 5; i++)
+      {
+         long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+         evaluateCollisions(detector, shapesA, shapesB, result, 10);
+         minAllocatedBytes = Math.min(minAllocatedBytes, threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore);
+      }
+
+      return minAllocatedBytes;
+   }
+
+   private static void evaluateCollisions(GilbertJohnsonKeerthiCollisionDetector detector,
+                                          SupportingVertexHolder[] shapesA,
+                                          SupportingVertexHolder[] shapesB,
+                                          EuclidShape3DCollisionResult result,
+                                          int numberOfRounds)
+   {
+      for (int i = 0; i < numberOfRounds; i++)
+      {
+         for (int j = 0; j < shapesA.length; j++)
+            detector.evaluateCollision(shapesA[j], shapesB[j], result);
+      }
+   }
+
+   private static Shape3DBasics nextGarbageFreeConvexShape3D(Random random)
+   {
+      return useGarbageFreeIntermediateVariables(EuclidShapeRandomTools.nextConvexShape3D(random));
+   }
+
+   static Shape3DBasics useGarbageFreeIntermediateVariables(Shape3DBasics shape)
+   {
+      if (shape instanceof Box3DBasics)
+         ((Box3DBasics) shape).setIntermediateVariableSupplier(IntermediateVariableSupplier.garbageFreeIntermediateVariableSupplier());
+      else if (shape instanceof Ellipsoid3DBasics)
+         ((Ellipsoid3DBasics) shape).setIntermediateVariableSupplier(IntermediateVariableSupplier.garbageFreeIntermediateVariableSupplier());
+      else if (shape instanceof Ramp3DBasics)
+         ((Ramp3DBasics) shape).setIntermediateVariableSupplier(IntermediateVariableSupplier.garbageFreeIntermediateVariableSupplier());
+
+      return shape;
+   }
+
    private static <A extends Shape3DReadOnly, B extends Shape3DReadOnly> void assertAgainstAnalyticalFunction(Random random,
                                                                                                               AnalyticalShapeCollisionDetection<A, B> function,
                                                                                                               double distanceMaxEpsilon,
@@ -0,0 +1,190 @@
+package us.ihmc.euclid.shape.collision.broadPhase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.shape.collision.EuclidShape3DCollisionResult;
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.primitives.Box3D;
+import us.ihmc.euclid.shape.primitives.Sphere3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+
+public class BroadPhaseCollisionDetectorTest
+{
+   private static final int ITERATIONS = 20;
+
+   @Test
+   void testCandidatePairs()
+   {
+      Random random = new Random(4562);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         BroadPhaseCollisionDetector detector = new BroadPhaseCollisionDetector(random.nextDouble() * 0.1);
+         List<Shape3DBasics> shapes = new ArrayList<>();
+         int numberOfShapes = random.nextInt(100) + 2;
+
+         for (int j = 0; j < numberOfShapes; j++)
+         {
+            Shape3DBasics shape = EuclidShapeRandomTools.nextConvexShape3D(random, EuclidCoreRandomTools.nextPoint3D(random, 5.0));
+            shapes.add(shape);
+            assertTrue(detector.addShape(shape));
+            assertFalse(detector.addShape(shape));
+         }
+
+         assertEquals(numberOfShapes, detector.getNumberOfShapes());
+         assertEquals(bruteForceCandidatePairs(shapes), candidatePairs(detector));
+
+         // Moving the shapes around, the boxes notify the detector while the other shapes are updated at every call.
+         for (int j = 0; j < 5; j++)
+         {
+            for (Shape3DBasics shape : shapes)
+            {
+               if (random.nextBoolean())
+                  shape.applyTransform(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+            }
+
+            assertEquals(bruteForceCandidatePairs(shapes), candidatePairs(detector));
+         }
+
+         int numberOfRemovals = random.nextInt(numberOfShapes);
+
+         for (int j = 0; j < numberOfRemovals; j++)
+         {
+            Shape3DBasics shape = shapes.remove(random.nextInt(shapes.size()));
+            assertTrue(detector.containsShape(shape));
+            assertTrue(detector.removeShape(shape));
+            assertFalse(detector.containsShape(shape));
+            assertFalse(detector.removeShape(shape));
+         }
+
+         assertEquals(shapes.size(), detector.getNumberOfShapes());
+         assertEquals(bruteForceCandidatePairs(shapes), candidatePairs(detector));
+
+         detector.clear();
+         assertEquals(0, detector.getNumberOfShapes());
+         assertTrue(candidatePairs(detector).isEmpty());
+      }
+   }
+
+   @Test
+   void testChangeListener()
+   {
+      BroadPhaseCollisionDetector detector = new BroadPhaseCollisionDetector();
+      Box3D box = new Box3D(1.0, 1.0, 1.0);
+      Sphere3D sphere = new Sphere3D(0.5);
+      sphere.getPosition().set(3.0, 0.0, 0.0);
+      detector.addShape(box);
+      detector.addShape(sphere);
+      assertTrue(detector.findCandidatePairs().isEmpty());
+
+      // The box notifies the detector when its pose or its size changes.
+      box.getPosition().set(2.0, 0.0, 0.0);
+      assertEquals(1, detector.findCandidatePairs().size());
+      box.getPosition().set(0.0, 0.0, 0.0);
+      assertTrue(detector.findCandidatePairs().isEmpty());
+      box.getSize().setX(5.0);
+      assertEquals(1, detector.findCandidatePairs().size());
+
+      // Once removed, the box does not notify the detector anymore.
+      detector.removeShape(box);
+      box.getPosition().set(10.0, 0.0, 0.0);
+      assertTrue(detector.findCandidatePairs().isEmpty());
+   }
+
+   @Test
+   void testEvaluateCollisions()
+   {
+      Random random = new Random(89673);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         BroadPhaseCollisionDetector detector = new BroadPhaseCollisionDetector();
+         List<Shape3DBasics> shapes = new ArrayList<>();
+         int numberOfShapes = random.nextInt(50) + 2;
+
+         for (int j = 0; j < numberOfShapes; j++)
+         {
+            Shape3DBasics shape = EuclidShapeRandomTools.nextConvexShape3D(random, EuclidCoreRandomTools.nextPoint3D(random, 3.0));
+            shapes.add(shape);
+            detector.addShape(shape);
+         }
+
+         // Evaluating the collision for each pair in both orders, pairs that are barely touching may be reported differently.
+         ExpandingPolytopeAlgorithm narrowPhase = new ExpandingPolytopeAlgorithm();
+         Set<Set<Shape3DReadOnly>> collidingPairs = new HashSet<>();
+         Set<Set<Shape3DReadOnly>> possiblyCollidingPairs = new HashSet<>();
+
+         for (int j = 0; j < shapes.size(); j++)
+         {
+            for (int k = j + 1; k < shapes.size(); k++)
+            {
+               boolean collidingAB = narrowPhase.evaluateCollision(shapes.get(j), shapes.get(k)).areShapesColliding();
+               boolean collidingBA = narrowPhase.evaluateCollision(shapes.get(k), shapes.get(j)).areShapesColliding();
+
+               if (collidingAB && collidingBA)
+                  collidingPairs.add(newPair(shapes.get(j), shapes.get(k)));
+               if (collidingAB || collidingBA)
+                  possiblyCollidingPairs.add(newPair(shapes.get(j), shapes.get(k)));
+            }
+         }
+
+         List<EuclidShape3DCollisionResult> collisions = new ArrayList<>();
+         int numberOfCollisions = detector.evaluateCollisions(collisions);
+         assertEquals(collisions.size(), numberOfCollisions);
+
+         Set<Set<Shape3DReadOnly>> actualCollisions = new HashSet<>();
+         for (EuclidShape3DCollisionResult collision : collisions)
+         {
+            assertTrue(collision.areShapesColliding());
+            actualCollisions.add(newPair(collision.getShapeA(), collision.getShapeB()));
+         }
+
+         assertTrue(actualCollisions.containsAll(collidingPairs));
+         assertTrue(possiblyCollidingPairs.containsAll(actualCollisions));
+      }
+   }
+
+   private static Set<Set<Shape3DReadOnly>> bruteForceCandidatePairs(List<? extends Shape3DReadOnly> shapes)
+   {
+      Set<Set<Shape3DReadOnly>> pairs = new HashSet<>();
+
+      for (int i = 0; i < shapes.size(); i++)
+      {
+         for (int j = i + 1; j < shapes.size(); j++)
+         {
+            if (shapes.get(i).getBoundingBox().intersectsInclusive(shapes.get(j).getBoundingBox()))
+               pairs.add(newPair(shapes.get(i), shapes.get(j)));
+         }
+      }
+
+      return pairs;
+   }
+
+   private static Set<Set<Shape3DReadOnly>> candidatePairs(BroadPhaseCollisionDetector detector)
+   {
+      Set<Set<Shape3DReadOnly>> pairs = new HashSet<>();
+      detector.forEachCandidatePair((a, b) -> assertTrue(pairs.add(newPair(a, b))));
+      return pairs;
+   }
+
+   private static Set<Shape3DReadOnly> newPair(Shape3DReadOnly a, Shape3DReadOnly b)
+   {
+      Set<Shape3DReadOnly> pair = new HashSet<>();
+      pair.add(a);
+      pair.add(b);
+      return pair;
+   }
+}
@@ -0,0 +1,222 @@
+package us.ihmc.euclid.shape.collision.broadPhase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.shape.collision.broadPhase.DynamicAABBTree3D.Node;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class DynamicAABBTree3DTest
+{
+   private static final int ITERATIONS = 100;
+
+   @Test
+   void testAddAndQueryOverlappingPairs()
+   {
+      Random random = new Random(34536);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         DynamicAABBTree3D<Integer> tree = new DynamicAABBTree3D<>(random.nextDouble() * 0.1);
+         int numberOfBoxes = random.nextInt(200) + 1;
+         List<Node<Integer>> leaves = new ArrayList<>();
+
+         for (int j = 0; j < numberOfBoxes; j++)
+            leaves.add(tree.add(j, EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, 2.0)));
+
+         assertEquals(numberOfBoxes, tree.getNumberOfLeaves());
+         assertTreeIsValid(tree);
+         assertEquals(bruteForceOverlappingPairs(leaves), treeOverlappingPairs(tree));
+      }
+   }
+
+   @Test
+   void testUpdateAndRemove()
+   {
+      Random random = new Random(2346);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         double margin = random.nextDouble() * 0.1;
+         DynamicAABBTree3D<Integer> tree = new DynamicAABBTree3D<>(margin);
+         int numberOfBoxes = random.nextInt(200) + 2;
+         List<Node<Integer>> leaves = new ArrayList<>();
+         List<BoundingBox3D> boxes = new ArrayList<>();
+
+         for (int j = 0; j < numberOfBoxes; j++)
+         {
+            BoundingBox3D box = EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, 2.0);
+            boxes.add(box);
+            leaves.add(tree.add(j, box));
+         }
+
+         for (int j = 0; j < 10 * numberOfBoxes; j++)
+         {
+            int index = random.nextInt(leaves.size());
+            BoundingBox3D box = boxes.get(index);
+            Vector3D translation = EuclidCoreRandomTools.nextVector3D(random, random.nextBoolean() ? 0.5 * margin : 1.0);
+            box.getMinPoint().add(translation);
+            box.getMaxPoint().add(translation);
+            boolean expectedReinsertion = !(leaves.get(index).getBoundingBox().isInsideInclusive(box.getMinPoint())
+                  && leaves.get(index).getBoundingBox().isInsideInclusive(box.getMaxPoint()));
+            assertEquals(expectedReinsertion, tree.update(leaves.get(index), box));
+            assertTrue(leaves.get(index).getBoundingBox().isInsideInclusive(box.getMinPoint()));
+            assertTrue(leaves.get(index).getBoundingBox().isInsideInclusive(box.getMaxPoint()));
+         }
+
+         assertTreeIsValid(tree);
+         assertEquals(bruteForceOverlappingPairs(leaves), treeOverlappingPairs(tree));
+
+         int numberOfRemovals = random.nextInt(numberOfBoxes);
+
+         for (int j = 0; j < numberOfRemovals; j++)
+         {
+            int index = random.nextInt(leaves.size());
+            Node<Integer> removed = leaves.remove(index);
+            boxes.remove(index);
+            tree.remove(removed);
+            assertThrows(IllegalArgumentException.class, () -> tree.remove(removed));
+            assertThrows(IllegalArgumentException.class, () -> tree.update(removed, removed.getBoundingBox()));
+         }
+
+         assertEquals(leaves.size(), tree.getNumberOfLeaves());
+         assertTreeIsValid(tree);
+         assertEquals(bruteForceOverlappingPairs(leaves), treeOverlappingPairs(tree));
+      }
+
+      DynamicAABBTree3D<Integer> tree = new DynamicAABBTree3D<>();
+      Node<Integer> leaf = tree.add(0, new BoundingBox3D(0.0, 0.0, 0.0, 1.0, 1.0, 1.0));
+      assertSame(leaf, tree.getRoot());
+      assertEquals(0, tree.getHeight());
+      tree.remove(leaf);
+      assertNull(tree.getRoot());
+      assertEquals(-1, tree.getHeight());
+      assertEquals(0, tree.getNumberOfLeaves());
+   }
+
+   @Test
+   void testQuery()
+   {
+      Random random = new Random(7854);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         DynamicAABBTree3D<Integer> tree = new DynamicAABBTree3D<>(random.nextDouble() * 0.1);
+         int numberOfBoxes = random.nextInt(200) + 1;
+         List<Node<Integer>> leaves = new ArrayList<>();
+
+         for (int j = 0; j < numberOfBoxes; j++)
+            leaves.add(tree.add(j, EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, 2.0)));
+
+         BoundingBox3D query = EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, 5.0);
+         Set<Integer> expected = new HashSet<>();
+         for (Node<Integer> leaf : leaves)
+         {
+            if (leaf.getBoundingBox().intersectsInclusive(query))
+               expected.add(leaf.getObject());
+         }
+
+         Set<Integer> actual = new HashSet<>();
+         tree.query(query, object -> assertTrue(actual.add(object)));
+         assertEquals(expected, actual);
+      }
+   }
+
+   @Test
+   void testBalance()
+   { // Adding boxes sorted along a line is the worst case for an unbalanced tree.
+      DynamicAABBTree3D<Integer> tree = new DynamicAABBTree3D<>(0.0);
+      int numberOfBoxes = 1024;
+
+      for (int i = 0; i < numberOfBoxes; i++)
+         tree.add(i, new BoundingBox3D(i, 0.0, 0.0, i + 0.5, 1.0, 1.0));
+
+      assertTreeIsValid(tree);
+      assertTrue(tree.getHeight() <= 2 * 10, "Tree height: " + tree.getHeight());
+   }
+
+   private static Set<Set<Integer>> bruteForceOverlappingPairs(List<Node<Integer>> leaves)
+   {
+      Set<Set<Integer>> pairs = new HashSet<>();
+
+      for (int i = 0; i < leaves.size(); i++)
+      {
+         for (int j = i + 1; j < leaves.size(); j++)
+         {
+            if (leaves.get(i).getBoundingBox().intersectsInclusive(leaves.get(j).getBoundingBox()))
+               pairs.add(newPair(leaves.get(i).getObject(), leaves.get(j).getObject()));
+         }
+      }
+
+      return pairs;
+   }
+
+   private static Set<Set<Integer>> treeOverlappingPairs(DynamicAABBTree3D<Integer> tree)
+   {
+      Set<Set<Integer>> pairs = new HashSet<>();
+      tree.queryOverlappingPairs((a, b) ->
+      {
+         assertFalse(a.equals(b));
+         assertTrue(pairs.add(newPair(a, b)), "Pair reported twice: " + a + ", " + b);
+      });
+      return pairs;
+   }
+
+   private static Set<Integer> newPair(Integer a, Integer b)
+   {
+      Set<Integer> pair = new HashSet<>();
+      pair.add(a);
+      pair.add(b);
+      return pair;
+   }
+
+   private static void assertTreeIsValid(DynamicAABBTree3D<?> tree)
+   {
+      if (tree.getRoot() == null)
+      {
+         assertEquals(0, tree.getNumberOfLeaves());
+         return;
+      }
+
+      assertNull(tree.getRoot().getParent());
+      assertEquals(tree.getNumberOfLeaves(), assertNodeIsValid(tree.getRoot()));
+   }
+
+   private static int assertNodeIsValid(Node<?> node)
+   {
+      if (node.isLeaf())
+      {
+         assertNull(node.getChild2());
+         assertEquals(0, node.getHeight());
+         return 1;
+      }
+
+      Node<?> child1 = node.getChild1();
+      Node<?> child2 = node.getChild2();
+      assertSame(node, child1.getParent());
+      assertSame(node, child2.getParent());
+      assertNull(node.getObject());
+      assertEquals(1 + Math.max(child1.getHeight(), child2.getHeight()), node.getHeight());
+
+      BoundingBox3D expectedBoundingBox = new BoundingBox3D();
+      expectedBoundingBox.combine(child1.getBoundingBox(), child2.getBoundingBox());
+      assertEquals(expectedBoundingBox, node.getBoundingBox());
+
+      return assertNodeIsValid(child1) + assertNodeIsValid(child2);
+   }
+}
@@ -0,0 +1,232 @@
+package us.ihmc.euclid.shape.convexPolytope.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.shape.convexPolytope.ConvexPolytope3D;
+import us.ihmc.euclid.shape.convexPolytope.impl.AbstractConvexPolytope3D;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.ConvexPolytope3DReadOnly;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+public class SupportingVertexHierarchyTest
+{
+   private static final int ITERATIONS = 1000;
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   void testGetSupportingVertex()
+   {
+      Random random = new Random(3453);
+      List<ConvexPolytope3D> polytopes = new ArrayList<>();
+
+      for (int recursionLevel = 2; recursionLevel <= 4; recursionLevel++)
+         polytopes.add(EuclidPolytopeFactories.newIcoSphere(1.0, recursionLevel));
+      polytopes.add(EuclidPolytopeFactories.newCylinder(1.0, 0.5, 128));
+      polytopes.add(EuclidPolytopeFactories.newCone(1.0, 0.5, 128));
+      polytopes.add(nextPointCloudBasedPolytope(random, 2000));
+
+      for (ConvexPolytope3D polytope : polytopes)
+      {
+         SupportingVertexHierarchy hierarchy = new SupportingVertexHierarchy(polytope);
+
+         assertEquals(polytope.getNumberOfVertices(), hierarchy.getNumberOfVertices(0));
+         assertTrue(hierarchy.getNumberOfLevels() > 1);
+
+         for (int level = 1; level < hierarchy.getNumberOfLevels(); level++)
+         {
+            assertTrue(hierarchy.getNumberOfVertices(level) < hierarchy.getNumberOfVertices(level - 1));
+
+            for (Vertex3DReadOnly vertex : hierarchy.getVertices(level))
+               assertTrue(hierarchy.getVertices(level - 1).contains(vertex));
+         }
+
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            Vector3D supportDirection = EuclidCoreRandomTools.nextVector3D(random);
+            assertSupportingVertex(polytope, supportDirection, hierarchy.getSupportingVertex(supportDirection));
+            assertSupportingVertex(polytope, supportDirection, polytope.getSupportingVertex(supportDirection));
+         }
+
+         // The hierarchy only refers to the vertices, it remains valid after transforming the polytope.
+         polytope.applyTransform(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            Vector3D supportDirection = EuclidCoreRandomTools.nextVector3D(random);
+            assertSupportingVertex(polytope, supportDirection, hierarchy.getSupportingVertex(supportDirection));
+         }
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> new SupportingVertexHierarchy(new ConvexPolytope3D()));
+   }
+
+   @Test
+   void testPolytopeHierarchyLifecycle()
+   {
+      Random random = new Random(4366);
+
+      ConvexPolytope3D smallPolytope = EuclidPolytopeFactories.newIcoSphere(1.0, 1);
+      assertTrue(smallPolytope.getNumberOfVertices() < AbstractConvexPolytope3D.SUPPORTING_VERTEX_HIERARCHY_THRESHOLD);
+      assertNull(smallPolytope.getSupportingVertexHierarchy());
+
+      ConvexPolytope3D polytope = EuclidPolytopeFactories.newIcoSphere(1.0, 3);
+      SupportingVertexHierarchy hierarchy = polytope.getSupportingVertexHierarchy();
+      assertNotNull(hierarchy);
+      assertSame(hierarchy, polytope.getSupportingVertexHierarchy());
+
+      // Modifying the polytope discards the hierarchy.
+      polytope.addVertex(new Point3D(2.0, 0.0, 0.0));
+      SupportingVertexHierarchy newHierarchy = polytope.getSupportingVertexHierarchy();
+      assertNotSame(hierarchy, newHierarchy);
+      assertEquals(polytope.getNumberOfVertices(), newHierarchy.getNumberOfVertices(0));
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Vector3D supportDirection = EuclidCoreRandomTools.nextVector3D(random);
+         assertSupportingVertex(polytope, supportDirection, polytope.getSupportingVertex(supportDirection));
+      }
+
+      polytope.clear();
+      assertNull(polytope.getSupportingVertexHierarchy());
+   }
+
+   @Test
+   void testConcurrentQueries() throws Exception
+   {
+      Random random = new Random(7456);
+      ConvexPolytope3D polytope = nextPointCloudBasedPolytope(random, 2000);
+      int numberOfThreads = 8;
+      AtomicInteger numberOfFailures = new AtomicInteger();
+      Thread[] threads = new Thread[numberOfThreads];
+
+      for (int threadIndex = 0; threadIndex < numberOfThreads; threadIndex++)
+      {
+         long seed = random.nextLong();
+         threads[threadIndex] = new Thread(() ->
+         {
+            Random threadRandom = new Random(seed);
+            SupportingVertexSeed supportingVertexSeed = new SupportingVertexSeed(polytope);
+
+            for (int i = 0; i < 10 * ITERATIONS; i++)
+            {
+               Vector3D supportDirection = EuclidCoreRandomTools.nextVector3D(threadRandom);
+               double expected = maxDotProduct(polytope, supportDirection);
+
+               if (Math.abs(expected - polytope.getSupportingVertex(supportDirection).dot(supportDirection)) > EPSILON)
+                  numberOfFailures.incrementAndGet();
+               if (Math.abs(expected - supportingVertexSeed.getSupportingVertex(supportDirection).dot(supportDirection)) > EPSILON)
+                  numberOfFailures.incrementAndGet();
+            }
+         });
+      }
+
+      for (Thread thread : threads)
+         thread.start();
+      for (Thread thread : threads)
+         thread.join();
+
+      assertEquals(0, numberOfFailures.get());
+   }
+
+   @Test
+   void testSupportingVertexSeed()
+   {
+      Random random = new Random(2345);
+      List<ConvexPolytope3D> polytopes = new ArrayList<>();
+      polytopes.add(EuclidPolytopeFactories.newIcoSphere(1.0, 1));
+      polytopes.add(EuclidPolytopeFactories.newIcoSphere(1.0, 4));
+      polytopes.add(nextPointCloudBasedPolytope(random, 1000));
+
+      for (ConvexPolytope3D polytope : polytopes)
+      {
+         SupportingVertexSeed seed = new SupportingVertexSeed(polytope);
+         assertSame(polytope, seed.getPolytope());
+         assertNull(seed.getSeed());
+
+         // Slowly rotating direction, as when tracking a moving shape.
+         Vector3D supportDirection = EuclidCoreRandomTools.nextVector3D(random);
+         Point3D supportingVertex = new Point3D();
+
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            supportDirection.add(EuclidCoreRandomTools.nextVector3D(random, 0.05));
+            Vertex3DReadOnly vertex = seed.getSupportingVertex(supportDirection);
+            assertSupportingVertex(polytope, supportDirection, vertex);
+            assertSame(vertex, seed.getSeed());
+            assertTrue(seed.getSupportingVertex(supportDirection, supportingVertex));
+            assertTrue(vertex.equals(supportingVertex));
+         }
+
+         // Arbitrary directions.
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            supportDirection = EuclidCoreRandomTools.nextVector3D(random);
+            assertSupportingVertex(polytope, supportDirection, seed.getSupportingVertex(supportDirection));
+         }
+
+         seed.reset();
+         assertNull(seed.getSeed());
+
+         // The seed is automatically reset when the polytope changes.
+         assertNotNull(seed.getSupportingVertex(new Vector3D(1.0, 0.0, 0.0)));
+         polytope.addVertex(new Point3D(10.0, 0.0, 0.0));
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            supportDirection = EuclidCoreRandomTools.nextVector3D(random);
+            assertSupportingVertex(polytope, supportDirection, seed.getSupportingVertex(supportDirection));
+         }
+         // Setting the same polytope preserves the seed.
+         Vertex3DReadOnly lastSeed = seed.getSeed();
+         seed.setPolytope(polytope);
+         assertSame(lastSeed, seed.getSeed());
+
+         polytope.clear();
+         assertNull(seed.getSupportingVertex(supportDirection));
+         assertTrue(!seed.getSupportingVertex(supportDirection, supportingVertex));
+      }
+   }
+
+   private static ConvexPolytope3D nextPointCloudBasedPolytope(Random random, int numberOfPoints)
+   {
+      List<Point3D> points = new ArrayList<>();
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         Point3D point = new Point3D(EuclidCoreRandomTools.nextVector3DWithFixedLength(random, EuclidCoreRandomTools.nextDouble(random, 0.95, 1.0)));
+         point.add(1.0, -2.0, 0.5);
+         points.add(point);
+      }
+
+      return new ConvexPolytope3D(Vertex3DSupplier.asVertex3DSupplier(points));
+   }
+
+   private static double maxDotProduct(ConvexPolytope3DReadOnly polytope, Vector3DReadOnly supportDirection)
+   {
+      double max = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < polytope.getNumberOfVertices(); i++)
+         max = Math.max(max, polytope.getVertex(i).dot(supportDirection));
+      return max;
+   }
+
+   private static void assertSupportingVertex(ConvexPolytope3DReadOnly polytope, Vector3DReadOnly supportDirection, Vertex3DReadOnly actual)
+   {
+      assertEquals(maxDotProduct(polytope, supportDirection), actual.dot(supportDirection), EPSILON);
+   }
+}
@@ -0,0 +1,187 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.interfaces.AffineTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class BulkTransformToolsTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testTransformPointsRigidBodyTransform() throws Exception
+   {
+      Random random = new Random(34657);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         for (RigidBodyTransformReadOnly transform : nextRigidBodyTransforms(random))
+         {
+            List<Point3D> original = nextPoints(random);
+            double[] packedOriginal = pack(original, 0);
+
+            List<Point3D> expected = new ArrayList<>();
+            for (Point3D point : original)
+            {
+               Point3D transformed = new Point3D();
+               transform.transform(point, transformed);
+               expected.add(transformed);
+            }
+
+            // List variant
+            List<Point3D> actual = copy(original);
+            BulkTransformTools.transformPoints(transform, actual);
+            assertPointsEqual(expected, actual, EPSILON);
+
+            // Array variant in place
+            double[] packedActual = packedOriginal.clone();
+            BulkTransformTools.transformPoints(transform, packedActual, 0, packedActual, 0, original.size());
+            assertPointsEqual(expected, packedActual, 0, EPSILON);
+
+            // Array variant with offsets
+            int originalStartIndex = random.nextInt(10);
+            int transformedStartIndex = random.nextInt(10);
+            double[] packedOffset = pack(original, originalStartIndex);
+            packedActual = new double[transformedStartIndex + packedOriginal.length];
+            BulkTransformTools.transformPoints(transform, packedOffset, originalStartIndex, packedActual, transformedStartIndex, original.size());
+            assertPointsEqual(expected, packedActual, transformedStartIndex, EPSILON);
+            // The original points should not have been modified.
+            assertPointsEqual(original, packedOffset, originalStartIndex, 0.0);
+         }
+      }
+   }
+
+   @Test
+   public void testTransformPointsAffineTransform() throws Exception
+   {
+      Random random = new Random(7453);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         AffineTransform withTranslationOnly = new AffineTransform();
+         withTranslationOnly.getTranslation().set(EuclidCoreRandomTools.nextVector3D(random));
+         AffineTransform withoutTranslation = EuclidCoreRandomTools.nextAffineTransform(random);
+         withoutTranslation.getTranslation().setToZero();
+         AffineTransformReadOnly[] transforms = {EuclidCoreRandomTools.nextAffineTransform(random), withTranslationOnly, withoutTranslation,
+               new AffineTransform()};
+
+         for (AffineTransformReadOnly transform : transforms)
+         {
+            List<Point3D> original = nextPoints(random);
+
+            List<Point3D> expected = new ArrayList<>();
+            for (Point3D point : original)
+            {
+               Point3D transformed = new Point3D();
+               transform.transform(point, transformed);
+               expected.add(transformed);
+            }
+
+            List<Point3D> actual = copy(original);
+            transform.transformPoints(actual);
+            assertPointsEqual(expected, actual, EPSILON);
+
+            double[] packedActual = pack(original, 0);
+            transform.transformPoints(packedActual);
+            assertPointsEqual(expected, packedActual, 0, EPSILON);
+
+            int originalStartIndex = random.nextInt(10);
+            int transformedStartIndex = random.nextInt(10);
+            double[] packedOffset = pack(original, originalStartIndex);
+            packedActual = new double[transformedStartIndex + 3 * original.size()];
+            transform.transformPoints(packedOffset, originalStartIndex, packedActual, transformedStartIndex, original.size());
+            assertPointsEqual(expected, packedActual, transformedStartIndex, EPSILON);
+         }
+      }
+   }
+
+   @Test
+   public void testArrayLengthChecks() throws Exception
+   {
+      Random random = new Random(2345);
+      RigidBodyTransform rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      AffineTransform affineTransform = EuclidCoreRandomTools.nextAffineTransform(random);
+
+      assertThrows(IllegalArgumentException.class, () -> rigidBodyTransform.transformPoints(new double[7]));
+      assertThrows(IllegalArgumentException.class, () -> affineTransform.transformPoints(new double[8]));
+      assertThrows(IllegalArgumentException.class, () -> rigidBodyTransform.transformPoints(new double[9], 1, new double[9], 0, 3));
+      assertThrows(IllegalArgumentException.class, () -> rigidBodyTransform.transformPoints(new double[9], 0, new double[9], 1, 3));
+      assertThrows(IllegalArgumentException.class, () -> affineTransform.transformPoints(new double[9], 1, new double[9], 0, 3));
+      assertThrows(IllegalArgumentException.class, () -> affineTransform.transformPoints(new double[9], 0, new double[9], 1, 3));
+
+      // Empty inputs are fine.
+      rigidBodyTransform.transformPoints(new double[0]);
+      affineTransform.transformPoints(new double[0]);
+      rigidBodyTransform.transformPoints(new ArrayList<Point3D>());
+      affineTransform.transformPoints(new ArrayList<Point3D>());
+   }
+
+   private static RigidBodyTransformReadOnly[] nextRigidBodyTransforms(Random random)
+   {
+      RigidBodyTransform withTranslationOnly = new RigidBodyTransform();
+      withTranslationOnly.getTranslation().set(EuclidCoreRandomTools.nextVector3D(random));
+      RigidBodyTransform withoutTranslation = new RigidBodyTransform();
+      withoutTranslation.getRotation().set(EuclidCoreRandomTools.nextRotationMatrix(random));
+      RigidBodyTransform yawOnly = new RigidBodyTransform();
+      yawOnly.getRotation().setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+      yawOnly.getTranslation().set(EuclidCoreRandomTools.nextVector3D(random));
+
+      return new RigidBodyTransformReadOnly[] {EuclidCoreRandomTools.nextRigidBodyTransform(random), EuclidCoreRandomTools.nextQuaternionBasedTransform(random),
+            new QuaternionBasedTransform(withTranslationOnly), withTranslationOnly, withoutTranslation, yawOnly, new RigidBodyTransform()};
+   }
+
+   private static List<Point3D> nextPoints(Random random)
+   {
+      int numberOfPoints = random.nextInt(50);
+      List<Point3D> points = new ArrayList<>();
+      for (int i = 0; i < numberOfPoints; i++)
+         points.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+      return points;
+   }
+
+   private static List<Point3D> copy(List<Point3D> points)
+   {
+      List<Point3D> copy = new ArrayList<>();
+      for (Point3D point : points)
+         copy.add(new Point3D(point));
+      return copy;
+   }
+
+   private static double[] pack(List<Point3D> points, int startIndex)
+   {
+      double[] packed = new double[startIndex + 3 * points.size()];
+      for (int i = 0; i < points.size(); i++)
+         points.get(i).get(startIndex + 3 * i, packed);
+      return packed;
+   }
+
+   private static void assertPointsEqual(List<Point3D> expected, List<Point3D> actual, double epsilon)
+   {
+      assertEquals(expected.size(), actual.size());
+      for (int i = 0; i < expected.size(); i++)
+         EuclidCoreTestTools.assertTuple3DEquals(expected.get(i), actual.get(i), epsilon);
+   }
+
+   private static void assertPointsEqual(List<Point3D> expected, double[] actual, int startIndex, double epsilon)
+   {
+      for (int i = 0; i < expected.size(); i++)
+      {
+         Point3D actualPoint = new Point3D();
+         actualPoint.set(startIndex + 3 * i, actual);
+         EuclidCoreTestTools.assertTuple3DEquals(expected.get(i), actualPoint, epsilon);
+      }
+   }
+}
@@ -0,0 +1,170 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DBuffer;
+
+public class BulkTupleToolsTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testDotAndCross() throws Exception
+   {
+      Random random = new Random(3466);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Vector3D> a = nextVectors(random, random.nextInt(50) + 1);
+         List<Vector3D> b = nextVectors(random, a.size());
+         int startIndex = random.nextInt(5);
+         double[][] packedA = pack(a, startIndex);
+         double[][] packedB = pack(b, startIndex);
+
+         double[] dots = new double[startIndex + a.size()];
+         BulkTupleTools.dot(packedA[0], packedA[1], packedA[2], packedB[0], packedB[1], packedB[2], dots, startIndex, a.size());
+
+         double[][] crosses = new double[3][startIndex + a.size()];
+         BulkTupleTools.cross(packedA[0], packedA[1], packedA[2], packedB[0], packedB[1], packedB[2], crosses[0], crosses[1], crosses[2], startIndex, a.size());
+
+         for (int j = 0; j < a.size(); j++)
+         {
+            assertEquals(a.get(j).dot(b.get(j)), dots[startIndex + j], EPSILON);
+
+            Vector3D expected = new Vector3D();
+            expected.cross(a.get(j), b.get(j));
+            EuclidCoreTestTools.assertTuple3DEquals(expected, unpack(crosses, startIndex + j), EPSILON);
+         }
+
+         // Result stored in one of the inputs
+         BulkTupleTools.cross(packedA[0], packedA[1], packedA[2], packedB[0], packedB[1], packedB[2], packedA[0], packedA[1], packedA[2], startIndex, a.size());
+
+         for (int j = 0; j < a.size(); j++)
+            EuclidCoreTestTools.assertTuple3DEquals(unpack(crosses, startIndex + j), unpack(packedA, startIndex + j), EPSILON);
+
+         // Same using the buffers
+         Vector3DBuffer bufferA = toBuffer(a);
+         Vector3DBuffer bufferB = toBuffer(b);
+         double[] bufferDots = new double[a.size()];
+         bufferA.dot(bufferB, bufferDots);
+         Vector3DBuffer bufferCross = new Vector3DBuffer(0);
+         bufferA.cross(bufferB, bufferCross);
+         assertEquals(a.size(), bufferCross.size());
+
+         for (int j = 0; j < a.size(); j++)
+         {
+            assertEquals(dots[startIndex + j], bufferDots[j], EPSILON);
+            EuclidCoreTestTools.assertTuple3DEquals(unpack(crosses, startIndex + j), bufferCross.get(j), EPSILON);
+         }
+
+         bufferB.add(0.0, 0.0, 0.0);
+         assertThrows(IllegalArgumentException.class, () -> bufferA.dot(bufferB, bufferDots));
+         assertThrows(IllegalArgumentException.class, () -> bufferA.dot(bufferA, new double[a.size() - 1]));
+      }
+   }
+
+   @Test
+   public void testNormAndNormalize() throws Exception
+   {
+      Random random = new Random(2353);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Vector3D> vectors = nextVectors(random, random.nextInt(50) + 1);
+         int startIndex = random.nextInt(5);
+         double[][] packed = pack(vectors, startIndex);
+
+         double[] norms = new double[startIndex + vectors.size()];
+         BulkTupleTools.norm(packed[0], packed[1], packed[2], norms, startIndex, vectors.size());
+         BulkTupleTools.normalize(packed[0], packed[1], packed[2], startIndex, vectors.size());
+
+         Vector3DBuffer buffer = toBuffer(vectors);
+         buffer.normalizeAll();
+
+         for (int j = 0; j < vectors.size(); j++)
+         {
+            assertEquals(vectors.get(j).length(), norms[startIndex + j], EPSILON);
+            Vector3D expected = new Vector3D(vectors.get(j));
+            expected.normalize();
+            EuclidCoreTestTools.assertTuple3DEquals(expected, unpack(packed, startIndex + j), EPSILON);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, buffer.get(j), EPSILON);
+         }
+      }
+
+      double[] zero = {0.0};
+      BulkTupleTools.normalize(zero, zero.clone(), zero.clone(), 0, 1);
+      assertTrue(Double.isNaN(zero[0]));
+
+      assertThrows(IllegalArgumentException.class, () -> BulkTupleTools.normalize(new double[2], new double[2], new double[1], 0, 2));
+      assertThrows(IllegalArgumentException.class, () -> BulkTupleTools.normalize(new double[2], new double[2], new double[2], -1, 2));
+   }
+
+   @Test
+   public void testScaleAdd() throws Exception
+   {
+      Random random = new Random(6457);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Vector3D> a = nextVectors(random, random.nextInt(50) + 1);
+         List<Vector3D> b = nextVectors(random, a.size());
+         int startIndex = random.nextInt(5);
+         double[][] packedA = pack(a, startIndex);
+         double[][] packedB = pack(b, startIndex);
+         double scale = EuclidCoreRandomTools.nextDouble(random, 10.0);
+
+         BulkTupleTools.scaleAdd(scale, packedA[0], packedA[1], packedA[2], packedB[0], packedB[1], packedB[2], startIndex, a.size());
+
+         for (int j = 0; j < a.size(); j++)
+         {
+            Vector3D expected = new Vector3D();
+            expected.scaleAdd(scale, a.get(j), b.get(j));
+            EuclidCoreTestTools.assertTuple3DEquals(expected, unpack(packedB, startIndex + j), EPSILON);
+            EuclidCoreTestTools.assertTuple3DEquals(a.get(j), unpack(packedA, startIndex + j), 0.0);
+         }
+      }
+   }
+
+   private static List<Vector3D> nextVectors(Random random, int numberOfVectors)
+   {
+      List<Vector3D> vectors = new ArrayList<>();
+      for (int i = 0; i < numberOfVectors; i++)
+         vectors.add(EuclidCoreRandomTools.nextVector3D(random, 10.0));
+      return vectors;
+   }
+
+   private static double[][] pack(List<Vector3D> vectors, int startIndex)
+   {
+      double[][] packed = new double[3][startIndex + vectors.size()];
+
+      for (int i = 0; i < vectors.size(); i++)
+      {
+         packed[0][startIndex + i] = vectors.get(i).getX();
+         packed[1][startIndex + i] = vectors.get(i).getY();
+         packed[2][startIndex + i] = vectors.get(i).getZ();
+      }
+      return packed;
+   }
+
+   private static Vector3D unpack(double[][] packed, int index)
+   {
+      return new Vector3D(packed[0][index], packed[1][index], packed[2][index]);
+   }
+
+   private static Vector3DBuffer toBuffer(List<Vector3D> vectors)
+   {
+      Vector3DBuffer buffer = new Vector3DBuffer();
+      buffer.addAll(vectors);
+      return buffer;
+   }
+}
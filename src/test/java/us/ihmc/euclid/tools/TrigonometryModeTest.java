@@ -0,0 +1,327 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Random;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.rotationConversion.QuaternionConversion;
+import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
+import us.ihmc.euclid.rotationConversion.YawPitchRollConversion;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class TrigonometryModeTest
+{
+   private static final int NUMBER_OF_SAMPLES = 1000000;
+
+   @Test
+   public void testDefaultMode()
+   {
+      String property = System.getProperty(TrigonometryMode.PROPERTY_NAME);
+
+      if (property == null)
+         assertEquals(TrigonometryMode.STRICT, EuclidCoreTools.getTrigonometryMode());
+      else
+         assertTrue(EuclidCoreTools.getTrigonometryMode().name().equalsIgnoreCase(property.trim()));
+   }
+
+   @Test
+   public void testFromSystemProperty()
+   {
+      String property = System.getProperty(TrigonometryMode.PROPERTY_NAME);
+
+      try
+      {
+         System.clearProperty(TrigonometryMode.PROPERTY_NAME);
+         assertEquals(TrigonometryMode.STRICT, TrigonometryMode.fromSystemProperty());
+
+         for (TrigonometryMode mode : TrigonometryMode.values())
+         {
+            System.setProperty(TrigonometryMode.PROPERTY_NAME, mode.name().toLowerCase());
+            assertEquals(mode, TrigonometryMode.fromSystemProperty());
+         }
+
+         System.setProperty(TrigonometryMode.PROPERTY_NAME, "sloppy");
+         assertEquals(TrigonometryMode.STRICT, TrigonometryMode.fromSystemProperty());
+      }
+      finally
+      {
+         if (property == null)
+            System.clearProperty(TrigonometryMode.PROPERTY_NAME);
+         else
+            System.setProperty(TrigonometryMode.PROPERTY_NAME, property);
+      }
+   }
+
+   @Test
+   public void testAccuracy()
+   {
+      for (TrigonometryMode mode : TrigonometryMode.values())
+      {
+         // Max error in ulps of the result w.r.t. StrictMath.
+         double ulpTolerance = mode == TrigonometryMode.STRICT ? 0.0 : 4.0;
+
+         assertUnaryAccuracy(mode.name() + ".sin", mode::sin, StrictMath::sin, -2.0 * Math.PI, 2.0 * Math.PI, ulpTolerance);
+         assertUnaryAccuracy(mode.name() + ".cos", mode::cos, StrictMath::cos, -2.0 * Math.PI, 2.0 * Math.PI, ulpTolerance);
+         assertUnaryAccuracy(mode.name() + ".tan", mode::tan, StrictMath::tan, -0.49 * Math.PI, 0.49 * Math.PI, ulpTolerance);
+         assertUnaryAccuracy(mode.name() + ".asin", mode::asin, StrictMath::asin, -1.0, 1.0, ulpTolerance);
+         assertUnaryAccuracy(mode.name() + ".acos", mode::acos, StrictMath::acos, -1.0, 1.0, ulpTolerance);
+         assertUnaryAccuracy(mode.name() + ".atan", mode::atan, StrictMath::atan, -100.0, 100.0, ulpTolerance);
+         assertBinaryAccuracy(mode.name() + ".atan2", mode::atan2, StrictMath::atan2, ulpTolerance);
+
+         // The absolute error of sin/cos grows with the angle in the approximate mode.
+         assertAbsoluteAccuracy(mode.name() + ".sin", mode::sin, StrictMath::sin, PolynomialTrigonometry.MAX_REDUCED_ANGLE, 1.0e-11);
+         assertAbsoluteAccuracy(mode.name() + ".cos", mode::cos, StrictMath::cos, PolynomialTrigonometry.MAX_REDUCED_ANGLE, 1.0e-11);
+      }
+   }
+
+   @Test
+   public void testSinCos()
+   {
+      Random random = new Random(3466);
+      double[] sinCos = new double[3];
+
+      for (TrigonometryMode mode : TrigonometryMode.values())
+      {
+         for (int i = 0; i < NUMBER_OF_SAMPLES; i++)
+         {
+            double angle = EuclidCoreRandomTools.nextDouble(random, 1.0e3);
+            mode.sinCos(angle, sinCos, 1);
+            assertEquals(mode.sin(angle), sinCos[1]);
+            assertEquals(mode.cos(angle), sinCos[2]);
+         }
+
+         double[] values = {0.0, -0.0, 2.0 * PolynomialTrigonometry.MAX_REDUCED_ANGLE, Double.POSITIVE_INFINITY, Double.NaN};
+
+         for (double value : values)
+         {
+            mode.sinCos(value, sinCos, 0);
+            assertEquals(mode.sin(value), sinCos[0]);
+            assertEquals(mode.cos(value), sinCos[1]);
+         }
+      }
+   }
+
+   @Test
+   public void testEdgeCases()
+   {
+      double[] values = {0.0, -0.0, 1.0, -1.0, 0.5 * Math.PI, -0.5 * Math.PI, Math.PI, -Math.PI, 2.0 * PolynomialTrigonometry.MAX_REDUCED_ANGLE, 1.0e300,
+            Double.MIN_VALUE, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, 1.0 + Math.ulp(1.0), -1.0 - Math.ulp(1.0)};
+
+      for (TrigonometryMode mode : TrigonometryMode.values())
+      {
+         for (double value : values)
+         {
+            assertClose(StrictMath.sin(value), mode.sin(value));
+            assertClose(StrictMath.cos(value), mode.cos(value));
+            assertClose(StrictMath.asin(value), mode.asin(value));
+            assertClose(StrictMath.acos(value), mode.acos(value));
+            assertClose(StrictMath.atan(value), mode.atan(value));
+
+            for (double other : values)
+               assertClose(StrictMath.atan2(value, other), mode.atan2(value, other));
+         }
+      }
+   }
+
+   @Test
+   public void testConversionAccuracy() throws Exception
+   {
+      // The mode is selected when EuclidCoreTools is initialized, each mode is tested in a separate class loader.
+      double[] expected = convertWithMode(TrigonometryMode.STRICT.name());
+
+      for (String property : new String[] {"strict", "fast", "approximate", "sloppy"})
+      {
+         double[] actual = convertWithMode(property);
+         TrigonometryMode expectedMode = property.equals("sloppy") ? TrigonometryMode.STRICT : TrigonometryMode.valueOf(property.toUpperCase());
+         assertEquals(expectedMode.ordinal(), (int) actual[0]);
+
+         for (int i = 0; i < ConversionAccuracy.NUMBER_OF_CONVERSIONS; i++)
+         {
+            int index = 1 + i * ConversionAccuracy.CONVERSION_SIZE;
+            // Quaternion and rotation matrix computed from the yaw-pitch-roll angles.
+            for (int j = 3; j < 16; j++)
+               assertEquals(expected[index + j], actual[index + j], 1.0e-14, property);
+            // Yaw-pitch-roll angles computed back from the quaternion and from the rotation matrix.
+            for (int j = 16; j < ConversionAccuracy.CONVERSION_SIZE; j++)
+               assertEquals(actual[index + (j - 16) % 3], actual[index + j], 1.0e-10, property);
+         }
+      }
+   }
+
+   private static double[] convertWithMode(String property) throws Exception
+   {
+      String previousProperty = System.getProperty(TrigonometryMode.PROPERTY_NAME);
+      URL[] urls = {EuclidCoreTools.class.getProtectionDomain().getCodeSource().getLocation(),
+            TrigonometryModeTest.class.getProtectionDomain().getCodeSource().getLocation()};
+
+      try (IsolatedClassLoader classLoader = new IsolatedClassLoader(urls, TrigonometryModeTest.class.getClassLoader()))
+      {
+         System.setProperty(TrigonometryMode.PROPERTY_NAME, property);
+         Class<?> conversionAccuracyClass = classLoader.loadClass(ConversionAccuracy.class.getName());
+         return (double[]) conversionAccuracyClass.getMethod("convert").invoke(null);
+      }
+      finally
+      {
+         if (previousProperty == null)
+            System.clearProperty(TrigonometryMode.PROPERTY_NAME);
+         else
+            System.setProperty(TrigonometryMode.PROPERTY_NAME, previousProperty);
+      }
+   }
+
+   /**
+    * Loads the classes of this library itself such that {@link EuclidCoreTools} is initialized again.
+    */
+   private static class IsolatedClassLoader extends URLClassLoader
+   {
+      public IsolatedClassLoader(URL[] urls, ClassLoader parent)
+      {
+         super(urls, parent);
+      }
+
+      @Override
+      protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+      {
+         if (!name.startsWith("us.ihmc.euclid."))
+            return super.loadClass(name, resolve);
+
+         synchronized (getClassLoadingLock(name))
+         {
+            Class<?> loadedClass = findLoadedClass(name);
+
+            if (loadedClass == null)
+            {
+               try
+               {
+                  loadedClass = findClass(name);
+               }
+               catch (ClassNotFoundException e)
+               {
+                  loadedClass = super.loadClass(name, false);
+               }
+            }
+
+            if (resolve)
+               resolveClass(loadedClass);
+            return loadedClass;
+         }
+      }
+   }
+
+   /**
+    * Performs the conversions from yaw-pitch-roll angles with the mode of the class loader it is
+    * loaded with, only arrays are returned such that the results can be read from another class
+    * loader.
+    */
+   public static class ConversionAccuracy
+   {
+      static final int NUMBER_OF_CONVERSIONS = 10000;
+      // yaw-pitch-roll, quaternion, rotation matrix, yaw-pitch-roll from the quaternion and from the rotation matrix.
+      static final int CONVERSION_SIZE = 3 + 4 + 9 + 3 + 3;
+
+      public static double[] convert()
+      {
+         Random random = new Random(3467);
+         double[] result = new double[1 + NUMBER_OF_CONVERSIONS * CONVERSION_SIZE];
+         result[0] = EuclidCoreTools.getTrigonometryMode().ordinal();
+
+         Quaternion quaternion = new Quaternion();
+         RotationMatrix rotationMatrix = new RotationMatrix();
+         Vector3D eulerAngles = new Vector3D();
+
+         for (int i = 0; i < NUMBER_OF_CONVERSIONS; i++)
+         {
+            int index = 1 + i * CONVERSION_SIZE;
+            double yaw = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+            double pitch = EuclidCoreRandomTools.nextDouble(random, 0.45 * Math.PI);
+            double roll = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+            result[index++] = yaw;
+            result[index++] = pitch;
+            result[index++] = roll;
+
+            QuaternionConversion.convertYawPitchRollToQuaternion(yaw, pitch, roll, quaternion);
+            quaternion.get(index, result);
+            index += 4;
+
+            RotationMatrixConversion.convertYawPitchRollToMatrix(yaw, pitch, roll, rotationMatrix);
+            rotationMatrix.get(index, result);
+            index += 9;
+
+            YawPitchRollConversion.convertQuaternionToYawPitchRoll(quaternion, eulerAngles);
+            result[index++] = eulerAngles.getZ();
+            result[index++] = eulerAngles.getY();
+            result[index++] = eulerAngles.getX();
+
+            YawPitchRollConversion.convertMatrixToYawPitchRoll(rotationMatrix, eulerAngles);
+            result[index++] = eulerAngles.getZ();
+            result[index++] = eulerAngles.getY();
+            result[index++] = eulerAngles.getX();
+         }
+
+         return result;
+      }
+   }
+
+   private static void assertUnaryAccuracy(String name, DoubleUnaryOperator actual, DoubleUnaryOperator expected, double min, double max,
+                                           double ulpTolerance)
+   {
+      Random random = new Random(3466);
+      double maxError = 0.0;
+
+      for (int i = 0; i < NUMBER_OF_SAMPLES; i++)
+      {
+         double x = EuclidCoreRandomTools.nextDouble(random, min, max);
+         double expectedValue = expected.applyAsDouble(x);
+         maxError = Math.max(maxError, Math.abs(actual.applyAsDouble(x) - expectedValue) / Math.ulp(expectedValue));
+      }
+
+      assertTrue(maxError <= ulpTolerance, name + ": max error = " + maxError + " ulps");
+   }
+
+   private static void assertBinaryAccuracy(String name, DoubleBinaryOperator actual, DoubleBinaryOperator expected, double ulpTolerance)
+   {
+      Random random = new Random(3466);
+      double maxError = 0.0;
+
+      for (int i = 0; i < NUMBER_OF_SAMPLES; i++)
+      {
+         double y = EuclidCoreRandomTools.nextDouble(random, 10.0);
+         double x = EuclidCoreRandomTools.nextDouble(random, 10.0);
+         double expectedValue = expected.applyAsDouble(y, x);
+         maxError = Math.max(maxError, Math.abs(actual.applyAsDouble(y, x) - expectedValue) / Math.ulp(expectedValue));
+      }
+
+      assertTrue(maxError <= ulpTolerance, name + ": max error = " + maxError + " ulps");
+   }
+
+   private static void assertAbsoluteAccuracy(String name, DoubleUnaryOperator actual, DoubleUnaryOperator expected, double minMax, double epsilon)
+   {
+      Random random = new Random(3466);
+      double maxError = 0.0;
+
+      for (int i = 0; i < NUMBER_OF_SAMPLES; i++)
+      {
+         double x = EuclidCoreRandomTools.nextDouble(random, minMax);
+         maxError = Math.max(maxError, Math.abs(actual.applyAsDouble(x) - expected.applyAsDouble(x)));
+      }
+
+      assertTrue(maxError <= epsilon, name + ": max error = " + maxError);
+   }
+
+   private static void assertClose(double expected, double actual)
+   {
+      if (Double.isNaN(expected))
+         assertTrue(Double.isNaN(actual));
+      else
+         assertEquals(expected, actual, 4.0 * Math.ulp(expected));
+   }
+}
@@ -0,0 +1,214 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+
+public class DualQuaternionTransformTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testDualPart() throws Exception
+   {
+      Random random = new Random(3465);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform expected = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         DualQuaternionTransform transform = new DualQuaternionTransform(expected);
+
+         Vector4D realPart = new Vector4D(transform.getRealPart());
+         Vector4D dualPart = new Vector4D();
+         transform.getDualPart(dualPart);
+
+         // Unit dual quaternion
+         assertEquals(1.0, realPart.norm(), EPSILON);
+         assertEquals(0.0, realPart.dot(dualPart), EPSILON);
+
+         // Scaling the dual quaternion and adding a component of the real part to the dual part does not change the transform.
+         double scale = EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+         double shift = EuclidCoreRandomTools.nextDouble(random, 1.0);
+         Vector4D scaledRealPart = new Vector4D();
+         Vector4D scaledDualPart = new Vector4D();
+         scaledRealPart.setAndScale(scale, realPart);
+         scaledDualPart.setAndScale(scale, dualPart);
+         scaledDualPart.scaleAdd(shift, realPart, scaledDualPart);
+
+         DualQuaternionTransform actual = new DualQuaternionTransform(scaledRealPart, scaledDualPart);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPSILON);
+      }
+   }
+
+   @Test
+   public void testMultiply() throws Exception
+   {
+      Random random = new Random(3466);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform t1 = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform t2 = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform expected = new RigidBodyTransform(t1);
+         expected.multiply(t2);
+
+         DualQuaternionTransform actual = new DualQuaternionTransform(t1);
+         actual.multiply(new DualQuaternionTransform(t2));
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPSILON);
+
+         Point3D expectedPoint = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         Point3D actualPoint = new Point3D(expectedPoint);
+         expected.transform(expectedPoint);
+         actual.transform(actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPSILON);
+      }
+   }
+
+   @Test
+   public void testInterpolate() throws Exception
+   {
+      Random random = new Random(3467);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // End points
+         DualQuaternionTransform t0 = new DualQuaternionTransform(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         DualQuaternionTransform t1 = new DualQuaternionTransform(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         DualQuaternionTransform actual = new DualQuaternionTransform();
+
+         actual.interpolate(t0, t1, 0.0);
+         EuclidCoreTestTools.assertRigidBodyTransformGeometricallyEquals(new RigidBodyTransform(t0), new RigidBodyTransform(actual), EPSILON);
+         actual.interpolate(t0, t1, 1.0);
+         EuclidCoreTestTools.assertRigidBodyTransformGeometricallyEquals(new RigidBodyTransform(t1), new RigidBodyTransform(actual), EPSILON);
+
+         actual.set(t0);
+         actual.interpolate(t1, 1.0);
+         EuclidCoreTestTools.assertRigidBodyTransformGeometricallyEquals(new RigidBodyTransform(t1), new RigidBodyTransform(actual), EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Screw motion: T(a) * T(b) = T(a + b) when starting from identity
+         DualQuaternionTransform identity = new DualQuaternionTransform();
+         DualQuaternionTransform screw = new DualQuaternionTransform(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         double a = random.nextDouble();
+         double b = random.nextDouble() * (1.0 - a);
+
+         DualQuaternionTransform expected = new DualQuaternionTransform();
+         expected.interpolate(identity, screw, a + b);
+         DualQuaternionTransform actual = new DualQuaternionTransform();
+         actual.interpolate(identity, screw, a);
+         DualQuaternionTransform other = new DualQuaternionTransform();
+         other.interpolate(identity, screw, b);
+         actual.multiply(other);
+         EuclidCoreTestTools.assertRigidBodyTransformGeometricallyEquals(new RigidBodyTransform(expected), new RigidBodyTransform(actual), 1.0e-10);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Rotation about a fixed axis: the axis points are not moved, the rotation is a SLERP.
+         Vector3D axis = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0);
+         Point3D pointOnAxis = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         double angle = EuclidCoreRandomTools.nextDouble(random, 3.0);
+         double pitch = EuclidCoreRandomTools.nextDouble(random, 2.0);
+         double alpha = random.nextDouble();
+
+         DualQuaternionTransform t0 = new DualQuaternionTransform(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         DualQuaternionTransform t1 = new DualQuaternionTransform(t0);
+         t1.multiply(createScrew(axis, pointOnAxis, angle, pitch));
+
+         DualQuaternionTransform expected = new DualQuaternionTransform(t0);
+         expected.multiply(createScrew(axis, pointOnAxis, alpha * angle, alpha * pitch));
+         DualQuaternionTransform actual = new DualQuaternionTransform(t0);
+         actual.interpolate(t1, alpha);
+         EuclidCoreTestTools.assertRigidBodyTransformGeometricallyEquals(new RigidBodyTransform(expected), new RigidBodyTransform(actual), 1.0e-10);
+
+         Quaternion expectedRotation = new Quaternion();
+         expectedRotation.interpolate(t0.getRotation(), t1.getRotation(), alpha);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(expectedRotation, actual.getRotation(), 1.0e-10);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Pure translation
+         DualQuaternionTransform t0 = new DualQuaternionTransform(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         DualQuaternionTransform t1 = new DualQuaternionTransform(t0.getRotation(), EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+         double alpha = random.nextDouble();
+
+         DualQuaternionTransform actual = new DualQuaternionTransform();
+         actual.interpolate(t0, t1, alpha);
+         Point3D expectedTranslation = new Point3D();
+         expectedTranslation.interpolate(t0.getTranslation(), t1.getTranslation(), alpha);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, actual.getTranslation(), EPSILON);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(t0.getRotation(), actual.getRotation(), EPSILON);
+      }
+   }
+
+   @Test
+   public void testBlend() throws Exception
+   {
+      Random random = new Random(3468);
+
+      assertThrows(IllegalArgumentException.class, () -> new DualQuaternionTransform().blend(Collections.emptyList(), new double[0]));
+      assertThrows(IllegalArgumentException.class,
+                   () -> new DualQuaternionTransform().blend(Collections.singletonList(new DualQuaternionTransform()), new double[0]));
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         DualQuaternionTransform expected = new DualQuaternionTransform(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         DualQuaternionTransform actual = new DualQuaternionTransform();
+
+         // Blending a single transform or several times the same transform
+         actual.blend(Collections.singletonList(expected), new double[] {random.nextDouble() + 0.1});
+         EuclidCoreTestTools.assertRigidBodyTransformGeometricallyEquals(new RigidBodyTransform(expected), new RigidBodyTransform(actual), EPSILON);
+
+         // The quaternion of the second transform is negated, it is still the same transform.
+         DualQuaternionTransform negated = new DualQuaternionTransform(expected);
+         negated.getRotation().negate();
+         actual.blend(Arrays.asList(expected, negated), new double[] {random.nextDouble(), random.nextDouble()});
+         EuclidCoreTestTools.assertRigidBodyTransformGeometricallyEquals(new RigidBodyTransform(expected), new RigidBodyTransform(actual), EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Blending two transforms with the same rotation only blends the translations.
+         Quaternion rotation = EuclidCoreRandomTools.nextQuaternion(random);
+         List<DualQuaternionTransform> transforms = new ArrayList<>();
+         transforms.add(new DualQuaternionTransform(rotation, EuclidCoreRandomTools.nextPoint3D(random, 10.0)));
+         transforms.add(new DualQuaternionTransform(rotation, EuclidCoreRandomTools.nextPoint3D(random, 10.0)));
+         double alpha = random.nextDouble();
+
+         DualQuaternionTransform actual = new DualQuaternionTransform();
+         actual.blend(transforms, new double[] {1.0 - alpha, alpha});
+         Point3D expectedTranslation = new Point3D();
+         expectedTranslation.interpolate(transforms.get(0).getTranslation(), transforms.get(1).getTranslation(), alpha);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, actual.getTranslation(), EPSILON);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(rotation, actual.getRotation(), EPSILON);
+      }
+   }
+
+   private static RigidBodyTransform createScrew(Vector3D axis, Point3D pointOnAxis, double angle, double pitch)
+   {
+      RigidBodyTransform screw = new RigidBodyTransform();
+      screw.appendTranslation(pointOnAxis);
+      screw.appendOrientation(new AxisAngle(axis, angle));
+      Point3D negated = new Point3D(pointOnAxis);
+      negated.negate();
+      screw.appendTranslation(negated);
+      Vector3D translation = new Vector3D();
+      translation.setAndScale(pitch, axis);
+      screw.prependTranslation(translation);
+      return screw;
+   }
+}
@@ -0,0 +1,91 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class QuaternionBasedTransform32Test
+{
+   private static final double EPS = 1.0e-5;
+
+   @Test
+   public void testConstructorsAndArrays() throws Exception
+   {
+      Random random = new Random(3466L);
+
+      QuaternionBasedTransform32 transform = new QuaternionBasedTransform32();
+      assertFalse(transform.hasRotation());
+      assertFalse(transform.hasTranslation());
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         QuaternionBasedTransform expected = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, new QuaternionBasedTransform(new QuaternionBasedTransform32(expected)), EPS);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected,
+                                                                  new QuaternionBasedTransform(new QuaternionBasedTransform32(expected.getRotation(),
+                                                                                                                              expected.getTranslation())),
+                                                                  EPS);
+
+         int startIndex = 7 * random.nextInt(5);
+         float[] table = new float[startIndex + 7];
+         new QuaternionBasedTransform32(expected).get(startIndex, table);
+         QuaternionBasedTransform32 fromTable = new QuaternionBasedTransform32();
+         fromTable.set(startIndex, table);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, new QuaternionBasedTransform(fromTable), EPS);
+         assertTrue(fromTable.epsilonEquals(new QuaternionBasedTransform32(expected), EPS));
+         assertTrue(fromTable.geometricallyEquals(new QuaternionBasedTransform32(expected), EPS));
+
+         float[] array = new float[7];
+         fromTable.get(array);
+         assertTrue(fromTable.epsilonEquals(new QuaternionBasedTransform32(array), 1.0e-7));
+         QuaternionBasedTransform32 copy = new QuaternionBasedTransform32();
+         copy.set(fromTable);
+         assertTrue(fromTable.equals(copy));
+         assertEquals(fromTable.hashCode(), copy.hashCode());
+      }
+   }
+
+   @Test
+   public void testOperations() throws Exception
+   {
+      Random random = new Random(2353L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         QuaternionBasedTransform a = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionBasedTransform b = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionBasedTransform expected = new QuaternionBasedTransform(a);
+         QuaternionBasedTransform32 actual = new QuaternionBasedTransform32(a);
+
+         expected.multiply(b);
+         actual.multiply(b);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, new QuaternionBasedTransform(actual), EPS);
+
+         expected.invert();
+         actual.invert();
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, new QuaternionBasedTransform(actual), EPS);
+
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         expected.transform(point, expectedPoint);
+         actual.transform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+
+         double alpha = random.nextDouble();
+         QuaternionBasedTransform32 other = new QuaternionBasedTransform32(b);
+         expected.interpolate(new QuaternionBasedTransform(b), alpha);
+         actual.interpolate(other, alpha);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, new QuaternionBasedTransform(actual), EPS);
+      }
+   }
+}
@@ -0,0 +1,98 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class RigidBodyTransform32Test
+{
+   private static final double EPS = 1.0e-5;
+
+   @Test
+   public void testConstructorsAndArrays() throws Exception
+   {
+      Random random = new Random(3466L);
+
+      RigidBodyTransform32 transform = new RigidBodyTransform32();
+      assertFalse(transform.hasRotation());
+      assertFalse(transform.hasTranslation());
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform expected = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(new RigidBodyTransform32(expected)), EPS);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected,
+                                                            new RigidBodyTransform(new RigidBodyTransform32(expected.getRotation(), expected.getTranslation())),
+                                                            EPS);
+
+         float[] expectedArray = new float[16];
+         expected.get(expectedArray);
+         float[] actualArray = new float[16];
+         new RigidBodyTransform32(expectedArray).get(actualArray);
+
+         for (int j = 0; j < 16; j++)
+            assertEquals(expectedArray[j], actualArray[j], EPS);
+
+         // Table of transforms
+         int startIndex = 12 * random.nextInt(5);
+         float[] table = new float[startIndex + 12];
+         new RigidBodyTransform32(expected).get(startIndex, table);
+         RigidBodyTransform32 fromTable = new RigidBodyTransform32();
+         fromTable.set(startIndex, table);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(fromTable), EPS);
+         assertTrue(fromTable.equals(new RigidBodyTransform32(expected)));
+         assertTrue(fromTable.epsilonEquals(new RigidBodyTransform32(expected), 0.0));
+         assertEquals(fromTable.hashCode(), new RigidBodyTransform32(expected).hashCode());
+      }
+   }
+
+   @Test
+   public void testOperations() throws Exception
+   {
+      Random random = new Random(2353L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform a = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform b = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform expected = new RigidBodyTransform(a);
+         RigidBodyTransform32 actual = new RigidBodyTransform32(a);
+
+         expected.multiply(b);
+         actual.multiply(b);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+
+         expected.preMultiplyInvertOther(b);
+         actual.preMultiplyInvertOther(b);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+
+         expected.invert();
+         actual.invert();
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         expected.transform(point, expectedPoint);
+         actual.transform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+         expected.inverseTransform(point, expectedPoint);
+         actual.inverseTransform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+      }
+
+      RigidBodyTransform32 transform = new RigidBodyTransform32(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      transform.setIdentity();
+      assertFalse(transform.hasRotation());
+      assertFalse(transform.hasTranslation());
+   }
+}
@@ -0,0 +1,43 @@
+package us.ihmc.euclid.transform;
+
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class RigidBodyTransformInterpolatorTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testInterpolate() throws Exception
+   {
+      Random random = new Random(3466);
+      RigidBodyTransformInterpolator interpolator = new RigidBodyTransformInterpolator();
+      RigidBodyTransform expected = new RigidBodyTransform();
+      RigidBodyTransform actual = new RigidBodyTransform();
+      QuaternionBasedTransform actualQuaternionBased = new QuaternionBasedTransform();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform t0 = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform tf = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         interpolator.set(t0, tf);
+
+         for (int j = 0; j < 10; j++)
+         {
+            double alpha = random.nextDouble();
+            expected.interpolate(t0, tf, alpha);
+            interpolator.interpolate(alpha, actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+
+            interpolator.interpolate(alpha, actualQuaternionBased);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actualQuaternionBased), EPSILON);
+         }
+      }
+   }
+}
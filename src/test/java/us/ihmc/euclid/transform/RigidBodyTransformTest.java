@@ -24,6 +24,7 @@ import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
 import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple3D.Point3D;
@@ -2062,6 +2063,64 @@ public class RigidBodyTransformTest extends TransformTest<RigidBodyTransform>
       EuclidCoreTestTools.assertTuple3DEquals(translation, transform.getTranslation(), EPS);
    }
 
+   @Test
+   public void testStructuralFlags() throws Exception
+   {
+      Random random = new Random(45674L);
+      RigidBodyTransform transform = new RigidBodyTransform();
+      assertFalse(transform.hasRotation());
+      assertFalse(transform.hasTranslation());
+      assertTrue(transform.isRotation2D());
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         // Modifying the translation through its reference updates the flag.
+         transform.setIdentity();
+         transform.getTranslation().setZ(EuclidCoreRandomTools.nextDouble(random, 1.0, 2.0));
+         assertTrue(transform.hasTranslation());
+         transform.getTranslation().setZ(0.0);
+         assertFalse(transform.hasTranslation());
+         transform.getTranslation().add(EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0));
+         assertTrue(transform.hasTranslation());
+         transform.getTranslation().setToZero();
+         assertFalse(transform.hasTranslation());
+         transform.getTranslation().set(0.5 * RigidBodyTransformReadOnly.EPS_ZERO_TRANSLATION, 0.0, 0.0);
+         assertFalse(transform.hasTranslation());
+
+         double yaw = EuclidCoreRandomTools.nextDouble(random, 0.1, Math.PI);
+         transform.setRotationYaw(yaw);
+         assertTrue(transform.hasRotation());
+         assertTrue(transform.isRotation2D());
+         transform.getRotation().appendRollRotation(EuclidCoreRandomTools.nextDouble(random, 0.1, 1.0));
+         assertTrue(transform.hasRotation());
+         assertFalse(transform.isRotation2D());
+         transform.getRotation().setIdentity();
+         assertFalse(transform.hasRotation());
+
+         // Transforming with a yaw rotation gives the same result as with the general rotation.
+         transform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         transform.getRotation().setToYawOrientation(yaw);
+         RigidBodyTransform other = new RigidBodyTransform(transform);
+         other.getRotation().appendPitchRotation(1.0e-13);
+
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         other.transform(point, expectedPoint);
+         transform.transform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, 1.0e-12);
+         other.inverseTransform(point, expectedPoint);
+         transform.inverseTransform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, 1.0e-12);
+
+         RigidBodyTransform expectedTransform = new RigidBodyTransform(other);
+         RigidBodyTransform actualTransform = new RigidBodyTransform(transform);
+         expectedTransform.multiply(other);
+         actualTransform.multiply(transform);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedTransform, actualTransform, 1.0e-12);
+      }
+   }
+
    @Test
    public void testGet() throws Exception
    {
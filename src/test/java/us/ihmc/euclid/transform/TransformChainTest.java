@@ -0,0 +1,147 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class TransformChainTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testProduct() throws Exception
+   {
+      Random random = new Random(3466);
+
+      TransformChain chain = new TransformChain();
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(new RigidBodyTransform(), new RigidBodyTransform(chain), EPSILON);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         chain.clear();
+         List<RigidBodyTransform> transforms = new ArrayList<>();
+         List<Boolean> inverses = new ArrayList<>();
+         int length = random.nextInt(20) + 1;
+
+         for (int j = 0; j < length; j++)
+         {
+            RigidBodyTransform transform = random.nextBoolean() ? EuclidCoreRandomTools.nextRigidBodyTransform(random) : new RigidBodyTransform();
+            boolean inverse = random.nextBoolean();
+            transforms.add(transform);
+            inverses.add(inverse);
+
+            if (inverse)
+               chain.addInverse(transform);
+            else
+               chain.add(transform);
+         }
+
+         assertEquals(length, chain.size());
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(computeExpected(transforms, inverses, length), new RigidBodyTransform(chain), EPSILON);
+
+         RigidBodyTransform actual = new RigidBodyTransform();
+
+         for (int j = 0; j <= length; j++)
+         {
+            chain.getPartialProduct(j, actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(computeExpected(transforms, inverses, j), actual, EPSILON);
+         }
+
+         // Using the chain as a transform
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         computeExpected(transforms, inverses, length).transform(point, expectedPoint);
+         chain.transform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPSILON);
+      }
+   }
+
+   @Test
+   public void testModifications() throws Exception
+   {
+      Random random = new Random(2353);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         TransformChain chain = new TransformChain();
+         List<RigidBodyTransform> transforms = new ArrayList<>();
+         List<Boolean> inverses = new ArrayList<>();
+         int length = random.nextInt(20) + 1;
+
+         for (int j = 0; j < length; j++)
+         {
+            transforms.add(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+            inverses.add(false);
+            chain.add(transforms.get(j));
+         }
+
+         for (int k = 0; k < 10; k++)
+         {
+            int index = random.nextInt(length);
+
+            switch (random.nextInt(4))
+            {
+               case 0: // Modifying one transform in place
+                  transforms.get(index).set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+                  chain.markModified(index);
+                  break;
+               case 1: // Replacing one transform
+                  transforms.set(index, EuclidCoreRandomTools.nextRigidBodyTransform(random));
+                  inverses.set(index, random.nextBoolean());
+                  if (inverses.get(index))
+                     chain.setInverse(index, transforms.get(index));
+                  else
+                     chain.set(index, transforms.get(index));
+                  assertTrue(chain.get(index) == transforms.get(index));
+                  assertEquals(inverses.get(index).booleanValue(), chain.isInverse(index));
+                  break;
+               case 2: // Removing the last transform and adding a new one
+                  chain.removeLast();
+                  transforms.set(length - 1, EuclidCoreRandomTools.nextRigidBodyTransform(random));
+                  inverses.set(length - 1, false);
+                  chain.add(transforms.get(length - 1));
+                  break;
+               default: // Modifying all the transforms
+                  for (RigidBodyTransform transform : transforms)
+                     transform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+                  chain.markAllModified();
+                  break;
+            }
+
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(computeExpected(transforms, inverses, length), new RigidBodyTransform(chain), EPSILON);
+         }
+      }
+
+      TransformChain chain = new TransformChain();
+      assertThrows(IndexOutOfBoundsException.class, () -> chain.markModified(0));
+      assertThrows(IndexOutOfBoundsException.class, () -> chain.getPartialProduct(1, new RigidBodyTransform()));
+      assertThrows(IndexOutOfBoundsException.class, () -> chain.removeLast());
+   }
+
+   private static RigidBodyTransform computeExpected(List<RigidBodyTransform> transforms, List<Boolean> inverses, int numberOfTransforms)
+   {
+      RigidBodyTransform expected = new RigidBodyTransform();
+
+      for (int i = 0; i < numberOfTransforms; i++)
+      {
+         RigidBodyTransform transform = new RigidBodyTransform(transforms.get(i));
+         if (inverses.get(i))
+            transform.invert();
+         expected.multiply(transform);
+      }
+
+      return expected;
+   }
+}
@@ -0,0 +1,250 @@
+package us.ihmc.euclid.tuple3D;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+
+public class Point3DBufferTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testAddGetSetRemove() throws Exception
+   {
+      Random random = new Random(4367);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point3D> expected = nextPoints(random);
+         Point3DBuffer buffer = new Point3DBuffer(random.nextInt(3));
+
+         for (Point3D point : expected)
+            buffer.addCopy(point);
+
+         assertEquals(expected.size(), buffer.size());
+         assertBufferEquals(expected, buffer, 0.0);
+
+         // Views write through to the buffer
+         int index = random.nextInt(expected.size());
+         Point3DBasics view = buffer.get(index);
+         Point3D newPoint = EuclidCoreRandomTools.nextPoint3D(random);
+         view.set(newPoint);
+         expected.get(index).set(newPoint);
+         assertBufferEquals(expected, buffer, 0.0);
+         EuclidCoreTestTools.assertTuple3DEquals(newPoint, view, 0.0);
+         assertEquals(newPoint, view);
+
+         // Removal shifts the following points
+         index = random.nextInt(expected.size());
+         buffer.remove(index);
+         expected.remove(index);
+         assertBufferEquals(expected, buffer, 0.0);
+
+         Point3D point = new Point3D();
+         assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(buffer.size()));
+         assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(-1, point));
+
+         buffer.clear();
+         assertEquals(0, buffer.size());
+      }
+   }
+
+   @Test
+   public void testListContract() throws Exception
+   {
+      Random random = new Random(6712);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point3D> expected = nextPoints(random);
+         Point3DBuffer buffer = new Point3DBuffer();
+         buffer.addAll(expected);
+
+         // set and remove return the previous point, detached from the buffer
+         int index = random.nextInt(expected.size());
+         Point3D newPoint = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3DBasics previous = buffer.set(index, newPoint);
+         assertEquals(expected.set(index, newPoint), previous);
+         buffer.setX(index, buffer.getX(index) + 1.0);
+         expected.get(index).addX(1.0);
+         assertNotEquals(expected.get(index), previous);
+         assertBufferEquals(expected, buffer, 0.0);
+
+         index = random.nextInt(expected.size());
+         Point3DBasics removed = buffer.remove(index);
+         assertEquals(expected.remove(index), removed);
+         assertBufferEquals(expected, buffer, 0.0);
+
+         // Insertion shifts the following points
+         index = random.nextInt(expected.size() + 1);
+         newPoint = EuclidCoreRandomTools.nextPoint3D(random);
+         buffer.add(index, newPoint);
+         expected.add(index, newPoint);
+         assertBufferEquals(expected, buffer, 0.0);
+         assertThrows(IndexOutOfBoundsException.class, () -> buffer.add(buffer.size() + 1, new Point3D()));
+
+         // Views are equal to points with the same coordinates
+         index = random.nextInt(expected.size());
+         assertEquals(expected.get(index), buffer.get(index));
+         assertEquals(buffer.get(index), buffer.get(index));
+         assertEquals(buffer.get(index).hashCode(), buffer.get(index).hashCode());
+         assertEquals(expected, buffer);
+
+         // Accessors check the index against the size and not the capacity
+         buffer.ensureCapacity(buffer.size() + 10);
+         assertThrows(IndexOutOfBoundsException.class, () -> buffer.getX(buffer.size()));
+         assertThrows(IndexOutOfBoundsException.class, () -> buffer.setY(buffer.size(), 0.0));
+         assertThrows(IndexOutOfBoundsException.class, () -> buffer.getZ(-1));
+
+         // Resizing invalidates the iterators
+         Iterator<Point3DBasics> iterator = buffer.iterator();
+         buffer.setSize(buffer.size() + 1);
+         assertThrows(ConcurrentModificationException.class, iterator::next);
+      }
+   }
+
+   @Test
+   public void testSetSize() throws Exception
+   {
+      Random random = new Random(7854);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point3D> points = nextPoints(random);
+         Point3DBuffer buffer = new Point3DBuffer();
+         buffer.addAll(points);
+
+         int newSize = random.nextInt(2 * points.size());
+         buffer.setSize(newSize);
+         assertEquals(newSize, buffer.size());
+
+         for (int j = 0; j < newSize; j++)
+         {
+            if (j < points.size())
+               EuclidCoreTestTools.assertTuple3DEquals(points.get(j), buffer.get(j), 0.0);
+            else
+               EuclidCoreTestTools.assertTuple3DIsSetToZero(buffer.get(j));
+         }
+      }
+   }
+
+   @Test
+   public void testGetAverage() throws Exception
+   {
+      Random random = new Random(3453);
+
+      Point3DBuffer buffer = new Point3DBuffer();
+      Point3D average = new Point3D();
+      assertEquals(false, buffer.getAverage(average));
+      assertEquals(null, EuclidGeometryTools.averagePoint3Ds(buffer));
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point3D> points = nextPoints(random);
+         buffer.clear();
+         buffer.addAll(points);
+
+         Point3D expected = EuclidGeometryTools.averagePoint3Ds(points);
+         assertEquals(true, buffer.getAverage(average));
+         EuclidCoreTestTools.assertTuple3DEquals(expected, average, EPSILON);
+         EuclidCoreTestTools.assertTuple3DEquals(expected, EuclidGeometryTools.averagePoint3Ds(buffer), EPSILON);
+      }
+   }
+
+   @Test
+   public void testApplyTransform() throws Exception
+   {
+      Random random = new Random(2342);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Transform[] transforms = {EuclidCoreRandomTools.nextRigidBodyTransform(random), EuclidCoreRandomTools.nextAffineTransform(random),
+               EuclidCoreRandomTools.nextQuaternionBasedTransform(random), new RigidBodyTransform(), new AffineTransform(),
+               new QuaternionBasedTransform()};
+
+         for (Transform transform : transforms)
+         {
+            List<Point3D> points = nextPoints(random);
+            Point3DBuffer pointBuffer = new Point3DBuffer();
+            pointBuffer.addAll(points);
+            Vector3DBuffer vectorBuffer = new Vector3DBuffer();
+            List<Vector3D> vectors = new ArrayList<>();
+            for (Point3D point : points)
+            {
+               vectors.add(new Vector3D(point));
+               vectorBuffer.add(point.getX(), point.getY(), point.getZ());
+            }
+
+            pointBuffer.applyTransform(transform);
+            vectorBuffer.applyTransform(transform);
+
+            for (int j = 0; j < points.size(); j++)
+            {
+               points.get(j).applyTransform(transform);
+               vectors.get(j).applyTransform(transform);
+            }
+
+            assertBufferEquals(points, pointBuffer, EPSILON);
+            assertBufferEquals(vectors, vectorBuffer, EPSILON);
+
+            pointBuffer.applyInverseTransform(transform);
+            vectorBuffer.applyInverseTransform(transform);
+
+            for (int j = 0; j < points.size(); j++)
+            {
+               points.get(j).applyInverseTransform(transform);
+               vectors.get(j).applyInverseTransform(transform);
+            }
+
+            assertBufferEquals(points, pointBuffer, EPSILON);
+            assertBufferEquals(vectors, vectorBuffer, EPSILON);
+
+            Vector3DBasics view = vectorBuffer.get(0);
+            EuclidCoreTestTools.assertTuple3DEquals(vectors.get(0), view, EPSILON);
+         }
+      }
+   }
+
+   private static List<Point3D> nextPoints(Random random)
+   {
+      int numberOfPoints = random.nextInt(50) + 1;
+      List<Point3D> points = new ArrayList<>();
+
+      for (int i = 0; i < numberOfPoints; i++)
+         points.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+
+      return points;
+   }
+
+   private static void assertBufferEquals(List<? extends Tuple3DBasics> expected, Tuple3DBuffer<?> actual, double epsilon)
+   {
+      assertEquals(expected.size(), actual.size());
+      Point3D point = new Point3D();
+
+      for (int i = 0; i < expected.size(); i++)
+      {
+         actual.get(i, point);
+         EuclidCoreTestTools.assertTuple3DEquals(expected.get(i), point, epsilon);
+      }
+   }
+}
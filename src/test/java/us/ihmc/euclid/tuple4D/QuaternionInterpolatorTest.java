@@ -0,0 +1,135 @@
+package us.ihmc.euclid.tuple4D;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class QuaternionInterpolatorTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testSlerp() throws Exception
+   {
+      Random random = new Random(3466);
+      QuaternionInterpolator interpolator = new QuaternionInterpolator();
+      Quaternion expected = new Quaternion();
+      Quaternion actual = new Quaternion();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = EuclidCoreRandomTools.nextQuaternion(random);
+         interpolator.set(q0, qf);
+         assertFalse(interpolator.isUsingNlerp());
+
+         for (int j = 0; j < 10; j++)
+         {
+            double alpha = EuclidCoreRandomTools.nextDouble(random, -0.5, 1.5);
+            expected.interpolate(q0, qf, alpha);
+            interpolator.interpolate(alpha, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPSILON);
+         }
+
+         interpolator.interpolate(0.0, actual);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(q0, actual, EPSILON);
+         interpolator.interpolate(1.0, actual);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(qf, actual, EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Quaternions that are almost the same
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = new Quaternion(q0);
+         qf.append(EuclidCoreRandomTools.nextQuaternion(random, 1.0e-7));
+         if (random.nextBoolean())
+            qf.negate();
+         interpolator.set(q0, qf);
+
+         double alpha = random.nextDouble();
+         expected.interpolate(q0, qf, alpha);
+         interpolator.interpolate(alpha, actual);
+         EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPSILON);
+      }
+
+      Quaternion q = EuclidCoreRandomTools.nextQuaternion(random);
+      interpolator.set(q, q);
+      interpolator.interpolate(random.nextDouble(), actual);
+      EuclidCoreTestTools.assertQuaternionEquals(q, actual, EPSILON);
+   }
+
+   @Test
+   public void testNlerp() throws Exception
+   {
+      Random random = new Random(2353);
+      QuaternionInterpolator interpolator = new QuaternionInterpolator();
+      Quaternion slerp = new Quaternion();
+      Quaternion nlerp = new Quaternion();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         double maxNlerpError = EuclidCoreRandomTools.nextDouble(random, 1.0e-6, 1.0e-1);
+         interpolator.setMaxNlerpError(maxNlerpError);
+
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = EuclidCoreRandomTools.nextQuaternion(random);
+         interpolator.set(q0, qf);
+         assertEquals(interpolator.getNlerpError() <= maxNlerpError, interpolator.isUsingNlerp());
+
+         double maxError = 0.0;
+
+         for (int j = 0; j <= 100; j++)
+         {
+            double alpha = j / 100.0;
+            slerp.interpolate(q0, qf, alpha);
+            interpolator.interpolate(alpha, nlerp);
+            maxError = Math.max(maxError, slerp.distancePrecise(nlerp));
+         }
+
+         if (interpolator.isUsingNlerp())
+            assertTrue(maxError <= maxNlerpError, "error: " + maxError + ", max: " + maxNlerpError);
+         else
+            assertEquals(0.0, maxError, EPSILON);
+      }
+   }
+
+   @Test
+   public void testComputeNlerpError() throws Exception
+   {
+      Quaternion q0 = new Quaternion();
+      Quaternion qf = new Quaternion();
+      Quaternion slerp = new Quaternion();
+      Quaternion nlerp = new Quaternion();
+
+      for (int i = 1; i <= 180; i++)
+      {
+         double angle = Math.toRadians(i);
+         qf.setAxisAngle(0.0, 0.0, 1.0, angle);
+         double maxError = 0.0;
+
+         for (int j = 0; j <= 1000; j++)
+         {
+            double alpha = j / 1000.0;
+            slerp.interpolate(q0, qf, alpha);
+            nlerp.set((1.0 - alpha) * q0.getX() + alpha * qf.getX(),
+                      (1.0 - alpha) * q0.getY() + alpha * qf.getY(),
+                      (1.0 - alpha) * q0.getZ() + alpha * qf.getZ(),
+                      (1.0 - alpha) * q0.getS() + alpha * qf.getS());
+            maxError = Math.max(maxError, slerp.distancePrecise(nlerp));
+         }
+
+         double estimate = QuaternionInterpolator.computeNlerpError(0.5 * angle);
+         // Conservative but tight
+         assertTrue(maxError <= estimate, "angle: " + i + ", error: " + maxError + ", estimate: " + estimate);
+         assertTrue(estimate <= 1.05 * maxError + 1.0e-15, "angle: " + i + ", error: " + maxError + ", estimate: " + estimate);
+      }
+   }
+}